@@ -0,0 +1,162 @@
+/*
+ * AutoCompiler.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+
+package org.armedbear.lisp;
+import static org.armedbear.lisp.Nil.NIL;
+import static org.armedbear.lisp.Lisp.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Tiered execution for interpreted closures.  A closure counts its calls
+// once a threshold has been set; when it gets there it is queued here, and
+// a single daemon thread compiles it with JVM::AUTO-COMPILE and installs
+// the result with Closure.promote().  Calls made while the compiler runs
+// keep going through the interpreter.
+public final class AutoCompiler
+{
+    private static final LinkedBlockingQueue<Closure> queue =
+        new LinkedBlockingQueue<Closure>();
+
+    // The closures that have been promoted, for AUTO-COMPILED-FUNCTIONS.
+    private static final Map<Closure,Boolean> promoted =
+        Collections.synchronizedMap(new WeakHashMap<Closure,Boolean>());
+
+    private static LispThread worker;
+
+    static synchronized void enqueue(Closure closure)
+    {
+        queue.offer(closure);
+        if (worker == null)
+          {
+            // A LispThread of its own, so that the compiler's special
+            // bindings don't leak into the thread that queued the closure.
+            worker = new LispThread(new Function() {
+                @Override
+                public LispObject execute()
+                {
+                    compileQueued();
+                    return NIL;
+                }
+            }, new SimpleString("auto-compiler"));
+          }
+    }
+
+    private static void compileQueued()
+    {
+        final Symbol autoCompile = PACKAGE_JVM.intern("AUTO-COMPILE");
+        while (true)
+          {
+            Closure closure;
+            try
+              {
+                closure = queue.take();
+              }
+            catch (InterruptedException e)
+              {
+                return;
+              }
+            try
+              {
+                LispObject result = autoCompile.execute(closure);
+                if (result instanceof Function)
+                  {
+                    closure.promote((Function)result);
+                    promoted.put(closure, Boolean.TRUE);
+                  }
+              }
+            catch (ConditionThrowable t)
+              {
+                // Leave the closure interpreted.
+                Debug.trace(t);
+              }
+          }
+    }
+
+    // ### auto-compile-threshold => threshold
+    private static final Primitive AUTO_COMPILE_THRESHOLD =
+        new Primitive("auto-compile-threshold", PACKAGE_SYS, true, "")
+    {
+        @Override
+        public LispObject execute()
+        {
+            final int threshold = Closure.autoCompileThreshold;
+            return threshold < 0 ? NIL : Fixnum.makeFixnum(threshold);
+        }
+    };
+
+    // ### set-auto-compile-threshold threshold => threshold
+    // NIL turns tiered execution off.
+    private static final Primitive SET_AUTO_COMPILE_THRESHOLD =
+        new Primitive("set-auto-compile-threshold", PACKAGE_SYS, true,
+                      "threshold")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            if (arg == NIL)
+                Closure.autoCompileThreshold = -1;
+            else
+              {
+                final int threshold = arg.intValue();
+                if (threshold < 0)
+                    return type_error(arg, SymbolConstants.UNSIGNED_BYTE);
+                Closure.autoCompileThreshold = threshold;
+              }
+            return arg;
+        }
+    };
+
+    // ### auto-compiled-functions => list
+    private static final Primitive AUTO_COMPILED_FUNCTIONS =
+        new Primitive("auto-compiled-functions", PACKAGE_SYS, true, "")
+    {
+        @Override
+        public LispObject execute()
+        {
+            ArrayList<Closure> closures;
+            synchronized (promoted)
+              {
+                closures = new ArrayList<Closure>(promoted.keySet());
+              }
+            LispObject result = NIL;
+            for (Closure closure : closures)
+                result = new Cons(closure, result);
+            return result;
+        }
+    };
+}
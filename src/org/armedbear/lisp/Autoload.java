@@ -35,6 +35,9 @@ package org.armedbear.lisp;
 import static org.armedbear.lisp.Nil.NIL;
 import static org.armedbear.lisp.Lisp.*;
 
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class Autoload extends Function
 {
     protected final String fileName;
@@ -100,7 +103,55 @@ public class Autoload extends Function
                                                   "org.armedbear.lisp.".concat(className)));
     }
 
+    // One lock for each file or class that autoloads and REQUIRE load, so
+    // that a definition is loaded once while other definitions load on
+    // other threads.
+    private static final ConcurrentHashMap<String,LispObject> loadLocks =
+        new ConcurrentHashMap<String,LispObject>();
+
+    static LispObject getLoadLock(String name)
+    {
+        LispObject lock = loadLocks.get(name);
+        if (lock == null) {
+            LispObject newLock = new LispSymbol(new SimpleString(name));
+            lock = loadLocks.putIfAbsent(name, newLock);
+            if (lock == null)
+                lock = newLock;
+        }
+        return lock;
+    }
+
+    // The autoloads loaded so far, in the order they were loaded, for
+    // RECORD-AUTOLOADS.  Guarded by its own monitor.
+    private static final ArrayList<LispObject> loaded =
+        new ArrayList<LispObject>();
+
+    private static void recordLoaded(LispObject obj)
+    {
+        synchronized (loaded) {
+            loaded.add(obj);
+        }
+    }
+
     public void load() throws ConditionThrowable
+    {
+        synchronized (getLoadLock(className != null ? className
+                                                    : getFileName())) {
+            // Another thread may have loaded the definition while this one
+            // was waiting for the lock.
+            if (!isPending())
+                return;
+            loadDefinition();
+        }
+        recordLoaded(symbol);
+    }
+
+    protected boolean isPending() throws ConditionThrowable
+    {
+        return symbol.getSymbolFunction() == this;
+    }
+
+    protected void loadDefinition() throws ConditionThrowable
     {
         if (className != null) {
             final LispThread thread = LispThread.currentThread();
@@ -139,7 +190,9 @@ public class Autoload extends Function
             Load.loadSystemFile(getFileName(), true);
         if (debug) {
             if (symbol != null) {
-                if (symbol.getSymbolFunction() instanceof Autoload) {
+                LispObject fun = symbol.getSymbolFunction();
+                if (fun instanceof Autoload
+                    && !(fun instanceof AutoloadedFunctionProxy)) {
                     Debug.trace("Unable to autoload " + symbol.writeToString());
                     System.exit(-1);
                 }
@@ -325,6 +378,49 @@ public class Autoload extends Function
         }
     };
 
+    // ### %autoload-lock
+    // Returns the lock held while the system file or class NAME loads.
+    private static final Primitive _AUTOLOAD_LOCK =
+        new Primitive("%autoload-lock", PACKAGE_SYS, false, "name")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            return getLoadLock(arg.getStringValue());
+        }
+    };
+
+    // ### %record-autoload
+    // Called by REQUIRE for the system modules it loads.
+    private static final Primitive _RECORD_AUTOLOAD =
+        new Primitive("%record-autoload", PACKAGE_SYS, false, "module-name")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            recordLoaded(arg);
+            return arg;
+        }
+    };
+
+    // ### loaded-autoloads
+    // Returns the symbols whose autoloads have been loaded and the names of
+    // the system modules loaded by REQUIRE, in the order they were loaded.
+    private static final Primitive LOADED_AUTOLOADS =
+        new Primitive("loaded-autoloads", PACKAGE_EXT, true, "")
+    {
+        @Override
+        public LispObject execute() throws ConditionThrowable
+        {
+            LispObject result = NIL;
+            synchronized (loaded) {
+                for (int i = loaded.size(); i-- > 0;)
+                    result = new Cons(loaded.get(i), result);
+            }
+            return result;
+        }
+    };
+
     // ### autoloadp
     private static final Primitive AUTOLOADP =
         new Primitive("autoloadp", PACKAGE_EXT, true, "symbol")
@@ -333,7 +429,10 @@ public class Autoload extends Function
         public LispObject execute(LispObject arg) throws ConditionThrowable
         {
             if (arg instanceof Symbol) {
-                if (arg.getSymbolFunction() instanceof Autoload)
+                LispObject fun = arg.getSymbolFunction();
+                // An AutoloadedFunctionProxy is already defined.
+                if (fun instanceof Autoload
+                    && !(fun instanceof AutoloadedFunctionProxy))
                     return T;
             }
             return NIL;
@@ -526,6 +625,10 @@ public class Autoload extends Function
         autoload(PACKAGE_SYS, "%%string=", "StringFunctions");
         autoload(PACKAGE_SYS, "%adjust-array", "adjust_array");
         autoload(PACKAGE_SYS, "%defpackage", "PackageFunctions");
+        autoload(PACKAGE_SYS, "%event-loop-close", "EventLoop");
+        autoload(PACKAGE_SYS, "%event-loop-register", "EventLoop");
+        autoload(PACKAGE_SYS, "%event-loop-run", "EventLoop");
+        autoload(PACKAGE_SYS, "%event-loop-stop", "EventLoop");
         autoload(PACKAGE_SYS, "%finalize-generic-function", "StandardGenericFunction", true);
         autoload(PACKAGE_SYS, "%generic-function-lambda-list", "StandardGenericFunction", true);
         autoload(PACKAGE_SYS, "%generic-function-name", "StandardGenericFunction", true);
@@ -533,9 +636,12 @@ public class Autoload extends Function
         autoload(PACKAGE_SYS, "%make-array", "make_array");
         autoload(PACKAGE_SYS, "%make-byte-array-output-stream", "ByteArrayOutputStream"); //AS 20090325
         autoload(PACKAGE_SYS, "%make-condition", "make_condition", true);
+        autoload(PACKAGE_SYS, "%make-event-loop", "EventLoop");
         autoload(PACKAGE_SYS, "%make-hash-table", "HashTableFunctions");
         autoload(PACKAGE_SYS, "%make-hash-table", "HashTableFunctions");
         autoload(PACKAGE_SYS, "%make-logical-pathname", "LogicalPathname", true);
+        autoload(PACKAGE_SYS, "%make-nonblocking-server-socket", "NonBlockingSocket");
+        autoload(PACKAGE_SYS, "%make-nonblocking-socket", "NonBlockingSocket");
         autoload(PACKAGE_SYS, "%make-server-socket", "make_server_socket");
         autoload(PACKAGE_SYS, "%make-socket", "make_socket");
         autoload(PACKAGE_SYS, "%make-string", "StringFunctions");
@@ -544,6 +650,7 @@ public class Autoload extends Function
         autoload(PACKAGE_SYS, "%method-function", "StandardMethod", true);
         autoload(PACKAGE_SYS, "%method-generic-function", "StandardMethod", true);
         autoload(PACKAGE_SYS, "%method-specializers", "StandardMethod", true);
+        autoload(PACKAGE_SYS, "%nonblocking-socket-accept", "NonBlockingSocket");
         autoload(PACKAGE_SYS, "%nstring-capitalize", "StringFunctions");
         autoload(PACKAGE_SYS, "%nstring-downcase", "StringFunctions");
         autoload(PACKAGE_SYS, "%nstring-upcase", "StringFunctions");
@@ -598,6 +705,8 @@ public class Autoload extends Function
         autoload(PACKAGE_SYS, "%string>", "StringFunctions");
         autoload(PACKAGE_SYS, "%string>=", "StringFunctions");
         autoload(PACKAGE_SYS, "%time", "Time");
+        autoload(PACKAGE_SYS, "auto-compile-threshold", "AutoCompiler", true);
+        autoload(PACKAGE_SYS, "auto-compiled-functions", "AutoCompiler", true);
         autoload(PACKAGE_SYS, "cache-emf", "StandardGenericFunction", true);
         autoload(PACKAGE_SYS, "cache-slot-location", "StandardGenericFunction", true);
         autoload(PACKAGE_SYS, "canonicalize-logical-host", "LogicalPathname", true);
@@ -647,6 +756,7 @@ public class Autoload extends Function
         autoload(PACKAGE_SYS, "psxhash", "HashTableFunctions");
         autoload(PACKAGE_SYS, "puthash", "HashTableFunctions");
         autoload(PACKAGE_SYS, "puthash", "HashTableFunctions");
+        autoload(PACKAGE_SYS, "set-auto-compile-threshold", "AutoCompiler", true);
         autoload(PACKAGE_SYS, "set-function-info-value", "function_info");
         autoload(PACKAGE_SYS, "set-generic-function-argument-precedence-order","StandardGenericFunction", true);
         autoload(PACKAGE_SYS, "set-generic-function-classes-to-emf-table","StandardGenericFunction", true);
@@ -58,7 +58,15 @@ public final class AutoloadMacro extends Autoload
     }
 
     @Override
-    public void load() throws ConditionThrowable
+    protected boolean isPending() throws ConditionThrowable
+    {
+        final Symbol symbol = getSymbol();
+        return symbol.getSymbolFunction() == this
+            || get(symbol, SymbolConstants.MACROEXPAND_MACRO, null) == this;
+    }
+
+    @Override
+    protected void loadDefinition() throws ConditionThrowable
     {
         Load.loadSystemFile(getFileName(), true);
     }
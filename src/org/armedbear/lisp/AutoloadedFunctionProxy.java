@@ -0,0 +1,217 @@
+/*
+ * AutoloadedFunctionProxy.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+
+package org.armedbear.lisp;
+
+import static org.armedbear.lisp.Nil.NIL;
+import static org.armedbear.lisp.Lisp.*;
+
+// Stands in for a compiled function in a system fasl until the function
+// is first called, so that loading the fasl doesn't have to define, link
+// and initialize a class for every function in it.  Most of the
+// functions in the files loaded by boot.lisp are never called by a short
+// program.
+//
+// Since this is an Autoload, the places which resolve autoloads before
+// looking at a function (GETSYMBOLFUNCTIONORDIE, MACROEXPAND, ARGLIST,
+// RESOLVE and so on) load the class first.  When the class is loaded,
+// the function replaces the proxy in the symbol's function cell, unless
+// something else has been stored there in the meantime.
+public final class AutoloadedFunctionProxy extends Autoload
+{
+    private final String namestring;
+
+    // The class reads its constants with the fasl reader, so they have to
+    // be read in the same package (and with the same package for
+    // uninterned symbols) as the rest of the fasl.
+    private final LispObject loadTruename;
+    private final LispObject pkg;
+    private final LispObject anonymousPackage;
+
+    private volatile LispObject function;
+
+    AutoloadedFunctionProxy(Symbol symbol, String namestring,
+                            LispThread thread)
+        throws ConditionThrowable
+    {
+        super(symbol);
+        this.namestring = namestring;
+        loadTruename = SymbolConstants.LOAD_TRUENAME.symbolValue(thread);
+        pkg = SymbolConstants._PACKAGE_.symbolValue(thread);
+        anonymousPackage =
+            Load._FASL_ANONYMOUS_PACKAGE_.symbolValue(thread);
+    }
+
+    @Override
+    public void load() throws ConditionThrowable
+    {
+        getFunction();
+    }
+
+    // The class is loaded without holding the proxy's monitor: loading it
+    // may resolve autoloads, which take their files' locks, and a thread
+    // holding one of those locks may be calling this proxy.  Threads calling the
+    // proxy for the first time at the same moment may each load the
+    // class; the first one to finish installs its function.
+    private LispObject getFunction() throws ConditionThrowable
+    {
+        LispObject obj = function;
+        if (obj != null)
+            return obj;
+        final LispThread thread = LispThread.currentThread();
+        final SpecialBinding lastSpecialBinding = thread.lastSpecialBinding;
+        thread.bindSpecial(SymbolConstants.LOAD_TRUENAME, loadTruename);
+        thread.bindSpecial(SymbolConstants._PACKAGE_, pkg);
+        thread.bindSpecial(Load._FASL_ANONYMOUS_PACKAGE_, anonymousPackage);
+        try {
+            obj = loadCompiledFunction(namestring);
+        }
+        finally {
+            thread.lastSpecialBinding = lastSpecialBinding;
+        }
+        synchronized (this) {
+            if (function != null)
+                return function;
+            if (obj instanceof Operator) {
+                // FSET has already given the proxy the function's name,
+                // lambda list and documentation.
+                Operator operator = (Operator) obj;
+                operator.setLambdaName(getLambdaName());
+                if (getLambdaList() != null)
+                    operator.setLambdaList(getLambdaList());
+                LispObject doc = getDocumentation(SymbolConstants.FUNCTION);
+                if (doc != NIL)
+                    operator.setDocumentation(SymbolConstants.FUNCTION, doc);
+            }
+            function = obj;
+            final Symbol symbol = getSymbol();
+            if (symbol.getSymbolFunction() == this)
+                symbol.setSymbolFunction(obj);
+            return obj;
+        }
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+        return getFunction().execute();
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return getFunction().execute(arg);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth,
+                                     sixth);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth,
+                              LispObject seventh)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth,
+                                     sixth, seventh);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth,
+                              LispObject seventh, LispObject eighth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth,
+                                     sixth, seventh, eighth);
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+        return getFunction().execute(args);
+    }
+
+    @Override
+    public String writeToString() throws ConditionThrowable
+    {
+        StringBuffer sb = new StringBuffer("#<AUTOLOAD ");
+        sb.append(getSymbol().writeToString());
+        sb.append(" \"");
+        sb.append(namestring);
+        sb.append("\">");
+        return sb.toString();
+    }
+}
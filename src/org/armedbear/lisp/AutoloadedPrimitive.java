@@ -0,0 +1,176 @@
+/*
+ * AutoloadedPrimitive.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+
+package org.armedbear.lisp;
+
+import static org.armedbear.lisp.Nil.NIL;
+import static org.armedbear.lisp.Lisp.*;
+
+// Stands in for a primitive whose class hasn't been loaded yet.  The
+// primitive is constructed, which installs it as the symbol's function,
+// the first time the stub is called or resolved.
+public final class AutoloadedPrimitive extends Autoload
+{
+    // Set once the primitive has been built; read without locking.
+    private volatile LispObject function;
+
+    public AutoloadedPrimitive(Symbol symbol, String className)
+    {
+        super(symbol, null, className);
+        // Autoload clears this, but the primitive is built in all the same.
+        if (cold)
+            symbol.setBuiltInFunction(true);
+    }
+
+    @Override
+    public void load() throws ConditionThrowable
+    {
+        getFunction();
+    }
+
+    // Only the calls that find the primitive not built yet lock.
+    private LispObject getFunction() throws ConditionThrowable
+    {
+        LispObject f = function;
+        if (f != null)
+            return f;
+        return buildFunction();
+    }
+
+    private synchronized LispObject buildFunction() throws ConditionThrowable
+    {
+        if (function != null)
+            return function;
+        final Symbol symbol = getSymbol();
+        final LispObject current = symbol.getSymbolFunction();
+        final LispObject f;
+        try {
+            f = (LispObject)
+                Class.forName(className).getDeclaredConstructor().newInstance();
+        }
+        catch (Throwable t) {
+            Debug.trace(t);
+            return error(new LispError("Unable to autoload " +
+                                       symbol.writeToString()));
+        }
+        // The primitive's constructor stored it in the function cell; put
+        // back anything that has replaced the stub since it was installed.
+        if (current != this)
+            symbol.setSymbolFunction(current);
+        function = f;
+        return f;
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+        return getFunction().execute();
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return getFunction().execute(arg);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth,
+                                     sixth);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth,
+                              LispObject seventh)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth,
+                                     sixth, seventh);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth,
+                              LispObject seventh, LispObject eighth)
+        throws ConditionThrowable
+    {
+        return getFunction().execute(first, second, third, fourth, fifth,
+                                     sixth, seventh, eighth);
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+        return getFunction().execute(args);
+    }
+}
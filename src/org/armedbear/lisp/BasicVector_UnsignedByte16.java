@@ -57,6 +57,12 @@ public final class BasicVector_UnsignedByte16 extends AbstractVector
             elements[i] = array[i].intValue();
     }
 
+    // Backing array, for bulk stream I/O.
+    public int[] getElements()
+    {
+        return elements;
+    }
+
     @Override
     public LispObject typeOf()
     {
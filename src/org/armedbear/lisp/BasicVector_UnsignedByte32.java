@@ -58,6 +58,12 @@ public final class BasicVector_UnsignedByte32 extends AbstractVector
       elements[i] = array[i].longValue();
   }
 
+  // Backing array, for bulk stream I/O.
+  public long[] getElements()
+  {
+    return elements;
+  }
+
   @Override
   public LispObject typeOf()
   {
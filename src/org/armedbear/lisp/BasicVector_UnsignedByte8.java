@@ -57,6 +57,12 @@ public final class BasicVector_UnsignedByte8 extends AbstractVector
       elements[i] = coerceLispObjectToJavaByte(array[i]);
   }
 
+  // Backing array, for bulk stream I/O.
+  public byte[] getElements()
+  {
+    return elements;
+  }
+
   @Override
   public LispObject typeOf()
   {
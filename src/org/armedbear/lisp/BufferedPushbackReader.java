@@ -0,0 +1,158 @@
+/*
+ * BufferedPushbackReader.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+package org.armedbear.lisp;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+// A PushbackReader that reads ahead into a window of characters which the
+// Lisp reader can scan in place (see Stream.readAheadBuffer()).  Unlike
+// java.io.PushbackReader it is not synchronized, and any number of
+// characters can be pushed back.
+final class BufferedPushbackReader extends PushbackReader
+{
+    private static final int SIZE = 8192;
+
+    // Room kept in front of freshly read characters for pushing back.
+    private static final int PUSHBACK = 16;
+
+    private final Reader source;
+
+    // The unread characters are those between position and limit.
+    CharBuffer buffer = CharBuffer.allocate(PUSHBACK + SIZE);
+
+    BufferedPushbackReader(Reader source)
+    {
+        super(source, 1);
+        this.source = source;
+        buffer.position(PUSHBACK);
+        buffer.limit(PUSHBACK);
+    }
+
+    // Returns false at end of file.
+    private boolean fill() throws IOException
+    {
+        if (buffer.hasRemaining())
+            return true;
+        int n = source.read(buffer.array(), PUSHBACK, SIZE);
+        buffer.limit(PUSHBACK + Math.max(n, 0));
+        buffer.position(PUSHBACK);
+        return n > 0;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        if (!buffer.hasRemaining() && !fill())
+            return -1;
+        return buffer.get();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException
+    {
+        if (len == 0)
+            return 0;
+        if (!buffer.hasRemaining()) {
+            if (len >= SIZE)
+                return source.read(cbuf, off, len);
+            if (!fill())
+                return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(cbuf, off, n);
+        return n;
+    }
+
+    @Override
+    public void unread(int c) throws IOException
+    {
+        int pos = buffer.position();
+        if (pos == 0) {
+            // Out of room in front: move the unread characters up.
+            int limit = buffer.limit();
+            char[] chars = buffer.array();
+            if (limit + PUSHBACK > chars.length) {
+                CharBuffer larger = CharBuffer.allocate(limit + PUSHBACK);
+                System.arraycopy(chars, 0, larger.array(), PUSHBACK, limit);
+                buffer = larger;
+            }
+            else
+                System.arraycopy(chars, 0, chars, PUSHBACK, limit);
+            buffer.limit(limit + PUSHBACK);
+            pos = PUSHBACK;
+        }
+        buffer.position(pos - 1);
+        buffer.put(pos - 1, (char) c);
+    }
+
+    @Override
+    public void unread(char[] cbuf, int off, int len) throws IOException
+    {
+        for (int i = off + len; i-- > off;)
+            unread(cbuf[i]);
+    }
+
+    @Override
+    public void unread(char[] cbuf) throws IOException
+    {
+        unread(cbuf, 0, cbuf.length);
+    }
+
+    @Override
+    public boolean ready() throws IOException
+    {
+        return buffer.hasRemaining() || source.ready();
+    }
+
+    @Override
+    public long skip(long n) throws IOException
+    {
+        long skipped = Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + (int) skipped);
+        if (skipped < n)
+            skipped += source.skip(n - skipped);
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        buffer.position(PUSHBACK);
+        buffer.limit(PUSHBACK);
+        source.close();
+    }
+}
@@ -0,0 +1,71 @@
+package org.armedbear.lisp;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+
+// CharHashMap specialized for byte values, so the common case is a plain
+// array load with no boxing.
+public class CharByteMap {
+
+	final public byte[] constants;
+	final public byte NULL;
+	final static int CACHE_SIZE = 256; 
+	final HashMap<Character, Byte> backing;
+	public CharByteMap(byte def) {
+		NULL = def;
+		constants = new byte[CACHE_SIZE];
+		Arrays.fill(constants, NULL);
+		backing = new HashMap<Character, Byte>();
+	}
+	
+	@Override
+	public Object clone() {
+		CharByteMap n = new CharByteMap(NULL);
+		System.arraycopy(constants,0, n.constants,0,CACHE_SIZE);
+		n.backing.putAll(backing);
+		return n;
+	}
+	
+	public byte get(char key) {
+		if (key<CACHE_SIZE) return constants[key];
+		Byte value = backing.get(key);
+		return (value==null) ? NULL:value;
+	}
+
+	public void clear() {
+		Arrays.fill(constants,NULL);
+		backing.clear();
+	}
+
+	public byte put(char key, byte value) {
+		if (key<CACHE_SIZE) {
+			byte old = constants[key];
+			constants[key] = value;
+			return old;
+		}
+		else {
+			Byte old = backing.put(key, value);
+			return (old==null) ? NULL:old;
+		}
+	}
+
+	public Iterator<Character> getCharIterator() {
+		return new Iterator<Character>() {			
+			final Iterator<Character> carIt =  backing.keySet().iterator();
+			int charNum = -1;
+			public boolean hasNext() {
+				if ( charNum<CACHE_SIZE-1) return true;
+				return carIt.hasNext();
+			}
+			public Character next() {
+				if ( charNum<CACHE_SIZE-1) return (char)++charNum;
+				return carIt.next();
+			}
+			public void remove() {
+				throw new UnsupportedOperationException();			
+			}
+			
+		};
+	}
+}
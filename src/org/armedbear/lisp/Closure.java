@@ -37,6 +37,7 @@ import static org.armedbear.lisp.Nil.NIL;
 import static org.armedbear.lisp.Lisp.*;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 public class Closure extends Function
 {
@@ -82,9 +83,30 @@ public class Closure extends Function
     }
   private Symbol[] variables = emptySymbolArray;
   private LispObject specials = NIL;
+  // The symbols in SPECIALS that aren't bound by the lambda list: worked
+  // out once here rather than on every call.
+  private Symbol[] freeSpecials = emptySymbolArray;
+  private Symbol[] keywordTable;
+  private int[] keywordIndices;
+  private int keywordMask;
 
   private boolean bindInitForms;
 
+  // Tiered execution: once SYS:SET-AUTO-COMPILE-THRESHOLD has been given a
+  // threshold, a closure that has been called that many times is handed to
+  // the AutoCompiler, which compiles it in the background and installs the
+  // compiled function here.  From then on calls go straight to it.
+  static int autoCompileThreshold = -1;
+  private volatile Function promoted;
+  // Interpreted calls counted towards the threshold, apart from the call
+  // count that SYS:PROFILE reports.  Increments racing on other threads
+  // may be lost, which only delays promotion a little.
+  private int promotionCalls;
+  // Set from 0 to 1, once, by the thread that hands the closure over.
+  private volatile int promotionRequested;
+  private static final AtomicIntegerFieldUpdater<Closure> PROMOTION_REQUESTED =
+    AtomicIntegerFieldUpdater.newUpdater(Closure.class, "promotionRequested");
+
   public Closure(LispObject lambdaExpression, Environment env)
     throws ConditionThrowable
   {
@@ -241,7 +263,8 @@ public class Closure extends Function
                       {
                         var = checkSymbol(first);
                         keyword =
-                          PACKAGE_KEYWORD.intern(var.getSymbolName());
+                          PACKAGE_KEYWORD.intern(var.getSymbolName(),
+                                                 var.sxhash());
                       }
                     obj = obj.CDR();
                     if (obj != NIL)
@@ -306,6 +329,51 @@ public class Closure extends Function
     if (arity >= 0)
       Debug.assertTrue(arity == minArgs);
     variables = processVariables();
+    freeSpecials = processFreeSpecials();
+    processKeywords();
+  }
+
+  // Builds keywordTable, an open-addressed hash table from each &key
+  // keyword to the index of its parameter, so that processArgs() can
+  // place keyword arguments without searching the parameter list.
+  private final void processKeywords()
+  {
+    if (keywordParameters.length == 0)
+      return;
+    int size = 4;
+    while (size < keywordParameters.length * 2)
+      size <<= 1;
+    keywordTable = new Symbol[size];
+    keywordIndices = new int[size];
+    keywordMask = size - 1;
+    for (int k = 0; k < keywordParameters.length; k++)
+      {
+        Symbol keyword = keywordParameters[k].keyword;
+        int i = System.identityHashCode(keyword) & keywordMask;
+        while (keywordTable[i] != null && keywordTable[i] != keyword)
+          i = (i + 1) & keywordMask;
+        if (keywordTable[i] == null)
+          {
+            keywordTable[i] = keyword;
+            keywordIndices[i] = k;
+          }
+      }
+  }
+
+  // Returns the index in keywordParameters of the parameter named by
+  // KEYWORD, or -1.
+  private final int keywordIndex(LispObject keyword)
+  {
+    int i = System.identityHashCode(keyword) & keywordMask;
+    while (true)
+      {
+        Symbol candidate = keywordTable[i];
+        if (candidate == keyword)
+          return keywordIndices[i];
+        if (candidate == null)
+          return -1;
+        i = (i + 1) & keywordMask;
+      }
   }
 
   private final void processParameters(ArrayList<Symbol> vars,
@@ -376,13 +444,16 @@ public class Closure extends Function
   @Override
   public LispObject execute() throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute();
     if (arity == 0)
       {
         return progn(executionBody, environment, 
                      LispThread.currentThread());
       }
     else
-      return execute(new LispObject[0]);
+      return interpret(new LispObject[0]);
   }
     
   private final LispObject bindParametersAndExecute(LispObject... objects)
@@ -428,12 +499,33 @@ public class Closure extends Function
   public final LispObject invokeArrayExecute(LispObject... objects)
   throws ConditionThrowable
   {
-    return execute(objects);
+    return interpret(objects);
+  }
+
+  private final Function promotedFunction()
+  {
+    final Function f = promoted;
+    if (f == null && autoCompileThreshold >= 0 && promotionRequested == 0)
+      {
+        if (++promotionCalls >= autoCompileThreshold
+            && !(this instanceof CompiledClosure)
+            && PROMOTION_REQUESTED.compareAndSet(this, 0, 1))
+          AutoCompiler.enqueue(this);
+      }
+    return f;
+  }
+
+  final void promote(Function compiled)
+  {
+    promoted = compiled;
   }
 
   @Override
   public LispObject execute(LispObject arg) throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(arg);
     if (minArgs == 1)
       {
         return bindParametersAndExecute(arg);
@@ -448,6 +540,9 @@ public class Closure extends Function
   public LispObject execute(LispObject first, LispObject second)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second);
     if (minArgs == 2)
       {
         return bindParametersAndExecute(first, second);
@@ -463,6 +558,9 @@ public class Closure extends Function
                             LispObject third)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second, third);
     if (minArgs == 3)
       {
         return bindParametersAndExecute(first, second, third);
@@ -478,6 +576,9 @@ public class Closure extends Function
                             LispObject third, LispObject fourth)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second, third, fourth);
     if (minArgs == 4)
       {
         return bindParametersAndExecute(first, second, third, fourth);
@@ -494,6 +595,9 @@ public class Closure extends Function
                             LispObject fifth)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second, third, fourth, fifth);
     if (minArgs == 5)
       {
         return bindParametersAndExecute(first, second, third, fourth,
@@ -511,6 +615,9 @@ public class Closure extends Function
                             LispObject fifth, LispObject sixth)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second, third, fourth, fifth, sixth);
     if (minArgs == 6)
       {
         return bindParametersAndExecute(first, second, third, fourth,
@@ -530,6 +637,9 @@ public class Closure extends Function
                             LispObject seventh)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second, third, fourth, fifth, sixth, seventh);
     if (minArgs == 7)
       {
         return bindParametersAndExecute(first, second, third, fourth,
@@ -549,6 +659,10 @@ public class Closure extends Function
                             LispObject seventh, LispObject eighth)
     throws ConditionThrowable
   {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(first, second, third, fourth, fifth, sixth, seventh,
+                       eighth);
     if (minArgs == 8)
       {
         return bindParametersAndExecute(first, second, third, fourth,
@@ -561,9 +675,9 @@ public class Closure extends Function
       }
   }
 
-  private final void declareFreeSpecials(Environment ext)
-    throws ConditionThrowable
+  private final Symbol[] processFreeSpecials()
   {
+    ArrayList<Symbol> free = new ArrayList<Symbol>();
     LispObject s = specials;
     special:
     while (s != NIL) {
@@ -575,12 +689,32 @@ public class Closure extends Function
       for (Parameter parameter : auxVars)
         if (special == parameter.var)
           continue special;
-      ext.declareSpecial(special);
+      free.add(special);
     }
+    if (free.isEmpty())
+      return emptySymbolArray;
+    Symbol[] array = new Symbol[free.size()];
+    free.toArray(array);
+    return array;
+  }
+
+  private final void declareFreeSpecials(Environment ext)
+  {
+    for (Symbol special : freeSpecials)
+      ext.declareSpecial(special);
   }
 
   @Override
   public LispObject execute(LispObject[] args) throws ConditionThrowable
+  {
+    final Function f = promotedFunction();
+    if (f != null)
+      return f.execute(args);
+    return interpret(args);
+  }
+
+  private final LispObject interpret(LispObject[] args)
+    throws ConditionThrowable
   {
     final LispThread thread = LispThread.currentThread();
     SpecialBinding lastSpecialBinding = thread.lastSpecialBinding;
@@ -698,15 +832,51 @@ public class Closure extends Function
         // Keyword parameters.
         if (keywordParameters.length > 0)
           {
-            int argsLeft = argsLength - argsUsed;
-            if (argsLeft == 0)
+            if (((argsLength - argsUsed) % 2) != 0)
+              error(new ProgramError("Odd number of keyword arguments."));
+            // One pass over the keyword arguments finds where each
+            // parameter's value is (the leftmost occurrence wins) and the
+            // first keyword that isn't one of ours.
+            final int[] positions = new int[keywordParameters.length];
+            LispObject unrecognizedKeyword = null;
+            LispObject allowOtherKeysArg = null;
+            for (int j = argsUsed; j < argsLength; j += 2)
               {
-                // No keyword arguments were supplied.
-                // Bind all keyword parameters to their defaults.
-                for (int k = 0; k < keywordParameters.length; k++)
+                LispObject keyword = args[j];
+                int k = keywordIndex(keyword);
+                if (k >= 0)
+                  {
+                    if (positions[k] == 0)
+                      positions[k] = j + 1;
+                  }
+                else if (keyword == Keyword.ALLOW_OTHER_KEYS)
+                  {
+                    if (allowOtherKeysArg == null)
+                      allowOtherKeysArg = args[j+1];
+                  }
+                else if (unrecognizedKeyword == null)
+                  unrecognizedKeyword = keyword;
+              }
+            LispObject allowOtherKeysValue = null;
+            for (int k = 0; k < keywordParameters.length; k++)
+              {
+                Parameter parameter = keywordParameters[k];
+                LispObject value;
+                if (positions[k] != 0)
+                  {
+                    value = args[positions[k]];
+                    if (bindInitForms)
+                        bindArg(specials, parameter.var, value, ext, thread);
+                    array[index++] = value;
+                    if (parameter.svar != NIL)
+                      {
+                        if (bindInitForms)
+                            bindArg(specials,(Symbol)parameter.svar, T, ext, thread);
+                        array[index++] = T;
+                      }
+                  }
+                else
                   {
-                    Parameter parameter = keywordParameters[k];
-                    LispObject value;
                     if (parameter.initVal != null)
                       value = parameter.initVal;
                     else
@@ -721,105 +891,20 @@ public class Closure extends Function
                         array[index++] = NIL;
                       }
                   }
-              }
-            else
-              {
-                if ((argsLeft % 2) != 0)
-                  error(new ProgramError("Odd number of keyword arguments."));
-                LispObject allowOtherKeysValue = null;
-                for (Parameter parameter : keywordParameters)
+                if (parameter.keyword == Keyword.ALLOW_OTHER_KEYS)
                   {
-                    Symbol keyword = parameter.keyword;
-                    LispObject value = null;
-                    boolean unbound = true;
-                    for (int j = argsUsed; j < argsLength; j += 2)
-                      {
-                        if (args[j] == keyword)
-                          {
-                            if (bindInitForms)
-                                bindArg(specials, parameter.var, args[j+1], ext, thread);
-                            value = array[index++] = args[j+1];
-                            if (parameter.svar != NIL)
-                              {
-                                if (bindInitForms)
-                                    bindArg(specials,(Symbol)parameter.svar, T, ext, thread);
-                                array[index++] = T;
-                              }
-                            args[j] = null;
-                            args[j+1] = null;
-                            unbound = false;
-                            break;
-                          }
-                      }
-                    if (unbound)
-                      {
-                        if (parameter.initVal != null)
-                          value = parameter.initVal;
-                        else
-                          value = Lisp.eval(parameter.initForm, ext, thread);
-                        if (bindInitForms)
-                            bindArg(specials, parameter.var, value, ext, thread);
-                        array[index++] = value;
-                        if (parameter.svar != NIL)
-                          {
-                            if (bindInitForms)
-                                bindArg(specials, (Symbol)parameter.svar, NIL, ext, thread);
-                            array[index++] = NIL;
-                          }
-                      }
-                    if (keyword == Keyword.ALLOW_OTHER_KEYS)
-                      {
-                        if (allowOtherKeysValue == null)
-                          allowOtherKeysValue = value;
-                      }
-                  }
-                if (!allowOtherKeys)
-                  {
-                    if (allowOtherKeysValue == null || allowOtherKeysValue == NIL)
-                      {
-                        LispObject unrecognizedKeyword = null;
-                        for (int j = argsUsed; j < argsLength; j += 2)
-                          {
-                            LispObject keyword = args[j];
-                            if (keyword == null)
-                              continue;
-                            if (keyword == Keyword.ALLOW_OTHER_KEYS)
-                              {
-                                if (allowOtherKeysValue == null)
-                                  {
-                                    allowOtherKeysValue = args[j+1];
-                                    if (allowOtherKeysValue != NIL)
-                                      break;
-                                  }
-                                continue;
-                              }
-                            // Unused keyword argument.
-                            boolean ok = false;
-                            for (Parameter parameter : keywordParameters)
-                              {
-                                if (parameter.keyword == keyword)
-                                  {
-                                    // Found it!
-                                    ok = true;
-                                    break;
-                                  }
-                              }
-                            if (ok)
-                              continue;
-                            // Unrecognized keyword argument.
-                            if (unrecognizedKeyword == null)
-                              unrecognizedKeyword = keyword;
-                          }
-                        if (unrecognizedKeyword != null)
-                          {
-                            if (!allowOtherKeys &&
-                                (allowOtherKeysValue == null || allowOtherKeysValue == NIL))
-                              error(new ProgramError("Unrecognized keyword argument " +
-                                                      unrecognizedKeyword.writeToString()));
-                          }
-                      }
+                    if (allowOtherKeysValue == null)
+                      allowOtherKeysValue = value;
                   }
               }
+            if (unrecognizedKeyword != null && !allowOtherKeys)
+              {
+                if (allowOtherKeysValue == null)
+                  allowOtherKeysValue = allowOtherKeysArg;
+                if (allowOtherKeysValue == null || allowOtherKeysValue == NIL)
+                  error(new ProgramError("Unrecognized keyword argument " +
+                                          unrecognizedKeyword.writeToString()));
+              }
           }
         else if (argsUsed < argsLength)
           {
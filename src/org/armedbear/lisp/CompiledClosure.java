@@ -225,6 +225,32 @@ abstract public class CompiledClosure extends Closure
     }
   };
 
+  // ### autoload-compiled-function name pathname
+  // Like LOAD-COMPILED-FUNCTION, but while a system file is being loaded
+  // the class isn't loaded until the function is first called.
+  private static final Primitive AUTOLOAD_COMPILED_FUNCTION =
+      new Primitive("autoload-compiled-function", PACKAGE_SYS, true,
+                    "name pathname")
+  {
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      String namestring = null;
+      if (second instanceof Pathname)
+        namestring = ((Pathname)second).getNamestring();
+      else if (second instanceof AbstractString)
+        namestring = second.getStringValue();
+      if (namestring == null)
+        return error(new LispError("Unable to load " + second.writeToString()));
+      final LispThread thread = LispThread.currentThread();
+      if (first instanceof Symbol
+          && Load._AUTOLOAD_COMPILED_FUNCTIONS_.symbolValue(thread) != NIL)
+        return new AutoloadedFunctionProxy((Symbol)first, namestring, thread);
+      return loadCompiledFunction(namestring);
+    }
+  };
+
   // ### varlist
   private static final Primitive VARLIST =
       new Primitive("varlist", PACKAGE_SYS, false)
@@ -65,6 +65,12 @@ public final class ComplexVector_UnsignedByte8 extends AbstractVector
         isDisplaced = true;
     }
 
+    // Backing array for bulk stream I/O, or null if displaced.
+    public byte[] getElements()
+    {
+        return elements;
+    }
+
     @Override
     public LispObject typeOf()
     {
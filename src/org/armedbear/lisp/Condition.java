@@ -209,7 +209,9 @@ public class Condition extends StandardObjectImpl
         if (formatControl instanceof AbstractString)
           {
             LispObject f = SymbolConstants.FORMAT.getSymbolFunction();
-            if (f == null || f instanceof Autoload)
+            if (f == null
+                || (f instanceof Autoload
+                    && !(f instanceof AutoloadedFunctionProxy)))
               return format(formatControl, getFormatArguments());
             return SymbolConstants.APPLY.execute(f, NIL, formatControl, getFormatArguments()).getStringValue();
           }
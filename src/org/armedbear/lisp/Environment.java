@@ -41,6 +41,8 @@ public final class Environment extends AbstractLispObject
   /*private*/ FunctionBinding lastFunctionBinding;
   private Binding blocks;
   private Binding tags;
+  // True if some variable binding in this environment is a symbol macro.
+  private boolean symbolMacros;
 
   public Environment() {}
 
@@ -52,6 +54,7 @@ public final class Environment extends AbstractLispObject
         lastFunctionBinding = parent.lastFunctionBinding;
         blocks = parent.blocks;
         tags = parent.tags;
+        symbolMacros = parent.symbolMacros;
       }
   }
 
@@ -61,6 +64,8 @@ public final class Environment extends AbstractLispObject
   {
     this(parent);
     vars = new Binding(symbol, value, vars);
+    if (value instanceof SymbolMacro)
+      symbolMacros = true;
   }
 
   @Override
@@ -101,12 +106,25 @@ public final class Environment extends AbstractLispObject
   public void bindLispSymbol(Symbol symbol, LispObject value)
   {
     vars = new Binding(symbol, value, vars);
+    if (value instanceof SymbolMacro)
+      symbolMacros = true;
   }
 
   public void rebindLispSymbol(Symbol symbol, LispObject value)
   {
     Binding binding = getBinding(symbol);
     binding.value = value;
+    if (value instanceof SymbolMacro)
+      symbolMacros = true;
+  }
+
+  /** Return true if a macro expander can't tell this environment from
+   * the null lexical environment, that is, if it has no local functions,
+   * macros or symbol macros.
+   */
+  public boolean isMacroTransparent()
+  {
+    return lastFunctionBinding == null && !symbolMacros;
   }
   
   public LispObject lookup(LispObject symbol)
@@ -0,0 +1,454 @@
+/*
+ * EventLoop.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+
+package org.armedbear.lisp;
+import static org.armedbear.lisp.Nil.NIL;
+import static org.armedbear.lisp.Lisp.*;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// A selector over non-blocking sockets that calls back into Lisp when one
+// of them is ready.  Callbacks run in the thread that runs the loop, one
+// at a time.  Registrations may come from any thread: they are queued and
+// picked up by the loop before it next waits.
+//
+// A callback must not wait, or every other socket on the loop waits with
+// it.  Output a callback writes that its socket won't take yet is queued
+// and sent by the loop as the socket becomes writable (see
+// NonBlockingSocket.ChannelOutputStream).
+public final class EventLoop extends AbstractLispObject
+{
+    // The loop the current thread is running, if any.
+    private static final ThreadLocal<EventLoop> running =
+        new ThreadLocal<EventLoop>();
+
+    private final Selector selector;
+    private final ConcurrentLinkedQueue<Handler> pending =
+        new ConcurrentLinkedQueue<Handler>();
+    private volatile boolean stopped;
+
+    // Sockets with queued output, and those of them to close once it has
+    // been sent.  Only used by the thread running the loop.
+    private final HashMap<SelectableChannel,NonBlockingSocket.ChannelOutputStream>
+        backlogged =
+        new HashMap<SelectableChannel,NonBlockingSocket.ChannelOutputStream>();
+    private final HashSet<SelectableChannel> closing =
+        new HashSet<SelectableChannel>();
+
+    // The callbacks for one socket.  TARGET is what they are called with:
+    // the socket stream, or the socket itself if it was registered bare.
+    private static final class Handler
+    {
+        final SelectableChannel channel;
+        final LispObject target;
+        final LispObject onRead;
+        final LispObject onWrite;
+        final LispObject onAccept;
+        final LispObject onConnect;
+
+        Handler(SelectableChannel channel, LispObject target,
+                LispObject onRead, LispObject onWrite,
+                LispObject onAccept, LispObject onConnect)
+        {
+            this.channel = channel;
+            this.target = target;
+            this.onRead = onRead;
+            this.onWrite = onWrite;
+            this.onAccept = onAccept;
+            this.onConnect = onConnect;
+        }
+
+        int interestOps()
+        {
+            int ops = 0;
+            if (onRead != NIL)
+                ops |= SelectionKey.OP_READ;
+            if (onWrite != NIL)
+                ops |= SelectionKey.OP_WRITE;
+            if (onAccept != NIL)
+                ops |= SelectionKey.OP_ACCEPT;
+            if (onConnect != NIL && channel instanceof SocketChannel
+                && ((SocketChannel)channel).isConnectionPending())
+                ops |= SelectionKey.OP_CONNECT;
+            return ops & channel.validOps();
+        }
+    }
+
+    private EventLoop() throws IOException
+    {
+        selector = Selector.open();
+    }
+
+    @Override
+    public String writeToString()
+    {
+        return unreadableString("EVENT-LOOP");
+    }
+
+    static EventLoop current()
+    {
+        return running.get();
+    }
+
+    // A handler with no callbacks removes any earlier registration.
+    void register(Handler handler)
+    {
+        pending.add(handler);
+        selector.wakeup();
+    }
+
+    private void applyPending() throws ConditionThrowable, IOException
+    {
+        // Output queued for a socket closed since is dropped with it.
+        for (Iterator<SelectableChannel> it = backlogged.keySet().iterator();
+             it.hasNext();) {
+            SelectableChannel channel = it.next();
+            if (!channel.isOpen()) {
+                it.remove();
+                closing.remove(channel);
+            }
+        }
+        Handler handler;
+        while ((handler = pending.poll()) != null) {
+            if (!handler.channel.isOpen())
+                continue;
+            SelectionKey key = handler.channel.keyFor(selector);
+            boolean fresh = key == null || !key.isValid();
+            int ops = handler.interestOps();
+            if (backlogged.containsKey(handler.channel))
+                ops |= SelectionKey.OP_WRITE;
+            if (ops == 0) {
+                if (key != null)
+                    key.cancel();
+            }
+            else if (!fresh) {
+                key.attach(handler);
+                key.interestOps(ops);
+            }
+            else {
+                if (key != null)
+                    selector.selectNow(); // Flush the cancelled key.
+                handler.channel.register(selector, ops, handler);
+            }
+            // A connect can complete before the socket is registered.
+            if (fresh && handler.onConnect != NIL
+                && (ops & SelectionKey.OP_CONNECT) == 0)
+                call(handler.onConnect, handler.target);
+        }
+    }
+
+    // Waits for ready sockets and dispatches them.  If ONCE is false, keeps
+    // going until stopped or until no sockets are left; otherwise returns
+    // after the first wait.  TIMEOUT is in milliseconds, or negative to
+    // wait indefinitely.  Returns the number of sockets dispatched.
+    // A stop requested before the loop starts makes it return at once.
+    int run(long timeout, boolean once) throws ConditionThrowable, IOException
+    {
+        int dispatched = 0;
+        final EventLoop outer = running.get();
+        running.set(this);
+        try {
+            while (!stopped) {
+                applyPending();
+                if (!once && selector.keys().isEmpty())
+                    break;
+                if (timeout < 0)
+                    selector.select();
+                else if (timeout == 0)
+                    selector.selectNow();
+                else
+                    selector.select(timeout);
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    if (key.isValid()) {
+                        dispatch(key);
+                        ++dispatched;
+                    }
+                }
+                if (once)
+                    break;
+            }
+        }
+        finally {
+            stopped = false;
+            running.set(outer);
+        }
+        return dispatched;
+    }
+
+    // Has OUT's queued output sent as CHANNEL becomes writable.  Called
+    // by the thread running the loop.
+    void queueOutput(SocketChannel channel,
+                     NonBlockingSocket.ChannelOutputStream out)
+        throws IOException
+    {
+        backlogged.put(channel, out);
+        int ops = SelectionKey.OP_WRITE;
+        if (channel.isConnectionPending())
+            ops |= SelectionKey.OP_CONNECT;
+        SelectionKey key = channel.keyFor(selector);
+        if (key == null)
+            channel.register(selector, ops,
+                             new Handler(channel, NIL, NIL, NIL, NIL, NIL));
+        else if (key.isValid())
+            key.interestOps(key.interestOps() | ops);
+        else
+            throw new ClosedChannelException();
+    }
+
+    // Closes CHANNEL once its queued output has been sent.  Returns false
+    // if it has none, leaving the caller to close it.
+    boolean closeWhenSent(SelectableChannel channel)
+    {
+        if (!backlogged.containsKey(channel))
+            return false;
+        closing.add(channel);
+        return true;
+    }
+
+    // Sends what CHANNEL will take of its queued output.
+    private void sendQueuedOutput(SelectionKey key, Handler handler)
+        throws IOException
+    {
+        final SelectableChannel channel = key.channel();
+        final NonBlockingSocket.ChannelOutputStream out =
+            backlogged.get(channel);
+        if (out == null)
+            return;
+        boolean sent;
+        try {
+            sent = out.sendQueued();
+        }
+        catch (IOException e) {
+            // The peer has gone: nothing queued can be sent.
+            sent = true;
+            closing.add(channel);
+        }
+        if (!sent)
+            return;
+        backlogged.remove(channel);
+        if (closing.remove(channel))
+            channel.close();
+        else if (handler.onWrite == NIL) {
+            int ops = key.interestOps() & ~SelectionKey.OP_WRITE;
+            if (ops == 0)
+                key.cancel();
+            else
+                key.interestOps(ops);
+        }
+    }
+
+    void stop()
+    {
+        stopped = true;
+        selector.wakeup();
+    }
+
+    private static void call(LispObject callback, LispObject arg)
+        throws ConditionThrowable
+    {
+        if (callback != NIL)
+            callback.execute(arg);
+    }
+
+    private void dispatch(SelectionKey key)
+        throws ConditionThrowable, IOException
+    {
+        final Handler handler = (Handler) key.attachment();
+        final int ready = key.readyOps();
+        if ((ready & SelectionKey.OP_CONNECT) != 0) {
+            SocketChannel channel = (SocketChannel) key.channel();
+            try {
+                if (!channel.finishConnect())
+                    return;
+            }
+            catch (IOException e) {
+                // The connection failed: close the socket, so that the
+                // stream the callback sees is closed, and cancel its key.
+                channel.close();
+                backlogged.remove(channel);
+                closing.remove(channel);
+                call(handler.onConnect, handler.target);
+                return;
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_CONNECT);
+            call(handler.onConnect, handler.target);
+        }
+        if (key.isValid() && (ready & SelectionKey.OP_ACCEPT) != 0) {
+            ServerSocketChannel server = (ServerSocketChannel) key.channel();
+            SocketChannel channel;
+            while ((channel = server.accept()) != null) {
+                channel.configureBlocking(false);
+                call(handler.onAccept, makeNewJavaObject(channel));
+            }
+        }
+        if (key.isValid() && (ready & SelectionKey.OP_READ) != 0)
+            call(handler.onRead, handler.target);
+        if (key.isValid() && (ready & SelectionKey.OP_WRITE) != 0) {
+            sendQueuedOutput(key, handler);
+            if (key.isValid())
+                call(handler.onWrite, handler.target);
+        }
+    }
+
+    private static final EventLoop checkEventLoop(LispObject arg)
+        throws ConditionThrowable
+    {
+        if (arg instanceof EventLoop)
+            return (EventLoop) arg;
+        error(new TypeError("The value " + arg.writeToString()
+                            + " is not an event loop."));
+        // Not reached.
+        return null;
+    }
+
+    private static final LispObject checkCallback(LispObject arg)
+        throws ConditionThrowable
+    {
+        return arg == NIL ? NIL : coerceToFunction(arg);
+    }
+
+    // ### %make-event-loop => event-loop
+    private static final Primitive MAKE_EVENT_LOOP =
+        new Primitive("%make-event-loop", PACKAGE_SYS, false, "")
+    {
+        @Override
+        public LispObject execute() throws ConditionThrowable
+        {
+            try {
+                return new EventLoop();
+            }
+            catch (IOException e) {
+                return error(new LispError(e.getMessage()));
+            }
+        }
+    };
+
+    // ### %event-loop-register event-loop socket on-read on-write on-accept on-connect
+    private static final Primitive EVENT_LOOP_REGISTER =
+        new Primitive("%event-loop-register", PACKAGE_SYS, false,
+                      "event-loop socket on-read on-write on-accept on-connect")
+    {
+        @Override
+        public LispObject execute(LispObject[] args) throws ConditionThrowable
+        {
+            if (args.length != 6)
+                return error(new WrongNumberOfArgumentsException(this));
+            final EventLoop loop = checkEventLoop(args[0]);
+            final LispObject target = args[1];
+            Object object;
+            if (target instanceof SocketStream) {
+                Socket socket = ((SocketStream)target).getSocket();
+                object = socket.getChannel();
+            }
+            else
+                object = JavaObject.getObject(target);
+            if (!(object instanceof SelectableChannel)
+                || ((SelectableChannel)object).isBlocking())
+                return error(new TypeError("The value " + target.writeToString()
+                                           + " is not a non-blocking socket."));
+            loop.register(new Handler((SelectableChannel) object, target,
+                                      checkCallback(args[2]),
+                                      checkCallback(args[3]),
+                                      checkCallback(args[4]),
+                                      checkCallback(args[5])));
+            return target;
+        }
+    };
+
+    // ### %event-loop-run event-loop timeout once => count
+    private static final Primitive EVENT_LOOP_RUN =
+        new Primitive("%event-loop-run", PACKAGE_SYS, false,
+                      "event-loop timeout once")
+    {
+        @Override
+        public LispObject execute(LispObject first, LispObject second,
+                                  LispObject third)
+            throws ConditionThrowable
+        {
+            final EventLoop loop = checkEventLoop(first);
+            long timeout = -1;
+            if (second != NIL)
+                timeout = LispThread.javaSleepInterval(second);
+            try {
+                return number(loop.run(timeout, third != NIL));
+            }
+            catch (IOException e) {
+                return error(new LispError(e.getMessage()));
+            }
+        }
+    };
+
+    // ### %event-loop-stop event-loop
+    private static final Primitive EVENT_LOOP_STOP =
+        new Primitive("%event-loop-stop", PACKAGE_SYS, false, "event-loop")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            checkEventLoop(arg).stop();
+            return T;
+        }
+    };
+
+    // ### %event-loop-close event-loop
+    private static final Primitive EVENT_LOOP_CLOSE =
+        new Primitive("%event-loop-close", PACKAGE_SYS, false, "event-loop")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            try {
+                checkEventLoop(arg).selector.close();
+                return T;
+            }
+            catch (IOException e) {
+                return error(new LispError(e.getMessage()));
+            }
+        }
+    };
+}
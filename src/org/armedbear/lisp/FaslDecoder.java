@@ -0,0 +1,244 @@
+/*
+ * FaslDecoder.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+
+package org.armedbear.lisp;
+
+import static org.armedbear.lisp.Nil.NIL;
+import static org.armedbear.lisp.Lisp.*;
+
+import java.io.IOException;
+
+// Decodes the objects COMPILE-FILE writes to a fasl as #~ followed by the
+// encoding produced by DUMP-FORM (see dump-form.lisp).  Every object
+// starts with a one-character tag:
+//
+//   /          NIL
+//   + n        the fixnum n
+//   - n        the fixnum -n
+//   ' n        the character with code n
+//   " n chars  a simple string of n characters
+//   ( n x...   a proper list of n objects
+//   . n x... y a dotted list of n objects ending in y
+//   * n x...   a simple vector of n objects
+//   $ p chars  the symbol named chars in package p, which is either
+//              % chars, naming a package, or a ! reference to one
+//   # chars    an uninterned symbol
+//   ! n        entry n of the object table
+//   | text     an object written by the printer, followed by a space
+//
+// Packages and symbols are added to the object table in the order they
+// are defined, so later references to them cost a couple of characters.
+// The numbers n are unsigned, five bits to a character, least significant
+// first; '0'..'O' hold the last five bits and 'P'..'o' the others.
+//
+// A new decoder, and with it a new object table, is bound to *FASL-DECODER*
+// for each fasl that is loaded.
+public final class FaslDecoder extends AbstractLispObject
+{
+    private LispObject[] table = new LispObject[256];
+    private int count;
+
+    @Override
+    public String writeToString()
+    {
+        return unreadableString("FASL-DECODER");
+    }
+
+    public static LispObject decode(Stream stream, LispThread thread)
+        throws ConditionThrowable
+    {
+        LispObject decoder = Load._FASL_DECODER_.symbolValue(thread);
+        if (!(decoder instanceof FaslDecoder))
+            return error(new ReaderError("#~ is only valid in a fasl.", stream));
+        try {
+            return ((FaslDecoder)decoder).readObject(stream, thread);
+        }
+        catch (IOException e) {
+            return error(new StreamError(stream, e));
+        }
+    }
+
+    private LispObject readObject(Stream stream, LispThread thread)
+        throws ConditionThrowable, IOException
+    {
+        final int tag = stream._readChar();
+        switch (tag) {
+            case '/':
+                return NIL;
+            case '+':
+                return Fixnum.makeFixnum((int) readNumber(stream));
+            case '-':
+                return Fixnum.makeFixnum((int) -readNumber(stream));
+            case '\'':
+                return LispCharacter.getLispCharacter((char) readNumber(stream));
+            case '"':
+                return new SimpleString(readChars(stream));
+            case '(':
+            case '.': {
+                final int length = readLength(stream);
+                Cons first = null;
+                Cons last = null;
+                for (int i = 0; i < length; i++) {
+                    Cons cons = new Cons(readObject(stream, thread));
+                    if (last == null)
+                        first = cons;
+                    else
+                        last.cdr = cons;
+                    last = cons;
+                }
+                if (last == null)
+                    return badEncoding(stream);
+                if (tag == '.')
+                    last.cdr = readObject(stream, thread);
+                return first;
+            }
+            case '*': {
+                final int length = readLength(stream);
+                LispObject[] elements = new LispObject[length];
+                for (int i = 0; i < length; i++)
+                    elements[i] = readObject(stream, thread);
+                return new SimpleVector(elements);
+            }
+            case '$': {
+                LispObject pkg = readPackage(stream);
+                return define(((LispPackage)pkg).intern(readChars(stream)));
+            }
+            case '#': {
+                LispObject pkg = Load._FASL_ANONYMOUS_PACKAGE_.symbolValue(thread);
+                Debug.assertTrue(pkg != NIL);
+                Symbol symbol = ((LispPackage)pkg).intern(readChars(stream));
+                symbol.setPackage(NIL);
+                return define(symbol);
+            }
+            case '!':
+                return reference(stream);
+            case '|': {
+                LispObject obj = stream.faslRead(true, NIL, true, thread);
+                int c = stream._readChar();
+                if (c >= 0 && c != ' ')
+                    stream._unreadChar(c);
+                return obj;
+            }
+            case -1:
+                return error(new EndOfFile(stream));
+            default:
+                return badEncoding(stream);
+        }
+    }
+
+    private LispObject readPackage(Stream stream)
+        throws ConditionThrowable, IOException
+    {
+        final int tag = stream._readChar();
+        if (tag == '!') {
+            LispObject obj = reference(stream);
+            if (obj instanceof LispPackage)
+                return obj;
+        } else if (tag == '%') {
+            String name = readChars(stream);
+            LispPackage pkg = Packages.findPackage(name);
+            if (pkg == null)
+                return error(new PackageError("Package \"" + name +
+                                              "\" not found."));
+            return define(pkg);
+        }
+        return badEncoding(stream);
+    }
+
+    private LispObject define(LispObject obj)
+    {
+        if (count == table.length) {
+            LispObject[] newTable = new LispObject[count * 2];
+            System.arraycopy(table, 0, newTable, 0, count);
+            table = newTable;
+        }
+        table[count++] = obj;
+        return obj;
+    }
+
+    private LispObject reference(Stream stream)
+        throws ConditionThrowable, IOException
+    {
+        long index = readNumber(stream);
+        if (index >= count)
+            return badEncoding(stream);
+        return table[(int) index];
+    }
+
+    private static String readChars(Stream stream)
+        throws ConditionThrowable, IOException
+    {
+        final int length = readLength(stream);
+        char[] chars = new char[length];
+        int start = 0;
+        while (start < length) {
+            int n = stream._readChars(chars, start, length);
+            if (n <= 0)
+                error(new EndOfFile(stream));
+            start += n;
+        }
+        return new String(chars);
+    }
+
+    private static int readLength(Stream stream)
+        throws ConditionThrowable, IOException
+    {
+        long length = readNumber(stream);
+        if (length > Integer.MAX_VALUE)
+            badEncoding(stream);
+        return (int) length;
+    }
+
+    private static long readNumber(Stream stream)
+        throws ConditionThrowable, IOException
+    {
+        long n = 0;
+        for (int shift = 0; shift < 60; shift += 5) {
+            int c = stream._readChar();
+            if (c >= '0' && c < 'P')
+                return n | ((long)(c - '0') << shift);
+            if (c < 'P' || c >= 'p')
+                break;
+            n |= (long)(c - 'P') << shift;
+        }
+        badEncoding(stream);
+        return 0;
+    }
+
+    private static LispObject badEncoding(Stream stream)
+        throws ConditionThrowable
+    {
+        return error(new ReaderError("Invalid encoded object in fasl.", stream));
+    }
+}
@@ -312,7 +312,8 @@ public final class FaslReader extends LispFile
             Symbol symbol = (Symbol) stream.readSymbol(FaslReadtable.getInstance());
             LispObject pkg = Load._FASL_ANONYMOUS_PACKAGE_.symbolValue(thread);
             Debug.assertTrue(pkg != NIL);
-            symbol = ((LispPackage)pkg).intern(symbol.getName());
+            symbol = ((LispPackage)pkg).intern(symbol.getSymbolName(),
+                                                symbol.sxhash());
             symbol.setPackage(NIL);
             return symbol;
         }
@@ -465,6 +466,19 @@ public final class FaslReader extends LispFile
         }
     };
 
+    // ### fasl-sharp-tilde
+    public static final DispatchMacroFunction FASL_SHARP_TILDE =
+        new DispatchMacroFunction("fasl-sharp-tilde", PACKAGE_SYS, false,
+                                  "stream sub-char numarg")
+    {
+        @Override
+        public LispObject execute(Stream stream, char c, int n)
+            throws ConditionThrowable
+        {
+            return FaslDecoder.decode(stream, LispThread.currentThread());
+        }
+    };
+
     // ### fasl-sharp-illegal
     public static final DispatchMacroFunction FASL_SHARP_ILLEGAL =
         new DispatchMacroFunction("fasl-sharp-illegal", PACKAGE_SYS, false,
@@ -45,7 +45,7 @@ public final class FaslReadtable extends Readtable
     @Override
     protected void initialize()
     {
-    	Byte[] syntax = this.syntax.constants;
+    	byte[] syntax = this.syntax.constants;
         syntax[9]    = SYNTAX_TYPE_WHITESPACE; // tab
         syntax[10]   = SYNTAX_TYPE_WHITESPACE; // linefeed
         syntax[12]   = SYNTAX_TYPE_WHITESPACE; // form feed
@@ -95,6 +95,7 @@ public final class FaslReadtable extends Readtable
         dtfunctions['\''] = FaslReader.FASL_SHARP_QUOTE;
         dtfunctions['\\'] = FaslReader.FASL_SHARP_BACKSLASH;
         dtfunctions['|']  = FaslReader.FASL_SHARP_VERTICAL_BAR;
+        dtfunctions['~']  = FaslReader.FASL_SHARP_TILDE;
         dtfunctions[')']  = FaslReader.FASL_SHARP_ILLEGAL;
         dtfunctions['<']  = FaslReader.FASL_SHARP_ILLEGAL;
         dtfunctions[' ']  = FaslReader.FASL_SHARP_ILLEGAL;
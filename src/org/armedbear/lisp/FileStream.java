@@ -44,6 +44,9 @@ import java.io.Writer;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 import org.armedbear.lisp.util.RandomAccessCharacterFile;
 
 public final class FileStream extends Stream
@@ -100,10 +103,18 @@ public final class FileStream extends Stream
             }
         }
         setExternalFormat(format);
+        buffering = Buffering.FULL;
         
+        boolean map = false;
+        if (direction == Keyword.INPUT) {
+            LispObject threshold = _FILE_STREAM_MAP_THRESHOLD_.symbolValueNoThrow();
+            if (threshold instanceof Fixnum)
+                map = raf.length() >= ((Fixnum)threshold).intValue();
+        }
+
 	// don't touch raf directly after passing it to racf.
 	// the state will become inconsistent if you do that.
-        racf = new RandomAccessCharacterFile(raf, encoding);
+        racf = new RandomAccessCharacterFile(raf, encoding, map);
 
         this.pathname = pathname;
         this.elementType = elementType;
@@ -190,6 +201,12 @@ public final class FileStream extends Stream
         return number(length / bytesPerUnit);
     }
 
+    @Override
+    protected CharBuffer readAheadBuffer()
+    {
+        return isCharacterStream && isInputStream ? racf.readAheadBuffer() : null;
+    }
+
     @Override
     protected void _unreadChar(int n) throws ConditionThrowable
     {
@@ -222,6 +239,47 @@ public final class FileStream extends Stream
         }
     }
 
+    // Returns true if transferTo() can be used on this stream.
+    boolean canTransfer()
+    {
+        return isInputStream && isBinaryStream && bytesPerUnit == 1;
+    }
+
+    // Sends the rest of the file to the socket straight from the file
+    // channel and returns the number of bytes sent.  If a blocking socket
+    // takes no more bytes, this stops early; the caller copies the rest.
+    long transferTo(SocketChannel target) throws ConditionThrowable
+    {
+        NonBlockingSocket.Waiter waiter = null;
+        try {
+            if (!target.isBlocking()) {
+                waiter = new NonBlockingSocket.Waiter(target);
+                NonBlockingSocket.finishConnect(target, waiter);
+            }
+            long total = 0;
+            long remaining;
+            while ((remaining = racf.length() - racf.position()) > 0) {
+                long n = racf.transferTo(target, remaining);
+                if (n == 0) {
+                    if (waiter == null)
+                        break;
+                    waiter.await(SelectionKey.OP_WRITE);
+                }
+                total += n;
+            }
+            return total;
+        }
+        catch (IOException e) {
+            error(new StreamError(this, e));
+            // Not reached.
+            return 0;
+        }
+        finally {
+            if (waiter != null)
+                waiter.close();
+        }
+    }
+
     @Override
     protected long _getFilePosition() throws ConditionThrowable
     {
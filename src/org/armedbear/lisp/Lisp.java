@@ -43,6 +43,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Constructor;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
@@ -50,6 +51,8 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.ByteBuffer;
 import java.util.Hashtable;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -283,6 +286,111 @@ public final class Lisp
     return thread.setValues(form, NIL);
   }
 
+  // Expansions of the macro calls evaluated by EVAL, keyed (weakly, and by
+  // identity) by the calling form.  An expansion is reused for as long as
+  // the form's operator still names the same macro and the form's conses
+  // haven't been modified, so that the interpreter doesn't run the
+  // expander every time round a loop.  Each thread has its own cache, so
+  // looking an expansion up takes no lock.
+  private static final ThreadLocal<Map<LispObject,MacroExpansion>> macroExpansions =
+    new ThreadLocal<Map<LispObject,MacroExpansion>>()
+    {
+      @Override
+      protected Map<LispObject,MacroExpansion> initialValue()
+      {
+        return new WeakHashMap<LispObject,MacroExpansion>();
+      }
+    };
+
+  // Larger (or circular) forms are expanded every time.
+  private static final int MAX_CACHED_FORM_CONSES = 1000;
+
+  private static final class MacroExpansion
+    extends SoftReference<LispObject>
+  {
+    final MacroObject macro;
+    // A copy of the conses of the form as it was when it was expanded,
+    // sharing its atoms.
+    final LispObject formCopy;
+
+    MacroExpansion(MacroObject macro, LispObject formCopy,
+                   LispObject expansion)
+    {
+      super(expansion);
+      this.macro = macro;
+      this.formCopy = formCopy;
+    }
+  }
+
+  // Returns a copy of the conses of FORM, or null if there are more of
+  // them than BUDGET allows.
+  private static final LispObject copyFormConses(LispObject form,
+                                                 int[] budget)
+  {
+    if (!(form instanceof Cons))
+      return form;
+    if (--budget[0] < 0)
+      return null;
+    final Cons cons = (Cons) form;
+    final LispObject car = copyFormConses(cons.car, budget);
+    if (car == null)
+      return null;
+    final LispObject cdr = copyFormConses(cons.cdr, budget);
+    if (cdr == null)
+      return null;
+    return new Cons(car, cdr);
+  }
+
+  // Whether FORM still has the conses and atoms of COPY, which was made
+  // by copyFormConses.
+  private static final boolean sameFormConses(LispObject form,
+                                              LispObject copy)
+  {
+    while (form instanceof Cons)
+      {
+        if (!(copy instanceof Cons))
+          return false;
+        if (!sameFormConses(((Cons)form).car, ((Cons)copy).car))
+          return false;
+        form = ((Cons)form).cdr;
+        copy = ((Cons)copy).cdr;
+      }
+    return form == copy;
+  }
+
+  // Returns the result of expanding FORM once with MACRO, the global or
+  // local macro named by its operator in ENV.
+  private static final LispObject expandMacroCall(Cons form,
+                                                  MacroObject macro,
+                                                  Environment env,
+                                                  LispThread thread)
+    throws ConditionThrowable
+  {
+    // Only the standard *MACROEXPAND-HOOK* is known to leave the expansion
+    // alone, and an expander may look at local macro definitions.
+    if (!env.isMacroTransparent()
+        || SymbolConstants.MACROEXPAND_HOOK.symbolValue(thread) != SymbolConstants.FUNCALL)
+      return macroexpand_1(form, env, thread);
+    final Map<LispObject,MacroExpansion> expansions = macroExpansions.get();
+    MacroExpansion cached = expansions.get(form);
+    if (cached != null && cached.macro == macro
+        && sameFormConses(form, cached.formCopy))
+      {
+        LispObject expansion = cached.get();
+        if (expansion != null)
+          return expansion;
+      }
+    // Copy the form before expanding it, in case the expander modifies it.
+    final LispObject formCopy =
+      copyFormConses(form, new int[] { MAX_CACHED_FORM_CONSES });
+    LispObject expansion = macroexpand_1(form, env, thread);
+    if (formCopy != null)
+      expansions.put(form, new MacroExpansion(macro, formCopy, expansion));
+    else
+      expansions.remove(form);
+    return expansion;
+  }
+
   // ### interactive-eval
   private static final Primitive INTERACTIVE_EVAL =
     new Primitive("interactive-eval", PACKAGE_SYS, true)
@@ -458,10 +566,16 @@ public final class Lisp
             else
               result = thread.lookupSpecial(obj);
           }
-        else if (env.isDeclaredSpecial(obj))
-          result = thread.lookupSpecial(obj);
         else
-          result = env.lookup(obj);
+          {
+            // One pass over the lexical bindings answers both whether the
+            // variable is declared special and what its value is.
+            Binding binding = env.getBinding(obj);
+            if (binding == null || binding.specialp)
+              result = thread.lookupSpecial(obj);
+            else
+              result = binding.value;
+          }
         if (result == null)
           {
             result = obj.getSymbolValue();
@@ -487,7 +601,9 @@ public final class Lisp
                 return fun.execute(((Cons)obj).CDR(), env);
               }
             if (fun instanceof MacroObject)
-              return eval(macroexpand(obj, env, thread), env, thread);
+              return eval(expandMacroCall((Cons)obj, (MacroObject)fun, env,
+                                          thread),
+                          env, thread);
             if (fun instanceof Autoload)
               {
                 Autoload autoload = (Autoload) fun;
@@ -2493,6 +2609,24 @@ public static final String javaString(LispObject arg)
   public static final Symbol _COMPILE_FILE_ZIP_ =
     exportSpecial("*COMPILE-FILE-ZIP*", PACKAGE_SYS, T);
 
+  // ### *compile-file-jobs*
+  public static final Symbol _COMPILE_FILE_JOBS_ =
+    exportSpecial("*COMPILE-FILE-JOBS*", PACKAGE_SYS, Fixnum.ONE);
+
+  // ### *compile-file-cache-directory*
+  public static final Symbol _COMPILE_FILE_CACHE_DIRECTORY_ =
+    exportSpecial("*COMPILE-FILE-CACHE-DIRECTORY*", PACKAGE_SYS, NIL);
+
+  // ### *compile-file-auto-inline*
+  public static final Symbol _COMPILE_FILE_AUTO_INLINE_ =
+    exportSpecial("*COMPILE-FILE-AUTO-INLINE*", PACKAGE_SYS, NIL);
+
+  // ### *file-stream-map-threshold*
+  // When an integer, files of at least that many bytes opened for input
+  // only are memory-mapped instead of read through a buffer.
+  public static final Symbol _FILE_STREAM_MAP_THRESHOLD_ =
+    exportSpecial("*FILE-STREAM-MAP-THRESHOLD*", PACKAGE_SYS, NIL);
+
   static
   {
     SymbolConstants.MACROEXPAND_HOOK.initializeSpecial(SymbolConstants.FUNCALL);
@@ -2705,6 +2839,11 @@ public static final String javaString(LispObject arg)
   public static final Symbol _EXPLAIN_ =
     exportSpecial("*EXPLAIN*", PACKAGE_SYS, NIL);
 
+  // ### *block-compile*
+  // internal symbol
+  public static final Symbol _BLOCK_COMPILE_ =
+    internSpecial("*BLOCK-COMPILE*", PACKAGE_SYS, NIL);
+
   // ### *enable-inline-expansion*
   public static final Symbol _ENABLE_INLINE_EXPANSION_ =
     exportSpecial("*ENABLE-INLINE-EXPANSION*", PACKAGE_EXT, T);
@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class LispPackage extends AbstractLispObject
 {
@@ -52,8 +53,16 @@ public final class LispPackage extends AbstractLispObject
 
     private HashMap<String,Symbol> shadowingSymbols;
     private ArrayList<String> nicknames;
-    private LispObject useList = null;
-    private ArrayList<LispPackage> usedByList = null;
+    private volatile LispObject useList = null;
+    // Changed under the lock of the package that uses this one, not this
+    // package's, so it is copied on write and iterated without locking.
+    private final List<LispPackage> usedByList =
+        new CopyOnWriteArrayList<LispPackage>();
+
+    // Symbols inherited from the used packages, as found by
+    // findInheritedSymbol(), or null.  Set back to null whenever the use
+    // list or the external symbols of a used package change.
+    private volatile SymbolHashTable inheritedSymbols;
 
     // Anonymous package.
     public LispPackage()
@@ -155,6 +164,8 @@ public final class LispPackage extends AbstractLispObject
                     symbol.setPackage(NIL);
                 externalSymbols.remove(symbol);
             }
+            externalSymbolsChanged();
+            invalidateInheritedSymbols();
             nameStr = null;
             lispName = null;
             nicknames = null;
@@ -183,30 +194,35 @@ public final class LispPackage extends AbstractLispObject
         Packages.addPackage(this);
     }
 
-    public synchronized Symbol findInternalSymbol(SimpleString name)
+    public Symbol findInternalSymbol(SimpleString name)
     {
         return internalSymbols.get(name);
     }
 
-    public synchronized Symbol findExternalSymbol(SimpleString name)
+    public Symbol findInternalSymbol(SimpleString name, int hash)
+    {
+        return internalSymbols.get(name, hash);
+    }
+
+    public Symbol findExternalSymbol(SimpleString name)
     {
         return externalSymbols.get(name);
     }
 
-    public synchronized Symbol findExternalSymbol(SimpleString name, int hash)
+    public Symbol findExternalSymbol(SimpleString name, int hash)
     {
         return externalSymbols.get(name, hash);
     }
 
     // Returns null if symbol is not accessible in this package.
-    public synchronized Symbol findAccessibleSymbol(String name)
+    public Symbol findAccessibleSymbol(String name)
         throws ConditionThrowable
     {
         return findAccessibleSymbol(new SimpleString(name));
     }
 
     // Returns null if symbol is not accessible in this package.
-    public synchronized Symbol findAccessibleSymbol(SimpleString name)
+    public Symbol findAccessibleSymbol(SimpleString name)
         throws ConditionThrowable
     {
         // Look in external and internal symbols of this package.
@@ -217,21 +233,61 @@ public final class LispPackage extends AbstractLispObject
         if (symbol != null)
             return symbol;
         // Look in external symbols of used packages.
-        if (useList instanceof Cons) {
-            LispObject usedPackages = useList;
-            while (usedPackages != NIL) {
-                LispPackage pkg = (LispPackage) usedPackages.CAR();
-                symbol = pkg.findExternalSymbol(name);
-                if (symbol != null)
-                    return symbol;
-                usedPackages = usedPackages.CDR();
+        return findInheritedSymbol(name, name.sxhash());
+    }
+
+    // Returns null if symbol is not accessible in this package.  HASH must
+    // be the sxhash of NAME.
+    public Symbol findAccessibleSymbol(SimpleString name, int hash)
+    {
+        return findAccessibleSymbol(name, hash, null);
+    }
+
+    // Returns the symbol named NAME that this package inherits from the
+    // packages it uses, or null.
+    private Symbol findInheritedSymbol(SimpleString name, int hash)
+    {
+        // Get hold of the cache before reading the use list: if either
+        // changes after that, this cache has been dropped and whatever
+        // goes into it below is never looked at again.
+        SymbolHashTable cache = inheritedSymbols;
+        if (cache != null) {
+            Symbol symbol = cache.get(name, hash);
+            if (symbol != null)
+                return symbol;
+        }
+        if (!(useList instanceof Cons))
+            return null;
+        if (cache == null)
+            inheritedSymbols = cache = new SymbolHashTable(64);
+        LispObject usedPackages = useList;
+        while (usedPackages != NIL) {
+            Cons cons = (Cons) usedPackages;
+            Symbol symbol = ((LispPackage)cons.car).findExternalSymbol(name, hash);
+            if (symbol != null) {
+                cache.put(symbol);
+                return symbol;
             }
+            usedPackages = cons.cdr;
         }
         // Not found.
         return null;
     }
 
-    public synchronized LispObject findSymbol(String name)
+    private void invalidateInheritedSymbols()
+    {
+        inheritedSymbols = null;
+    }
+
+    // Called when the external symbols of this package change, since
+    // they are what the packages that use it inherit.
+    private void externalSymbolsChanged()
+    {
+        for (LispPackage pkg : usedByList)
+            pkg.invalidateInheritedSymbols();
+    }
+
+    public LispObject findSymbol(String name)
         throws ConditionThrowable
     {
         final SimpleString s = new SimpleString(name);
@@ -244,16 +300,9 @@ public final class LispPackage extends AbstractLispObject
         if (symbol != null)
             return thread.setValues(symbol, Keyword.INTERNAL);
         // Look in external symbols of used packages.
-        if (useList instanceof Cons) {
-            LispObject usedPackages = useList;
-            while (usedPackages != NIL) {
-                LispPackage pkg = (LispPackage) usedPackages.CAR();
-                symbol = pkg.findExternalSymbol(s);
-                if (symbol != null)
-                    return thread.setValues(symbol, Keyword.INHERITED);
-                usedPackages = usedPackages.CDR();
-            }
-        }
+        symbol = findInheritedSymbol(s, s.sxhash());
+        if (symbol != null)
+            return thread.setValues(symbol, Keyword.INHERITED);
         // Not found.
         return thread.setValues(NIL, NIL);
     }
@@ -265,6 +314,7 @@ public final class LispPackage extends AbstractLispObject
         Debug.assertTrue(symbol.getName().equals("NIL"));
         try {
             externalSymbols.put(symbol.getSymbolName(), symbol);
+            externalSymbolsChanged();
         }
         catch (Throwable t) {
             Debug.trace(t); // FIXME
@@ -278,6 +328,7 @@ public final class LispPackage extends AbstractLispObject
             if (this == PACKAGE_KEYWORD) {
                 symbol.initializeConstant(symbol);
                 externalSymbols.put(name, symbol);
+                externalSymbolsChanged();
             } else
                 internalSymbols.put(name, symbol);
         }
@@ -298,73 +349,84 @@ public final class LispPackage extends AbstractLispObject
     {
         final Symbol symbol = makeSymbol(symbolName, this);
         externalSymbols.put(symbol);
+        externalSymbolsChanged();
         return symbol;
     }
 
-    public synchronized Symbol intern(String symbolName)
+    public Symbol intern(String symbolName)
     {
         return intern(new SimpleString(symbolName));
     }
 
-    public synchronized Symbol intern(SimpleString symbolName)
+    public Symbol intern(SimpleString symbolName)
     {
-        final int hash = symbolName.sxhash();
-        // Look in external and internal symbols of this package.
-        Symbol symbol = externalSymbols.get(symbolName, hash);
+        return intern(symbolName, symbolName.sxhash());
+    }
+
+    // HASH must be the sxhash of SYMBOLNAME: callers that already have it,
+    // such as the reader, or a symbol of the same name, pass it in rather
+    // than have the name hashed again.
+    public Symbol intern(SimpleString symbolName, int hash)
+    {
+        Symbol symbol = findAccessibleSymbol(symbolName, hash, null);
         if (symbol != null)
             return symbol;
-        symbol = internalSymbols.get(symbolName, hash);
+        return internNew(symbolName, hash, null);
+    }
+
+    public Symbol intern(final SimpleString s, final LispThread thread)
+    {
+        return intern(s, s.sxhash(), thread);
+    }
+
+    public Symbol intern(final SimpleString s, final int hash,
+                         final LispThread thread)
+    {
+        Symbol symbol = findAccessibleSymbol(s, hash, thread);
         if (symbol != null)
             return symbol;
-        // Look in external symbols of used packages.
-        if (useList instanceof Cons) {
-            try {
-                LispObject usedPackages = useList;
-                while (usedPackages != NIL) {
-                    LispPackage pkg = (LispPackage) usedPackages.CAR();
-                    symbol = pkg.findExternalSymbol(symbolName, hash);
-                    if (symbol != null)
-                        return symbol;
-                    usedPackages = usedPackages.CDR();
-                }
-            }
-            catch (Throwable t) {
-                Debug.trace(t);
-            }
-        }
-        // Not found.
-        return addSymbol(symbolName, hash);
+        return internNew(s, hash, thread);
     }
 
-    public synchronized Symbol intern(final SimpleString s,
-                                      final LispThread thread)
+    // Like findAccessibleSymbol(SimpleString), for a name whose hash is
+    // known.  If THREAD isn't null and the symbol is found, the symbol and
+    // its status are returned as multiple values as well.
+    private Symbol findAccessibleSymbol(SimpleString name, int hash,
+                                        LispThread thread)
     {
-        final int hash = s.sxhash();
         // Look in external and internal symbols of this package.
-        Symbol symbol = externalSymbols.get(s, hash);
-        if (symbol != null)
-            return (Symbol) thread.setValues(symbol, Keyword.EXTERNAL);
-        symbol = internalSymbols.get(s, hash);
-        if (symbol != null)
-            return (Symbol) thread.setValues(symbol, Keyword.INTERNAL);
-        // Look in external symbols of used packages.
-        if (useList instanceof Cons) {
-            try {
-                LispObject usedPackages = useList;
-                while (usedPackages != NIL) {
-                    LispPackage pkg = (LispPackage) usedPackages.CAR();
-                    symbol = pkg.findExternalSymbol(s, hash);
-                    if (symbol != null)
-                        return (Symbol) thread.setValues(symbol, Keyword.INHERITED);
-                    usedPackages = usedPackages.CDR();
-                }
-            }
-            catch (Throwable t) {
-                Debug.trace(t);
-            }
+        Symbol symbol = externalSymbols.get(name, hash);
+        if (symbol != null) {
+            if (thread != null)
+                thread.setValues(symbol, Keyword.EXTERNAL);
+            return symbol;
         }
-        // Not found.
-        return (Symbol) thread.setValues(addSymbol(s, hash), NIL);
+        symbol = internalSymbols.get(name, hash);
+        if (symbol != null) {
+            if (thread != null)
+                thread.setValues(symbol, Keyword.INTERNAL);
+            return symbol;
+        }
+        // Look in external symbols of used packages.
+        symbol = findInheritedSymbol(name, hash);
+        if (symbol != null && thread != null)
+            thread.setValues(symbol, Keyword.INHERITED);
+        return symbol;
+    }
+
+    // The slow path of intern(): looks again, now holding the lock, in case
+    // another thread has added the symbol in the meantime, and otherwise
+    // adds it.
+    private synchronized Symbol internNew(SimpleString name, int hash,
+                                          LispThread thread)
+    {
+        Symbol symbol = findAccessibleSymbol(name, hash, thread);
+        if (symbol != null)
+            return symbol;
+        symbol = addSymbol(name, hash);
+        if (thread != null)
+            thread.setValues(symbol, NIL);
+        return symbol;
     }
 
     public synchronized Symbol internAndExport(String symbolName)
@@ -399,6 +461,7 @@ public final class LispPackage extends AbstractLispObject
         if (this == PACKAGE_KEYWORD)
             symbol.initializeConstant(symbol);
         externalSymbols.put(s, symbol);
+        externalSymbolsChanged();
         return symbol;
     }
 
@@ -442,8 +505,10 @@ public final class LispPackage extends AbstractLispObject
         // Reaching here, it's OK to remove the symbol.
         if (internalSymbols.get(symbollname) == symbol)
             internalSymbols.remove(symbollname);
-        else if (externalSymbols.get(symbollname) == symbol)
+        else if (externalSymbols.get(symbollname) == symbol) {
             externalSymbols.remove(symbollname);
+            externalSymbolsChanged();
+        }
         else
             // Not found.
             return NIL;
@@ -494,29 +559,30 @@ public final class LispPackage extends AbstractLispObject
             added = true;
         }
         if (added || internalSymbols.get(symbollname) == symbol) {
-            if (usedByList != null) {
-                for (Iterator it = usedByList.iterator(); it.hasNext();) {
-                    LispPackage pkg = (LispPackage) it.next();
-                    Symbol sym = pkg.findAccessibleSymbol(symbollname);
-                    if (sym != null && sym != symbol) {
-                        if (pkg.shadowingSymbols != null &&
-                            pkg.shadowingSymbols.get(symbolName) == sym) {
-                            // OK.
-                        } else {
-                            FastStringBuffer sb = new FastStringBuffer("The symbol ");
-                            sb.append(sym.getQualifiedName());
-                            sb.append(" is already accessible in package ");
-                            sb.append(pkg.getName());
-                            sb.append('.');
-                            error(new PackageError(sb.toString()));
-                            return;
-                        }
+            for (Iterator it = usedByList.iterator(); it.hasNext();) {
+                LispPackage pkg = (LispPackage) it.next();
+                Symbol sym = pkg.findAccessibleSymbol(symbollname);
+                if (sym != null && sym != symbol) {
+                    if (pkg.shadowingSymbols != null &&
+                        pkg.shadowingSymbols.get(symbolName) == sym) {
+                        // OK.
+                    } else {
+                        FastStringBuffer sb = new FastStringBuffer("The symbol ");
+                        sb.append(sym.getQualifiedName());
+                        sb.append(" is already accessible in package ");
+                        sb.append(pkg.getName());
+                        sb.append('.');
+                        error(new PackageError(sb.toString()));
+                        return;
                     }
                 }
             }
             // No conflicts.
-            internalSymbols.remove(symbollname);
+            // Add before removing, so that lookups, which don't lock,
+            // always find the symbol in one table or the other.
             externalSymbols.put(symbollname, symbol);
+            internalSymbols.remove(symbollname);
+            externalSymbolsChanged();
             return;
         }
         if (externalSymbols.get(symbollname) == symbol)
@@ -536,8 +602,9 @@ public final class LispPackage extends AbstractLispObject
     	SimpleString symbolname = symbol.getSymbolName();
         if (symbol.getLispPackage() == this) {
             if (externalSymbols.get(symbolname) == symbol) {
-                externalSymbols.remove(symbolname);
                 internalSymbols.put(symbolname, symbol);
+                externalSymbols.remove(symbolname);
+                externalSymbolsChanged();
             }
         } else {
             // Signal an error if symbol is not accessible.
@@ -627,7 +694,8 @@ public final class LispPackage extends AbstractLispObject
     // "USE-PACKAGE causes PACKAGE to inherit all the external symbols of
     // PACKAGES-TO-USE. The inherited symbols become accessible as internal
     // symbols of PACKAGE."
-    public void usePackage(LispPackage pkg) throws ConditionThrowable
+    public synchronized void usePackage(LispPackage pkg)
+        throws ConditionThrowable
     {
         if (useList == null)
             useList = NIL;
@@ -650,29 +718,28 @@ public final class LispPackage extends AbstractLispObject
                 }
             }
             useList = useList.push(pkg);
+            invalidateInheritedSymbols();
             // Add this package to the used-by list of pkg.
-            if (pkg.usedByList != null)
-                Debug.assertTrue(!pkg.usedByList.contains(this));
-            if (pkg.usedByList == null)
-                pkg.usedByList = new ArrayList<LispPackage>();
+            Debug.assertTrue(!pkg.usedByList.contains(this));
             pkg.usedByList.add(this);
         }
     }
 
-    public void unusePackage(LispPackage pkg) throws ConditionThrowable
+    public synchronized void unusePackage(LispPackage pkg)
+        throws ConditionThrowable
     {
         if (useList instanceof Cons) {
             if (memq(pkg, useList)) {
-                // FIXME Modify the original list instead of copying it!
+                // Build the new list on the side: lookups read useList
+                // without locking.
                 LispObject newList = NIL;
-                while (useList != NIL) {
-                    if (useList.CAR() != pkg)
-                        newList = newList.push(useList.CAR());
-                    useList = useList.CDR();
+                for (LispObject list = useList; list != NIL; list = list.CDR()) {
+                    if (list.CAR() != pkg)
+                        newList = newList.push(list.CAR());
                 }
                 useList = newList.nreverse();
+                invalidateInheritedSymbols();
                 Debug.assertTrue(!memq(pkg, useList));
-                Debug.assertTrue(pkg.usedByList != null);
                 Debug.assertTrue(pkg.usedByList.contains(this));
                 pkg.usedByList.remove(this);
             }
@@ -727,11 +794,9 @@ public final class LispPackage extends AbstractLispObject
     public LispObject getUsedByList()
     {
         LispObject list = NIL;
-        if (usedByList != null) {
-            for (Iterator it = usedByList.iterator(); it.hasNext();) {
-                LispPackage pkg = (LispPackage) it.next();
-                list = makeCons(pkg, list);
-            }
+        for (Iterator it = usedByList.iterator(); it.hasNext();) {
+            LispPackage pkg = (LispPackage) it.next();
+            list = makeCons(pkg, list);
         }
         return list;
     }
@@ -117,7 +117,7 @@ public class LispSymbol extends AbstractLispObject implements Symbol
         if (pkg instanceof LispPackage)
           {
             sb.append(", an ");
-            Symbol sym = ((LispPackage)pkg).findExternalSymbol(name);
+            Symbol sym = ((LispPackage)pkg).findExternalSymbol(name, sxhash());
             sb.append(sym == this ? "external" : "internal");
             sb.append(" symbol in the ");
             sb.append(((LispPackage)pkg).getName());
@@ -260,7 +260,7 @@ public class LispSymbol extends AbstractLispObject implements Symbol
         if (pkg == PACKAGE_KEYWORD)
           return ":".concat(n);
         FastStringBuffer sb = new FastStringBuffer(((LispPackage)pkg).getName());
-        if (((LispPackage)pkg).findExternalSymbol(name) != null)
+        if (((LispPackage)pkg).findExternalSymbol(name, sxhash()) != null)
           sb.append(':');
         else
           sb.append("::");
@@ -391,6 +391,9 @@ public class LispSymbol extends AbstractLispObject implements Symbol
       {
         Autoload autoload = (Autoload) function;
         autoload.load();
+        // Loading a system file may have installed a proxy.
+        if (function instanceof AutoloadedFunctionProxy)
+          ((AutoloadedFunctionProxy)function).load();
       }
     return function;
   }
@@ -532,15 +535,15 @@ public class LispSymbol extends AbstractLispObject implements Symbol
     if (currentPackage != null && currentPackage.uses(pkg))
       {
         // Check for name conflict in current package.
-        if (currentPackage.findExternalSymbol(name) == null)
-          if (currentPackage.findInternalSymbol(name) == null)
-            if (((LispPackage)pkg).findExternalSymbol(name) != null)
+        if (currentPackage.findExternalSymbol(name, sxhash()) == null)
+          if (currentPackage.findInternalSymbol(name, sxhash()) == null)
+            if (((LispPackage)pkg).findExternalSymbol(name, sxhash()) != null)
               return symbolName;
       }
     // Has this symbol been imported into the current package?
-    if (currentPackage.findExternalSymbol(name) == this)
+    if (currentPackage.findExternalSymbol(name, sxhash()) == this)
       return symbolName;
-    if (currentPackage.findInternalSymbol(name) == this)
+    if (currentPackage.findInternalSymbol(name, sxhash()) == this)
       return symbolName;
     // Package prefix is necessary.
     String packageName = ((LispPackage)pkg).getName();
@@ -571,7 +574,7 @@ public class LispSymbol extends AbstractLispObject implements Symbol
           }
       }
     FastStringBuffer sb = new FastStringBuffer(packageName);
-    if (((LispPackage)pkg).findExternalSymbol(name) != null)
+    if (((LispPackage)pkg).findExternalSymbol(name, sxhash()) != null)
       sb.append(':');
     else
       sb.append("::");
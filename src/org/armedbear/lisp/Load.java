@@ -392,6 +392,7 @@ public final class Load extends LispFile
                     final LispThread thread = LispThread.currentThread();
                     final SpecialBinding lastSpecialBinding = thread.lastSpecialBinding;
                     thread.bindSpecial(_WARN_ON_REDEFINITION_, NIL);
+                    thread.bindSpecial(_AUTOLOAD_COMPILED_FUNCTIONS_, T);
                     try {
                         return loadFileFromStream(pathname, truename,
                                                   new Stream(in, SymbolConstants.CHARACTER),
@@ -431,7 +432,7 @@ public final class Load extends LispFile
     // ### *fasl-version*
     // internal symbol
   /*private*/ static final Symbol _FASL_VERSION_ =
-        exportConstant("*FASL-VERSION*", PACKAGE_SYS, Fixnum.makeFixnum(32));
+        exportConstant("*FASL-VERSION*", PACKAGE_SYS, Fixnum.makeFixnum(34));
 
     // ### *fasl-anonymous-package*
     // internal symbol
@@ -443,6 +444,25 @@ public final class Load extends LispFile
     public static final Symbol _FASL_ANONYMOUS_PACKAGE_ =
         internSpecial("*FASL-ANONYMOUS-PACKAGE*", PACKAGE_SYS, NIL);
 
+    // ### *fasl-decoder*
+    // internal symbol
+    /**
+     * This variable gets bound to the FaslDecoder holding the symbols
+     * and packages defined so far by the encoded objects in a fasl.
+     */
+    public static final Symbol _FASL_DECODER_ =
+        internSpecial("*FASL-DECODER*", PACKAGE_SYS, NIL);
+
+    // ### *autoload-compiled-functions*
+    // internal symbol
+    /**
+     * While this variable is true, AUTOLOAD-COMPILED-FUNCTION leaves the
+     * classes of the functions in a fasl to be loaded when they're first
+     * called.  It's bound to T while a system file is being loaded.
+     */
+    public static final Symbol _AUTOLOAD_COMPILED_FUNCTIONS_ =
+        internSpecial("*AUTOLOAD-COMPILED-FUNCTIONS*", PACKAGE_SYS, NIL);
+
     // ### init-fasl
     private static final Primitive INIT_FASL =
         new Primitive("init-fasl", PACKAGE_SYS, true, "&key version")
@@ -510,6 +530,9 @@ public final class Load extends LispFile
         thread.bindSpecialToCurrentValue(_SAFETY_);
         thread.bindSpecialToCurrentValue(_DEBUG_);
         thread.bindSpecialToCurrentValue(_EXPLAIN_);
+        // An EXT:BLOCK-COMPILE proclamation in a file loaded while another
+        // is being compiled mustn't leak into that compilation.
+        thread.bindSpecialToCurrentValue(_BLOCK_COMPILE_);
         final String prefix = getLoadVerbosePrefix(loadDepth);
         try {
             if (pathname == null && truename != null)
@@ -607,6 +630,7 @@ public final class Load extends LispFile
 	LispObject result = NIL;
         try {
             thread.bindSpecial(_FASL_ANONYMOUS_PACKAGE_, new LispPackage());
+            thread.bindSpecial(_FASL_DECODER_, new FaslDecoder());
             while (true) {
                 LispObject obj = in.faslRead(false, EOF, true, thread);
                 if (obj == EOF)
@@ -716,6 +740,27 @@ public final class Load extends LispFile
 					 LispObject ifDoesNotExist,
 					 LispObject returnLastResult)
 	throws ConditionThrowable {
+	final LispThread thread = LispThread.currentThread();
+	final SpecialBinding lastSpecialBinding = thread.lastSpecialBinding;
+	// The user's fasls may be recompiled while this image is running, so
+	// their functions can't be left for AUTOLOAD-COMPILED-FUNCTION to load
+	// later.
+	thread.bindSpecial(_AUTOLOAD_COMPILED_FUNCTIONS_, NIL);
+	try {
+	    return loadFilespec(filespec, verbose, print, ifDoesNotExist,
+				returnLastResult);
+	}
+	finally {
+	    thread.lastSpecialBinding = lastSpecialBinding;
+	}
+    }
+
+    private static final LispObject loadFilespec(LispObject filespec,
+						 LispObject verbose,
+						 LispObject print,
+						 LispObject ifDoesNotExist,
+						 LispObject returnLastResult)
+	throws ConditionThrowable {
 	if (filespec instanceof Stream) {
 	    if (((Stream)filespec).isOpen()) {
 		LispObject pathname;
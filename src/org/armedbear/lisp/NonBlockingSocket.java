@@ -0,0 +1,418 @@
+/*
+ * NonBlockingSocket.java
+ *
+ * Copyright (C) 2009 The ABCL developers
+ * $Id$
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+ *
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ */
+
+
+package org.armedbear.lisp;
+import static org.armedbear.lisp.Nil.NIL;
+import static org.armedbear.lisp.Lisp.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+// Sockets backed by non-blocking NIO channels, for use with EventLoop.
+//
+// The streams made for them never switch the channel back to blocking
+// mode.  In ordinary code, a read that finds no data, or a write that
+// finds the send buffer full, waits for the channel on a selector of the
+// stream's own instead.  The thread running an event loop never waits:
+// its writes queue what the socket won't take yet for the loop to send,
+// and its reads signal an error rather than wait for input, so callbacks
+// read only what LISTEN or READ-CHAR-NO-HANG report.
+public final class NonBlockingSocket
+{
+    private static final String NO_WAITING =
+        "No input is available, and an event loop callback can't wait for it.";
+
+    private NonBlockingSocket()
+    {
+    }
+
+    // Waits for one channel to become ready.  The selector is opened the
+    // first time the channel has to be waited for and kept until the
+    // waiter is closed.
+    static final class Waiter
+    {
+        private final SelectableChannel channel;
+        private Selector selector;
+        private SelectionKey key;
+
+        Waiter(SelectableChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        // Waits until the channel is ready for one of OPS.
+        synchronized void await(int ops) throws IOException
+        {
+            if (selector == null) {
+                selector = Selector.open();
+                key = channel.register(selector, ops);
+            }
+            else if (key.isValid())
+                key.interestOps(ops);
+            else
+                throw new ClosedChannelException();
+            try {
+                selector.select();
+            }
+            finally {
+                selector.selectedKeys().clear();
+            }
+        }
+
+        synchronized void close()
+        {
+            if (selector != null) {
+                try {
+                    selector.close();
+                }
+                catch (IOException e) {
+                    // Nothing to be done; the channel is unaffected.
+                }
+            }
+        }
+    }
+
+    // Completes a pending connect, waiting for it with WAITER unless that
+    // is null.  Returns true if the channel is connected.
+    static boolean finishConnect(SocketChannel channel, Waiter waiter)
+        throws IOException
+    {
+        while (channel.isConnectionPending()) {
+            if (channel.finishConnect())
+                return true;
+            if (waiter == null)
+                return false;
+            waiter.await(SelectionKey.OP_CONNECT);
+        }
+        return channel.isConnected();
+    }
+
+    static final class ChannelInputStream extends InputStream
+    {
+        private final SocketChannel channel;
+        private final Waiter waiter;
+        private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+        ChannelInputStream(SocketChannel channel)
+        {
+            this.channel = channel;
+            waiter = new Waiter(channel);
+            buffer.flip();
+        }
+
+        // Moves whatever the channel has now into the buffer.  Returns the
+        // number of bytes read, or -1 at end of file.
+        private int fill() throws IOException
+        {
+            buffer.compact();
+            try {
+                return channel.read(buffer);
+            }
+            finally {
+                buffer.flip();
+            }
+        }
+
+        // Returns false at end of file.
+        private boolean ensureData() throws IOException
+        {
+            final boolean mayWait = EventLoop.current() == null;
+            if (!finishConnect(channel, mayWait ? waiter : null)
+                && !mayWait)
+                throw new IOException(NO_WAITING);
+            while (!buffer.hasRemaining()) {
+                int n = fill();
+                if (n < 0)
+                    return false;
+                if (n == 0) {
+                    if (!mayWait)
+                        throw new IOException(NO_WAITING);
+                    waiter.await(SelectionKey.OP_READ);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int available() throws IOException
+        {
+            if (!buffer.hasRemaining() && channel.isOpen()
+                && finishConnect(channel, null))
+                fill();
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            if (!ensureData())
+                return -1;
+            return buffer.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (len == 0)
+                return 0;
+            if (!ensureData())
+                return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            try {
+                channel.close();
+            }
+            finally {
+                waiter.close();
+            }
+        }
+    }
+
+    static final class ChannelOutputStream extends OutputStream
+    {
+        private final SocketChannel channel;
+        private final Waiter waiter;
+        // Output written by an event loop's thread that the socket hasn't
+        // taken yet, in write mode, or null.
+        private ByteBuffer queued;
+
+        ChannelOutputStream(SocketChannel channel)
+        {
+            this.channel = channel;
+            waiter = new Waiter(channel);
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len)
+            throws IOException
+        {
+            ByteBuffer src = ByteBuffer.wrap(b, off, len);
+            EventLoop loop = EventLoop.current();
+            if (loop != null) {
+                if (!hasQueued() && finishConnect(channel, null))
+                    while (src.hasRemaining() && channel.write(src) > 0)
+                        ;
+                if (src.hasRemaining()) {
+                    queue(src);
+                    loop.queueOutput(channel, this);
+                }
+                return;
+            }
+            finishConnect(channel, waiter);
+            sendAllQueued();
+            while (src.hasRemaining())
+                if (channel.write(src) == 0)
+                    waiter.await(SelectionKey.OP_WRITE);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException
+        {
+            if (hasQueued() && EventLoop.current() == null) {
+                finishConnect(channel, waiter);
+                sendAllQueued();
+            }
+        }
+
+        private boolean hasQueued()
+        {
+            return queued != null && queued.position() > 0;
+        }
+
+        private void queue(ByteBuffer src)
+        {
+            if (queued == null)
+                queued = ByteBuffer.allocate(Math.max(8192, src.remaining()));
+            else if (queued.remaining() < src.remaining()) {
+                ByteBuffer larger =
+                    ByteBuffer.allocate(Math.max(queued.capacity() * 2,
+                                                 queued.position()
+                                                 + src.remaining()));
+                queued.flip();
+                larger.put(queued);
+                queued = larger;
+            }
+            queued.put(src);
+        }
+
+        // Sends what the socket takes of the queued output without
+        // waiting.  Returns true once it has all been sent.
+        synchronized boolean sendQueued() throws IOException
+        {
+            if (!hasQueued())
+                return true;
+            if (!finishConnect(channel, null))
+                return false;
+            queued.flip();
+            try {
+                while (queued.hasRemaining() && channel.write(queued) > 0)
+                    ;
+            }
+            finally {
+                queued.compact();
+            }
+            return !hasQueued();
+        }
+
+        private void sendAllQueued() throws IOException
+        {
+            if (!hasQueued())
+                return;
+            queued.flip();
+            try {
+                while (queued.hasRemaining())
+                    if (channel.write(queued) == 0)
+                        waiter.await(SelectionKey.OP_WRITE);
+            }
+            finally {
+                queued.compact();
+            }
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            try {
+                channel.close();
+            }
+            finally {
+                waiter.close();
+            }
+        }
+    }
+
+    static SocketStream makeSocketStream(SocketChannel channel,
+                                         LispObject elementType,
+                                         LispObject format)
+        throws ConditionThrowable
+    {
+        Stream in =
+            new Stream(new ChannelInputStream(channel), elementType, format);
+        Stream out =
+            new Stream(new ChannelOutputStream(channel), elementType, format);
+        out.setBuffering(Stream.Buffering.FULL);
+        return new SocketStream(channel.socket(), in, out);
+    }
+
+    // ### %make-nonblocking-socket host port => socket
+    private static final Primitive MAKE_NONBLOCKING_SOCKET =
+        new Primitive("%make-nonblocking-socket", PACKAGE_SYS, false,
+                      "host port")
+    {
+        @Override
+        public LispObject execute(LispObject first, LispObject second)
+            throws ConditionThrowable
+        {
+            String host = first.getStringValue();
+            int port = second.intValue();
+            try {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.connect(new InetSocketAddress(host, port));
+                return makeNewJavaObject(channel);
+            }
+            catch (Exception e) {
+                return error(new LispError(e.getMessage()));
+            }
+        }
+    };
+
+    // ### %make-nonblocking-server-socket port => socket
+    private static final Primitive MAKE_NONBLOCKING_SERVER_SOCKET =
+        new Primitive("%make-nonblocking-server-socket", PACKAGE_SYS, false,
+                      "port")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            int port = arg.intValue();
+            try {
+                ServerSocketChannel channel = ServerSocketChannel.open();
+                channel.configureBlocking(false);
+                channel.socket().bind(new InetSocketAddress(port));
+                return makeNewJavaObject(channel);
+            }
+            catch (Exception e) {
+                return error(new LispError(e.getMessage()));
+            }
+        }
+    };
+
+    // ### %nonblocking-socket-accept socket => socket or nil
+    private static final Primitive NONBLOCKING_SOCKET_ACCEPT =
+        new Primitive("%nonblocking-socket-accept", PACKAGE_SYS, false,
+                      "socket")
+    {
+        @Override
+        public LispObject execute(LispObject arg) throws ConditionThrowable
+        {
+            Object object = JavaObject.getObject(arg);
+            if (!(object instanceof ServerSocketChannel))
+                return error(new TypeError("The value " + arg.writeToString()
+                                           + " is not a non-blocking server socket."));
+            ServerSocketChannel server = (ServerSocketChannel) object;
+            try {
+                SocketChannel channel = server.accept();
+                if (channel == null)
+                    return NIL;
+                channel.configureBlocking(false);
+                return makeNewJavaObject(channel);
+            }
+            catch (Exception e) {
+                return error(new LispError(e.getMessage()));
+            }
+        }
+    };
+}
@@ -35,7 +35,9 @@ class Parameter
       this.svar = NIL;
       this.type = type;
       keyword =
-        type == Closure.KEYWORD ? PACKAGE_KEYWORD.intern(var.getSymbolName()) : null;
+        type == Closure.KEYWORD
+          ? PACKAGE_KEYWORD.intern(var.getSymbolName(), var.sxhash())
+          : null;
     }
 
     public Parameter(Symbol var, LispObject initForm, LispObject svar,
@@ -48,7 +50,9 @@ class Parameter
       this.svar = (svar != NIL) ? checkSymbol(svar) : NIL;
       this.type = type;
       keyword =
-        type == Closure.KEYWORD ? PACKAGE_KEYWORD.intern(var.getSymbolName()) : null;
+        type == Closure.KEYWORD
+          ? PACKAGE_KEYWORD.intern(var.getSymbolName(), var.sxhash())
+          : null;
     }
 
     public Parameter(Symbol keyword, Symbol var, LispObject initForm,
@@ -39,33 +39,70 @@ import java.util.ArrayList;
 
 public final class Primitives extends LispFile
 {
-  // ### *
-  public static final Primitive MULTIPLY =
-    new Primitive(SymbolConstants.STAR, "&rest numbers")
-    {
-      @Override      
-      public LispObject execute()
+  // Most of the primitives below are only constructed, and their classes
+  // only loaded, when they're first called.  The ones in public fields
+  // are constructed up front, since other code may call them as
+  // Primitives through those fields.
+  private static LispObject autoloadPrimitive(Symbol symbol, String className)
+  {
+    LispObject stub =
+      new AutoloadedPrimitive(symbol, "org.armedbear.lisp.Primitives$" + className);
+    symbol.setSymbolFunction(stub);
+    return stub;
+  }
+
+  private static LispObject autoloadPrimitive(String name, LispPackage pkg,
+                                              boolean exported,
+                                              String className)
+  {
+    Symbol symbol = null;
+    try
       {
-          return multiply_execute();
+        if (exported)
+          symbol = pkg.internAndExport(name.toUpperCase());
+        else
+          symbol = pkg.intern(name.toUpperCase());
       }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
+    catch (ConditionThrowable t)
       {
-          return multiply_execute(arg);
+        Debug.assertTrue(false);
       }
-      //i was thinking now that an issue with the set-syntax-from-char might later do with something also that needs to be readtable specific
+    return autoloadPrimitive(symbol, className);
+  }
+
+  // ### *
+  public static final Primitive MULTIPLY = new pf_multiply();
+
+  static final class pf_multiply extends Primitive
+  {
+    pf_multiply()
+    {
+      super(SymbolConstants.STAR, "&rest numbers");
+    }
+
+    @Override      
+    public LispObject execute()
+    {
+        return multiply_execute();
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return multiply_execute(arg);
+    }
+    //i was thinking now that an issue with the set-syntax-from-char might later do with something also that needs to be readtable specific
 	@Override 
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return multiply_execute(first,second);
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-    	  return multiply_execute(args);
-      }
-    };
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return multiply_execute(first,second);
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+  	  return multiply_execute(args);
+    }
+  }
     
     public static LispObject multiply_execute() {
 		return Fixnum.ONE;
@@ -87,240 +124,342 @@ public final class Primitives extends LispFile
     
 
   // ### /
-  public static final Primitive DIVIDE =
-    new Primitive(SymbolConstants.SLASH, "numerator &rest denominators")
-    {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return Fixnum.ONE.divideBy(arg);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.divideBy(second);
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        LispObject result = args[0];
-        for (int i = 1; i < args.length; i++)
-          result = result.divideBy(args[i]);
-        return result;
-      }
-    };
+  public static final Primitive DIVIDE = new pf_divide();
+
+  static final class pf_divide extends Primitive
+  {
+    pf_divide()
+    {
+      super(SymbolConstants.SLASH, "numerator &rest denominators");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return Fixnum.ONE.divideBy(arg);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.divideBy(second);
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      LispObject result = args[0];
+      for (int i = 1; i < args.length; i++)
+        result = result.divideBy(args[i]);
+      return result;
+    }
+  }
 
   // ### min
-  public static final Primitive MIN =
-    new Primitive(SymbolConstants.MIN, "&rest reals")
+  public static final Primitive MIN = new pf_min();
+
+  static final class pf_min extends Primitive
+  {
+    pf_min()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg.realp())
-          return arg;
-        return type_error(arg, SymbolConstants.REAL);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isLessThan(second) ? first : second;
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        LispObject result = args[0];
-        if (!result.realp())
-          type_error(result, SymbolConstants.REAL);
-        for (int i = 1; i < args.length; i++)
-          {
-            if (args[i].isLessThan(result))
-              result = args[i];
-          }
-        return result;
-      }
-    };
+      super(SymbolConstants.MIN, "&rest reals");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg.realp())
+        return arg;
+      return type_error(arg, SymbolConstants.REAL);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isLessThan(second) ? first : second;
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      LispObject result = args[0];
+      if (!result.realp())
+        type_error(result, SymbolConstants.REAL);
+      for (int i = 1; i < args.length; i++)
+        {
+          if (args[i].isLessThan(result))
+            result = args[i];
+        }
+      return result;
+    }
+  }
 
   // ### max
-  public static final Primitive MAX =
-    new Primitive(SymbolConstants.MAX, "&rest reals")
+  public static final Primitive MAX = new pf_max();
+
+  static final class pf_max extends Primitive
+  {
+    pf_max()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg.realp())
-          return arg;
-        return type_error(arg, SymbolConstants.REAL);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isGreaterThan(second) ? first : second;
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        LispObject result = args[0];
-        if (!result.realp())
-          type_error(result, SymbolConstants.REAL);
-        for (int i = 1; i < args.length; i++)
-          {
-            if (args[i].isGreaterThan(result))
-              result = args[i];
-          }
-        return result;
-      }
-    };
+      super(SymbolConstants.MAX, "&rest reals");
+    }
 
-  // ### identity
-  private static final Primitive IDENTITY =
-    new Primitive(SymbolConstants.IDENTITY, "object")
+    @Override
+    public LispObject execute() throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg.realp())
         return arg;
-      }
-    };
+      return type_error(arg, SymbolConstants.REAL);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isGreaterThan(second) ? first : second;
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      LispObject result = args[0];
+      if (!result.realp())
+        type_error(result, SymbolConstants.REAL);
+      for (int i = 1; i < args.length; i++)
+        {
+          if (args[i].isGreaterThan(result))
+            result = args[i];
+        }
+      return result;
+    }
+  }
+
+  // ### identity
+  private static final LispObject IDENTITY =
+    autoloadPrimitive(SymbolConstants.IDENTITY, "pf_identity");
+
+  static final class pf_identity extends Primitive
+  {
+    pf_identity()
+    {
+      super(SymbolConstants.IDENTITY, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg;
+    }
+  }
 
   // ### compiled-function-p
-  private static final Primitive COMPILED_FUNCTION_P =
-    new Primitive(SymbolConstants.COMPILED_FUNCTION_P, "object")
+  private static final LispObject COMPILED_FUNCTION_P =
+    autoloadPrimitive(SymbolConstants.COMPILED_FUNCTION_P, "pf_compiled_function_p");
+
+  static final class pf_compiled_function_p extends Primitive
+  {
+    pf_compiled_function_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.typep(SymbolConstants.COMPILED_FUNCTION);
-      }
-    };
+      super(SymbolConstants.COMPILED_FUNCTION_P, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.typep(SymbolConstants.COMPILED_FUNCTION);
+    }
+  }
 
   // ### consp
-  private static final Primitive CONSP =
-    new Primitive(SymbolConstants.CONSP, "object")
+  private static final LispObject CONSP =
+    autoloadPrimitive(SymbolConstants.CONSP, "pf_consp");
+
+  static final class pf_consp extends Primitive
+  {
+    pf_consp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg instanceof Cons ? T : NIL;
-      }
-    };
+      super(SymbolConstants.CONSP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg instanceof Cons ? T : NIL;
+    }
+  }
 
   // ### listp
-  private static final Primitive LISTP =
-    new Primitive(SymbolConstants.LISTP, "object")
+  private static final LispObject LISTP =
+    autoloadPrimitive(SymbolConstants.LISTP, "pf_listp");
+
+  static final class pf_listp extends Primitive
+  {
+    pf_listp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.LISTP();
-      }
-    };
+      super(SymbolConstants.LISTP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.LISTP();
+    }
+  }
 
   // ### abs
-  private static final Primitive ABS =
-    new Primitive(SymbolConstants.ABS, "number")
+  private static final LispObject ABS =
+    autoloadPrimitive(SymbolConstants.ABS, "pf_abs");
+
+  static final class pf_abs extends Primitive
+  {
+    pf_abs()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.ABS();
-      }
-    };
+      super(SymbolConstants.ABS, "number");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.ABS();
+    }
+  }
 
   // ### arrayp
-  private static final Primitive ARRAYP =
-    new Primitive(SymbolConstants.ARRAYP, "object")
+  private static final LispObject ARRAYP =
+    autoloadPrimitive(SymbolConstants.ARRAYP, "pf_arrayp");
+
+  static final class pf_arrayp extends Primitive
+  {
+    pf_arrayp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg instanceof LispArray ? T : NIL;
-      }
-    };
+      super(SymbolConstants.ARRAYP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg instanceof LispArray ? T : NIL;
+    }
+  }
 
   // ### array-has-fill-pointer-p
-  private static final Primitive ARRAY_HAS_FILL_POINTER_P =
-    new Primitive(SymbolConstants.ARRAY_HAS_FILL_POINTER_P, "array")
+  private static final LispObject ARRAY_HAS_FILL_POINTER_P =
+    autoloadPrimitive(SymbolConstants.ARRAY_HAS_FILL_POINTER_P, "pf_array_has_fill_pointer_p");
+
+  static final class pf_array_has_fill_pointer_p extends Primitive
+  {
+    pf_array_has_fill_pointer_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkArray(arg).hasFillPointer() ? T : NIL;
-          }
-    };
+      super(SymbolConstants.ARRAY_HAS_FILL_POINTER_P, "array");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkArray(arg).hasFillPointer() ? T : NIL;
+        }
+  }
 
   // ### vectorp
-  private static final Primitive VECTORP =
-    new Primitive(SymbolConstants.VECTORP, "object")
+  private static final LispObject VECTORP =
+    autoloadPrimitive(SymbolConstants.VECTORP, "pf_vectorp");
+
+  static final class pf_vectorp extends Primitive
+  {
+    pf_vectorp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.VECTORP();
-      }
-    };
+      super(SymbolConstants.VECTORP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.VECTORP();
+    }
+  }
 
   // ### simple-vector-p
-  private static final Primitive SIMPLE_VECTOR_P =
-    new Primitive(SymbolConstants.SIMPLE_VECTOR_P, "object")
+  private static final LispObject SIMPLE_VECTOR_P =
+    autoloadPrimitive(SymbolConstants.SIMPLE_VECTOR_P, "pf_simple_vector_p");
+
+  static final class pf_simple_vector_p extends Primitive
+  {
+    pf_simple_vector_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg instanceof SimpleVector ? T : NIL;
-      }
-    };
+      super(SymbolConstants.SIMPLE_VECTOR_P, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg instanceof SimpleVector ? T : NIL;
+    }
+  }
 
   // ### bit-vector-p
-  private static final Primitive BIT_VECTOR_P =
-    new Primitive(SymbolConstants.BIT_VECTOR_P, "object")
+  private static final LispObject BIT_VECTOR_P =
+    autoloadPrimitive(SymbolConstants.BIT_VECTOR_P, "pf_bit_vector_p");
+
+  static final class pf_bit_vector_p extends Primitive
+  {
+    pf_bit_vector_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg instanceof AbstractBitVector ? T : NIL;
-      }
-    };
+      super(SymbolConstants.BIT_VECTOR_P, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg instanceof AbstractBitVector ? T : NIL;
+    }
+  }
 
   // ### simple-bit-vector-p
-  private static final Primitive SIMPLE_BIT_VECTOR_P =
-    new Primitive(SymbolConstants.SIMPLE_BIT_VECTOR_P, "object")
+  private static final LispObject SIMPLE_BIT_VECTOR_P =
+    autoloadPrimitive(SymbolConstants.SIMPLE_BIT_VECTOR_P, "pf_simple_bit_vector_p");
+
+  static final class pf_simple_bit_vector_p extends Primitive
+  {
+    pf_simple_bit_vector_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.typep(SymbolConstants.SIMPLE_BIT_VECTOR);
-      }
-    };
+      super(SymbolConstants.SIMPLE_BIT_VECTOR_P, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.typep(SymbolConstants.SIMPLE_BIT_VECTOR);
+    }
+  }
 
   // ### %eval
-  private static final Primitive _EVAL =
-    new Primitive("%eval", PACKAGE_SYS, false, "form")
+  private static final LispObject _EVAL =
+    autoloadPrimitive("%eval", PACKAGE_SYS, false, "pf__eval");
+
+  static final class pf__eval extends Primitive
+  {
+    pf__eval()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return Lisp.eval(arg, new Environment(), LispThread.currentThread());
-      }
-    };
+      super("%eval", PACKAGE_SYS, false, "form");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return Lisp.eval(arg, new Environment(), LispThread.currentThread());
+    }
+  }
 
   // ### eq
   private static final Primitive EQ = new Primitive(SymbolConstants.EQ, "x y")
@@ -367,374 +506,554 @@ public final class Primitives extends LispFile
     };
 
   // ### values
-  private static final Primitive VALUES =
-    new Primitive(SymbolConstants.VALUES, "&rest object")
+  private static final LispObject VALUES =
+    autoloadPrimitive(SymbolConstants.VALUES, "pf_values");
+
+  static final class pf_values extends Primitive
+  {
+    pf_values()
     {
-      @Override
-      public LispObject execute()
-      {
-        return LispThread.currentThread().setValues();
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return LispThread.currentThread().setValues(arg);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-      {
-        return LispThread.currentThread().setValues(first, second);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-      {
-        return LispThread.currentThread().setValues(first, second, third);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth)
-      {
-        return LispThread.currentThread().setValues(first, second, third,
-                                                    fourth);
-      }
-      @Override
-      public LispObject execute(LispObject[] args)
-      {
-        return LispThread.currentThread().setValues(args);
-      }
-    };
+      super(SymbolConstants.VALUES, "&rest object");
+    }
+
+    @Override
+    public LispObject execute()
+    {
+      return LispThread.currentThread().setValues();
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return LispThread.currentThread().setValues(arg);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+    {
+      return LispThread.currentThread().setValues(first, second);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+    {
+      return LispThread.currentThread().setValues(first, second, third);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+    {
+      return LispThread.currentThread().setValues(first, second, third,
+                                                  fourth);
+    }
+    @Override
+    public LispObject execute(LispObject[] args)
+    {
+      return LispThread.currentThread().setValues(args);
+    }
+  }
 
   // ### values-list list => element*
   // Returns the elements of the list as multiple values.
-  private static final Primitive VALUES_LIST =
-    new Primitive(SymbolConstants.VALUES_LIST, "list")
+  private static final LispObject VALUES_LIST =
+    autoloadPrimitive(SymbolConstants.VALUES_LIST, "pf_values_list");
+
+  static final class pf_values_list extends Primitive
+  {
+    pf_values_list()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg == NIL)
-          return LispThread.currentThread().setValues();
-        if (arg.CDR() == NIL)
-          return arg.CAR();
-        return LispThread.currentThread().setValues(arg.copyToArray());
-      }
-    };
+      super(SymbolConstants.VALUES_LIST, "list");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg == NIL)
+        return LispThread.currentThread().setValues();
+      if (arg.CDR() == NIL)
+        return arg.CAR();
+      return LispThread.currentThread().setValues(arg.copyToArray());
+    }
+  }
 
   // ### cons
-  private static final Primitive CONS =
-    new Primitive(SymbolConstants.CONS, "object-1 object-2")
+  private static final LispObject CONS =
+    autoloadPrimitive(SymbolConstants.CONS, "pf_cons");
+
+  static final class pf_cons extends Primitive
+  {
+    pf_cons()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return makeCons(first, second);
-      }
-    };
+      super(SymbolConstants.CONS, "object-1 object-2");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return makeCons(first, second);
+    }
+  }
 
   // ### length
-  private static final Primitive LENGTH =
-    new Primitive(SymbolConstants.LENGTH, "sequence")
+  private static final LispObject LENGTH =
+    autoloadPrimitive(SymbolConstants.LENGTH, "pf_length");
+
+  static final class pf_length extends Primitive
+  {
+    pf_length()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.LENGTH();
-      }
-    };
+      super(SymbolConstants.LENGTH, "sequence");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.LENGTH();
+    }
+  }
 
   // ### elt
-  private static final Primitive ELT =
-    new Primitive(SymbolConstants.ELT, "sequence index")
+  private static final LispObject ELT =
+    autoloadPrimitive(SymbolConstants.ELT, "pf_elt");
+
+  static final class pf_elt extends Primitive
+  {
+    pf_elt()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-            return first.elt(second.intValue());
-      }
-    };
+      super(SymbolConstants.ELT, "sequence index");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+          return first.elt(second.intValue());
+    }
+  }
 
   // ### atom
-  private static final Primitive ATOM = new Primitive(SymbolConstants.ATOM, "object")
+  private static final LispObject ATOM =
+    autoloadPrimitive(SymbolConstants.ATOM, "pf_atom");
+
+  static final class pf_atom extends Primitive
+  {
+    pf_atom()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg instanceof Cons ? NIL : T;
-      }
-    };
+      super(SymbolConstants.ATOM, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg instanceof Cons ? NIL : T;
+    }
+  }
 
   // ### constantp
-  private static final Primitive CONSTANTP =
-    new Primitive(SymbolConstants.CONSTANTP, "form &optional environment")
+  private static final LispObject CONSTANTP =
+    autoloadPrimitive(SymbolConstants.CONSTANTP, "pf_constantp");
+
+  static final class pf_constantp extends Primitive
+  {
+    pf_constantp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.constantp() ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.constantp() ? T : NIL;
-      }
-    };
+      super(SymbolConstants.CONSTANTP, "form &optional environment");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.constantp() ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.constantp() ? T : NIL;
+    }
+  }
 
   // ### functionp
-  private static final Primitive FUNCTIONP =
-    new Primitive(SymbolConstants.FUNCTIONP, "object")
+  private static final LispObject FUNCTIONP =
+    autoloadPrimitive(SymbolConstants.FUNCTIONP, "pf_functionp");
+
+  static final class pf_functionp extends Primitive
+  {
+    pf_functionp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return (arg instanceof Function || arg instanceof StandardGenericFunction) ? T : NIL;
-      }
-    };
+      super(SymbolConstants.FUNCTIONP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return (arg instanceof Function || arg instanceof StandardGenericFunction) ? T : NIL;
+    }
+  }
 
   // ### special-operator-p
-  private static final Primitive SPECIAL_OPERATOR_P =
-    new Primitive(SymbolConstants.SPECIAL_OPERATOR_P, "symbol")
+  private static final LispObject SPECIAL_OPERATOR_P =
+    autoloadPrimitive(SymbolConstants.SPECIAL_OPERATOR_P, "pf_special_operator_p");
+
+  static final class pf_special_operator_p extends Primitive
+  {
+    pf_special_operator_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.isSpecialOperator() ? T : NIL;
-      }
-    };
+      super(SymbolConstants.SPECIAL_OPERATOR_P, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.isSpecialOperator() ? T : NIL;
+    }
+  }
 
   // ### symbolp
-  private static final Primitive SYMBOLP =
-    new Primitive(SymbolConstants.SYMBOLP, "object")
+  private static final LispObject SYMBOLP =
+    autoloadPrimitive(SymbolConstants.SYMBOLP, "pf_symbolp");
+
+  static final class pf_symbolp extends Primitive
+  {
+    pf_symbolp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg instanceof Symbol ? T : NIL;
-      }
-    };
+      super(SymbolConstants.SYMBOLP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg instanceof Symbol ? T : NIL;
+    }
+  }
 
   // ### endp
-  private static final Primitive ENDP = new Primitive(SymbolConstants.ENDP, "list")
+  private static final LispObject ENDP =
+    autoloadPrimitive(SymbolConstants.ENDP, "pf_endp");
+
+  static final class pf_endp extends Primitive
+  {
+    pf_endp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.endp() ? T : NIL;
-      }
-    };
+      super(SymbolConstants.ENDP, "list");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.endp() ? T : NIL;
+    }
+  }
 
   // ### null
-  private static final Primitive NULL = new Primitive(SymbolConstants.NULL, "object")
+  private static final LispObject NULL =
+    autoloadPrimitive(SymbolConstants.NULL, "pf_null");
+
+  static final class pf_null extends Primitive
+  {
+    pf_null()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg == NIL ? T : NIL;
-      }
-    };
+      super(SymbolConstants.NULL, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg == NIL ? T : NIL;
+    }
+  }
 
   // ### not
-  private static final Primitive NOT = new Primitive(SymbolConstants.NOT, "x")
+  private static final LispObject NOT =
+    autoloadPrimitive(SymbolConstants.NOT, "pf_not");
+
+  static final class pf_not extends Primitive
+  {
+    pf_not()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg == NIL ? T : NIL;
-      }
-    };
+      super(SymbolConstants.NOT, "x");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg == NIL ? T : NIL;
+    }
+  }
 
   // ### plusp
-  private static final Primitive PLUSP = new Primitive(SymbolConstants.PLUSP, "real")
+  private static final LispObject PLUSP =
+    autoloadPrimitive(SymbolConstants.PLUSP, "pf_plusp");
+
+  static final class pf_plusp extends Primitive
+  {
+    pf_plusp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.PLUSP();
-      }
-    };
+      super(SymbolConstants.PLUSP, "real");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.PLUSP();
+    }
+  }
 
   // ### minusp
-  private static final Primitive MINUSP =
-    new Primitive(SymbolConstants.MINUSP, "real")
+  private static final LispObject MINUSP =
+    autoloadPrimitive(SymbolConstants.MINUSP, "pf_minusp");
+
+  static final class pf_minusp extends Primitive
+  {
+    pf_minusp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.MINUSP();
-      }
-    };
+      super(SymbolConstants.MINUSP, "real");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.MINUSP();
+    }
+  }
 
   // ### zerop
-  private static final Primitive ZEROP =
-    new Primitive(SymbolConstants.ZEROP, "number")
+  private static final LispObject ZEROP =
+    autoloadPrimitive(SymbolConstants.ZEROP, "pf_zerop");
+
+  static final class pf_zerop extends Primitive
+  {
+    pf_zerop()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.ZEROP();
-      }
-    };
+      super(SymbolConstants.ZEROP, "number");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.ZEROP();
+    }
+  }
 
   // ### fixnump
-  private static final Primitive FIXNUMP =
-    new Primitive("fixnump", PACKAGE_EXT, true)
+  private static final LispObject FIXNUMP =
+    autoloadPrimitive("fixnump", PACKAGE_EXT, true, "pf_fixnump");
+
+  static final class pf_fixnump extends Primitive
+  {
+    pf_fixnump()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg  instanceof Fixnum ? T : NIL;
-      }
-    };
+      super("fixnump", PACKAGE_EXT, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg  instanceof Fixnum ? T : NIL;
+    }
+  }
 
   // ### symbol-value
-  private static final Primitive SYMBOL_VALUE =
-    new Primitive(SymbolConstants.SYMBOL_VALUE, "symbol")
+  private static final LispObject SYMBOL_VALUE =
+    autoloadPrimitive(SymbolConstants.SYMBOL_VALUE, "pf_symbol_value");
+
+  static final class pf_symbol_value extends Primitive
+  {
+    pf_symbol_value()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final LispObject value;
-        value = checkSymbol(arg).symbolValue();
-        if (value instanceof SymbolMacro)
-          return error(new LispError(arg.writeToString() +
-                                      " has no dynamic value."));
-        return value;
-      }
-    };
+      super(SymbolConstants.SYMBOL_VALUE, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final LispObject value;
+      value = checkSymbol(arg).symbolValue();
+      if (value instanceof SymbolMacro)
+        return error(new LispError(arg.writeToString() +
+                                    " has no dynamic value."));
+      return value;
+    }
+  }
 
   // ### set symbol value => value
-  private static final Primitive SET =
-    new Primitive(SymbolConstants.SET, "symbol value")
+  private static final LispObject SET =
+    autoloadPrimitive(SymbolConstants.SET, "pf_set");
+
+  static final class pf_set extends Primitive
+  {
+    pf_set()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-            return LispThread.currentThread().setSpecialVariable(checkSymbol(first),
-                                                                 second);
-      }
-    };
+      super(SymbolConstants.SET, "symbol value");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+          return LispThread.currentThread().setSpecialVariable(checkSymbol(first),
+                                                               second);
+    }
+  }
 
   // ### rplaca
-  private static final Primitive RPLACA =
-    new Primitive(SymbolConstants.RPLACA, "cons object")
+  private static final LispObject RPLACA =
+    autoloadPrimitive(SymbolConstants.RPLACA, "pf_rplaca");
+
+  static final class pf_rplaca extends Primitive
+  {
+    pf_rplaca()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        first.setCar(second);
-        return first;
-      }
-    };
+      super(SymbolConstants.RPLACA, "cons object");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      first.setCar(second);
+      return first;
+    }
+  }
 
   // ### rplacd
-  private static final Primitive RPLACD =
-    new Primitive(SymbolConstants.RPLACD, "cons object")
+  private static final LispObject RPLACD =
+    autoloadPrimitive(SymbolConstants.RPLACD, "pf_rplacd");
+
+  static final class pf_rplacd extends Primitive
+  {
+    pf_rplacd()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        first.setCdr(second);
-        return first;
-      }
-    };
+      super(SymbolConstants.RPLACD, "cons object");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      first.setCdr(second);
+      return first;
+    }
+  }
 
   // ### +
-  private static final Primitive ADD =
-    new Primitive(SymbolConstants.PLUS, "&rest numbers")
+  private static final LispObject ADD =
+    autoloadPrimitive(SymbolConstants.PLUS, "pf_add");
+
+  static final class pf_add extends Primitive
+  {
+    pf_add()
     {
-      @Override
-      public LispObject execute()
-      {
-        return Fixnum.ZERO;
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg.isNumber())
-          return arg;
-        return type_error(arg, SymbolConstants.NUMBER);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.add(second);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        return first.add(second).add(third);
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        LispObject result = Fixnum.ZERO;
-        final int length = args.length;
-        for (int i = 0; i < length; i++)
-          result = result.add(args[i]);
-        return result;
-      }
-    };
+      super(SymbolConstants.PLUS, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute()
+    {
+      return Fixnum.ZERO;
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg.isNumber())
+        return arg;
+      return type_error(arg, SymbolConstants.NUMBER);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.add(second);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      return first.add(second).add(third);
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      LispObject result = Fixnum.ZERO;
+      final int length = args.length;
+      for (int i = 0; i < length; i++)
+        result = result.add(args[i]);
+      return result;
+    }
+  }
 
   // ### 1+
-  private static final Primitive ONE_PLUS =
-    new Primitive(SymbolConstants.ONE_PLUS, "number")
+  private static final LispObject ONE_PLUS =
+    autoloadPrimitive(SymbolConstants.ONE_PLUS, "pf_one_plus");
+
+  static final class pf_one_plus extends Primitive
+  {
+    pf_one_plus()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.incr();
-      }
-    };
+      super(SymbolConstants.ONE_PLUS, "number");
+    }
 
-  // ### -
-  private static final Primitive SUBTRACT =
-    new Primitive(SymbolConstants.MINUS, "minuend &rest subtrahends")
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.negate();
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.subtract(second);
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        LispObject result = args[0];
-        for (int i = 1; i < args.length; i++)
-          result = result.subtract(args[i]);
-        return result;
-      }
-    };
+      return arg.incr();
+    }
+  }
+
+  // ### -
+  private static final LispObject SUBTRACT =
+    autoloadPrimitive(SymbolConstants.MINUS, "pf_subtract");
+
+  static final class pf_subtract extends Primitive
+  {
+    pf_subtract()
+    {
+      super(SymbolConstants.MINUS, "minuend &rest subtrahends");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.negate();
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.subtract(second);
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      LispObject result = args[0];
+      for (int i = 1; i < args.length; i++)
+        result = result.subtract(args[i]);
+      return result;
+    }
+  }
 
   // ### 1-
-  private static final Primitive ONE_MINUS =
-    new Primitive(SymbolConstants.ONE_MINUS, "number")
+  private static final LispObject ONE_MINUS =
+    autoloadPrimitive(SymbolConstants.ONE_MINUS, "pf_one_minus");
+
+  static final class pf_one_minus extends Primitive
+  {
+    pf_one_minus()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.decr();
-      }
-    };
+      super(SymbolConstants.ONE_MINUS, "number");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.decr();
+    }
+  }
 
   // ### when
   private static final SpecialOperator WHEN =
@@ -779,180 +1098,257 @@ public final class Primitives extends LispFile
     };
 
   // ### %stream-output-object object stream => object
-  private static final Primitive _STREAM_OUTPUT_OBJECT =
-    new Primitive("%stream-output-object", PACKAGE_SYS, true)
+  private static final LispObject _STREAM_OUTPUT_OBJECT =
+    autoloadPrimitive("%stream-output-object", PACKAGE_SYS, true, "pf__stream_output_object");
+
+  static final class pf__stream_output_object extends Primitive
+  {
+    pf__stream_output_object()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-            checkStream(second)._writeString(first.writeToString());
-            return first;
-      }
-    };
+      super("%stream-output-object", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+          checkStream(second)._writeString(first.writeToString());
+          return first;
+    }
+  }
 
   // ### %output-object object stream => object
-  private static final Primitive _OUTPUT_OBJECT =
-    new Primitive("%output-object", PACKAGE_SYS, true)
+  private static final LispObject _OUTPUT_OBJECT =
+    autoloadPrimitive("%output-object", PACKAGE_SYS, true, "pf__output_object");
+
+  static final class pf__output_object extends Primitive
+  {
+    pf__output_object()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final LispObject out;
-            if (second == T)
-              out = SymbolConstants.TERMINAL_IO.symbolValue();
-            else if (second == NIL)
-              out = SymbolConstants.STANDARD_OUTPUT.symbolValue();
-            else
-              out = second;
-        checkStream(out)._writeString(first.writeToString());
-        return first;
-      }
-    };
+      super("%output-object", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final LispObject out;
+          if (second == T)
+            out = SymbolConstants.TERMINAL_IO.symbolValue();
+          else if (second == NIL)
+            out = SymbolConstants.STANDARD_OUTPUT.symbolValue();
+          else
+            out = second;
+      checkStream(out)._writeString(first.writeToString());
+      return first;
+    }
+  }
 
   // ### %write-to-string object => string
-  private static final Primitive _WRITE_TO_STRING =
-    new Primitive("%write-to-string", PACKAGE_SYS, false)
+  private static final LispObject _WRITE_TO_STRING =
+    autoloadPrimitive("%write-to-string", PACKAGE_SYS, false, "pf__write_to_string");
+
+  static final class pf__write_to_string extends Primitive
+  {
+    pf__write_to_string()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return new SimpleString(arg.writeToString());
-      }
-    };
+      super("%write-to-string", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return new SimpleString(arg.writeToString());
+    }
+  }
 
   // ### %stream-terpri output-stream => nil
-  private static final Primitive _STREAM_TERPRI =
-    new Primitive("%stream-terpri", PACKAGE_SYS, true, "output-stream")
+  private static final LispObject _STREAM_TERPRI =
+    autoloadPrimitive("%stream-terpri", PACKAGE_SYS, true, "pf__stream_terpri");
+
+  static final class pf__stream_terpri extends Primitive
+  {
+    pf__stream_terpri()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            checkStream(arg)._writeChar('\n');
-            return NIL;
-      }
-    };
+      super("%stream-terpri", PACKAGE_SYS, true, "output-stream");
+    }
 
-  // ### %terpri output-stream => nil
-  private static final Primitive _TERPRI =
-    new Primitive("%terpri", PACKAGE_SYS, false, "output-stream")
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg == T)
-          arg = SymbolConstants.TERMINAL_IO.symbolValue();
-        else if (arg == NIL)
-          arg = SymbolConstants.STANDARD_OUTPUT.symbolValue();
-        final Stream stream;
-        stream = checkStream(arg);
-        return stream.terpri();
-      }
-    };
+          checkStream(arg)._writeChar('\n');
+          return NIL;
+    }
+  }
+
+  // ### %terpri output-stream => nil
+  private static final LispObject _TERPRI =
+    autoloadPrimitive("%terpri", PACKAGE_SYS, false, "pf__terpri");
+
+  static final class pf__terpri extends Primitive
+  {
+    pf__terpri()
+    {
+      super("%terpri", PACKAGE_SYS, false, "output-stream");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg == T)
+        arg = SymbolConstants.TERMINAL_IO.symbolValue();
+      else if (arg == NIL)
+        arg = SymbolConstants.STANDARD_OUTPUT.symbolValue();
+      final Stream stream;
+      stream = checkStream(arg);
+      return stream.terpri();
+    }
+  }
 
   // ### %fresh-line
   // %fresh-line &optional output-stream => generalized-boolean
-  private static final Primitive _FRESH_LINE =
-    new Primitive("%fresh-line", PACKAGE_SYS, false, "output-stream")
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg == T)
-          arg = SymbolConstants.TERMINAL_IO.symbolValue();
-        else if (arg == NIL)
-          arg = SymbolConstants.STANDARD_OUTPUT.symbolValue();
-        final Stream stream;
-        stream = checkStream(arg);
-        return stream.freshLine();
-      }
-    };
+  private static final LispObject _FRESH_LINE =
+    autoloadPrimitive("%fresh-line", PACKAGE_SYS, false, "pf__fresh_line");
+
+  static final class pf__fresh_line extends Primitive
+  {
+    pf__fresh_line()
+    {
+      super("%fresh-line", PACKAGE_SYS, false, "output-stream");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg == T)
+        arg = SymbolConstants.TERMINAL_IO.symbolValue();
+      else if (arg == NIL)
+        arg = SymbolConstants.STANDARD_OUTPUT.symbolValue();
+      final Stream stream;
+      stream = checkStream(arg);
+      return stream.freshLine();
+    }
+  }
 
   // ### boundp
   // Determines only whether a symbol has a value in the global environment;
   // any lexical bindings are ignored.
-  private static final Primitive BOUNDP =
-    new Primitive(SymbolConstants.BOUNDP, "symbol")
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final Symbol symbol;
-        symbol = checkSymbol(arg);
-        // PROGV: "If too few values are supplied, the remaining symbols
-        // are bound and then made to have no value." So BOUNDP must
-        // explicitly check for a binding with no value.
-        SpecialBinding binding =
-          LispThread.currentThread().getSpecialBinding(symbol);
-        if (binding != null)
-          return binding.value != null ? T : NIL;
-        // No binding.
-        return symbol.getSymbolValue() != null ? T : NIL;
-      }
-    };
+  private static final LispObject BOUNDP =
+    autoloadPrimitive(SymbolConstants.BOUNDP, "pf_boundp");
+
+  static final class pf_boundp extends Primitive
+  {
+    pf_boundp()
+    {
+      super(SymbolConstants.BOUNDP, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final Symbol symbol;
+      symbol = checkSymbol(arg);
+      // PROGV: "If too few values are supplied, the remaining symbols
+      // are bound and then made to have no value." So BOUNDP must
+      // explicitly check for a binding with no value.
+      SpecialBinding binding =
+        LispThread.currentThread().getSpecialBinding(symbol);
+      if (binding != null)
+        return binding.value != null ? T : NIL;
+      // No binding.
+      return symbol.getSymbolValue() != null ? T : NIL;
+    }
+  }
 
   // ### fboundp
-  private static final Primitive FBOUNDP =
-    new Primitive(SymbolConstants.FBOUNDP, "name")
+  private static final LispObject FBOUNDP =
+    autoloadPrimitive(SymbolConstants.FBOUNDP, "pf_fboundp");
+
+  static final class pf_fboundp extends Primitive
+  {
+    pf_fboundp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Symbol)
-          return arg.getSymbolFunction() != null ? T : NIL;
-        if (isValidSetfFunctionName(arg))
-          {
-            LispObject f = Lisp.get(arg.CADR(), SymbolConstants.SETF_FUNCTION, null);
-            return f != null ? T : NIL;
-          }
-        return type_error(arg, FUNCTION_NAME);
-      }
-    };
+      super(SymbolConstants.FBOUNDP, "name");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Symbol)
+        return arg.getSymbolFunction() != null ? T : NIL;
+      if (isValidSetfFunctionName(arg))
+        {
+          LispObject f = Lisp.get(arg.CADR(), SymbolConstants.SETF_FUNCTION, null);
+          return f != null ? T : NIL;
+        }
+      return type_error(arg, FUNCTION_NAME);
+    }
+  }
 
   // ### fmakunbound name => name
-  private static final Primitive FMAKUNBOUND =
-    new Primitive(SymbolConstants.FMAKUNBOUND, "name")
+  private static final LispObject FMAKUNBOUND =
+    autoloadPrimitive(SymbolConstants.FMAKUNBOUND, "pf_fmakunbound");
+
+  static final class pf_fmakunbound extends Primitive
+  {
+    pf_fmakunbound()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Symbol)
-          {
-            checkSymbol(arg).setSymbolFunction(null);
-            return arg;
-          }
-        if (isValidSetfFunctionName(arg))
-          {
-            remprop((Symbol)arg.CADR(), SymbolConstants.SETF_FUNCTION);
-            return arg;
-          }
-        return type_error(arg, FUNCTION_NAME);
-      }
-    };
+      super(SymbolConstants.FMAKUNBOUND, "name");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Symbol)
+        {
+          checkSymbol(arg).setSymbolFunction(null);
+          return arg;
+        }
+      if (isValidSetfFunctionName(arg))
+        {
+          remprop((Symbol)arg.CADR(), SymbolConstants.SETF_FUNCTION);
+          return arg;
+        }
+      return type_error(arg, FUNCTION_NAME);
+    }
+  }
 
   // ### setf-function-name-p
-  private static final Primitive SETF_FUNCTION_NAME_P =
-    new Primitive("setf-function-name-p", PACKAGE_SYS, true, "thing")
+  private static final LispObject SETF_FUNCTION_NAME_P =
+    autoloadPrimitive("setf-function-name-p", PACKAGE_SYS, true, "pf_setf_function_name_p");
+
+  static final class pf_setf_function_name_p extends Primitive
+  {
+    pf_setf_function_name_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return isValidSetfFunctionName(arg) ? T : NIL;
-      }
-    };
+      super("setf-function-name-p", PACKAGE_SYS, true, "thing");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return isValidSetfFunctionName(arg) ? T : NIL;
+    }
+  }
 
   // ### remprop
-  private static final Primitive REMPROP =
-    new Primitive(SymbolConstants.REMPROP, "symbol indicator")
+  private static final LispObject REMPROP =
+    autoloadPrimitive(SymbolConstants.REMPROP, "pf_remprop");
+
+  static final class pf_remprop extends Primitive
+  {
+    pf_remprop()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return remprop(checkSymbol(first), second);
-      }
-    };
+      super(SymbolConstants.REMPROP, "symbol indicator");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return remprop(checkSymbol(first), second);
+    }
+  }
 
   // ### append
   public static final Primitive APPEND =
@@ -1058,548 +1454,646 @@ public final class Primitives extends LispFile
     };
 
   // ### nconc
-  private static final Primitive NCONC =
-    new Primitive(SymbolConstants.NCONC, "&rest lists")
+  private static final LispObject NCONC =
+    autoloadPrimitive(SymbolConstants.NCONC, "pf_nconc");
+
+  static final class pf_nconc extends Primitive
+  {
+    pf_nconc()
     {
-      @Override
-      public LispObject execute()
-      {
-        return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        if (first == NIL)
-          return second;
-        if (first instanceof Cons)
-          {
-            LispObject result = first;
-            Cons splice = null;
-            while (first instanceof Cons)
-              {
-                splice = (Cons) first;
-                first = splice.CDR();
-              }
-            splice.setCdr(second);
-            return result;
-          }
-        return type_error(first, SymbolConstants.LIST);
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        LispObject result = null;
-        Cons splice = null;
-        final int limit = array.length - 1;
-        int i;
-        for (i = 0; i < limit; i++)
-          {
-            LispObject list = array[i];
-            if (list == NIL)
-              continue;
-            if (list instanceof Cons)
-              {
-                if (splice != null)
-                  {
-                    splice.setCdr(list);
+      super(SymbolConstants.NCONC, "&rest lists");
+    }
+
+    @Override
+    public LispObject execute()
+    {
+      return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      if (first == NIL)
+        return second;
+      if (first instanceof Cons)
+        {
+          LispObject result = first;
+          Cons splice = null;
+          while (first instanceof Cons)
+            {
+              splice = (Cons) first;
+              first = splice.CDR();
+            }
+          splice.setCdr(second);
+          return result;
+        }
+      return type_error(first, SymbolConstants.LIST);
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      LispObject result = null;
+      Cons splice = null;
+      final int limit = array.length - 1;
+      int i;
+      for (i = 0; i < limit; i++)
+        {
+          LispObject list = array[i];
+          if (list == NIL)
+            continue;
+          if (list instanceof Cons)
+            {
+              if (splice != null)
+                {
+                  splice.setCdr(list);
+                  splice = (Cons) list;
+                }
+              while (list instanceof Cons)
+                {
+                  if (result == null)
+                    {
+                      result = list;
+                      splice = (Cons) result;
+                    }
+                  else
                     splice = (Cons) list;
-                  }
-                while (list instanceof Cons)
-                  {
-                    if (result == null)
-                      {
-                        result = list;
-                        splice = (Cons) result;
-                      }
-                    else
-                      splice = (Cons) list;
-                    list = splice.CDR();
-                  }
-              }
-            else
-            	type_error(list, SymbolConstants.LIST);
-          }
-        if (result == null)
-          return array[i];
-        splice.setCdr(array[i]);
-        return result;
-      }
-    };
+                  list = splice.CDR();
+                }
+            }
+          else
+          	type_error(list, SymbolConstants.LIST);
+        }
+      if (result == null)
+        return array[i];
+      splice.setCdr(array[i]);
+      return result;
+    }
+  }
 
   // ### =
   // Numeric equality.
-  private static final Primitive EQUALS =
-    new Primitive(SymbolConstants.EQUALS, "&rest numbers")
+  private static final LispObject EQUALS =
+    autoloadPrimitive(SymbolConstants.EQUALS, "pf_equals");
+
+  static final class pf_equals extends Primitive
+  {
+    pf_equals()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isEqualTo(second) ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first.isEqualTo(second) && second.isEqualTo(third))
-          return T;
-        else
-          return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        final int length = array.length;
-        final LispObject obj = array[0];
-        for (int i = 1; i < length; i++)
-          {
-            if (array[i].isNotEqualTo(obj))
-              return NIL;
-          }
+      super(SymbolConstants.EQUALS, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isEqualTo(second) ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first.isEqualTo(second) && second.isEqualTo(third))
         return T;
-      }
-    };
+      else
+        return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      final int length = array.length;
+      final LispObject obj = array[0];
+      for (int i = 1; i < length; i++)
+        {
+          if (array[i].isNotEqualTo(obj))
+            return NIL;
+        }
+      return T;
+    }
+  }
 
   // ### /=
   // Returns true if no two numbers are the same; otherwise returns false.
-  private static final Primitive NOT_EQUALS =
-    new Primitive(SymbolConstants.NOT_EQUALS, "&rest numbers")
+  private static final LispObject NOT_EQUALS =
+    autoloadPrimitive(SymbolConstants.NOT_EQUALS, "pf_not_equals");
+
+  static final class pf_not_equals extends Primitive
+  {
+    pf_not_equals()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isNotEqualTo(second) ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first.isEqualTo(second))
-          return NIL;
-        if (first.isEqualTo(third))
-          return NIL;
-        if (second.isEqualTo(third))
-          return NIL;
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        final int length = array.length;
-        for (int i = 0; i < length; i++)
-          {
-            final LispObject obj = array[i];
-            for (int j = i+1; j < length; j++)
-              {
-                if (array[j].isEqualTo(obj))
-                  return NIL;
-              }
-          }
-        return T;
-      }
-    };
+      super(SymbolConstants.NOT_EQUALS, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isNotEqualTo(second) ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first.isEqualTo(second))
+        return NIL;
+      if (first.isEqualTo(third))
+        return NIL;
+      if (second.isEqualTo(third))
+        return NIL;
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      final int length = array.length;
+      for (int i = 0; i < length; i++)
+        {
+          final LispObject obj = array[i];
+          for (int j = i+1; j < length; j++)
+            {
+              if (array[j].isEqualTo(obj))
+                return NIL;
+            }
+        }
+      return T;
+    }
+  }
 
   // ### <
   // Numeric comparison.
-  private static final Primitive LT =
-    new Primitive(SymbolConstants.LT, "&rest numbers")
+  private static final LispObject LT =
+    autoloadPrimitive(SymbolConstants.LT, "pf_lt");
+
+  static final class pf_lt extends Primitive
+  {
+    pf_lt()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isLessThan(second) ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first.isLessThan(second) && second.isLessThan(third))
-          return T;
-        else
-          return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        final int length = array.length;
-        for (int i = 1; i < length; i++)
-          {
-            if (array[i].isLessThanOrEqualTo(array[i-1]))
-              return NIL;
-          }
+      super(SymbolConstants.LT, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isLessThan(second) ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first.isLessThan(second) && second.isLessThan(third))
         return T;
-      }
-    };
+      else
+        return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      final int length = array.length;
+      for (int i = 1; i < length; i++)
+        {
+          if (array[i].isLessThanOrEqualTo(array[i-1]))
+            return NIL;
+        }
+      return T;
+    }
+  }
 
   // ### <=
-  private static final Primitive LE =
-    new Primitive(SymbolConstants.LE, "&rest numbers")
+  private static final LispObject LE =
+    autoloadPrimitive(SymbolConstants.LE, "pf_le");
+
+  static final class pf_le extends Primitive
+  {
+    pf_le()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isLessThanOrEqualTo(second) ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first.isLessThanOrEqualTo(second) && second.isLessThanOrEqualTo(third))
-          return T;
-        else
-          return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        final int length = array.length;
-        for (int i = 1; i < length; i++)
-          {
-            if (array[i].isLessThan(array[i-1]))
-              return NIL;
-          }
+      super(SymbolConstants.LE, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isLessThanOrEqualTo(second) ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first.isLessThanOrEqualTo(second) && second.isLessThanOrEqualTo(third))
         return T;
-      }
-    };
+      else
+        return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      final int length = array.length;
+      for (int i = 1; i < length; i++)
+        {
+          if (array[i].isLessThan(array[i-1]))
+            return NIL;
+        }
+      return T;
+    }
+  }
 
   // ### >
-  private static final Primitive GT =
-    new Primitive(SymbolConstants.GT, "&rest numbers")
+  private static final LispObject GT =
+    autoloadPrimitive(SymbolConstants.GT, "pf_gt");
+
+  static final class pf_gt extends Primitive
+  {
+    pf_gt()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isGreaterThan(second) ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first.isGreaterThan(second) && second.isGreaterThan(third))
-          return T;
-        else
-          return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        final int length = array.length;
-        for (int i = 1; i < length; i++)
-          {
-            if (array[i].isGreaterThanOrEqualTo(array[i-1]))
-              return NIL;
-          }
+      super(SymbolConstants.GT, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isGreaterThan(second) ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first.isGreaterThan(second) && second.isGreaterThan(third))
         return T;
-      }
-    };
+      else
+        return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      final int length = array.length;
+      for (int i = 1; i < length; i++)
+        {
+          if (array[i].isGreaterThanOrEqualTo(array[i-1]))
+            return NIL;
+        }
+      return T;
+    }
+  }
 
   // ### >=
-  private static final Primitive GE =
-    new Primitive(SymbolConstants.GE, "&rest numbers")
+  private static final LispObject GE =
+    autoloadPrimitive(SymbolConstants.GE, "pf_ge");
+
+  static final class pf_ge extends Primitive
+  {
+    pf_ge()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return T;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.isGreaterThanOrEqualTo(second) ? T : NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first.isGreaterThanOrEqualTo(second) && second.isGreaterThanOrEqualTo(third))
-          return T;
-        else
-          return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject[] array) throws ConditionThrowable
-      {
-        final int length = array.length;
-        for (int i = 1; i < length; i++)
-          {
-            if (array[i].isGreaterThan(array[i-1]))
-              return NIL;
-          }
+      super(SymbolConstants.GE, "&rest numbers");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return T;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.isGreaterThanOrEqualTo(second) ? T : NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first.isGreaterThanOrEqualTo(second) && second.isGreaterThanOrEqualTo(third))
         return T;
-      }
-    };
+      else
+        return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject[] array) throws ConditionThrowable
+    {
+      final int length = array.length;
+      for (int i = 1; i < length; i++)
+        {
+          if (array[i].isGreaterThan(array[i-1]))
+            return NIL;
+        }
+      return T;
+    }
+  }
 
   // ### nth n list => object
-  private static final Primitive NTH = new Primitive(SymbolConstants.NTH, "n list")
+  private static final LispObject NTH =
+    autoloadPrimitive(SymbolConstants.NTH, "pf_nth");
+
+  static final class pf_nth extends Primitive
+  {
+    pf_nth()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return second.NTH(first);
-      }
-    };
+      super(SymbolConstants.NTH, "n list");
+    }
 
-  // ### %set-nth n list new-object => new-object
-  private static final Primitive _SET_NTH =
-    new Primitive("%set-nth", PACKAGE_SYS, false)
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        int index = first.intValue();
-        if (index < 0)
-          error(new TypeError("(SETF NTH): invalid index " + index + "."));
-        int i = 0;
-        while (true)
-          {
-            if (i == index)
-              {
-                second.setCar(third);
-                return third;
-              }
-            second = second.CDR();
-            if (second == NIL)
-              {
-                return error(new LispError("(SETF NTH): the index " +
-                                            index + "is too large."));
-              }
-            ++i;
-          }
-      }
-    };
+      return second.NTH(first);
+    }
+  }
+
+  // ### %set-nth n list new-object => new-object
+  private static final LispObject _SET_NTH =
+    autoloadPrimitive("%set-nth", PACKAGE_SYS, false, "pf__set_nth");
+
+  static final class pf__set_nth extends Primitive
+  {
+    pf__set_nth()
+    {
+      super("%set-nth", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      int index = first.intValue();
+      if (index < 0)
+        error(new TypeError("(SETF NTH): invalid index " + index + "."));
+      int i = 0;
+      while (true)
+        {
+          if (i == index)
+            {
+              second.setCar(third);
+              return third;
+            }
+          second = second.CDR();
+          if (second == NIL)
+            {
+              return error(new LispError("(SETF NTH): the index " +
+                                          index + "is too large."));
+            }
+          ++i;
+        }
+    }
+  }
 
   // ### nthcdr
-  private static final Primitive NTHCDR =
-    new Primitive(SymbolConstants.NTHCDR, "n list")
-    {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final int index = first.intValue();
-        if (index < 0)
-          return type_error(first,
-                                 list(SymbolConstants.INTEGER, Fixnum.ZERO));
-        for (int i = 0; i < index; i++)
-          {
-            second = second.CDR();
-            if (second == NIL)
-              return NIL;
-          }
-        return second;
-      }
-    };
+  private static final LispObject NTHCDR =
+    autoloadPrimitive(SymbolConstants.NTHCDR, "pf_nthcdr");
+
+  static final class pf_nthcdr extends Primitive
+  {
+    pf_nthcdr()
+    {
+      super(SymbolConstants.NTHCDR, "n list");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final int index = first.intValue();
+      if (index < 0)
+        return type_error(first,
+                               list(SymbolConstants.INTEGER, Fixnum.ZERO));
+      for (int i = 0; i < index; i++)
+        {
+          second = second.CDR();
+          if (second == NIL)
+            return NIL;
+        }
+      return second;
+    }
+  }
 
   // ### error
-  private static final Primitive ERROR =
-    new Primitive(SymbolConstants.ERROR, "datum &rest arguments")
+  private static final LispObject ERROR =
+    autoloadPrimitive(SymbolConstants.ERROR, "pf_error");
+
+  static final class pf_error extends Primitive
+  {
+    pf_error()
     {
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        Error e = new Error();
+      super(SymbolConstants.ERROR, "datum &rest arguments");
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      Error e = new Error();
 
-        e.printStackTrace();
+      e.printStackTrace();
 
-        System.out.println("ERROR placeholder called with arguments:");
-        for (LispObject a : args)
-            System.out.println(a.writeToString());
+      System.out.println("ERROR placeholder called with arguments:");
+      for (LispObject a : args)
+          System.out.println(a.writeToString());
 
-        //###FIXME: Bail out, but do it nicer...
-        System.exit(1);
-        return NIL;
-      }
-    };
+      //###FIXME: Bail out, but do it nicer...
+      System.exit(1);
+      return NIL;
+    }
+  }
 
   // ### signal
-  private static final Primitive SIGNAL =
-    new Primitive(SymbolConstants.SIGNAL, "datum &rest arguments")
+  private static final LispObject SIGNAL =
+    autoloadPrimitive(SymbolConstants.SIGNAL, "pf_signal");
+
+  static final class pf_signal extends Primitive
+  {
+    pf_signal()
     {
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        if (args.length < 1)
-          throw new ConditionThrowable(new WrongNumberOfArgumentsException(this));
-        if (args[0] instanceof Condition)
-          throw new ConditionThrowable((Condition)args[0]);
-        throw new ConditionThrowable(new SimpleCondition());
-      }
-    };
+      super(SymbolConstants.SIGNAL, "datum &rest arguments");
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      if (args.length < 1)
+        throw new ConditionThrowable(new WrongNumberOfArgumentsException(this));
+      if (args[0] instanceof Condition)
+        throw new ConditionThrowable((Condition)args[0]);
+      throw new ConditionThrowable(new SimpleCondition());
+    }
+  }
 
   // ### undefined-function-called
   // Redefined in restart.lisp.
-  private static final Primitive UNDEFINED_FUNCTION_CALLED =
-    new Primitive(SymbolConstants.UNDEFINED_FUNCTION_CALLED, "name arguments")
+  private static final LispObject UNDEFINED_FUNCTION_CALLED =
+    autoloadPrimitive(SymbolConstants.UNDEFINED_FUNCTION_CALLED, "pf_undefined_function_called");
+
+  static final class pf_undefined_function_called extends Primitive
+  {
+    pf_undefined_function_called()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return error(new UndefinedFunction(first));
-      }
-    };
+      super(SymbolConstants.UNDEFINED_FUNCTION_CALLED, "name arguments");
+    }
 
-  // ### %format
-  private static final Primitive _FORMAT =
-    new Primitive("%format", PACKAGE_SYS, false,
-                  "destination control-string &rest args")
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        LispObject destination = first;
-        // Copy remaining arguments.
-        LispObject[] _args = new LispObject[2];
-        _args[0] = second;
-        _args[1] = third;
-        String s = _format(_args);
-        return outputFormattedString(s, destination);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth)
-        throws ConditionThrowable
-      {
-        LispObject destination = first;
-        // Copy remaining arguments.
-        LispObject[] _args = new LispObject[3];
-        _args[0] = second;
-        _args[1] = third;
-        _args[2] = fourth;
-        String s = _format(_args);
-        return outputFormattedString(s, destination);
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        if (args.length < 2)
-          return error(new WrongNumberOfArgumentsException(this));
-        LispObject destination = args[0];
-        // Copy remaining arguments.
-        LispObject[] _args = new LispObject[args.length - 1];
-        for (int i = 0; i < _args.length; i++)
-          _args[i] = args[i+1];
-        String s = _format(_args);
-        return outputFormattedString(s, destination);
-      }
-      private final String _format(LispObject[] args)
-        throws ConditionThrowable
-      {
-        LispObject formatControl = args[0];
-        LispObject formatArguments = NIL;
-        for (int i = 1; i < args.length; i++)
-          formatArguments = makeCons(args[i], formatArguments);
-        formatArguments = formatArguments.nreverse();
-        return format(formatControl, formatArguments);
-      }
-      private final LispObject outputFormattedString(String s,
-                                                     LispObject destination)
-        throws ConditionThrowable
-      {
-        if (destination == T)
-          {
-            checkCharacterOutputStream(SymbolConstants.STANDARD_OUTPUT.symbolValue())._writeString(s);
-            return NIL;
-          }
-        if (destination == NIL)
-          return new SimpleString(s);
-        if (destination instanceof TwoWayStream)
-          {
-            Stream out = ((TwoWayStream)destination).getOutputStream();
-            if (out instanceof Stream)
-              {
-                (out)._writeString(s);
-                return NIL;
-              }
-            error(new TypeError("The value " +
-                                 destination.writeToString() +
-                                 " is not a character output stream."));
-          }
-        if (destination instanceof Stream)
-          {
-            ((Stream)destination)._writeString(s);
-            return NIL;
-          }
-        return NIL;
-      }
-    };
+      return error(new UndefinedFunction(first));
+    }
+  }
+
+  // ### %format
+  private static final LispObject _FORMAT =
+    autoloadPrimitive("%format", PACKAGE_SYS, false, "pf__format");
+
+  static final class pf__format extends Primitive
+  {
+    pf__format()
+    {
+      super("%format", PACKAGE_SYS, false, "destination control-string &rest args");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      LispObject destination = first;
+      // Copy remaining arguments.
+      LispObject[] _args = new LispObject[2];
+      _args[0] = second;
+      _args[1] = third;
+      String s = _format(_args);
+      return outputFormattedString(s, destination);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+      throws ConditionThrowable
+    {
+      LispObject destination = first;
+      // Copy remaining arguments.
+      LispObject[] _args = new LispObject[3];
+      _args[0] = second;
+      _args[1] = third;
+      _args[2] = fourth;
+      String s = _format(_args);
+      return outputFormattedString(s, destination);
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      if (args.length < 2)
+        return error(new WrongNumberOfArgumentsException(this));
+      LispObject destination = args[0];
+      // Copy remaining arguments.
+      LispObject[] _args = new LispObject[args.length - 1];
+      for (int i = 0; i < _args.length; i++)
+        _args[i] = args[i+1];
+      String s = _format(_args);
+      return outputFormattedString(s, destination);
+    }
+    private final String _format(LispObject[] args)
+      throws ConditionThrowable
+    {
+      LispObject formatControl = args[0];
+      LispObject formatArguments = NIL;
+      for (int i = 1; i < args.length; i++)
+        formatArguments = makeCons(args[i], formatArguments);
+      formatArguments = formatArguments.nreverse();
+      return format(formatControl, formatArguments);
+    }
+    private final LispObject outputFormattedString(String s,
+                                                   LispObject destination)
+      throws ConditionThrowable
+    {
+      if (destination == T)
+        {
+          checkCharacterOutputStream(SymbolConstants.STANDARD_OUTPUT.symbolValue())._writeString(s);
+          return NIL;
+        }
+      if (destination == NIL)
+        return new SimpleString(s);
+      if (destination instanceof TwoWayStream)
+        {
+          Stream out = ((TwoWayStream)destination).getOutputStream();
+          if (out instanceof Stream)
+            {
+              (out)._writeString(s);
+              return NIL;
+            }
+          error(new TypeError("The value " +
+                               destination.writeToString() +
+                               " is not a character output stream."));
+        }
+      if (destination instanceof Stream)
+        {
+          ((Stream)destination)._writeString(s);
+          return NIL;
+        }
+      return NIL;
+    }
+  }
 
   private static final Symbol _SIMPLE_FORMAT_FUNCTION_ =
     internSpecial("*SIMPLE-FORMAT-FUNCTION*", PACKAGE_SYS, _FORMAT);
@@ -1613,7 +2107,9 @@ public final class Primitives extends LispFile
         if (arg instanceof Symbol)
           {
             LispObject oldDefinition = arg.getSymbolFunction();
-            if (oldDefinition != null && !(oldDefinition instanceof Autoload))
+            if (oldDefinition != null
+                && (!(oldDefinition instanceof Autoload)
+                    || oldDefinition instanceof AutoloadedFunctionProxy))
               {
                 LispObject oldSource =
                   Extensions.SOURCE_PATHNAME.execute(arg);
@@ -1651,111 +2147,132 @@ public final class Primitives extends LispFile
   }
 
   // ### %defun name definition => name
-  private static final Primitive _DEFUN =
-    new Primitive("%defun", PACKAGE_SYS, true, "name definition")
+  private static final LispObject _DEFUN =
+    autoloadPrimitive("%defun", PACKAGE_SYS, true, "pf__defun");
+
+  static final class pf__defun extends Primitive
+  {
+    pf__defun()
     {
-      @Override
-      public LispObject execute(LispObject name, LispObject definition)
-        throws ConditionThrowable
-      {
-        if (name instanceof Symbol)
-          {
-            Symbol symbol = (Symbol) name;
-            if (symbol.getSymbolFunction() instanceof SpecialOperator)
-              {
-                String message =
-                  symbol.getName() + " is a special operator and may not be redefined.";
-                return error(new ProgramError(message));
-              }
-          }
-        else if (!isValidSetfFunctionName(name))
-          return type_error(name, FUNCTION_NAME);
-        if (definition instanceof Function)
-          {
-            SymbolConstants.FSET.execute(name, definition, NIL,
-                                ((Function)definition).getLambdaList());
-            return name;
-          }
-        return type_error(definition, SymbolConstants.FUNCTION);
-      }
-    };
+      super("%defun", PACKAGE_SYS, true, "name definition");
+    }
+
+    @Override
+    public LispObject execute(LispObject name, LispObject definition)
+      throws ConditionThrowable
+    {
+      if (name instanceof Symbol)
+        {
+          Symbol symbol = (Symbol) name;
+          if (symbol.getSymbolFunction() instanceof SpecialOperator)
+            {
+              String message =
+                symbol.getName() + " is a special operator and may not be redefined.";
+              return error(new ProgramError(message));
+            }
+        }
+      else if (!isValidSetfFunctionName(name))
+        return type_error(name, FUNCTION_NAME);
+      if (definition instanceof Function)
+        {
+          SymbolConstants.FSET.execute(name, definition, NIL,
+                              ((Function)definition).getLambdaList());
+          return name;
+        }
+      return type_error(definition, SymbolConstants.FUNCTION);
+    }
+  }
 
   // ### fdefinition-block-name
-  private static final Primitive FDEFINITION_BLOCK_NAME =
-    new Primitive("fdefinition-block-name", PACKAGE_SYS, true, "function-name")
+  private static final LispObject FDEFINITION_BLOCK_NAME =
+    autoloadPrimitive("fdefinition-block-name", PACKAGE_SYS, true, "pf_fdefinition_block_name");
+
+  static final class pf_fdefinition_block_name extends Primitive
+  {
+    pf_fdefinition_block_name()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Symbol)
-          return arg;
-        if (isValidSetfFunctionName(arg))
-          return arg.CADR();
-        return type_error(arg, FUNCTION_NAME);
-      }
-    };
+      super("fdefinition-block-name", PACKAGE_SYS, true, "function-name");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Symbol)
+        return arg;
+      if (isValidSetfFunctionName(arg))
+        return arg.CADR();
+      return type_error(arg, FUNCTION_NAME);
+    }
+  }
 
   // ### macro-function
-  private static final Primitive MACRO_FUNCTION =
-    new Primitive(SymbolConstants.MACRO_FUNCTION, "symbol &optional environment")
+  private static final LispObject MACRO_FUNCTION =
+    autoloadPrimitive(SymbolConstants.MACRO_FUNCTION, "pf_macro_function");
+
+  static final class pf_macro_function extends Primitive
+  {
+    pf_macro_function()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        LispObject obj = arg.getSymbolFunction();
-        if (obj instanceof AutoloadMacro)
-          {
-            ((AutoloadMacro)obj).load();
-            obj = arg.getSymbolFunction();
-          }
-        if (obj instanceof MacroObject)
-          return ((MacroObject)obj).getExpander();
-        if (obj instanceof SpecialOperator)
-          {
-            obj = Lisp.get(arg, SymbolConstants.MACROEXPAND_MACRO, NIL);
-            if (obj instanceof AutoloadMacro)
-              {
-                ((AutoloadMacro)obj).load();
-                obj = Lisp.get(arg, SymbolConstants.MACROEXPAND_MACRO, NIL);
-              }
-            if (obj instanceof MacroObject)
-              return ((MacroObject)obj).getExpander();
-          }
-        return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        LispObject obj;
-        if (second != NIL)
-          {
-            Environment env = checkEnvironment(second);
-            obj = env.lookupFunction(first);
-          }
-        else
+      super(SymbolConstants.MACRO_FUNCTION, "symbol &optional environment");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      LispObject obj = arg.getSymbolFunction();
+      if (obj instanceof AutoloadMacro)
+        {
+          ((AutoloadMacro)obj).load();
+          obj = arg.getSymbolFunction();
+        }
+      if (obj instanceof MacroObject)
+        return ((MacroObject)obj).getExpander();
+      if (obj instanceof SpecialOperator)
+        {
+          obj = Lisp.get(arg, SymbolConstants.MACROEXPAND_MACRO, NIL);
+          if (obj instanceof AutoloadMacro)
+            {
+              ((AutoloadMacro)obj).load();
+              obj = Lisp.get(arg, SymbolConstants.MACROEXPAND_MACRO, NIL);
+            }
+          if (obj instanceof MacroObject)
+            return ((MacroObject)obj).getExpander();
+        }
+      return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      LispObject obj;
+      if (second != NIL)
+        {
+          Environment env = checkEnvironment(second);
+          obj = env.lookupFunction(first);
+        }
+      else
+        obj = first.getSymbolFunction();
+      if (obj instanceof AutoloadMacro)
+        {
+          ((AutoloadMacro)obj).load();
           obj = first.getSymbolFunction();
-        if (obj instanceof AutoloadMacro)
-          {
-            ((AutoloadMacro)obj).load();
-            obj = first.getSymbolFunction();
-          }
-        if (obj instanceof MacroObject)
-          return ((MacroObject)obj).getExpander();
-        if (obj instanceof SpecialOperator)
-          {
-            obj = Lisp.get(first, SymbolConstants.MACROEXPAND_MACRO, NIL);
-            if (obj instanceof AutoloadMacro)
-              {
-                ((AutoloadMacro)obj).load();
-                obj = Lisp.get(first, SymbolConstants.MACROEXPAND_MACRO, NIL);
-              }
-            if (obj instanceof MacroObject)
-              return ((MacroObject)obj).getExpander();
-          }
-        return NIL;
-      }
-    };
+        }
+      if (obj instanceof MacroObject)
+        return ((MacroObject)obj).getExpander();
+      if (obj instanceof SpecialOperator)
+        {
+          obj = Lisp.get(first, SymbolConstants.MACROEXPAND_MACRO, NIL);
+          if (obj instanceof AutoloadMacro)
+            {
+              ((AutoloadMacro)obj).load();
+              obj = Lisp.get(first, SymbolConstants.MACROEXPAND_MACRO, NIL);
+            }
+          if (obj instanceof MacroObject)
+            return ((MacroObject)obj).getExpander();
+        }
+      return NIL;
+    }
+  }
 
   // ### defmacro
   private static final SpecialOperator DEFMACRO =
@@ -1792,116 +2309,165 @@ public final class Primitives extends LispFile
     };
 
   // ### make-macro
-  private static final Primitive MAKE_MACRO =
-    new Primitive("make-macro", PACKAGE_SYS, true, "name expansion-function")
+  private static final LispObject MAKE_MACRO =
+    autoloadPrimitive("make-macro", PACKAGE_SYS, true, "pf_make_macro");
+
+  static final class pf_make_macro extends Primitive
+  {
+    pf_make_macro()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return new MacroObject(first, second);
-      }
-    };
+      super("make-macro", PACKAGE_SYS, true, "name expansion-function");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return new MacroObject(first, second);
+    }
+  }
 
   // ### macro-function-p
-  private static final Primitive MACRO_FUNCTION_P =
-      new Primitive("macro-function-p", PACKAGE_SYS, true, "value")
+  private static final LispObject MACRO_FUNCTION_P =
+    autoloadPrimitive("macro-function-p", PACKAGE_SYS, true, "pf_macro_function_p");
+
+  static final class pf_macro_function_p extends Primitive
   {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return (arg instanceof MacroObject) ? T : NIL;
-      }
-  };
+    pf_macro_function_p()
+    {
+      super("macro-function-p", PACKAGE_SYS, true, "value");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return (arg instanceof MacroObject) ? T : NIL;
+    }
+  }
 
 
   // ### make-symbol-macro
-  private static final Primitive MAKE_SYMBOL_MACRO =
-      new Primitive("make-symbol-macro", PACKAGE_SYS, true, "expansion")
+  private static final LispObject MAKE_SYMBOL_MACRO =
+    autoloadPrimitive("make-symbol-macro", PACKAGE_SYS, true, "pf_make_symbol_macro");
+
+  static final class pf_make_symbol_macro extends Primitive
   {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return new SymbolMacro(arg);
-      }
-  };
+    pf_make_symbol_macro()
+    {
+      super("make-symbol-macro", PACKAGE_SYS, true, "expansion");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return new SymbolMacro(arg);
+    }
+  }
 
   // ### symbol-macro-p
-  private static final Primitive SYMBOL_MACRO_P =
-      new Primitive("symbol-macro-p", PACKAGE_SYS, true, "value")
+  private static final LispObject SYMBOL_MACRO_P =
+    autoloadPrimitive("symbol-macro-p", PACKAGE_SYS, true, "pf_symbol_macro_p");
+
+  static final class pf_symbol_macro_p extends Primitive
   {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return (arg instanceof SymbolMacro) ? T : NIL;
-      }
-  };
+    pf_symbol_macro_p()
+    {
+      super("symbol-macro-p", PACKAGE_SYS, true, "value");
+    }
 
-  // ### %defparameter
-  private static final Primitive _DEFPARAMETER =
-    new Primitive("%defparameter", PACKAGE_SYS, false)
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        final Symbol symbol;
-            symbol = checkSymbol(first);
-        if (third instanceof AbstractString)
-          symbol.setDocumentation(SymbolConstants.VARIABLE, third);
-        else if (third != NIL)
-          type_error(third, SymbolConstants.STRING);
-        symbol.initializeSpecial(second);
-        return symbol;
-      }
-    };
+        return (arg instanceof SymbolMacro) ? T : NIL;
+    }
+  }
+
+  // ### %defparameter
+  private static final LispObject _DEFPARAMETER =
+    autoloadPrimitive("%defparameter", PACKAGE_SYS, false, "pf__defparameter");
+
+  static final class pf__defparameter extends Primitive
+  {
+    pf__defparameter()
+    {
+      super("%defparameter", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      final Symbol symbol;
+          symbol = checkSymbol(first);
+      if (third instanceof AbstractString)
+        symbol.setDocumentation(SymbolConstants.VARIABLE, third);
+      else if (third != NIL)
+        type_error(third, SymbolConstants.STRING);
+      symbol.initializeSpecial(second);
+      return symbol;
+    }
+  }
 
   // ### %defvar
-  private static final Primitive _DEFVAR =
-    new Primitive("%defvar", PACKAGE_SYS, false)
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final Symbol symbol;
-            symbol = checkSymbol(arg);
-        symbol.setSpecial(true);
-        return symbol;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final Symbol symbol;
-            symbol = checkSymbol(first);
-        symbol.initializeSpecial(second);
-        return symbol;
-      }
-    };
+  private static final LispObject _DEFVAR =
+    autoloadPrimitive("%defvar", PACKAGE_SYS, false, "pf__defvar");
+
+  static final class pf__defvar extends Primitive
+  {
+    pf__defvar()
+    {
+      super("%defvar", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final Symbol symbol;
+          symbol = checkSymbol(arg);
+      symbol.setSpecial(true);
+      return symbol;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final Symbol symbol;
+          symbol = checkSymbol(first);
+      symbol.initializeSpecial(second);
+      return symbol;
+    }
+  }
 
   // ### %defconstant name initial-value documentation => name
-  private static final Primitive _DEFCONSTANT =
-    new Primitive("%defconstant", PACKAGE_SYS, false)
-    {
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        final Symbol symbol;
-            symbol = checkSymbol(first);
-        if (third != NIL)
-          {
-            if (third instanceof AbstractString)
-              symbol.setDocumentation(SymbolConstants.VARIABLE, third);
-            else
-              return type_error(third, SymbolConstants.STRING);
-          }
-        symbol.initializeConstant(second);
-        return symbol;
-      }
-    };
+  private static final LispObject _DEFCONSTANT =
+    autoloadPrimitive("%defconstant", PACKAGE_SYS, false, "pf__defconstant");
+
+  static final class pf__defconstant extends Primitive
+  {
+    pf__defconstant()
+    {
+      super("%defconstant", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      final Symbol symbol;
+          symbol = checkSymbol(first);
+      if (third != NIL)
+        {
+          if (third instanceof AbstractString)
+            symbol.setDocumentation(SymbolConstants.VARIABLE, third);
+          else
+            return type_error(third, SymbolConstants.STRING);
+        }
+      symbol.initializeConstant(second);
+      return symbol;
+    }
+  }
 
   // ### cond
   private static final SpecialOperator COND =
@@ -2040,572 +2606,736 @@ public final class Primitives extends LispFile
               expectedType = expectedType.push(keys);
             clauses = clauses.CDR();
           }
-        expectedType = expectedType.nreverse();
-        expectedType = expectedType.push(SymbolConstants.MEMBER);
-        return type_error(key, expectedType);
-      }
-    };
-
-  // ### upgraded-array-element-type typespec &optional environment
-  // => upgraded-typespec
-  private static final Primitive UPGRADED_ARRAY_ELEMENT_TYPE =
-    new Primitive(SymbolConstants.UPGRADED_ARRAY_ELEMENT_TYPE,
-                  "typespec &optional environment")
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return getUpgradedArrayElementType(arg);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        // Ignore environment.
-        return getUpgradedArrayElementType(first);
+        expectedType = expectedType.nreverse();
+        expectedType = expectedType.push(SymbolConstants.MEMBER);
+        return type_error(key, expectedType);
       }
     };
 
+  // ### upgraded-array-element-type typespec &optional environment
+  // => upgraded-typespec
+  private static final LispObject UPGRADED_ARRAY_ELEMENT_TYPE =
+    autoloadPrimitive(SymbolConstants.UPGRADED_ARRAY_ELEMENT_TYPE, "pf_upgraded_array_element_type");
+
+  static final class pf_upgraded_array_element_type extends Primitive
+  {
+    pf_upgraded_array_element_type()
+    {
+      super(SymbolConstants.UPGRADED_ARRAY_ELEMENT_TYPE, "typespec &optional environment");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return getUpgradedArrayElementType(arg);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      // Ignore environment.
+      return getUpgradedArrayElementType(first);
+    }
+  }
+
   // ### array-rank array => rank
-  private static final Primitive ARRAY_RANK =
-    new Primitive(SymbolConstants.ARRAY_RANK, "array")
+  private static final LispObject ARRAY_RANK =
+    autoloadPrimitive(SymbolConstants.ARRAY_RANK, "pf_array_rank");
+
+  static final class pf_array_rank extends Primitive
+  {
+    pf_array_rank()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return Fixnum.makeFixnum(checkArray(arg).getRank());
+      super(SymbolConstants.ARRAY_RANK, "array");
+    }
 
-      }
-    };
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return Fixnum.makeFixnum(checkArray(arg).getRank());
+
+    }
+  }
 
   // ### array-dimensions array => dimensions
   // Returns a list of integers. Fill pointer (if any) is ignored.
-  private static final Primitive ARRAY_DIMENSIONS =
-    new Primitive(SymbolConstants.ARRAY_DIMENSIONS, "array")
+  private static final LispObject ARRAY_DIMENSIONS =
+    autoloadPrimitive(SymbolConstants.ARRAY_DIMENSIONS, "pf_array_dimensions");
+
+  static final class pf_array_dimensions extends Primitive
+  {
+    pf_array_dimensions()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkArray(arg).getDimensions();
-      }
-    };
+      super(SymbolConstants.ARRAY_DIMENSIONS, "array");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkArray(arg).getDimensions();
+    }
+  }
 
   // ### array-dimension array axis-number => dimension
-  private static final Primitive ARRAY_DIMENSION =
-    new Primitive(SymbolConstants.ARRAY_DIMENSION, "array axis-number")
+  private static final LispObject ARRAY_DIMENSION =
+    autoloadPrimitive(SymbolConstants.ARRAY_DIMENSION, "pf_array_dimension");
+
+  static final class pf_array_dimension extends Primitive
+  {
+    pf_array_dimension()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final LispArray array = checkArray(first);
-        return Fixnum.makeFixnum(array.getDimension(second.intValue()));
-      }
-    };
+      super(SymbolConstants.ARRAY_DIMENSION, "array axis-number");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final LispArray array = checkArray(first);
+      return Fixnum.makeFixnum(array.getDimension(second.intValue()));
+    }
+  }
 
   // ### array-total-size array => size
-  private static final Primitive ARRAY_TOTAL_SIZE =
-    new Primitive(SymbolConstants.ARRAY_TOTAL_SIZE, "array")
+  private static final LispObject ARRAY_TOTAL_SIZE =
+    autoloadPrimitive(SymbolConstants.ARRAY_TOTAL_SIZE, "pf_array_total_size");
+
+  static final class pf_array_total_size extends Primitive
+  {
+    pf_array_total_size()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return Fixnum.makeFixnum(checkArray(arg).getTotalSize());
-      }
-    };
+      super(SymbolConstants.ARRAY_TOTAL_SIZE, "array");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return Fixnum.makeFixnum(checkArray(arg).getTotalSize());
+    }
+  }
 
 
   // ### array-element-type
   // array-element-type array => typespec
-  private static final Primitive ARRAY_ELEMENT_TYPE =
-    new Primitive(SymbolConstants.ARRAY_ELEMENT_TYPE, "array")
+  private static final LispObject ARRAY_ELEMENT_TYPE =
+    autoloadPrimitive(SymbolConstants.ARRAY_ELEMENT_TYPE, "pf_array_element_type");
+
+  static final class pf_array_element_type extends Primitive
+  {
+    pf_array_element_type()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkArray(arg).getElementType();
-      }
-    };
+      super(SymbolConstants.ARRAY_ELEMENT_TYPE, "array");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkArray(arg).getElementType();
+    }
+  }
 
   // ### adjustable-array-p
-  private static final Primitive ADJUSTABLE_ARRAY_P =
-    new Primitive(SymbolConstants.ADJUSTABLE_ARRAY_P, "array")
+  private static final LispObject ADJUSTABLE_ARRAY_P =
+    autoloadPrimitive(SymbolConstants.ADJUSTABLE_ARRAY_P, "pf_adjustable_array_p");
+
+  static final class pf_adjustable_array_p extends Primitive
+  {
+    pf_adjustable_array_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkArray(arg).isAdjustable() ? T : NIL;
-      }
-    };
+      super(SymbolConstants.ADJUSTABLE_ARRAY_P, "array");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkArray(arg).isAdjustable() ? T : NIL;
+    }
+  }
 
   // ### array-displacement array => displaced-to, displaced-index-offset
-  private static final Primitive ARRAY_DISPLACEMENT =
-    new Primitive(SymbolConstants.ARRAY_DISPLACEMENT, "array")
+  private static final LispObject ARRAY_DISPLACEMENT =
+    autoloadPrimitive(SymbolConstants.ARRAY_DISPLACEMENT, "pf_array_displacement");
+
+  static final class pf_array_displacement extends Primitive
+  {
+    pf_array_displacement()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkArray(arg).arrayDisplacement();
+      super(SymbolConstants.ARRAY_DISPLACEMENT, "array");
+    }
 
-      }
-    };
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkArray(arg).arrayDisplacement();
+
+    }
+  }
 
   // ### array-in-bounds-p array &rest subscripts => generalized-boolean
-  private static final Primitive ARRAY_IN_BOUNDS_P =
-    new Primitive(SymbolConstants.ARRAY_IN_BOUNDS_P, "array &rest subscripts")
+  private static final LispObject ARRAY_IN_BOUNDS_P =
+    autoloadPrimitive(SymbolConstants.ARRAY_IN_BOUNDS_P, "pf_array_in_bounds_p");
+
+  static final class pf_array_in_bounds_p extends Primitive
+  {
+    pf_array_in_bounds_p()
     {
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        if (args.length < 1)
-          return error(new WrongNumberOfArgumentsException(this));
-        final LispArray array;
-                LispObject r = args[0];
-            array = checkArray(r);
-        int rank = array.getRank();
-        if (rank != args.length - 1)
-          {
-            FastStringBuffer sb =
-              new FastStringBuffer("ARRAY-IN-BOUNDS-P: ");
-            sb.append("wrong number of subscripts (");
-            sb.append(args.length - 1);
-            sb.append(") for array of rank ");
-            sb.append(rank);
-            error(new ProgramError(sb.toString()));
-          }
-        for (int i = 0; i < rank; i++)
-          {
-            LispObject arg = args[i+1];
-            if (arg  instanceof Fixnum)
-              {
-                int subscript = arg.intValue();
-                if (subscript < 0 || subscript >= array.getDimension(i))
-                  return NIL;
-              }
-            else if (arg  instanceof Bignum)
-              return NIL;
-            else
-              type_error(arg, SymbolConstants.INTEGER);
-          }
-        return T;
-      }
-    };
+      super(SymbolConstants.ARRAY_IN_BOUNDS_P, "array &rest subscripts");
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      if (args.length < 1)
+        return error(new WrongNumberOfArgumentsException(this));
+      final LispArray array;
+              LispObject r = args[0];
+          array = checkArray(r);
+      int rank = array.getRank();
+      if (rank != args.length - 1)
+        {
+          FastStringBuffer sb =
+            new FastStringBuffer("ARRAY-IN-BOUNDS-P: ");
+          sb.append("wrong number of subscripts (");
+          sb.append(args.length - 1);
+          sb.append(") for array of rank ");
+          sb.append(rank);
+          error(new ProgramError(sb.toString()));
+        }
+      for (int i = 0; i < rank; i++)
+        {
+          LispObject arg = args[i+1];
+          if (arg  instanceof Fixnum)
+            {
+              int subscript = arg.intValue();
+              if (subscript < 0 || subscript >= array.getDimension(i))
+                return NIL;
+            }
+          else if (arg  instanceof Bignum)
+            return NIL;
+          else
+            type_error(arg, SymbolConstants.INTEGER);
+        }
+      return T;
+    }
+  }
 
   // ### %array-row-major-index array subscripts => index
-  private static final Primitive _ARRAY_ROW_MAJOR_INDEX =
-    new Primitive("%array-row-major-index", PACKAGE_SYS, false)
+  private static final LispObject _ARRAY_ROW_MAJOR_INDEX =
+    autoloadPrimitive("%array-row-major-index", PACKAGE_SYS, false, "pf__array_row_major_index");
+
+  static final class pf__array_row_major_index extends Primitive
+  {
+    pf__array_row_major_index()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final LispArray array;
-        array = checkArray(first);
-        LispObject[] subscripts = second.copyToArray();
-        return number(array.getRowMajorIndex(subscripts));
-      }
-    };
+      super("%array-row-major-index", PACKAGE_SYS, false);
+    }
 
-  // ### aref array &rest subscripts => element
-  private static final Primitive AREF =
-    new Primitive(SymbolConstants.AREF, "array &rest subscripts")
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final LispArray array;
-        array = checkArray( arg);
-        if (array.getRank() == 0)
-          return array.AREF(0);
-        FastStringBuffer sb =
-          new FastStringBuffer("Wrong number of subscripts (0) for array of rank ");
-        sb.append(array.getRank());
-        sb.append('.');
-        return error(new ProgramError(sb.toString()));
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.AREF(second);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        return checkArray(first).get(new int[]{second.intValue(),third.intValue()} );
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        final LispArray array = checkArray(args[0]);
-        final int[] subs = new int[args.length - 1];
-        for (int i = subs.length; i-- > 0;)
-          {
-            subs[i] = args[i+1].intValue();
-          }
-        return array.get(subs);
-      }
-    };
+      final LispArray array;
+      array = checkArray(first);
+      LispObject[] subscripts = second.copyToArray();
+      return number(array.getRowMajorIndex(subscripts));
+    }
+  }
+
+  // ### aref array &rest subscripts => element
+  private static final LispObject AREF =
+    autoloadPrimitive(SymbolConstants.AREF, "pf_aref");
+
+  static final class pf_aref extends Primitive
+  {
+    pf_aref()
+    {
+      super(SymbolConstants.AREF, "array &rest subscripts");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final LispArray array;
+      array = checkArray( arg);
+      if (array.getRank() == 0)
+        return array.AREF(0);
+      FastStringBuffer sb =
+        new FastStringBuffer("Wrong number of subscripts (0) for array of rank ");
+      sb.append(array.getRank());
+      sb.append('.');
+      return error(new ProgramError(sb.toString()));
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.AREF(second);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      return checkArray(first).get(new int[]{second.intValue(),third.intValue()} );
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      final LispArray array = checkArray(args[0]);
+      final int[] subs = new int[args.length - 1];
+      for (int i = subs.length; i-- > 0;)
+        {
+          subs[i] = args[i+1].intValue();
+        }
+      return array.get(subs);
+    }
+  }
 
   // ### aset array subscripts new-element => new-element
-  private static final Primitive ASET =
-    new Primitive("aset", PACKAGE_SYS, true,
-                  "array subscripts new-element")
+  private static final LispObject ASET =
+    autoloadPrimitive("aset", PACKAGE_SYS, true, "pf_aset");
+
+  static final class pf_aset extends Primitive
+  {
+    pf_aset()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        // Rank zero array.
-        final ZeroRankArray array;
-          if (first instanceof ZeroRankArray){
-            array = (ZeroRankArray) first;
-          }
-          else
-          {
-            return error(new TypeError("The value " +
-                                        first.writeToString() +
-                                        " is not an array of rank 0."));
-          }
-        array.aset(0, second);
-        return second;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        first.aset(second, third);
-        return third;
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        final LispArray array = checkArray(args[0]);
-        final int nsubs = args.length - 2;
-        final int[] subs = new int[nsubs];
-        for (int i = nsubs; i-- > 0;)
-            subs[i] = args[i+1].intValue();
-        final LispObject newValue = args[args.length - 1];
-        array.set(subs, newValue);
-        return newValue;
-      }
-    };
+      super("aset", PACKAGE_SYS, true, "array subscripts new-element");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      // Rank zero array.
+      final ZeroRankArray array;
+        if (first instanceof ZeroRankArray){
+          array = (ZeroRankArray) first;
+        }
+        else
+        {
+          return error(new TypeError("The value " +
+                                      first.writeToString() +
+                                      " is not an array of rank 0."));
+        }
+      array.aset(0, second);
+      return second;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      first.aset(second, third);
+      return third;
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      final LispArray array = checkArray(args[0]);
+      final int nsubs = args.length - 2;
+      final int[] subs = new int[nsubs];
+      for (int i = nsubs; i-- > 0;)
+          subs[i] = args[i+1].intValue();
+      final LispObject newValue = args[args.length - 1];
+      array.set(subs, newValue);
+      return newValue;
+    }
+  }
 
   // ### row-major-aref array index => element
-  private static final Primitive ROW_MAJOR_AREF =
-    new Primitive(SymbolConstants.ROW_MAJOR_AREF, "array index")
+  private static final LispObject ROW_MAJOR_AREF =
+    autoloadPrimitive(SymbolConstants.ROW_MAJOR_AREF, "pf_row_major_aref");
+
+  static final class pf_row_major_aref extends Primitive
+  {
+    pf_row_major_aref()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {          
-            return checkArray(first).AREF(second.intValue());
-      }
-    };
+      super(SymbolConstants.ROW_MAJOR_AREF, "array index");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {          
+          return checkArray(first).AREF(second.intValue());
+    }
+  }
 
   // ### vector
-  private static final Primitive VECTOR =
-    new Primitive(SymbolConstants.VECTOR, "&rest objects")
+  private static final LispObject VECTOR =
+    autoloadPrimitive(SymbolConstants.VECTOR, "pf_vector");
+
+  static final class pf_vector extends Primitive
+  {
+    pf_vector()
     {
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        return new SimpleVector(args);
-      }
-    };
+      super(SymbolConstants.VECTOR, "&rest objects");
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      return new SimpleVector(args);
+    }
+  }
 
   // ### fill-pointer
-  private static final Primitive FILL_POINTER =
-    new Primitive(SymbolConstants.FILL_POINTER, "vector")
+  private static final LispObject FILL_POINTER =
+    autoloadPrimitive(SymbolConstants.FILL_POINTER, "pf_fill_pointer");
+
+  static final class pf_fill_pointer extends Primitive
+  {
+    pf_fill_pointer()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-        throws ConditionThrowable
-      {
-          if (arg instanceof LispArray) {
-                  LispArray aa = (LispArray)arg;
-                  if (aa.hasFillPointer())            
-                          return Fixnum.makeFixnum(aa.getFillPointer());
-          }
-            return type_error(arg, list(SymbolConstants.AND, SymbolConstants.VECTOR,
-                                              list(SymbolConstants.SATISFIES,
-                                                    SymbolConstants.ARRAY_HAS_FILL_POINTER_P)));
-      }
-    };
+      super(SymbolConstants.FILL_POINTER, "vector");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+      throws ConditionThrowable
+    {
+        if (arg instanceof LispArray) {
+                LispArray aa = (LispArray)arg;
+                if (aa.hasFillPointer())            
+                        return Fixnum.makeFixnum(aa.getFillPointer());
+        }
+          return type_error(arg, list(SymbolConstants.AND, SymbolConstants.VECTOR,
+                                            list(SymbolConstants.SATISFIES,
+                                                  SymbolConstants.ARRAY_HAS_FILL_POINTER_P)));
+    }
+  }
 
   // ### %set-fill-pointer vector new-fill-pointer
-  private static final Primitive _SET_FILL_POINTER =
-    new Primitive("%set-fill-pointer", PACKAGE_SYS, true)
+  private static final LispObject _SET_FILL_POINTER =
+    autoloadPrimitive("%set-fill-pointer", PACKAGE_SYS, true, "pf__set_fill_pointer");
+
+  static final class pf__set_fill_pointer extends Primitive
+  {
+    pf__set_fill_pointer()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
+      super("%set-fill-pointer", PACKAGE_SYS, true);
+    }
 
-          if (first instanceof LispVector) {
-            LispVector v = (LispVector) first;
-            if (v.hasFillPointer())
-              v.setFillPointer(second);
-            else
-              v.noFillPointer();
-            return second;
-          }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
 
-            return type_error(first, list(SymbolConstants.AND, SymbolConstants.VECTOR,
-                                                list(SymbolConstants.SATISFIES,
-                                                      SymbolConstants.ARRAY_HAS_FILL_POINTER_P)));          
-      }
-    };
+        if (first instanceof LispVector) {
+          LispVector v = (LispVector) first;
+          if (v.hasFillPointer())
+            v.setFillPointer(second);
+          else
+            v.noFillPointer();
+          return second;
+        }
+
+          return type_error(first, list(SymbolConstants.AND, SymbolConstants.VECTOR,
+                                              list(SymbolConstants.SATISFIES,
+                                                    SymbolConstants.ARRAY_HAS_FILL_POINTER_P)));          
+    }
+  }
 
   // ### vector-push new-element vector => index-of-new-element
-  private static final Primitive VECTOR_PUSH =
-    new Primitive(SymbolConstants.VECTOR_PUSH, "new-element vector")
+  private static final LispObject VECTOR_PUSH =
+    autoloadPrimitive(SymbolConstants.VECTOR_PUSH, "pf_vector_push");
+
+  static final class pf_vector_push extends Primitive
+  {
+    pf_vector_push()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final LispVector v = checkVector(second);
-        int fillPointer = v.getFillPointer();
-        if (fillPointer < 0)
-          v.noFillPointer();
-        if (fillPointer >= v.capacity())
-          return NIL;
-        v.aset(fillPointer, first);
-        v.setFillPointer(fillPointer + 1);
-        return Fixnum.makeFixnum(fillPointer);
-      }
-    };
+      super(SymbolConstants.VECTOR_PUSH, "new-element vector");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final LispVector v = checkVector(second);
+      int fillPointer = v.getFillPointer();
+      if (fillPointer < 0)
+        v.noFillPointer();
+      if (fillPointer >= v.capacity())
+        return NIL;
+      v.aset(fillPointer, first);
+      v.setFillPointer(fillPointer + 1);
+      return Fixnum.makeFixnum(fillPointer);
+    }
+  }
 
   // ### vector-push-extend new-element vector &optional extension
   // => index-of-new-element
-  private static final Primitive VECTOR_PUSH_EXTEND =
-    new Primitive(SymbolConstants.VECTOR_PUSH_EXTEND,
-                  "new-element vector &optional extension")
+  private static final LispObject VECTOR_PUSH_EXTEND =
+    autoloadPrimitive(SymbolConstants.VECTOR_PUSH_EXTEND, "pf_vector_push_extend");
+
+  static final class pf_vector_push_extend extends Primitive
+  {
+    pf_vector_push_extend()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return second.VECTOR_PUSH_EXTEND(first);
-      }
+      super(SymbolConstants.VECTOR_PUSH_EXTEND, "new-element vector &optional extension");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return second.VECTOR_PUSH_EXTEND(first);
+    }
 
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        return second.VECTOR_PUSH_EXTEND(first, third);
-      }
-    };
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      return second.VECTOR_PUSH_EXTEND(first, third);
+    }
+  }
 
   // ### vector-pop vector => element
-  private static final Primitive VECTOR_POP =
-    new Primitive(SymbolConstants.VECTOR_POP, "vector")
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final LispVector v = checkVector( arg);
-        int fillPointer = v.getFillPointer();
-        if (fillPointer < 0)
-          v.noFillPointer();
-        if (fillPointer == 0)
-          error(new LispError("nothing left to pop"));
-        int newFillPointer = v.checkIndex(fillPointer - 1);
-        LispObject element = v.AREF(newFillPointer);
-        v.setFillPointer(newFillPointer);
-        return element;
-      }
-    };
+  private static final LispObject VECTOR_POP =
+    autoloadPrimitive(SymbolConstants.VECTOR_POP, "pf_vector_pop");
+
+  static final class pf_vector_pop extends Primitive
+  {
+    pf_vector_pop()
+    {
+      super(SymbolConstants.VECTOR_POP, "vector");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final LispVector v = checkVector( arg);
+      int fillPointer = v.getFillPointer();
+      if (fillPointer < 0)
+        v.noFillPointer();
+      if (fillPointer == 0)
+        error(new LispError("nothing left to pop"));
+      int newFillPointer = v.checkIndex(fillPointer - 1);
+      LispObject element = v.AREF(newFillPointer);
+      v.setFillPointer(newFillPointer);
+      return element;
+    }
+  }
 
   // ### type-of
-  private static final Primitive TYPE_OF =
-    new Primitive(SymbolConstants.TYPE_OF, "object")
+  private static final LispObject TYPE_OF =
+    autoloadPrimitive(SymbolConstants.TYPE_OF, "pf_type_of");
+
+  static final class pf_type_of extends Primitive
+  {
+    pf_type_of()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.typeOf();
-      }
-    };
+      super(SymbolConstants.TYPE_OF, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.typeOf();
+    }
+  }
 
   // ### class-of
-  private static final Primitive CLASS_OF =
-    new Primitive(SymbolConstants.CLASS_OF, "object")
+  private static final LispObject CLASS_OF =
+    autoloadPrimitive(SymbolConstants.CLASS_OF, "pf_class_of");
+
+  static final class pf_class_of extends Primitive
+  {
+    pf_class_of()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.classOf();
-      }
-    };
+      super(SymbolConstants.CLASS_OF, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.classOf();
+    }
+  }
 
   // ### simple-typep
-  private static final Primitive SIMPLE_TYPEP =
-    new Primitive("simple-typep", PACKAGE_SYS, true)
+  private static final LispObject SIMPLE_TYPEP =
+    autoloadPrimitive("simple-typep", PACKAGE_SYS, true, "pf_simple_typep");
+
+  static final class pf_simple_typep extends Primitive
+  {
+    pf_simple_typep()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return first.typep(second);
-      }
-    };
+      super("simple-typep", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return first.typep(second);
+    }
+  }
 
   // ### function-lambda-expression function =>
   // lambda-expression, closure-p, name
-  private static final Primitive FUNCTION_LAMBDA_EXPRESSION =
-    new Primitive(SymbolConstants.FUNCTION_LAMBDA_EXPRESSION, "function")
+  private static final LispObject FUNCTION_LAMBDA_EXPRESSION =
+    autoloadPrimitive(SymbolConstants.FUNCTION_LAMBDA_EXPRESSION, "pf_function_lambda_expression");
+
+  static final class pf_function_lambda_expression extends Primitive
+  {
+    pf_function_lambda_expression()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final LispObject value1, value2, value3;
-        if (arg instanceof CompiledClosure)
-          {
-            value1 = NIL;
-            value2 = T;
-            LispObject name = ((CompiledClosure)arg).getLambdaName();
-            value3 = name != null ? name : NIL;
-          }
-        else if (arg instanceof Closure)
-          {
-            Closure closure = (Closure) arg;
-            LispObject expr = closure.getBody();
-            expr = makeCons(closure.getLambdaList(), expr);
-            expr = makeCons(SymbolConstants.LAMBDA, expr);
-            value1 = expr;
-            Environment env = closure.getEnvironment();
-            if (env == null || env.isEmpty())
-              value2 = NIL;
-            else
-              value2 = env; // Return environment as closure-p.
-            LispObject name = ((Closure)arg).getLambdaName();
-            value3 = name != null ? name : NIL;
-          }
-        else if (arg instanceof Function)
-          {
-            value1 = NIL;
-            value2 = T;
-            value3 = ((Function)arg).getLambdaName();
-          }
-        else if (arg instanceof StandardGenericFunction)
-          {
-            value1 = NIL;
-            value2 = T;
-            value3 = ((StandardGenericFunction)arg).getGenericFunctionName();
-          }
-        else
-          return type_error(arg, SymbolConstants.FUNCTION);
-        return LispThread.currentThread().setValues(value1, value2, value3);
-      }
-    };
+      super(SymbolConstants.FUNCTION_LAMBDA_EXPRESSION, "function");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final LispObject value1, value2, value3;
+      if (arg instanceof CompiledClosure)
+        {
+          value1 = NIL;
+          value2 = T;
+          LispObject name = ((CompiledClosure)arg).getLambdaName();
+          value3 = name != null ? name : NIL;
+        }
+      else if (arg instanceof Closure)
+        {
+          Closure closure = (Closure) arg;
+          LispObject expr = closure.getBody();
+          expr = makeCons(closure.getLambdaList(), expr);
+          expr = makeCons(SymbolConstants.LAMBDA, expr);
+          value1 = expr;
+          Environment env = closure.getEnvironment();
+          if (env == null || env.isEmpty())
+            value2 = NIL;
+          else
+            value2 = env; // Return environment as closure-p.
+          LispObject name = ((Closure)arg).getLambdaName();
+          value3 = name != null ? name : NIL;
+        }
+      else if (arg instanceof Function)
+        {
+          value1 = NIL;
+          value2 = T;
+          value3 = ((Function)arg).getLambdaName();
+        }
+      else if (arg instanceof StandardGenericFunction)
+        {
+          value1 = NIL;
+          value2 = T;
+          value3 = ((StandardGenericFunction)arg).getGenericFunctionName();
+        }
+      else
+        return type_error(arg, SymbolConstants.FUNCTION);
+      return LispThread.currentThread().setValues(value1, value2, value3);
+    }
+  }
 
   // ### funcall
   // This needs to be public for LispAPI.java.
-  public static final Primitive FUNCALL =
-    new Primitive(SymbolConstants.FUNCALL, "function &rest args")
-    {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(arg);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second, third);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second, third,
-                                                  fourth);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth,
-                                LispObject fifth)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second, third,
-                                                  fourth, fifth);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth,
-                                LispObject fifth, LispObject sixth)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second, third,
-                                                  fourth, fifth, sixth);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth,
-                                LispObject fifth, LispObject sixth,
-                                LispObject seventh)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second, third,
-                                                  fourth, fifth, sixth,
-                                                  seventh);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth,
-                                LispObject fifth, LispObject sixth,
-                                LispObject seventh, LispObject eigth)
-        throws ConditionThrowable
-      {
-        return LispThread.currentThread().execute(first, second, third,
-                                                  fourth, fifth, sixth,
-                                                  seventh, eigth);
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        final int length = args.length - 1; // Number of arguments.
-        if (length == 8)
-          {
-            return LispThread.currentThread().execute(args[0], args[1],
-                                                      args[2], args[3],
-                                                      args[4], args[5],
-                                                      args[6], args[7],
-                                                      args[8]);
-          }
-        else
-          {
-            LispObject[] newArgs = new LispObject[length];
-            System.arraycopy(args, 1, newArgs, 0, length);
-            return LispThread.currentThread().execute(args[0], newArgs);
-          }
-      }
-    };
+  public static final Primitive FUNCALL = new pf_funcall();
+
+  static final class pf_funcall extends Primitive
+  {
+    pf_funcall()
+    {
+      super(SymbolConstants.FUNCALL, "function &rest args");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(arg);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second, third);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second, third,
+                                                fourth);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second, third,
+                                                fourth, fifth);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second, third,
+                                                fourth, fifth, sixth);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth,
+                              LispObject seventh)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second, third,
+                                                fourth, fifth, sixth,
+                                                seventh);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth, LispObject sixth,
+                              LispObject seventh, LispObject eigth)
+      throws ConditionThrowable
+    {
+      return LispThread.currentThread().execute(first, second, third,
+                                                fourth, fifth, sixth,
+                                                seventh, eigth);
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      final int length = args.length - 1; // Number of arguments.
+      if (length == 8)
+        {
+          return LispThread.currentThread().execute(args[0], args[1],
+                                                    args[2], args[3],
+                                                    args[4], args[5],
+                                                    args[6], args[7],
+                                                    args[8]);
+        }
+      else
+        {
+          LispObject[] newArgs = new LispObject[length];
+          System.arraycopy(args, 1, newArgs, 0, length);
+          return LispThread.currentThread().execute(args[0], newArgs);
+        }
+    }
+  }
 
   // ### apply
   public static final Primitive APPLY =
@@ -2698,746 +3428,908 @@ public final class Primitives extends LispFile
     };
 
   // ### mapcar
-  private static final Primitive MAPCAR =
-    new Primitive(SymbolConstants.MAPCAR, "function &rest lists")
-    {
-      @Override
-      public LispObject execute(LispObject fun, LispObject list)
-        throws ConditionThrowable
-      {
-        final LispThread thread = LispThread.currentThread();
-        LispObject result = NIL;
-        Cons splice = null;
-        while (list != NIL)
-          {
-            Cons cons;
-            if (list instanceof Cons)
-                cons = (Cons) list;
-            else
-                return type_error(list, SymbolConstants.LIST);
-            LispObject obj = thread.execute(fun, cons.CAR());
-            if (splice == null)
-              {
-                splice = makeCons(obj, result);
-                result = splice;
-              }
-            else
-              {
-                Cons c = makeCons(obj);
-                splice.setCdr(c);
-                splice = c;
-              }
-            list = cons.CDR();
-          }
-        thread._values = null;
-        return result;
-      }
-      @Override
-      public LispObject execute(LispObject fun, LispObject list1,
-                                LispObject list2)
-        throws ConditionThrowable
-      {
-        final LispThread thread = LispThread.currentThread();
-        LispObject result = NIL;
-        Cons splice = null;
-        while (list1 != NIL && list2 != NIL)
-          {
-            LispObject obj =
-              thread.execute(fun, list1.CAR(), list2.CAR());
-            if (splice == null)
-              {
-                splice = makeCons(obj, result);
-                result = splice;
-              }
-            else
-              {
-                Cons cons = makeCons(obj);
-                splice.setCdr(cons);
-                splice = cons;
-              }
-            list1 = list1.CDR();
-            list2 = list2.CDR();
-          }
-        thread._values = null;
-        return result;
-      }
-      @Override
-      public LispObject execute(final LispObject[] args)
-        throws ConditionThrowable
-      {
-        final int numArgs = args.length;
-        if (numArgs < 2)
-          return error(new WrongNumberOfArgumentsException(this));
-        int commonLength = -1;
-        for (int i = 1; i < numArgs; i++)
-          {
-            if (!args[i].isList())
-              type_error(args[i], SymbolConstants.LIST);
-            int len = args[i].size();
-            if (commonLength < 0)
-              commonLength = len;
-            else if (commonLength > len)
-              commonLength = len;
-          }
-        final LispThread thread = LispThread.currentThread();
-        LispObject[] results = new LispObject[commonLength];
-        final int numFunArgs = numArgs - 1;
-        final LispObject[] funArgs = new LispObject[numFunArgs];
-        for (int i = 0; i < commonLength; i++)
-          {
-            for (int j = 0; j < numFunArgs; j++)
-              funArgs[j] = args[j+1].CAR();
-            results[i] = funcall(args[0], funArgs, thread);
-            for (int j = 1; j < numArgs; j++)
-              args[j] = args[j].CDR();
-          }
-        thread._values = null;
-        LispObject result = NIL;
-        for (int i = commonLength; i-- > 0;)
-          result = makeCons(results[i], result);
-        return result;
-      }
-    };
+  private static final LispObject MAPCAR =
+    autoloadPrimitive(SymbolConstants.MAPCAR, "pf_mapcar");
 
-  // ### mapc
-  private static final Primitive MAPC =
-    new Primitive(SymbolConstants.MAPC, "function &rest lists")
-    {
-      @Override
-      public LispObject execute(LispObject fun, LispObject list)
-        throws ConditionThrowable
-      {
-        final LispThread thread = LispThread.currentThread();
-        LispObject result = list;
-        while (list != NIL)
-          {
-            Cons cons;
-            if (list instanceof Cons)
-                cons = (Cons) list;
-            else
-                return type_error(list, SymbolConstants.LIST);
-            thread.execute(fun, cons.CAR());
-            list = cons.CDR();
-          }
-        thread._values = null;
-        return result;
-      }
-      @Override
-      public LispObject execute(LispObject fun, LispObject list1,
-                                LispObject list2)
-        throws ConditionThrowable
-      {
-        final LispThread thread = LispThread.currentThread();
-        LispObject result = list1;
-        while (list1 != NIL && list2 != NIL)
-          {
+  static final class pf_mapcar extends Primitive
+  {
+    pf_mapcar()
+    {
+      super(SymbolConstants.MAPCAR, "function &rest lists");
+    }
+
+    @Override
+    public LispObject execute(LispObject fun, LispObject list)
+      throws ConditionThrowable
+    {
+      final LispThread thread = LispThread.currentThread();
+      LispObject result = NIL;
+      Cons splice = null;
+      while (list != NIL)
+        {
+          Cons cons;
+          if (list instanceof Cons)
+              cons = (Cons) list;
+          else
+              return type_error(list, SymbolConstants.LIST);
+          LispObject obj = thread.execute(fun, cons.CAR());
+          if (splice == null)
+            {
+              splice = makeCons(obj, result);
+              result = splice;
+            }
+          else
+            {
+              Cons c = makeCons(obj);
+              splice.setCdr(c);
+              splice = c;
+            }
+          list = cons.CDR();
+        }
+      thread._values = null;
+      return result;
+    }
+    @Override
+    public LispObject execute(LispObject fun, LispObject list1,
+                              LispObject list2)
+      throws ConditionThrowable
+    {
+      final LispThread thread = LispThread.currentThread();
+      LispObject result = NIL;
+      Cons splice = null;
+      while (list1 != NIL && list2 != NIL)
+        {
+          LispObject obj =
             thread.execute(fun, list1.CAR(), list2.CAR());
-            list1 = ((Cons)list1).CDR();
-            list2 = ((Cons)list2).CDR();
-          }
-        thread._values = null;
-        return result;
-      }
-      @Override
-      public LispObject execute(final LispObject[] args)
-        throws ConditionThrowable
-      {
-        final int numArgs = args.length;
-        if (numArgs < 2)
-          return error(new WrongNumberOfArgumentsException(this));
-        int commonLength = -1;
-        for (int i = 1; i < numArgs; i++)
-          {
-            if (!args[i].isList())
-              type_error(args[i], SymbolConstants.LIST);
-            int len = args[i].size();
-            if (commonLength < 0)
-              commonLength = len;
-            else if (commonLength > len)
-              commonLength = len;
-          }
-        final LispThread thread = LispThread.currentThread();
-        LispObject result = args[1];
-        final int numFunArgs = numArgs - 1;
-        final LispObject[] funArgs = new LispObject[numFunArgs];
-        for (int i = 0; i < commonLength; i++)
-          {
-            for (int j = 0; j < numFunArgs; j++)
-              funArgs[j] = args[j+1].CAR();
-            funcall(args[0], funArgs, thread);
-            for (int j = 1; j < numArgs; j++)
-              args[j] = args[j].CDR();
-          }
-        thread._values = null;
-        return result;
-      }
-    };
+          if (splice == null)
+            {
+              splice = makeCons(obj, result);
+              result = splice;
+            }
+          else
+            {
+              Cons cons = makeCons(obj);
+              splice.setCdr(cons);
+              splice = cons;
+            }
+          list1 = list1.CDR();
+          list2 = list2.CDR();
+        }
+      thread._values = null;
+      return result;
+    }
+    @Override
+    public LispObject execute(final LispObject[] args)
+      throws ConditionThrowable
+    {
+      final int numArgs = args.length;
+      if (numArgs < 2)
+        return error(new WrongNumberOfArgumentsException(this));
+      int commonLength = -1;
+      for (int i = 1; i < numArgs; i++)
+        {
+          if (!args[i].isList())
+            type_error(args[i], SymbolConstants.LIST);
+          int len = args[i].size();
+          if (commonLength < 0)
+            commonLength = len;
+          else if (commonLength > len)
+            commonLength = len;
+        }
+      final LispThread thread = LispThread.currentThread();
+      LispObject[] results = new LispObject[commonLength];
+      final int numFunArgs = numArgs - 1;
+      final LispObject[] funArgs = new LispObject[numFunArgs];
+      for (int i = 0; i < commonLength; i++)
+        {
+          for (int j = 0; j < numFunArgs; j++)
+            funArgs[j] = args[j+1].CAR();
+          results[i] = funcall(args[0], funArgs, thread);
+          for (int j = 1; j < numArgs; j++)
+            args[j] = args[j].CDR();
+        }
+      thread._values = null;
+      LispObject result = NIL;
+      for (int i = commonLength; i-- > 0;)
+        result = makeCons(results[i], result);
+      return result;
+    }
+  }
+
+  // ### mapc
+  private static final LispObject MAPC =
+    autoloadPrimitive(SymbolConstants.MAPC, "pf_mapc");
+
+  static final class pf_mapc extends Primitive
+  {
+    pf_mapc()
+    {
+      super(SymbolConstants.MAPC, "function &rest lists");
+    }
+
+    @Override
+    public LispObject execute(LispObject fun, LispObject list)
+      throws ConditionThrowable
+    {
+      final LispThread thread = LispThread.currentThread();
+      LispObject result = list;
+      while (list != NIL)
+        {
+          Cons cons;
+          if (list instanceof Cons)
+              cons = (Cons) list;
+          else
+              return type_error(list, SymbolConstants.LIST);
+          thread.execute(fun, cons.CAR());
+          list = cons.CDR();
+        }
+      thread._values = null;
+      return result;
+    }
+    @Override
+    public LispObject execute(LispObject fun, LispObject list1,
+                              LispObject list2)
+      throws ConditionThrowable
+    {
+      final LispThread thread = LispThread.currentThread();
+      LispObject result = list1;
+      while (list1 != NIL && list2 != NIL)
+        {
+          thread.execute(fun, list1.CAR(), list2.CAR());
+          list1 = ((Cons)list1).CDR();
+          list2 = ((Cons)list2).CDR();
+        }
+      thread._values = null;
+      return result;
+    }
+    @Override
+    public LispObject execute(final LispObject[] args)
+      throws ConditionThrowable
+    {
+      final int numArgs = args.length;
+      if (numArgs < 2)
+        return error(new WrongNumberOfArgumentsException(this));
+      int commonLength = -1;
+      for (int i = 1; i < numArgs; i++)
+        {
+          if (!args[i].isList())
+            type_error(args[i], SymbolConstants.LIST);
+          int len = args[i].size();
+          if (commonLength < 0)
+            commonLength = len;
+          else if (commonLength > len)
+            commonLength = len;
+        }
+      final LispThread thread = LispThread.currentThread();
+      LispObject result = args[1];
+      final int numFunArgs = numArgs - 1;
+      final LispObject[] funArgs = new LispObject[numFunArgs];
+      for (int i = 0; i < commonLength; i++)
+        {
+          for (int j = 0; j < numFunArgs; j++)
+            funArgs[j] = args[j+1].CAR();
+          funcall(args[0], funArgs, thread);
+          for (int j = 1; j < numArgs; j++)
+            args[j] = args[j].CDR();
+        }
+      thread._values = null;
+      return result;
+    }
+  }
+
+  // ### macroexpand
+  private static final LispObject MACROEXPAND =
+    autoloadPrimitive(SymbolConstants.MACROEXPAND, "pf_macroexpand");
+
+  static final class pf_macroexpand extends Primitive
+  {
+    pf_macroexpand()
+    {
+      super(SymbolConstants.MACROEXPAND, "form &optional env");
+    }
+
+    @Override
+    public LispObject execute(LispObject form) throws ConditionThrowable
+    {
+      return macroexpand(form,
+                         new Environment(),
+                         LispThread.currentThread());
+    }
+    @Override
+    public LispObject execute(LispObject form, LispObject env)
+      throws ConditionThrowable
+    {
+      return macroexpand(form,
+                         env != NIL ? checkEnvironment(env) : new Environment(),
+                         LispThread.currentThread());
+    }
+  }
 
-  // ### macroexpand
-  private static final Primitive MACROEXPAND =
-    new Primitive(SymbolConstants.MACROEXPAND, "form &optional env")
+  // ### macroexpand-1
+  private static final LispObject MACROEXPAND_1 =
+    autoloadPrimitive(SymbolConstants.MACROEXPAND_1, "pf_macroexpand_1");
+
+  static final class pf_macroexpand_1 extends Primitive
+  {
+    pf_macroexpand_1()
     {
-      @Override
-      public LispObject execute(LispObject form) throws ConditionThrowable
-      {
-        return macroexpand(form,
+      super(SymbolConstants.MACROEXPAND_1, "form &optional env");
+    }
+
+    @Override
+    public LispObject execute(LispObject form) throws ConditionThrowable
+    {
+      return macroexpand_1(form,
                            new Environment(),
                            LispThread.currentThread());
-      }
-      @Override
-      public LispObject execute(LispObject form, LispObject env)
-        throws ConditionThrowable
-      {
-        return macroexpand(form,
+    }
+    @Override
+    public LispObject execute(LispObject form, LispObject env)
+      throws ConditionThrowable
+    {
+      return macroexpand_1(form,
                            env != NIL ? checkEnvironment(env) : new Environment(),
                            LispThread.currentThread());
-      }
-    };
+    }
+  }
 
-  // ### macroexpand-1
-  private static final Primitive MACROEXPAND_1 =
-    new Primitive(SymbolConstants.MACROEXPAND_1, "form &optional env")
+  // ### gensym
+  private static final LispObject GENSYM =
+    autoloadPrimitive(SymbolConstants.GENSYM, "pf_gensym");
+
+  static final class pf_gensym extends Primitive
+  {
+    pf_gensym()
     {
-      @Override
-      public LispObject execute(LispObject form) throws ConditionThrowable
-      {
-        return macroexpand_1(form,
-                             new Environment(),
-                             LispThread.currentThread());
-      }
-      @Override
-      public LispObject execute(LispObject form, LispObject env)
-        throws ConditionThrowable
-      {
-        return macroexpand_1(form,
-                             env != NIL ? checkEnvironment(env) : new Environment(),
-                             LispThread.currentThread());
-      }
-    };
+      super(SymbolConstants.GENSYM, "&optional x");
+    }
 
-  // ### gensym
-  private static final Primitive GENSYM =
-    new Primitive(SymbolConstants.GENSYM, "&optional x")
+    @Override
+    public LispObject execute() throws ConditionThrowable
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return gensym("G", LispThread.currentThread());
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg  instanceof Fixnum)
-          {
-            int n = arg.intValue();
-            if (n >= 0)
-              {
-                FastStringBuffer sb = new FastStringBuffer('G');
-                sb.append(n); // Decimal representation.
-                return Lisp.makeSymbol(new SimpleString(sb));
-              }
-          }
-        else if (arg  instanceof Bignum)
-          {
-            BigInteger n = arg.bigIntegerValue();
-            if (n.signum() >= 0)
-              {
-                FastStringBuffer sb = new FastStringBuffer('G');
-                sb.append(n.toString()); // Decimal representation.
-                return makeSymbol(new SimpleString(sb));
-              }
-          }
-        else if (arg instanceof AbstractString)
-          return gensym(arg.getStringValue(), LispThread.currentThread());
-        return type_error(arg,
-                               list(SymbolConstants.OR,
-                                     SymbolConstants.STRING,
-                                     SymbolConstants.UNSIGNED_BYTE));
-      }
-    };
+      return gensym("G", LispThread.currentThread());
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg  instanceof Fixnum)
+        {
+          int n = arg.intValue();
+          if (n >= 0)
+            {
+              FastStringBuffer sb = new FastStringBuffer('G');
+              sb.append(n); // Decimal representation.
+              return Lisp.makeSymbol(new SimpleString(sb));
+            }
+        }
+      else if (arg  instanceof Bignum)
+        {
+          BigInteger n = arg.bigIntegerValue();
+          if (n.signum() >= 0)
+            {
+              FastStringBuffer sb = new FastStringBuffer('G');
+              sb.append(n.toString()); // Decimal representation.
+              return makeSymbol(new SimpleString(sb));
+            }
+        }
+      else if (arg instanceof AbstractString)
+        return gensym(arg.getStringValue(), LispThread.currentThread());
+      return type_error(arg,
+                             list(SymbolConstants.OR,
+                                   SymbolConstants.STRING,
+                                   SymbolConstants.UNSIGNED_BYTE));
+    }
+  }
 
   // ### string
-  private static final Primitive STRING = new Primitive(SymbolConstants.STRING, "x")
+  private static final LispObject STRING =
+    autoloadPrimitive(SymbolConstants.STRING, "pf_string");
+
+  static final class pf_string extends Primitive
+  {
+    pf_string()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.STRING();
-      }
-    };
+      super(SymbolConstants.STRING, "x");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.STRING();
+    }
+  }
 
   // ### intern string &optional package => symbol, status
   // STATUS is one of :INHERITED, :EXTERNAL, :INTERNAL or NIL.
   // "It is implementation-dependent whether the string that becomes the new
   // symbol's name is the given string or a copy of it."
-  private static final Primitive INTERN =
-    new Primitive(SymbolConstants.INTERN, "string &optional package")
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final SimpleString s;
-        if (arg instanceof SimpleString)
-          s = (SimpleString) arg;
-        else
-          s = new SimpleString(arg.getStringValue());
-        final LispThread thread = LispThread.currentThread();
-        LispPackage pkg = (LispPackage) SymbolConstants._PACKAGE_.symbolValue(thread);
-        return pkg.intern(s, thread);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final SimpleString s;
-        if (first instanceof SimpleString)
-          s = (SimpleString) first;
-        else
-          s = new SimpleString(first.getStringValue());
-        LispPackage pkg = coerceToPackage(second);
-        return pkg.intern(s, LispThread.currentThread());
-      }
-    };
+  private static final LispObject INTERN =
+    autoloadPrimitive(SymbolConstants.INTERN, "pf_intern");
+
+  static final class pf_intern extends Primitive
+  {
+    pf_intern()
+    {
+      super(SymbolConstants.INTERN, "string &optional package");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final SimpleString s;
+      if (arg instanceof SimpleString)
+        s = (SimpleString) arg;
+      else
+        s = new SimpleString(arg.getStringValue());
+      final LispThread thread = LispThread.currentThread();
+      LispPackage pkg = (LispPackage) SymbolConstants._PACKAGE_.symbolValue(thread);
+      return pkg.intern(s, thread);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final SimpleString s;
+      if (first instanceof SimpleString)
+        s = (SimpleString) first;
+      else
+        s = new SimpleString(first.getStringValue());
+      LispPackage pkg = coerceToPackage(second);
+      return pkg.intern(s, LispThread.currentThread());
+    }
+  }
 
   // ### unintern
   // unintern symbol &optional package => generalized-boolean
-  private static final Primitive UNINTERN =
-    new Primitive(SymbolConstants.UNINTERN, "symbol &optional package")
+  private static final LispObject UNINTERN =
+    autoloadPrimitive(SymbolConstants.UNINTERN, "pf_unintern");
+
+  static final class pf_unintern extends Primitive
+  {
+    pf_unintern()
     {
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        if (args.length == 0 || args.length > 2)
-          return error(new WrongNumberOfArgumentsException(this));
-        Symbol symbol = checkSymbol(args[0]);
-        LispPackage pkg;
-        if (args.length == 2)
-          pkg = coerceToPackage(args[1]);
-        else
-          pkg = getCurrentPackage();
-        return pkg.unintern(symbol);
-      }
-    };
+      super(SymbolConstants.UNINTERN, "symbol &optional package");
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      if (args.length == 0 || args.length > 2)
+        return error(new WrongNumberOfArgumentsException(this));
+      Symbol symbol = checkSymbol(args[0]);
+      LispPackage pkg;
+      if (args.length == 2)
+        pkg = coerceToPackage(args[1]);
+      else
+        pkg = getCurrentPackage();
+      return pkg.unintern(symbol);
+    }
+  }
 
   // ### find-package
-  private static final Primitive FIND_PACKAGE =
-    new Primitive(SymbolConstants.FIND_PACKAGE, "name")
+  private static final LispObject FIND_PACKAGE =
+    autoloadPrimitive(SymbolConstants.FIND_PACKAGE, "pf_find_package");
+
+  static final class pf_find_package extends Primitive
+  {
+    pf_find_package()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof LispPackage)
-          return arg;
-        if (arg instanceof AbstractString)
-          {
-            LispPackage pkg =
-              Packages.findPackage(arg.getStringValue());
-            return pkg != null ? pkg : NIL;
-          }
-        if (arg instanceof Symbol)
-          {
-            LispPackage pkg = Packages.findPackage(checkSymbol(arg).getName());
-            return pkg != null ? pkg : NIL;
-          }
-        if (arg instanceof LispCharacter)
-          {
-            String packageName =
-              String.valueOf(new char[] {((LispCharacter)arg).charValue()});
-            LispPackage pkg = Packages.findPackage(packageName);
-            return pkg != null ? pkg : NIL;
-          }
-        return NIL;
-      }
-    };
+      super(SymbolConstants.FIND_PACKAGE, "name");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof LispPackage)
+        return arg;
+      if (arg instanceof AbstractString)
+        {
+          LispPackage pkg =
+            Packages.findPackage(arg.getStringValue());
+          return pkg != null ? pkg : NIL;
+        }
+      if (arg instanceof Symbol)
+        {
+          LispPackage pkg = Packages.findPackage(checkSymbol(arg).getName());
+          return pkg != null ? pkg : NIL;
+        }
+      if (arg instanceof LispCharacter)
+        {
+          String packageName =
+            String.valueOf(new char[] {((LispCharacter)arg).charValue()});
+          LispPackage pkg = Packages.findPackage(packageName);
+          return pkg != null ? pkg : NIL;
+        }
+      return NIL;
+    }
+  }
 
   // ### %make-package
   // %make-package package-name nicknames use => package
-  private static final Primitive _MAKE_PACKAGE =
-    new Primitive("%make-package", PACKAGE_SYS, false)
-    {
-      /**
-       * This invocation is solely used to be able to create
-       * a package to bind to *FASL-ANONYMOUS-PACKAGE*
-       */
-      @Override
-      public LispObject execute()
-        throws ConditionThrowable
-      {
-        return new LispPackage();
-      }
+  private static final LispObject _MAKE_PACKAGE =
+    autoloadPrimitive("%make-package", PACKAGE_SYS, false, "pf__make_package");
 
-      /**
-       * This invocation is used by MAKE-PACKAGE to create a package
-       */
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        String packageName = javaString(first);
-        LispPackage pkg = Packages.findPackage(packageName);
-        if (pkg != null)
-          error(new LispError("Package " + packageName +
-                               " already exists."));
-        LispObject nicknames = checkList(second);
-        if (nicknames != NIL)
-          {
-            LispObject list = nicknames;
-            while (list != NIL)
-              {
-                String nick = javaString(list.CAR());
-                if (Packages.findPackage(nick) != null)
-                  {
-                    error(new PackageError("A package named " + nick +
-                                            " already exists."));
-                  }
-                list = list.CDR();
-              }
-          }
-        LispObject use = checkList(third);
-        if (use != NIL)
-          {
-            LispObject list = use;
-            while (list != NIL)
-              {
-                LispObject obj = list.CAR();
-                if (obj instanceof LispPackage) {
-                  // OK.
-                } else
-                  {
-                    String s = javaString(obj);
-                    LispPackage p = Packages.findPackage(s);
-                    if (p == null)
-                      {
-                        error(new LispError(obj.writeToString() +
-                                             " is not the name of a package."));
-                        return NIL;
-                      }
-                  }
-                list = list.CDR();
-              }
-          }
-        // Now create the package.
-        pkg = Packages.createPackage(packageName);
-        // Add the nicknames.
-        while (nicknames != NIL)
-          {
-            String nick = javaString(nicknames.CAR());
-            pkg.addNickname(nick);
-            nicknames = nicknames.CDR();
-          }
-        // Create the use list.
-        while (use != NIL)
-          {
-            LispObject obj = use.CAR();
-            if (obj instanceof LispPackage)
-              pkg.usePackage((LispPackage)obj);
-            else
-              {
-                String s = javaString(obj);
-                LispPackage p = Packages.findPackage(s);
-                if (p == null)
-                  {
-                    error(new LispError(obj.writeToString() +
-                                         " is not the name of a package."));
-                    return NIL;
-                  }
-                pkg.usePackage(p);
-              }
-            use = use.CDR();
-          }
-        return pkg;
-      }
-    };
+  static final class pf__make_package extends Primitive
+  {
+    pf__make_package()
+    {
+      super("%make-package", PACKAGE_SYS, false);
+    }
+
+    /**
+     * This invocation is solely used to be able to create
+     * a package to bind to *FASL-ANONYMOUS-PACKAGE*
+     */
+    @Override
+    public LispObject execute()
+      throws ConditionThrowable
+    {
+      return new LispPackage();
+    }
+
+    /**
+     * This invocation is used by MAKE-PACKAGE to create a package
+     */
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      String packageName = javaString(first);
+      LispPackage pkg = Packages.findPackage(packageName);
+      if (pkg != null)
+        error(new LispError("Package " + packageName +
+                             " already exists."));
+      LispObject nicknames = checkList(second);
+      if (nicknames != NIL)
+        {
+          LispObject list = nicknames;
+          while (list != NIL)
+            {
+              String nick = javaString(list.CAR());
+              if (Packages.findPackage(nick) != null)
+                {
+                  error(new PackageError("A package named " + nick +
+                                          " already exists."));
+                }
+              list = list.CDR();
+            }
+        }
+      LispObject use = checkList(third);
+      if (use != NIL)
+        {
+          LispObject list = use;
+          while (list != NIL)
+            {
+              LispObject obj = list.CAR();
+              if (obj instanceof LispPackage) {
+                // OK.
+              } else
+                {
+                  String s = javaString(obj);
+                  LispPackage p = Packages.findPackage(s);
+                  if (p == null)
+                    {
+                      error(new LispError(obj.writeToString() +
+                                           " is not the name of a package."));
+                      return NIL;
+                    }
+                }
+              list = list.CDR();
+            }
+        }
+      // Now create the package.
+      pkg = Packages.createPackage(packageName);
+      // Add the nicknames.
+      while (nicknames != NIL)
+        {
+          String nick = javaString(nicknames.CAR());
+          pkg.addNickname(nick);
+          nicknames = nicknames.CDR();
+        }
+      // Create the use list.
+      while (use != NIL)
+        {
+          LispObject obj = use.CAR();
+          if (obj instanceof LispPackage)
+            pkg.usePackage((LispPackage)obj);
+          else
+            {
+              String s = javaString(obj);
+              LispPackage p = Packages.findPackage(s);
+              if (p == null)
+                {
+                  error(new LispError(obj.writeToString() +
+                                       " is not the name of a package."));
+                  return NIL;
+                }
+              pkg.usePackage(p);
+            }
+          use = use.CDR();
+        }
+      return pkg;
+    }
+  }
 
   // ### %in-package
-  private static final Primitive _IN_PACKAGE =
-    new Primitive("%in-package", PACKAGE_SYS, true)
-    {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final String packageName = javaString(arg);
-        final LispPackage pkg = Packages.findPackage(packageName);
-        if (pkg == null)
-          return error(new PackageError("The name " + packageName +
-                                         " does not designate any package."));
-        SpecialBinding binding =
-          LispThread.currentThread().getSpecialBinding(SymbolConstants._PACKAGE_);
-        if (binding != null)
-          binding.value = pkg;
-        else
-          // No dynamic binding.
-          SymbolConstants._PACKAGE_.setSymbolValue(pkg);
-        return pkg;
-      }
-    };
+  private static final LispObject _IN_PACKAGE =
+    autoloadPrimitive("%in-package", PACKAGE_SYS, true, "pf__in_package");
+
+  static final class pf__in_package extends Primitive
+  {
+    pf__in_package()
+    {
+      super("%in-package", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final String packageName = javaString(arg);
+      final LispPackage pkg = Packages.findPackage(packageName);
+      if (pkg == null)
+        return error(new PackageError("The name " + packageName +
+                                       " does not designate any package."));
+      SpecialBinding binding =
+        LispThread.currentThread().getSpecialBinding(SymbolConstants._PACKAGE_);
+      if (binding != null)
+        binding.value = pkg;
+      else
+        // No dynamic binding.
+        SymbolConstants._PACKAGE_.setSymbolValue(pkg);
+      return pkg;
+    }
+  }
 
   // ### use-package packages-to-use &optional package => t
-  private static final Primitive USE_PACKAGE =
-    new Primitive(SymbolConstants.USE_PACKAGE, "packages-to-use &optional package")
+  private static final LispObject USE_PACKAGE =
+    autoloadPrimitive(SymbolConstants.USE_PACKAGE, "pf_use_package");
+
+  static final class pf_use_package extends Primitive
+  {
+    pf_use_package()
     {
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        if (args.length < 1 || args.length > 2)
-          return error(new WrongNumberOfArgumentsException(this));
-        LispPackage pkg;
-        if (args.length == 2)
-          pkg = coerceToPackage(args[1]);
-        else
-          pkg = getCurrentPackage();
-        if (args[0].isList())
-          {
-            LispObject list = args[0];
-            while (list != NIL)
-              {
-                pkg.usePackage(coerceToPackage(list.CAR()));
-                list = list.CDR();
-              }
-          }
-        else
-          pkg.usePackage(coerceToPackage(args[0]));
-        return T;
-      }
-    };
+      super(SymbolConstants.USE_PACKAGE, "packages-to-use &optional package");
+    }
+
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      if (args.length < 1 || args.length > 2)
+        return error(new WrongNumberOfArgumentsException(this));
+      LispPackage pkg;
+      if (args.length == 2)
+        pkg = coerceToPackage(args[1]);
+      else
+        pkg = getCurrentPackage();
+      if (args[0].isList())
+        {
+          LispObject list = args[0];
+          while (list != NIL)
+            {
+              pkg.usePackage(coerceToPackage(list.CAR()));
+              list = list.CDR();
+            }
+        }
+      else
+        pkg.usePackage(coerceToPackage(args[0]));
+      return T;
+    }
+  }
 
   // ### package-symbols
-  private static final Primitive PACKAGE_SYMBOLS =
-    new Primitive("package-symbols", PACKAGE_SYS, true)
+  private static final LispObject PACKAGE_SYMBOLS =
+    autoloadPrimitive("package-symbols", PACKAGE_SYS, true, "pf_package_symbols");
+
+  static final class pf_package_symbols extends Primitive
+  {
+    pf_package_symbols()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return coerceToPackage(arg).getSymbols();
-      }
-    };
+      super("package-symbols", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return coerceToPackage(arg).getSymbols();
+    }
+  }
 
   // ### package-internal-symbols
-  private static final Primitive PACKAGE_INTERNAL_SYMBOLS =
-    new Primitive("package-internal-symbols", PACKAGE_SYS, true)
+  private static final LispObject PACKAGE_INTERNAL_SYMBOLS =
+    autoloadPrimitive("package-internal-symbols", PACKAGE_SYS, true, "pf_package_internal_symbols");
+
+  static final class pf_package_internal_symbols extends Primitive
+  {
+    pf_package_internal_symbols()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return coerceToPackage(arg).PACKAGE_INTERNAL_SYMBOLS();
-      }
-    };
+      super("package-internal-symbols", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return coerceToPackage(arg).PACKAGE_INTERNAL_SYMBOLS();
+    }
+  }
 
   // ### package-external-symbols
-  private static final Primitive PACKAGE_EXTERNAL_SYMBOLS =
-    new Primitive("package-external-symbols", PACKAGE_SYS, true)
+  private static final LispObject PACKAGE_EXTERNAL_SYMBOLS =
+    autoloadPrimitive("package-external-symbols", PACKAGE_SYS, true, "pf_package_external_symbols");
+
+  static final class pf_package_external_symbols extends Primitive
+  {
+    pf_package_external_symbols()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return coerceToPackage(arg).PACKAGE_EXTERNAL_SYMBOLS();
-      }
-    };
+      super("package-external-symbols", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return coerceToPackage(arg).PACKAGE_EXTERNAL_SYMBOLS();
+    }
+  }
 
   // ### package-inherited-symbols
-  private static final Primitive PACKAGE_INHERITED_SYMBOLS =
-    new Primitive("package-inherited-symbols", PACKAGE_SYS, true)
+  private static final LispObject PACKAGE_INHERITED_SYMBOLS =
+    autoloadPrimitive("package-inherited-symbols", PACKAGE_SYS, true, "pf_package_inherited_symbols");
+
+  static final class pf_package_inherited_symbols extends Primitive
+  {
+    pf_package_inherited_symbols()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return coerceToPackage(arg).PACKAGE_INHERITED_SYMBOLS();
-      }
-    };
+      super("package-inherited-symbols", PACKAGE_SYS, true);
+    }
 
-  // ### export symbols &optional package
-  private static final Primitive EXPORT =
-    new Primitive(SymbolConstants.EXPORT, "symbols &optional package")
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final LispPackage pkg = (LispPackage) SymbolConstants._PACKAGE_.symbolValue();
-        if (arg instanceof Cons)
-          {
-            for (LispObject list = arg; list != NIL; list = list.CDR())
-              pkg.export(checkSymbol(list.CAR()));
-          }
-        else
-          pkg.export(checkSymbol(arg));
-        return T;
-      }
+      return coerceToPackage(arg).PACKAGE_INHERITED_SYMBOLS();
+    }
+  }
+
+  // ### export symbols &optional package
+  private static final LispObject EXPORT =
+    autoloadPrimitive(SymbolConstants.EXPORT, "pf_export");
+
+  static final class pf_export extends Primitive
+  {
+    pf_export()
+    {
+      super(SymbolConstants.EXPORT, "symbols &optional package");
+    }
 
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        if (first instanceof Cons)
-          {
-            LispPackage pkg = coerceToPackage(second);
-            for (LispObject list = first; list != NIL; list = list.CDR())
-              pkg.export(checkSymbol(list.CAR()));
-          }
-        else
-          coerceToPackage(second).export(checkSymbol(first));
-        return T;
-      }
-    };
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final LispPackage pkg = (LispPackage) SymbolConstants._PACKAGE_.symbolValue();
+      if (arg instanceof Cons)
+        {
+          for (LispObject list = arg; list != NIL; list = list.CDR())
+            pkg.export(checkSymbol(list.CAR()));
+        }
+      else
+        pkg.export(checkSymbol(arg));
+      return T;
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      if (first instanceof Cons)
+        {
+          LispPackage pkg = coerceToPackage(second);
+          for (LispObject list = first; list != NIL; list = list.CDR())
+            pkg.export(checkSymbol(list.CAR()));
+        }
+      else
+        coerceToPackage(second).export(checkSymbol(first));
+      return T;
+    }
+  }
 
   // ### find-symbol string &optional package => symbol, status
-  private static final Primitive FIND_SYMBOL =
-    new Primitive(SymbolConstants.FIND_SYMBOL, "string &optional package")
+  private static final LispObject FIND_SYMBOL =
+    autoloadPrimitive(SymbolConstants.FIND_SYMBOL, "pf_find_symbol");
+
+  static final class pf_find_symbol extends Primitive
+  {
+    pf_find_symbol()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return getCurrentPackage().findSymbol(arg.getStringValue());
-      }
+      super(SymbolConstants.FIND_SYMBOL, "string &optional package");
+    }
 
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return coerceToPackage(second).findSymbol(first.getStringValue());
-      }
-    };
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return getCurrentPackage().findSymbol(arg.getStringValue());
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return coerceToPackage(second).findSymbol(first.getStringValue());
+    }
+  }
 
   // ### fset name function &optional source-position arglist documentation
   // => function
-  private static final Primitive FSET =
-    new Primitive("fset", PACKAGE_SYS, true)
-    {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return execute(first, second, NIL, NIL, NIL);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        return execute(first, second, third, NIL, NIL);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth)
-        throws ConditionThrowable
-      {
-        return execute(first, second, third, fourth, NIL);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth,
-                                LispObject fifth)
-        throws ConditionThrowable
-      {
-        if (first instanceof Symbol)
-          {
-            checkRedefinition(first);
-            Symbol symbol = checkSymbol(first);
-            symbol.setSymbolFunction(second);
-            final LispThread thread = LispThread.currentThread();
-            LispObject sourcePathname = _SOURCE_.symbolValue(thread);
-            LispObject sourcePosition = third;
-            if (sourcePathname != NIL)
-              sourcePosition = _SOURCE_POSITION_.symbolValue(thread);
-            if (sourcePathname == NIL)
-              sourcePathname = Keyword.TOP_LEVEL;
-            if (sourcePathname != Keyword.TOP_LEVEL)
-            	Lisp.put(symbol, SymbolConstants._SOURCE, makeCons(sourcePathname, third));
-            else
-            	Lisp.put(symbol, SymbolConstants._SOURCE, sourcePathname);
-          }
-        else if (isValidSetfFunctionName(first))
-          {
-            // SETF function
-            checkRedefinition(first);
-            Symbol symbol = checkSymbol(first.CADR());
-            Lisp.put(symbol, SymbolConstants.SETF_FUNCTION, second);
-          }
-        else
-          return type_error(first, FUNCTION_NAME);
-        if (second instanceof Operator)
-          {
-            Operator op = (Operator) second;
-            op.setLambdaName(first);
-            if (fourth != NIL)
-              op.setLambdaList(fourth);
-            if (fifth != NIL)
-              op.setDocumentation(SymbolConstants.FUNCTION, fifth);
-          }
-        return second;
-      }
-    };
+  private static final LispObject FSET =
+    autoloadPrimitive("fset", PACKAGE_SYS, true, "pf_fset");
+
+  static final class pf_fset extends Primitive
+  {
+    pf_fset()
+    {
+      super("fset", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return execute(first, second, NIL, NIL, NIL);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      return execute(first, second, third, NIL, NIL);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+      throws ConditionThrowable
+    {
+      return execute(first, second, third, fourth, NIL);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth,
+                              LispObject fifth)
+      throws ConditionThrowable
+    {
+      if (first instanceof Symbol)
+        {
+          checkRedefinition(first);
+          Symbol symbol = checkSymbol(first);
+          symbol.setSymbolFunction(second);
+          final LispThread thread = LispThread.currentThread();
+          LispObject sourcePathname = _SOURCE_.symbolValue(thread);
+          LispObject sourcePosition = third;
+          if (sourcePathname != NIL)
+            sourcePosition = _SOURCE_POSITION_.symbolValue(thread);
+          if (sourcePathname == NIL)
+            sourcePathname = Keyword.TOP_LEVEL;
+          if (sourcePathname != Keyword.TOP_LEVEL)
+          	Lisp.put(symbol, SymbolConstants._SOURCE, makeCons(sourcePathname, third));
+          else
+          	Lisp.put(symbol, SymbolConstants._SOURCE, sourcePathname);
+        }
+      else if (isValidSetfFunctionName(first))
+        {
+          // SETF function
+          checkRedefinition(first);
+          Symbol symbol = checkSymbol(first.CADR());
+          Lisp.put(symbol, SymbolConstants.SETF_FUNCTION, second);
+        }
+      else
+        return type_error(first, FUNCTION_NAME);
+      if (second instanceof Operator)
+        {
+          Operator op = (Operator) second;
+          op.setLambdaName(first);
+          if (fourth != NIL)
+            op.setLambdaList(fourth);
+          if (fifth != NIL)
+            op.setDocumentation(SymbolConstants.FUNCTION, fifth);
+        }
+      return second;
+    }
+  }
 
   // ### %set-symbol-plist
-  private static final Primitive _SET_SYMBOL_PLIST =
-    new Primitive("%set-symbol-plist", PACKAGE_SYS, false)
+  private static final LispObject _SET_SYMBOL_PLIST =
+    autoloadPrimitive("%set-symbol-plist", PACKAGE_SYS, false, "pf__set_symbol_plist");
+
+  static final class pf__set_symbol_plist extends Primitive
+  {
+    pf__set_symbol_plist()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        checkSymbol(first).setPropertyList(checkList(second));
-        return second;
-      }
-    };
+      super("%set-symbol-plist", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      checkSymbol(first).setPropertyList(checkList(second));
+      return second;
+    }
+  }
 
   // ### getf plist indicator &optional default => value
-  private static final Primitive GETF =
-    new Primitive(SymbolConstants.GETF, "plist indicator &optional default")
+  private static final LispObject GETF =
+    autoloadPrimitive(SymbolConstants.GETF, "pf_getf");
+
+  static final class pf_getf extends Primitive
+  {
+    pf_getf()
     {
-      @Override
-      public LispObject execute(LispObject plist, LispObject indicator)
-        throws ConditionThrowable
-      {
-        return getf(plist, indicator, NIL);
-      }
-      @Override
-      public LispObject execute(LispObject plist, LispObject indicator,
-                                LispObject defaultValue)
-        throws ConditionThrowable
-      {
-        return getf(plist, indicator, defaultValue);
-      }
-    };
+      super(SymbolConstants.GETF, "plist indicator &optional default");
+    }
+
+    @Override
+    public LispObject execute(LispObject plist, LispObject indicator)
+      throws ConditionThrowable
+    {
+      return getf(plist, indicator, NIL);
+    }
+    @Override
+    public LispObject execute(LispObject plist, LispObject indicator,
+                              LispObject defaultValue)
+      throws ConditionThrowable
+    {
+      return getf(plist, indicator, defaultValue);
+    }
+  }
 
   // ### get symbol indicator &optional default => value
-  private static final Primitive GET =
-    new Primitive(SymbolConstants.GET, "symbol indicator &optional default")
+  private static final LispObject GET =
+    autoloadPrimitive(SymbolConstants.GET, "pf_get");
+
+  static final class pf_get extends Primitive
+  {
+    pf_get()
     {
-      @Override
-      public LispObject execute(LispObject symbol, LispObject indicator)
-        throws ConditionThrowable
-      {
-        return Lisp.get(symbol, indicator, NIL);
-      }
-      @Override
-      public LispObject execute(LispObject symbol, LispObject indicator,
-                                LispObject defaultValue)
-        throws ConditionThrowable
-      {
-        return Lisp.get(symbol, indicator, defaultValue);
-      }
-    };
+      super(SymbolConstants.GET, "symbol indicator &optional default");
+    }
+
+    @Override
+    public LispObject execute(LispObject symbol, LispObject indicator)
+      throws ConditionThrowable
+    {
+      return Lisp.get(symbol, indicator, NIL);
+    }
+    @Override
+    public LispObject execute(LispObject symbol, LispObject indicator,
+                              LispObject defaultValue)
+      throws ConditionThrowable
+    {
+      return Lisp.get(symbol, indicator, defaultValue);
+    }
+  }
 
   // ### put symbol indicator value => value
-  private static final Primitive PUT =
-    new Primitive("put", PACKAGE_SYS, true)
+  private static final LispObject PUT =
+    autoloadPrimitive("put", PACKAGE_SYS, true, "pf_put");
+
+  static final class pf_put extends Primitive
+  {
+    pf_put()
+    {
+      super("put", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject symbol, LispObject indicator,
+                              LispObject value)
+      throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject symbol, LispObject indicator,
-                                LispObject value)
-        throws ConditionThrowable
-      {
-            return Lisp.put(checkSymbol(symbol), indicator, value);
-      }
-      @Override
-      public LispObject execute(LispObject symbol, LispObject indicator,
-                                LispObject defaultValue, LispObject value)
-        throws ConditionThrowable
-      {
           return Lisp.put(checkSymbol(symbol), indicator, value);
-      }
-    };
+    }
+    @Override
+    public LispObject execute(LispObject symbol, LispObject indicator,
+                              LispObject defaultValue, LispObject value)
+      throws ConditionThrowable
+    {
+        return Lisp.put(checkSymbol(symbol), indicator, value);
+    }
+  }
 
   // ### macrolet
   private static final SpecialOperator MACROLET =
@@ -3477,31 +4369,37 @@ public final class Primitives extends LispFile
       }
     };
 
-  private static final Primitive MAKE_EXPANDER_FOR_MACROLET =
-    new Primitive("make-expander-for-macrolet", PACKAGE_SYS, true,
-                  "definition")
-    {
-      @Override
-      public LispObject execute(LispObject definition)
-        throws ConditionThrowable
-      {
-        Symbol symbol = checkSymbol(definition.CAR());
-        LispObject lambdaList = definition.CADR();
-        LispObject body = definition.CDDR();
-        LispObject block =
-          makeCons(SymbolConstants.BLOCK, makeCons(symbol, body));
-        LispObject toBeApplied =
-          list(SymbolConstants.LAMBDA, lambdaList, block);
-        final LispThread thread = LispThread.currentThread();
-        LispObject formArg = gensym("WHOLE-", thread);
-        LispObject envArg = gensym("ENVIRONMENT-", thread); // Ignored.
-        LispObject expander =
-          list(SymbolConstants.LAMBDA, list(formArg, envArg),
-                list(SymbolConstants.APPLY, toBeApplied,
-                      list(SymbolConstants.CDR, formArg)));
-        return expander;
-      }
-    };
+  private static final LispObject MAKE_EXPANDER_FOR_MACROLET =
+    autoloadPrimitive("make-expander-for-macrolet", PACKAGE_SYS, true, "pf_make_expander_for_macrolet");
+
+  static final class pf_make_expander_for_macrolet extends Primitive
+  {
+    pf_make_expander_for_macrolet()
+    {
+      super("make-expander-for-macrolet", PACKAGE_SYS, true, "definition");
+    }
+
+    @Override
+    public LispObject execute(LispObject definition)
+      throws ConditionThrowable
+    {
+      Symbol symbol = checkSymbol(definition.CAR());
+      LispObject lambdaList = definition.CADR();
+      LispObject body = definition.CDDR();
+      LispObject block =
+        makeCons(SymbolConstants.BLOCK, makeCons(symbol, body));
+      LispObject toBeApplied =
+        list(SymbolConstants.LAMBDA, lambdaList, block);
+      final LispThread thread = LispThread.currentThread();
+      LispObject formArg = gensym("WHOLE-", thread);
+      LispObject envArg = gensym("ENVIRONMENT-", thread); // Ignored.
+      LispObject expander =
+        list(SymbolConstants.LAMBDA, list(formArg, envArg),
+              list(SymbolConstants.APPLY, toBeApplied,
+                    list(SymbolConstants.CDR, formArg)));
+      return expander;
+    }
+  }
 
   // ### tagbody
   private static final SpecialOperator TAGBODY =
@@ -3979,176 +4877,232 @@ public final class Primitives extends LispFile
     };
 
   // ### call-count
-  private static final Primitive CALL_COUNT =
-    new Primitive("call-count", PACKAGE_SYS, true)
+  private static final LispObject CALL_COUNT =
+    autoloadPrimitive("call-count", PACKAGE_SYS, true, "pf_call_count");
+
+  static final class pf_call_count extends Primitive
+  {
+    pf_call_count()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return Fixnum.makeFixnum(arg.getCallCount());
-      }
-    };
+      super("call-count", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return Fixnum.makeFixnum(arg.getCallCount());
+    }
+  }
 
   // ### set-call-count
-  private static final Primitive SET_CALL_COUNT =
-    new Primitive("set-call-count", PACKAGE_SYS, true)
+  private static final LispObject SET_CALL_COUNT =
+    autoloadPrimitive("set-call-count", PACKAGE_SYS, true, "pf_set_call_count");
+
+  static final class pf_set_call_count extends Primitive
+  {
+    pf_set_call_count()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        first.setCallCount(second.intValue());
-        return second;
-      }
-    };
+      super("set-call-count", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      first.setCallCount(second.intValue());
+      return second;
+    }
+  }
 
   // ### call-count
-  private static final Primitive HOT_COUNT =
-    new Primitive("hot-count", PACKAGE_SYS, true)
+  private static final LispObject HOT_COUNT =
+    autoloadPrimitive("hot-count", PACKAGE_SYS, true, "pf_hot_count");
+
+  static final class pf_hot_count extends Primitive
+  {
+    pf_hot_count()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return Fixnum.makeFixnum(arg.getHotCount());
-      }
-    };
+      super("hot-count", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return Fixnum.makeFixnum(arg.getHotCount());
+    }
+  }
 
   // ### set-call-count
-  private static final Primitive SET_HOT_COUNT =
-    new Primitive("set-hot-count", PACKAGE_SYS, true)
+  private static final LispObject SET_HOT_COUNT =
+    autoloadPrimitive("set-hot-count", PACKAGE_SYS, true, "pf_set_hot_count");
+
+  static final class pf_set_hot_count extends Primitive
+  {
+    pf_set_hot_count()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        first.setHotCount(second.intValue());
-        return second;
-      }
-    };
+      super("set-hot-count", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      first.setHotCount(second.intValue());
+      return second;
+    }
+  }
 
   // ### lambda-name
-  private static final Primitive LAMBDA_NAME =
-    new Primitive("lambda-name", PACKAGE_SYS, true)
+  private static final LispObject LAMBDA_NAME =
+    autoloadPrimitive("lambda-name", PACKAGE_SYS, true, "pf_lambda_name");
+
+  static final class pf_lambda_name extends Primitive
+  {
+    pf_lambda_name()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Operator)
-          {
-            return ((Operator)arg).getLambdaName();
-          }
-        if (arg instanceof StandardGenericFunction)
-          {
-            return ((StandardGenericFunction)arg).getGenericFunctionName();
-          }
-        return type_error(arg, SymbolConstants.FUNCTION);
-      }
-    };
+      super("lambda-name", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Operator)
+        {
+          return ((Operator)arg).getLambdaName();
+        }
+      if (arg instanceof StandardGenericFunction)
+        {
+          return ((StandardGenericFunction)arg).getGenericFunctionName();
+        }
+      return type_error(arg, SymbolConstants.FUNCTION);
+    }
+  }
 
   // ### %set-lambda-name
-  private static final Primitive _SET_LAMBDA_NAME =
-    new Primitive("%set-lambda-name", PACKAGE_SYS, false)
+  private static final LispObject _SET_LAMBDA_NAME =
+    autoloadPrimitive("%set-lambda-name", PACKAGE_SYS, false, "pf__set_lambda_name");
+
+  static final class pf__set_lambda_name extends Primitive
+  {
+    pf__set_lambda_name()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        if (first instanceof Operator)
-          {
-            ((Operator)first).setLambdaName(second);
-            return second;
-          }
-        if (first instanceof StandardGenericFunction)
-          {
-            ((StandardGenericFunction)first).setGenericFunctionName(second);
-            return second;
-          }
-        return type_error(first, SymbolConstants.FUNCTION);
-      }
-    };
+      super("%set-lambda-name", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      if (first instanceof Operator)
+        {
+          ((Operator)first).setLambdaName(second);
+          return second;
+        }
+      if (first instanceof StandardGenericFunction)
+        {
+          ((StandardGenericFunction)first).setGenericFunctionName(second);
+          return second;
+        }
+      return type_error(first, SymbolConstants.FUNCTION);
+    }
+  }
 
   // ### shrink-vector vector new-size => vector
   // Destructively alters the vector, changing its length to NEW-SIZE, which
   // must be less than or equal to its current length.
   // shrink-vector vector new-size => vector
-  private static final Primitive SHRINK_VECTOR =
-    new Primitive("shrink-vector", PACKAGE_SYS, true, "vector new-size")
-    {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        checkVector(first).shrink(second.intValue());
-        return first;
-      }
-    };
+  private static final LispObject SHRINK_VECTOR =
+    autoloadPrimitive("shrink-vector", PACKAGE_SYS, true, "pf_shrink_vector");
 
-  // ### subseq sequence start &optional end
-  private static final Primitive SUBSEQ =
-    new Primitive(SymbolConstants.SUBSEQ, "sequence start &optional end")
+  static final class pf_shrink_vector extends Primitive
+  {
+    pf_shrink_vector()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        final int start = second.intValue();
-        if (start < 0)
-          {
-            FastStringBuffer sb = new FastStringBuffer("Bad start index (");
-            sb.append(start);
-            sb.append(") for SUBSEQ.");
-            error(new TypeError(sb.toString()));
-          }
-        if (first.isList())
-          return list_subseq(first, start, -1);
-        if (first instanceof LispVector)
-          {
-            final LispVector v = (LispVector) first;
-            return v.subseq(start, v.size());
-          }
-        return type_error(first, SymbolConstants.SEQUENCE);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        final int start = second.intValue();
-        if (start < 0)
-          {
-            FastStringBuffer sb = new FastStringBuffer("Bad start index (");
-            sb.append(start);
-            sb.append(").");
-            error(new TypeError(sb.toString()));
-          }
-        int end;
-        if (third != NIL)
-          {
-            end = third.intValue();
-            if (start > end)
-              {
-                FastStringBuffer sb = new FastStringBuffer("Start index (");
-                sb.append(start);
-                sb.append(") is greater than end index (");
-                sb.append(end);
-                sb.append(") for SUBSEQ.");
-                error(new TypeError(sb.toString()));
-              }
-          }
-        else
-          end = -1;
-        if (first.isList())
-          return list_subseq(first, start, end);
-        if (first instanceof LispVector)
-          {
-            final LispVector v = (LispVector) first;
-            if (end < 0)
-              end = v.size();
-            return v.subseq(start, end);
-          }
-        return type_error(first, SymbolConstants.SEQUENCE);
-      }
-    };
+      super("shrink-vector", PACKAGE_SYS, true, "vector new-size");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      checkVector(first).shrink(second.intValue());
+      return first;
+    }
+  }
+
+  // ### subseq sequence start &optional end
+  private static final LispObject SUBSEQ =
+    autoloadPrimitive(SymbolConstants.SUBSEQ, "pf_subseq");
+
+  static final class pf_subseq extends Primitive
+  {
+    pf_subseq()
+    {
+      super(SymbolConstants.SUBSEQ, "sequence start &optional end");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      final int start = second.intValue();
+      if (start < 0)
+        {
+          FastStringBuffer sb = new FastStringBuffer("Bad start index (");
+          sb.append(start);
+          sb.append(") for SUBSEQ.");
+          error(new TypeError(sb.toString()));
+        }
+      if (first.isList())
+        return list_subseq(first, start, -1);
+      if (first instanceof LispVector)
+        {
+          final LispVector v = (LispVector) first;
+          return v.subseq(start, v.size());
+        }
+      return type_error(first, SymbolConstants.SEQUENCE);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      final int start = second.intValue();
+      if (start < 0)
+        {
+          FastStringBuffer sb = new FastStringBuffer("Bad start index (");
+          sb.append(start);
+          sb.append(").");
+          error(new TypeError(sb.toString()));
+        }
+      int end;
+      if (third != NIL)
+        {
+          end = third.intValue();
+          if (start > end)
+            {
+              FastStringBuffer sb = new FastStringBuffer("Start index (");
+              sb.append(start);
+              sb.append(") is greater than end index (");
+              sb.append(end);
+              sb.append(") for SUBSEQ.");
+              error(new TypeError(sb.toString()));
+            }
+        }
+      else
+        end = -1;
+      if (first.isList())
+        return list_subseq(first, start, end);
+      if (first instanceof LispVector)
+        {
+          final LispVector v = (LispVector) first;
+          if (end < 0)
+            end = v.size();
+          return v.subseq(start, end);
+        }
+      return type_error(first, SymbolConstants.SEQUENCE);
+    }
+  }
 
   /*private*/ static final LispObject list_subseq(LispObject list, int start,
                                               int end)
@@ -4168,194 +5122,242 @@ public final class Primitives extends LispFile
   }
 
   // ### list
-  private static final Primitive LIST =
-    new Primitive(SymbolConstants.LIST, "&rest objects")
-    {
-      @Override
-      public LispObject execute()
-      {
-        return NIL;
-      }
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return makeCons(arg);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-      {
-        return makeCons(first, makeCons(second));
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-      {
-        return makeCons(first, makeCons(second, makeCons(third)));
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth)
-      {
-        return makeCons(first,
-                        makeCons(second,
-                                 makeCons(third,
-                                          makeCons(fourth))));
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        LispObject result = NIL;
-        for (int i = args.length; i-- > 0;)
-          result = makeCons(args[i], result);
-        return result;
-      }
-    };
+  private static final LispObject LIST =
+    autoloadPrimitive(SymbolConstants.LIST, "pf_list");
+
+  static final class pf_list extends Primitive
+  {
+    pf_list()
+    {
+      super(SymbolConstants.LIST, "&rest objects");
+    }
+
+    @Override
+    public LispObject execute()
+    {
+      return NIL;
+    }
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return makeCons(arg);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+    {
+      return makeCons(first, makeCons(second));
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+    {
+      return makeCons(first, makeCons(second, makeCons(third)));
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+    {
+      return makeCons(first,
+                      makeCons(second,
+                               makeCons(third,
+                                        makeCons(fourth))));
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      LispObject result = NIL;
+      for (int i = args.length; i-- > 0;)
+        result = makeCons(args[i], result);
+      return result;
+    }
+  }
 
   // ### list*
-  private static final Primitive LIST_STAR =
-    new Primitive(SymbolConstants.LIST_STAR, "&rest objects")
-    {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return error(new WrongNumberOfArgumentsException(this));
-      }
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg;
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return makeCons(first, second);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        return makeCons(first, makeCons(second, third));
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third, LispObject fourth)
-        throws ConditionThrowable
-      {
-        return makeCons(first,
-                        makeCons(second,
-                                 makeCons(third, fourth)));
-      }
-      @Override
-      public LispObject execute(LispObject[] args) throws ConditionThrowable
-      {
-        int i = args.length - 1;
-        LispObject result = args[i];
-        while (i-- > 0)
-          result = makeCons(args[i], result);
-        return result;
-      }
-    };
+  private static final LispObject LIST_STAR =
+    autoloadPrimitive(SymbolConstants.LIST_STAR, "pf_list_star");
+
+  static final class pf_list_star extends Primitive
+  {
+    pf_list_star()
+    {
+      super(SymbolConstants.LIST_STAR, "&rest objects");
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return error(new WrongNumberOfArgumentsException(this));
+    }
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg;
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return makeCons(first, second);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      return makeCons(first, makeCons(second, third));
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third, LispObject fourth)
+      throws ConditionThrowable
+    {
+      return makeCons(first,
+                      makeCons(second,
+                               makeCons(third, fourth)));
+    }
+    @Override
+    public LispObject execute(LispObject[] args) throws ConditionThrowable
+    {
+      int i = args.length - 1;
+      LispObject result = args[i];
+      while (i-- > 0)
+        result = makeCons(args[i], result);
+      return result;
+    }
+  }
 
   // ### nreverse
-  public static final Primitive NREVERSE =
-    new Primitive(SymbolConstants.NREVERSE, "sequence")
+  public static final Primitive NREVERSE = new pf_nreverse();
+
+  static final class pf_nreverse extends Primitive
+  {
+    pf_nreverse()
     {
-      @Override
-      public LispObject execute (LispObject arg) throws ConditionThrowable
-      {
-        return arg.nreverse();
-      }
-    };
+      super(SymbolConstants.NREVERSE, "sequence");
+    }
+
+    @Override
+    public LispObject execute (LispObject arg) throws ConditionThrowable
+    {
+      return arg.nreverse();
+    }
+  }
 
   // ### nreconc
-  private static final Primitive NRECONC =
-    new Primitive(SymbolConstants.NRECONC, "list tail")
+  private static final LispObject NRECONC =
+    autoloadPrimitive(SymbolConstants.NRECONC, "pf_nreconc");
+
+  static final class pf_nreconc extends Primitive
+  {
+    pf_nreconc()
     {
-      @Override
-      public LispObject execute(LispObject list, LispObject obj)
-        throws ConditionThrowable
-      {
-        if (list instanceof Cons)
-          {
-            LispObject list3 = list.CDR();
-            if (list3 instanceof Cons)
-              {
-                if (list3.CDR() instanceof Cons)
-                  {
-                    LispObject list1 = list3;
-                    LispObject list2 = NIL;
-                    do
-                      {
-                        LispObject h = list3.CDR();
-                        list3.setCdr(list2);
-                        list2 = list3;
-                        list3 = h;
-                      } while (list3.CDR() instanceof Cons);
-                    list.setCdr(list2);
-                    list1.setCdr(list3);
-                  }
-                LispObject h = list.CAR();
-                list.setCar(list3.CAR());
-                list3.setCar(h);
-                list3.setCdr(obj);
-              }
-            else if (list3 == NIL)
-              {
-                list.setCdr(obj);
-              }
-            else
-              type_error(list3, SymbolConstants.LIST);
-            return list;
-          }
-        else if (list == NIL)
-          return obj;
-        else
-          return type_error(list, SymbolConstants.LIST);
-      }
-    };
+      super(SymbolConstants.NRECONC, "list tail");
+    }
+
+    @Override
+    public LispObject execute(LispObject list, LispObject obj)
+      throws ConditionThrowable
+    {
+      if (list instanceof Cons)
+        {
+          LispObject list3 = list.CDR();
+          if (list3 instanceof Cons)
+            {
+              if (list3.CDR() instanceof Cons)
+                {
+                  LispObject list1 = list3;
+                  LispObject list2 = NIL;
+                  do
+                    {
+                      LispObject h = list3.CDR();
+                      list3.setCdr(list2);
+                      list2 = list3;
+                      list3 = h;
+                    } while (list3.CDR() instanceof Cons);
+                  list.setCdr(list2);
+                  list1.setCdr(list3);
+                }
+              LispObject h = list.CAR();
+              list.setCar(list3.CAR());
+              list3.setCar(h);
+              list3.setCdr(obj);
+            }
+          else if (list3 == NIL)
+            {
+              list.setCdr(obj);
+            }
+          else
+            type_error(list3, SymbolConstants.LIST);
+          return list;
+        }
+      else if (list == NIL)
+        return obj;
+      else
+        return type_error(list, SymbolConstants.LIST);
+    }
+  }
 
   // ### reverse
-  private static final Primitive REVERSE =
-    new Primitive(SymbolConstants.REVERSE, "sequence")
+  private static final LispObject REVERSE =
+    autoloadPrimitive(SymbolConstants.REVERSE, "pf_reverse");
+
+  static final class pf_reverse extends Primitive
+  {
+    pf_reverse()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.reverse();
-      }
-    };
+      super(SymbolConstants.REVERSE, "sequence");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.reverse();
+    }
+  }
 
   // ### delete-eq item sequence => result-sequence
-  private static final Primitive DELETE_EQ =
-    new Primitive("delete-eq", PACKAGE_SYS, true, "item sequence")
+  private static final LispObject DELETE_EQ =
+    autoloadPrimitive("delete-eq", PACKAGE_SYS, true, "pf_delete_eq");
+
+  static final class pf_delete_eq extends Primitive
+  {
+    pf_delete_eq()
     {
-      @Override
-      public LispObject execute(LispObject item, LispObject sequence)
-        throws ConditionThrowable
-      {
-        if (sequence instanceof LispVector)
-          return ((LispVector)sequence).deleteEq(item);
-        else
-          return LIST_DELETE_EQ.execute(item, sequence);
-      }
-    };
+      super("delete-eq", PACKAGE_SYS, true, "item sequence");
+    }
+
+    @Override
+    public LispObject execute(LispObject item, LispObject sequence)
+      throws ConditionThrowable
+    {
+      if (sequence instanceof LispVector)
+        return ((LispVector)sequence).deleteEq(item);
+      else
+        return LIST_DELETE_EQ.execute(item, sequence);
+    }
+  }
 
   // ### delete-eql item seqluence => result-seqluence
-  private static final Primitive DELETE_EQL =
-    new Primitive("delete-eql", PACKAGE_SYS, true, "item sequence")
+  private static final LispObject DELETE_EQL =
+    autoloadPrimitive("delete-eql", PACKAGE_SYS, true, "pf_delete_eql");
+
+  static final class pf_delete_eql extends Primitive
+  {
+    pf_delete_eql()
     {
-      @Override
-      public LispObject execute(LispObject item, LispObject sequence)
-        throws ConditionThrowable
-      {
-        if (sequence instanceof LispVector)
-          return ((LispVector)sequence).deleteEql(item);
-        else
-          return LIST_DELETE_EQL.execute(item, sequence);
-      }
-    };
+      super("delete-eql", PACKAGE_SYS, true, "item sequence");
+    }
+
+    @Override
+    public LispObject execute(LispObject item, LispObject sequence)
+      throws ConditionThrowable
+    {
+      if (sequence instanceof LispVector)
+        return ((LispVector)sequence).deleteEql(item);
+      else
+        return LIST_DELETE_EQL.execute(item, sequence);
+    }
+  }
 
   // ### list-delete-eq item list => result-list
   /*private*/ static final Primitive LIST_DELETE_EQ =
@@ -4432,1028 +5434,1460 @@ public final class Primitives extends LispFile
                       }
                     else
                       {
-                        // Last item.
-                        if (tail == list)
-                          return NIL;
-                        splice.setCdr(NIL);
-                        return list;
-                      }
-                  }
-                else
-                  {
-                    splice = tail;
-                    tail = tail.CDR();
-                  }
-              }
-            if (tail == NIL)
-              return list;
-            else
-              return type_error(tail, SymbolConstants.LIST);
-          }
-        else if (list == NIL)
-          return list;
-        else
-          return type_error(list, SymbolConstants.LIST);
-      }
-    };
-
-  // ### vector-delete-eq item vector => result-vector
-  private static final Primitive VECTOR_DELETE_EQ =
-    new Primitive("vector-delete-eq", PACKAGE_SYS, true, "item vector")
-    {
-      @Override
-      public LispObject execute(LispObject item, LispObject vector)
-        throws ConditionThrowable
-      {
-          checkVector(vector).deleteEq(item);
-          return vector;
-      }
-    };
-
-  // ### vector-delete-eql item vector => result-vector
-  private static final Primitive VECTOR_DELETE_EQL =
-    new Primitive("vector-delete-eql", PACKAGE_SYS, true, "item vector")
-    {
-      @Override
-      public LispObject execute(LispObject item, LispObject vector)
-        throws ConditionThrowable
-      {
-          checkVector(vector).deleteEql(item);
-          return vector;
-      }
-    };
-
-  // ### %set-elt
-  // %setelt sequence index newval => newval
-  private static final Primitive _SET_ELT =
-    new Primitive("%set-elt", PACKAGE_SYS, false)
-    {
-      @Override
-      public LispObject execute(LispObject first, LispObject second,
-                                LispObject third)
-        throws ConditionThrowable
-      {
-        if (first instanceof LispVector)
-          {
-            ((LispVector)first).aset(second.intValue(), third);
-            return third;
-          }
-        if (first instanceof Cons)
-          {
-            int index = second.intValue();
-            if (index < 0)
-              error(new TypeError());
-            LispObject list = first;
-            int i = 0;
-            while (true)
-              {
-                if (i == index)
-                  {
-                    list.setCar(third);
-                    return third;
-                  }
-                list = list.CDR();
-                if (list == NIL)
-                  error(new TypeError());
-                ++i;
-              }
-          }
-        return type_error(first, SymbolConstants.SEQUENCE);
-      }
-    };
-
-  // ### %make-list
-  private static final Primitive _MAKE_LIST =
-    new Primitive("%make-list", PACKAGE_SYS, true)
-    {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        int size = first.intValue();
-        if (size < 0)
-          return type_error(first, list(SymbolConstants.INTEGER, Fixnum.ZERO,
-                                              SymbolConstants.MOST_POSITIVE_FIXNUM.getSymbolValue()));
-        LispObject result = NIL;
-        for (int i = size; i-- > 0;)
-          result = makeCons(second, result);
-        return result;
-      }
-    };
-
-  // ### %member item list key test test-not => tail
-  private static final Primitive _MEMBER =
-    new Primitive("%member", PACKAGE_SYS, true)
-    {
-      @Override
-      public LispObject execute(LispObject item, LispObject list,
-                                LispObject key, LispObject test,
-                                LispObject testNot)
-        throws ConditionThrowable
-      {
-        LispObject tail = checkList(list);
-        if (test != NIL && testNot != NIL)
-          error(new LispError("MEMBER: test and test-not both supplied"));
-        if (testNot == NIL)
-          {
-            if (test == NIL || test == SymbolConstants.EQL)
-              test = EQL;
-          }
-        if (key == NIL)
-          {
-            if (test == EQL)
-              {
-                while (tail instanceof Cons)
-                  {
-                    if (item.eql(((Cons)tail).CAR()))
-                      return tail;
-                    tail = ((Cons)tail).CDR();
-                  }
-              }
-            else if (test != NIL)
-              {
-                while (tail instanceof Cons)
-                  {
-                    LispObject candidate = ((Cons)tail).CAR();
-                    if (test.execute(item, candidate) != NIL)
-                      return tail;
-                    tail = ((Cons)tail).CDR();
-                  }
-              }
-            else
-              {
-                // test == NIL
-                while (tail instanceof Cons)
-                  {
-                    LispObject candidate = ((Cons)tail).CAR();
-                    if (testNot.execute(item, candidate) == NIL)
-                      return tail;
-                    tail = ((Cons)tail).CDR();
-                  }
-              }
-          }
-        else
-          {
-            // key != NIL
-            while (tail instanceof Cons)
-              {
-                LispObject candidate = key.execute(((Cons)tail).CAR());
-                if (test != NIL)
-                  {
-                    if (test.execute(item, candidate) != NIL)
-                      return tail;
+                        // Last item.
+                        if (tail == list)
+                          return NIL;
+                        splice.setCdr(NIL);
+                        return list;
+                      }
                   }
                 else
                   {
-                    if (testNot.execute(item, candidate) == NIL)
-                      return tail;
+                    splice = tail;
+                    tail = tail.CDR();
                   }
-                tail = ((Cons)tail).CDR();
               }
+            if (tail == NIL)
+              return list;
+            else
+              return type_error(tail, SymbolConstants.LIST);
           }
-        if (tail != NIL)
-          type_error(tail, SymbolConstants.LIST);
-        return NIL;
+        else if (list == NIL)
+          return list;
+        else
+          return type_error(list, SymbolConstants.LIST);
       }
     };
 
+  // ### vector-delete-eq item vector => result-vector
+  private static final LispObject VECTOR_DELETE_EQ =
+    autoloadPrimitive("vector-delete-eq", PACKAGE_SYS, true, "pf_vector_delete_eq");
+
+  static final class pf_vector_delete_eq extends Primitive
+  {
+    pf_vector_delete_eq()
+    {
+      super("vector-delete-eq", PACKAGE_SYS, true, "item vector");
+    }
+
+    @Override
+    public LispObject execute(LispObject item, LispObject vector)
+      throws ConditionThrowable
+    {
+        checkVector(vector).deleteEq(item);
+        return vector;
+    }
+  }
+
+  // ### vector-delete-eql item vector => result-vector
+  private static final LispObject VECTOR_DELETE_EQL =
+    autoloadPrimitive("vector-delete-eql", PACKAGE_SYS, true, "pf_vector_delete_eql");
+
+  static final class pf_vector_delete_eql extends Primitive
+  {
+    pf_vector_delete_eql()
+    {
+      super("vector-delete-eql", PACKAGE_SYS, true, "item vector");
+    }
+
+    @Override
+    public LispObject execute(LispObject item, LispObject vector)
+      throws ConditionThrowable
+    {
+        checkVector(vector).deleteEql(item);
+        return vector;
+    }
+  }
+
+  // ### %set-elt
+  // %setelt sequence index newval => newval
+  private static final LispObject _SET_ELT =
+    autoloadPrimitive("%set-elt", PACKAGE_SYS, false, "pf__set_elt");
+
+  static final class pf__set_elt extends Primitive
+  {
+    pf__set_elt()
+    {
+      super("%set-elt", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second,
+                              LispObject third)
+      throws ConditionThrowable
+    {
+      if (first instanceof LispVector)
+        {
+          ((LispVector)first).aset(second.intValue(), third);
+          return third;
+        }
+      if (first instanceof Cons)
+        {
+          int index = second.intValue();
+          if (index < 0)
+            error(new TypeError());
+          LispObject list = first;
+          int i = 0;
+          while (true)
+            {
+              if (i == index)
+                {
+                  list.setCar(third);
+                  return third;
+                }
+              list = list.CDR();
+              if (list == NIL)
+                error(new TypeError());
+              ++i;
+            }
+        }
+      return type_error(first, SymbolConstants.SEQUENCE);
+    }
+  }
+
+  // ### %make-list
+  private static final LispObject _MAKE_LIST =
+    autoloadPrimitive("%make-list", PACKAGE_SYS, true, "pf__make_list");
+
+  static final class pf__make_list extends Primitive
+  {
+    pf__make_list()
+    {
+      super("%make-list", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      int size = first.intValue();
+      if (size < 0)
+        return type_error(first, list(SymbolConstants.INTEGER, Fixnum.ZERO,
+                                            SymbolConstants.MOST_POSITIVE_FIXNUM.getSymbolValue()));
+      LispObject result = NIL;
+      for (int i = size; i-- > 0;)
+        result = makeCons(second, result);
+      return result;
+    }
+  }
+
+  // ### %member item list key test test-not => tail
+  private static final LispObject _MEMBER =
+    autoloadPrimitive("%member", PACKAGE_SYS, true, "pf__member");
+
+  static final class pf__member extends Primitive
+  {
+    pf__member()
+    {
+      super("%member", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject item, LispObject list,
+                              LispObject key, LispObject test,
+                              LispObject testNot)
+      throws ConditionThrowable
+    {
+      LispObject tail = checkList(list);
+      if (test != NIL && testNot != NIL)
+        error(new LispError("MEMBER: test and test-not both supplied"));
+      if (testNot == NIL)
+        {
+          if (test == NIL || test == SymbolConstants.EQL)
+            test = EQL;
+        }
+      if (key == NIL)
+        {
+          if (test == EQL)
+            {
+              while (tail instanceof Cons)
+                {
+                  if (item.eql(((Cons)tail).CAR()))
+                    return tail;
+                  tail = ((Cons)tail).CDR();
+                }
+            }
+          else if (test != NIL)
+            {
+              while (tail instanceof Cons)
+                {
+                  LispObject candidate = ((Cons)tail).CAR();
+                  if (test.execute(item, candidate) != NIL)
+                    return tail;
+                  tail = ((Cons)tail).CDR();
+                }
+            }
+          else
+            {
+              // test == NIL
+              while (tail instanceof Cons)
+                {
+                  LispObject candidate = ((Cons)tail).CAR();
+                  if (testNot.execute(item, candidate) == NIL)
+                    return tail;
+                  tail = ((Cons)tail).CDR();
+                }
+            }
+        }
+      else
+        {
+          // key != NIL
+          while (tail instanceof Cons)
+            {
+              LispObject candidate = key.execute(((Cons)tail).CAR());
+              if (test != NIL)
+                {
+                  if (test.execute(item, candidate) != NIL)
+                    return tail;
+                }
+              else
+                {
+                  if (testNot.execute(item, candidate) == NIL)
+                    return tail;
+                }
+              tail = ((Cons)tail).CDR();
+            }
+        }
+      if (tail != NIL)
+        type_error(tail, SymbolConstants.LIST);
+      return NIL;
+    }
+  }
+
   // ### funcall-key function-or-nil element
-  private static final Primitive FUNCALL_KEY =
-    new Primitive("funcall-key", PACKAGE_SYS, false)
+  private static final LispObject FUNCALL_KEY =
+    autoloadPrimitive("funcall-key", PACKAGE_SYS, false, "pf_funcall_key");
+
+  static final class pf_funcall_key extends Primitive
+  {
+    pf_funcall_key()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        if (first != NIL)
-          return LispThread.currentThread().execute(first, second);
-        return second;
-      }
-    };
+      super("funcall-key", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      if (first != NIL)
+        return LispThread.currentThread().execute(first, second);
+      return second;
+    }
+  }
 
   // ### coerce-to-function
-  private static final Primitive COERCE_TO_FUNCTION =
-    new Primitive("coerce-to-function", PACKAGE_SYS, true)
+  private static final LispObject COERCE_TO_FUNCTION =
+    autoloadPrimitive("coerce-to-function", PACKAGE_SYS, true, "pf_coerce_to_function");
+
+  static final class pf_coerce_to_function extends Primitive
+  {
+    pf_coerce_to_function()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return coerceToFunction(arg);
-      }
-    };
+      super("coerce-to-function", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return coerceToFunction(arg);
+    }
+  }
 
   // ### make-closure lambda-form environment => closure
-  private static final Primitive MAKE_CLOSURE =
-    new Primitive("make-closure", PACKAGE_SYS, true)
+  private static final LispObject MAKE_CLOSURE =
+    autoloadPrimitive("make-closure", PACKAGE_SYS, true, "pf_make_closure");
+
+  static final class pf_make_closure extends Primitive
+  {
+    pf_make_closure()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        if (first instanceof Cons && ((Cons)first).CAR() == SymbolConstants.LAMBDA)
-          {
-            final Environment env;
-            if (second == NIL)
-              env = new Environment();
-            else
-              env = checkEnvironment(second);
-            return new Closure(first, env);
-          }
-        return error(new TypeError("The argument to MAKE-CLOSURE is not a lambda form."));
-      }
-    };
+      super("make-closure", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      if (first instanceof Cons && ((Cons)first).CAR() == SymbolConstants.LAMBDA)
+        {
+          final Environment env;
+          if (second == NIL)
+            env = new Environment();
+          else
+            env = checkEnvironment(second);
+          return new Closure(first, env);
+        }
+      return error(new TypeError("The argument to MAKE-CLOSURE is not a lambda form."));
+    }
+  }
 
   // ### streamp
-  private static final Primitive STREAMP =
-    new Primitive(SymbolConstants.STREAMP, "object")
+  private static final LispObject STREAMP =
+    autoloadPrimitive(SymbolConstants.STREAMP, "pf_streamp");
+
+  static final class pf_streamp extends Primitive
+  {
+    pf_streamp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg instanceof Stream ? T : NIL;
-      }
-    };
+      super(SymbolConstants.STREAMP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg instanceof Stream ? T : NIL;
+    }
+  }
 
   // ### integerp
-  private static final Primitive INTEGERP =
-    new Primitive(SymbolConstants.INTEGERP, "object")
+  private static final LispObject INTEGERP =
+    autoloadPrimitive(SymbolConstants.INTEGERP, "pf_integerp");
+
+  static final class pf_integerp extends Primitive
+  {
+    pf_integerp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg.INTEGERP();
-      }
-    };
+      super(SymbolConstants.INTEGERP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg.INTEGERP();
+    }
+  }
 
   // ### evenp
-  private static final Primitive EVENP =
-    new Primitive(SymbolConstants.EVENP, "integer")
+  private static final LispObject EVENP =
+    autoloadPrimitive(SymbolConstants.EVENP, "pf_evenp");
+
+  static final class pf_evenp extends Primitive
+  {
+    pf_evenp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.EVENP();
-      }
-    };
+      super(SymbolConstants.EVENP, "integer");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.EVENP();
+    }
+  }
 
   // ### oddp
-  private static final Primitive ODDP = new Primitive(SymbolConstants.ODDP, "integer")
+  private static final LispObject ODDP =
+    autoloadPrimitive(SymbolConstants.ODDP, "pf_oddp");
+
+  static final class pf_oddp extends Primitive
+  {
+    pf_oddp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.ODDP();
-      }
-    };
+      super(SymbolConstants.ODDP, "integer");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.ODDP();
+    }
+  }
 
   // ### numberp
-  private static final Primitive NUMBERP =
-    new Primitive(SymbolConstants.NUMBERP, "object")
+  private static final LispObject NUMBERP =
+    autoloadPrimitive(SymbolConstants.NUMBERP, "pf_numberp");
+
+  static final class pf_numberp extends Primitive
+  {
+    pf_numberp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg.NUMBERP();
-      }
-    };
+      super(SymbolConstants.NUMBERP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg.NUMBERP();
+    }
+  }
 
   // ### realp
-  private static final Primitive REALP =
-    new Primitive(SymbolConstants.REALP, "object")
+  private static final LispObject REALP =
+    autoloadPrimitive(SymbolConstants.REALP, "pf_realp");
+
+  static final class pf_realp extends Primitive
+  {
+    pf_realp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg.REALP();
-      }
-    };
+      super(SymbolConstants.REALP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg.REALP();
+    }
+  }
 
   // ### rationalp
-  private static final Primitive RATIONALP =
-    new Primitive(SymbolConstants.RATIONALP,"object")
+  private static final LispObject RATIONALP =
+    autoloadPrimitive(SymbolConstants.RATIONALP, "pf_rationalp");
+
+  static final class pf_rationalp extends Primitive
+  {
+    pf_rationalp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg.RATIONALP();
-      }
-    };
+      super(SymbolConstants.RATIONALP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg.RATIONALP();
+    }
+  }
 
   // ### complex
-  private static final Primitive COMPLEX =
-    new Primitive(SymbolConstants.COMPLEX, "realpart &optional imagpart")
+  private static final LispObject COMPLEX =
+    autoloadPrimitive(SymbolConstants.COMPLEX, "pf_complex");
+
+  static final class pf_complex extends Primitive
+  {
+    pf_complex()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg  instanceof SingleFloat)
-          return Complex.getInstance(arg, SingleFloat.ZERO);
-        if (arg instanceof DoubleFloat)
-          return Complex.getInstance(arg, DoubleFloat.ZERO);
-        if (arg.realp())
-          return arg;
-        return type_error(arg, SymbolConstants.REAL);
-      }
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        return Complex.getInstance(first, second);
-      }
-    };
+      super(SymbolConstants.COMPLEX, "realpart &optional imagpart");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg  instanceof SingleFloat)
+        return Complex.getInstance(arg, SingleFloat.ZERO);
+      if (arg instanceof DoubleFloat)
+        return Complex.getInstance(arg, DoubleFloat.ZERO);
+      if (arg.realp())
+        return arg;
+      return type_error(arg, SymbolConstants.REAL);
+    }
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      return Complex.getInstance(first, second);
+    }
+  }
 
   // ### complexp
-  private static final Primitive COMPLEXP =
-    new Primitive(SymbolConstants.COMPLEXP, "object")
+  private static final LispObject COMPLEXP =
+    autoloadPrimitive(SymbolConstants.COMPLEXP, "pf_complexp");
+
+  static final class pf_complexp extends Primitive
+  {
+    pf_complexp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg.COMPLEXP();
-      }
-    };
+      super(SymbolConstants.COMPLEXP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg.COMPLEXP();
+    }
+  }
 
   // ### numerator
-  private static final Primitive NUMERATOR =
-    new Primitive(SymbolConstants.NUMERATOR, "rational")
+  private static final LispObject NUMERATOR =
+    autoloadPrimitive(SymbolConstants.NUMERATOR, "pf_numerator");
+
+  static final class pf_numerator extends Primitive
+  {
+    pf_numerator()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.NUMERATOR();
-      }
-    };
+      super(SymbolConstants.NUMERATOR, "rational");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.NUMERATOR();
+    }
+  }
 
   // ### denominator
-  private static final Primitive DENOMINATOR =
-    new Primitive(SymbolConstants.DENOMINATOR, "rational")
+  private static final LispObject DENOMINATOR =
+    autoloadPrimitive(SymbolConstants.DENOMINATOR, "pf_denominator");
+
+  static final class pf_denominator extends Primitive
+  {
+    pf_denominator()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.DENOMINATOR();
-      }
-    };
+      super(SymbolConstants.DENOMINATOR, "rational");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.DENOMINATOR();
+    }
+  }
 
   // ### realpart
-  private static final Primitive REALPART =
-    new Primitive(SymbolConstants.REALPART, "number")
+  private static final LispObject REALPART =
+    autoloadPrimitive(SymbolConstants.REALPART, "pf_realpart");
+
+  static final class pf_realpart extends Primitive
+  {
+    pf_realpart()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Complex)
-          return ((Complex)arg).getRealPart();
-        if (arg.isNumber())
-          return arg;
-        return type_error(arg, SymbolConstants.NUMBER);
-      }
-    };
+      super(SymbolConstants.REALPART, "number");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Complex)
+        return ((Complex)arg).getRealPart();
+      if (arg.isNumber())
+        return arg;
+      return type_error(arg, SymbolConstants.NUMBER);
+    }
+  }
 
   // ### imagpart
-  private static final Primitive IMAGPART =
-    new Primitive(SymbolConstants.IMAGPART, "number")
+  private static final LispObject IMAGPART =
+    autoloadPrimitive(SymbolConstants.IMAGPART, "pf_imagpart");
+
+  static final class pf_imagpart extends Primitive
+  {
+    pf_imagpart()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Complex)
-          return ((Complex)arg).getImaginaryPart();
-        return arg.multiplyBy(Fixnum.ZERO);
-      }
-    };
+      super(SymbolConstants.IMAGPART, "number");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Complex)
+        return ((Complex)arg).getImaginaryPart();
+      return arg.multiplyBy(Fixnum.ZERO);
+    }
+  }
 
   // ### integer-length
-  private static final Primitive INTEGER_LENGTH =
-    new Primitive(SymbolConstants.INTEGER_LENGTH, "integer")
+  private static final LispObject INTEGER_LENGTH =
+    autoloadPrimitive(SymbolConstants.INTEGER_LENGTH, "pf_integer_length");
+
+  static final class pf_integer_length extends Primitive
+  {
+    pf_integer_length()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg  instanceof Fixnum)
-          {
-            int n = arg.intValue();
-            if (n < 0)
-              n = ~n;
-            int count = 0;
-            while (n > 0)
-              {
-                n = n >>> 1;
-                ++count;
-              }
-            return Fixnum.makeFixnum(count);
-          }
-        if (arg  instanceof Bignum)
-          return Fixnum.makeFixnum(arg.bigIntegerValue().bitLength());
-        return type_error(arg, SymbolConstants.INTEGER);
-      }
-    };
+      super(SymbolConstants.INTEGER_LENGTH, "integer");
+    }
 
-  // ### gcd-2
-  private static final Primitive GCD_2 =
-    new Primitive("gcd-2", PACKAGE_SYS, false)
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        BigInteger n1, n2;
-        if (first  instanceof Fixnum)
-          n1 = BigInteger.valueOf(first.intValue());
-        else if (first  instanceof Bignum)
-          n1 = first.bigIntegerValue();
-        else
-          return type_error(first, SymbolConstants.INTEGER);
-        if (second  instanceof Fixnum)
-          n2 = BigInteger.valueOf(second.intValue());
-        else if (second  instanceof Bignum)
-          n2 = second.bigIntegerValue();
-        else
-          return type_error(second, SymbolConstants.INTEGER);
-        return number(n1.gcd(n2));
-      }
-    };
+      if (arg  instanceof Fixnum)
+        {
+          int n = arg.intValue();
+          if (n < 0)
+            n = ~n;
+          int count = 0;
+          while (n > 0)
+            {
+              n = n >>> 1;
+              ++count;
+            }
+          return Fixnum.makeFixnum(count);
+        }
+      if (arg  instanceof Bignum)
+        return Fixnum.makeFixnum(arg.bigIntegerValue().bitLength());
+      return type_error(arg, SymbolConstants.INTEGER);
+    }
+  }
+
+  // ### gcd-2
+  private static final LispObject GCD_2 =
+    autoloadPrimitive("gcd-2", PACKAGE_SYS, false, "pf_gcd_2");
+
+  static final class pf_gcd_2 extends Primitive
+  {
+    pf_gcd_2()
+    {
+      super("gcd-2", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      BigInteger n1, n2;
+      if (first  instanceof Fixnum)
+        n1 = BigInteger.valueOf(first.intValue());
+      else if (first  instanceof Bignum)
+        n1 = first.bigIntegerValue();
+      else
+        return type_error(first, SymbolConstants.INTEGER);
+      if (second  instanceof Fixnum)
+        n2 = BigInteger.valueOf(second.intValue());
+      else if (second  instanceof Bignum)
+        n2 = second.bigIntegerValue();
+      else
+        return type_error(second, SymbolConstants.INTEGER);
+      return number(n1.gcd(n2));
+    }
+  }
 
   // ### identity-hash-code
-  private static final Primitive IDENTITY_HASH_CODE =
-    new Primitive("identity-hash-code", PACKAGE_SYS, true)
+  private static final LispObject IDENTITY_HASH_CODE =
+    autoloadPrimitive("identity-hash-code", PACKAGE_SYS, true, "pf_identity_hash_code");
+
+  static final class pf_identity_hash_code extends Primitive
+  {
+    pf_identity_hash_code()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return Fixnum.makeFixnum(System.identityHashCode(arg));
-      }
-    };
+      super("identity-hash-code", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return Fixnum.makeFixnum(System.identityHashCode(arg));
+    }
+  }
 
   // ### simple-vector-search pattern vector => position
   // Searches vector for pattern.
-  private static final Primitive SIMPLE_VECTOR_SEARCH =
-    new Primitive("simple-vector-search", PACKAGE_SYS, false)
+  private static final LispObject SIMPLE_VECTOR_SEARCH =
+    autoloadPrimitive("simple-vector-search", PACKAGE_SYS, false, "pf_simple_vector_search");
+
+  static final class pf_simple_vector_search extends Primitive
+  {
+    pf_simple_vector_search()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        LispVector v = checkVector(second);
-        if (first.size() == 0)
-          return Fixnum.ZERO;
-        final int patternLength = first.size();
-        final int limit = v.size() - patternLength;
-        if (first instanceof LispVector)
-          {
-            LispVector pattern = (LispVector) first;
-            LispObject element = pattern.AREF(0);
-            for (int i = 0; i <= limit; i++)
-              {
-                if (v.AREF(i).eql(element))
-                  {
-                    // Found match for first element of pattern.
-                    boolean match = true;
-                    // We've already checked the first element.
-                    int j = i + 1;
-                    for (int k = 1; k < patternLength; k++)
-                      {
-                        if (v.AREF(j).eql(pattern.AREF(k)))
-                          {
-                            ++j;
-                          }
-                        else
-                          {
-                            match = false;
-                            break;
-                          }
-                      }
-                    if (match)
-                      return Fixnum.makeFixnum(i);
-                  }
-              }
-          }
-        else
-          {
-            // Pattern is a list.
-            LispObject element = first.CAR();
-            for (int i = 0; i <= limit; i++)
-              {
-                if (v.AREF(i).eql(element))
-                  {
-                    // Found match for first element of pattern.
-                    boolean match = true;
-                    // We've already checked the first element.
-                    int j = i + 1;
-                    for (LispObject rest = first.CDR(); rest != NIL; rest = rest.CDR())
-                      {
-                        if (v.AREF(j).eql(rest.CAR()))
-                          {
-                            ++j;
-                          }
-                        else
-                          {
-                            match = false;
-                            break;
-                          }
-                      }
-                    if (match)
-                      return Fixnum.makeFixnum(i);
-                  }
-              }
-          }
-        return NIL;
-      }
-    };
+      super("simple-vector-search", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      LispVector v = checkVector(second);
+      if (first.size() == 0)
+        return Fixnum.ZERO;
+      final int patternLength = first.size();
+      final int limit = v.size() - patternLength;
+      if (first instanceof LispVector)
+        {
+          LispVector pattern = (LispVector) first;
+          LispObject element = pattern.AREF(0);
+          for (int i = 0; i <= limit; i++)
+            {
+              if (v.AREF(i).eql(element))
+                {
+                  // Found match for first element of pattern.
+                  boolean match = true;
+                  // We've already checked the first element.
+                  int j = i + 1;
+                  for (int k = 1; k < patternLength; k++)
+                    {
+                      if (v.AREF(j).eql(pattern.AREF(k)))
+                        {
+                          ++j;
+                        }
+                      else
+                        {
+                          match = false;
+                          break;
+                        }
+                    }
+                  if (match)
+                    return Fixnum.makeFixnum(i);
+                }
+            }
+        }
+      else
+        {
+          // Pattern is a list.
+          LispObject element = first.CAR();
+          for (int i = 0; i <= limit; i++)
+            {
+              if (v.AREF(i).eql(element))
+                {
+                  // Found match for first element of pattern.
+                  boolean match = true;
+                  // We've already checked the first element.
+                  int j = i + 1;
+                  for (LispObject rest = first.CDR(); rest != NIL; rest = rest.CDR())
+                    {
+                      if (v.AREF(j).eql(rest.CAR()))
+                        {
+                          ++j;
+                        }
+                      else
+                        {
+                          match = false;
+                          break;
+                        }
+                    }
+                  if (match)
+                    return Fixnum.makeFixnum(i);
+                }
+            }
+        }
+      return NIL;
+    }
+  }
 
   // ### uptime
-  private static final Primitive UPTIME =
-    new Primitive("uptime", PACKAGE_EXT, true)
+  private static final LispObject UPTIME =
+    autoloadPrimitive("uptime", PACKAGE_EXT, true, "pf_uptime");
+
+  static final class pf_uptime extends Primitive
+  {
+    pf_uptime()
     {
-      @Override
-      public LispObject execute() throws ConditionThrowable
-      {
-        return number(System.currentTimeMillis() - Main.startTimeMillis);
-      }
-    };
+      super("uptime", PACKAGE_EXT, true);
+    }
+
+    @Override
+    public LispObject execute() throws ConditionThrowable
+    {
+      return number(System.currentTimeMillis() - Main.startTimeMillis);
+    }
+  }
 
   // ### built-in-function-p
-  private static final Primitive BUILT_IN_FUNCTION_P =
-    new Primitive("built-in-function-p", PACKAGE_SYS, true)
+  private static final LispObject BUILT_IN_FUNCTION_P =
+    autoloadPrimitive("built-in-function-p", PACKAGE_SYS, true, "pf_built_in_function_p");
+
+  static final class pf_built_in_function_p extends Primitive
+  {
+    pf_built_in_function_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkSymbol(arg).isBuiltInFunction() ? T : NIL;
-      }
-    };
+      super("built-in-function-p", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkSymbol(arg).isBuiltInFunction() ? T : NIL;
+    }
+  }
 
   // ### inspected-parts
-  private static final Primitive INSPECTED_PARTS =
-    new Primitive("inspected-parts", PACKAGE_SYS, true)
+  private static final LispObject INSPECTED_PARTS =
+    autoloadPrimitive("inspected-parts", PACKAGE_SYS, true, "pf_inspected_parts");
+
+  static final class pf_inspected_parts extends Primitive
+  {
+    pf_inspected_parts()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.getParts();
-      }
-    };
+      super("inspected-parts", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.getParts();
+    }
+  }
 
   // ### inspected-description
-  private static final Primitive INSPECTED_DESCRIPTION =
-    new Primitive("inspected-description", PACKAGE_SYS, false)
+  private static final LispObject INSPECTED_DESCRIPTION =
+    autoloadPrimitive("inspected-description", PACKAGE_SYS, false, "pf_inspected_description");
+
+  static final class pf_inspected_description extends Primitive
+  {
+    pf_inspected_description()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        return arg.getDescription();
-      }
-    };
+      super("inspected-description", PACKAGE_SYS, false);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      return arg.getDescription();
+    }
+  }
 
   // ### symbol-name
-  public static final Primitive SYMBOL_NAME =
-    new Primitive(SymbolConstants.SYMBOL_NAME, "symbol")
+  public static final Primitive SYMBOL_NAME = new pf_symbol_name();
+
+  static final class pf_symbol_name extends Primitive
+  {
+    pf_symbol_name()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return checkSymbol(arg).getSymbolName();
-      }
-    };
+      super(SymbolConstants.SYMBOL_NAME, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return checkSymbol(arg).getSymbolName();
+    }
+  }
 
   // ### symbol-package
-  public static final Primitive SYMBOL_PACKAGE =
-    new Primitive(SymbolConstants.SYMBOL_PACKAGE, "symbol")
+  public static final Primitive SYMBOL_PACKAGE = new pf_symbol_package();
+
+  static final class pf_symbol_package extends Primitive
+  {
+    pf_symbol_package()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return checkSymbol(arg).getLispPackage();
-      }
-    };
+      super(SymbolConstants.SYMBOL_PACKAGE, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return checkSymbol(arg).getLispPackage();
+    }
+  }
 
   // ### symbol-function
-  public static final Primitive SYMBOL_FUNCTION =
-    new Primitive(SymbolConstants.SYMBOL_FUNCTION, "symbol")
+  public static final Primitive SYMBOL_FUNCTION = new pf_symbol_function();
+
+  static final class pf_symbol_function extends Primitive
+  {
+    pf_symbol_function()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            LispObject function = checkSymbol(arg).getSymbolFunction();
-            if (function != null)
-              return function;
-            return error(new UndefinedFunction(arg));
+      super(SymbolConstants.SYMBOL_FUNCTION, "symbol");
+    }
 
-      }
-    };
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          final Symbol symbol = checkSymbol(arg);
+          LispObject function = symbol.getSymbolFunction();
+          // A proxy replaces itself with the function when it's first
+          // called, so return the function, which keeps its identity.
+          if (function instanceof AutoloadedFunctionProxy)
+            {
+              ((AutoloadedFunctionProxy)function).load();
+              function = symbol.getSymbolFunction();
+            }
+          if (function != null)
+            return function;
+          return error(new UndefinedFunction(arg));
+
+    }
+  }
 
   // ### %set-symbol-function
-  public static final Primitive _SET_SYMBOL_FUNCTION =
-    new Primitive("%set-symbol-function", PACKAGE_SYS, false, "symbol function")
+  public static final Primitive _SET_SYMBOL_FUNCTION = new pf__set_symbol_function();
+
+  static final class pf__set_symbol_function extends Primitive
+  {
+    pf__set_symbol_function()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-            checkSymbol(first).setSymbolFunction(second);
-            return second;
-      }
-    };
+      super("%set-symbol-function", PACKAGE_SYS, false, "symbol function");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+          checkSymbol(first).setSymbolFunction(second);
+          return second;
+    }
+  }
 
   // ### symbol-plist
-  public static final Primitive SYMBOL_PLIST =
-    new Primitive(SymbolConstants.SYMBOL_PLIST, "symbol")
+  public static final Primitive SYMBOL_PLIST = new pf_symbol_plist();
+
+  static final class pf_symbol_plist extends Primitive
+  {
+    pf_symbol_plist()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkSymbol(arg).getPropertyList();
-      }
-    };
+      super(SymbolConstants.SYMBOL_PLIST, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkSymbol(arg).getPropertyList();
+    }
+  }
 
   // ### keywordp
-  public static final Primitive KEYWORDP =
-    new Primitive(SymbolConstants.KEYWORDP, "object")
+  public static final Primitive KEYWORDP = new pf_keywordp();
+
+  static final class pf_keywordp extends Primitive
+  {
+    pf_keywordp()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof Symbol)
-          {
-            if (checkSymbol(arg).getLispPackage() == PACKAGE_KEYWORD)
-              return T;
-          }
-        return NIL;
-      }
-    };
+      super(SymbolConstants.KEYWORDP, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof Symbol)
+        {
+          if (checkSymbol(arg).getLispPackage() == PACKAGE_KEYWORD)
+            return T;
+        }
+      return NIL;
+    }
+  }
 
   // ### make-symbol
-  public static final Primitive MAKE_SYMBOL =
-    new Primitive(SymbolConstants.MAKE_SYMBOL, "name")
+  public static final Primitive MAKE_SYMBOL = new pf_make_symbol();
+
+  static final class pf_make_symbol extends Primitive
+  {
+    pf_make_symbol()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        if (arg instanceof SimpleString)
-          return makeSymbol((SimpleString)arg);
-        // Not a simple string.
-        if (arg instanceof AbstractString)
-          return Lisp.makeSymbol(arg.getStringValue());
-        return type_error(arg, SymbolConstants.STRING);
-      }
-    };
+      super(SymbolConstants.MAKE_SYMBOL, "name");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      if (arg instanceof SimpleString)
+        return makeSymbol((SimpleString)arg);
+      // Not a simple string.
+      if (arg instanceof AbstractString)
+        return Lisp.makeSymbol(arg.getStringValue());
+      return type_error(arg, SymbolConstants.STRING);
+    }
+  }
 
   // ### makunbound
-  public static final Primitive MAKUNBOUND =
-    new Primitive(SymbolConstants.MAKUNBOUND, "symbol")
+  public static final Primitive MAKUNBOUND = new pf_makunbound();
+
+  static final class pf_makunbound extends Primitive
+  {
+    pf_makunbound()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            checkSymbol(arg).setSymbolValue(null);
-            return arg;
-      }
-    };
+      super(SymbolConstants.MAKUNBOUND, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          checkSymbol(arg).setSymbolValue(null);
+          return arg;
+    }
+  }
 
   // ### %class-name
-  private static final Primitive _CLASS_NAME =
-    new Primitive("%class-name", PACKAGE_SYS, true, "class")
+  private static final LispObject _CLASS_NAME =
+    autoloadPrimitive("%class-name", PACKAGE_SYS, true, "pf__class_name");
+
+  static final class pf__class_name extends Primitive
+  {
+    pf__class_name()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return checkClass(arg).symbol;
-      }
-    };
+      super("%class-name", PACKAGE_SYS, true, "class");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return checkClass(arg).symbol;
+    }
+  }
 
   // ### %set-class-name
-  private static final Primitive _SET_CLASS_NAME =
-    new Primitive("%set-class-name", PACKAGE_SYS, true)
+  private static final LispObject _SET_CLASS_NAME =
+    autoloadPrimitive("%set-class-name", PACKAGE_SYS, true, "pf__set_class_name");
+
+  static final class pf__set_class_name extends Primitive
+  {
+    pf__set_class_name()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-          checkClass(first).symbol = checkSymbol(second);
-          return second;
-      }
-    };
+      super("%set-class-name", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+        checkClass(first).symbol = checkSymbol(second);
+        return second;
+    }
+  }
 
   // ### class-layout
-  private static final Primitive CLASS_LAYOUT =
-    new Primitive("class-layout", PACKAGE_SYS, true, "class")
+  private static final LispObject CLASS_LAYOUT =
+    autoloadPrimitive("class-layout", PACKAGE_SYS, true, "pf_class_layout");
+
+  static final class pf_class_layout extends Primitive
+  {
+    pf_class_layout()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          Layout layout = checkClass(arg).getClassLayout();
-          return layout != null ? layout : NIL;
-      }
-    };
+      super("class-layout", PACKAGE_SYS, true, "class");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        Layout layout = checkClass(arg).getClassLayout();
+        return layout != null ? layout : NIL;
+    }
+  }
 
   // ### %set-class-layout
-  private static final Primitive _SET_CLASS_LAYOUT =
-    new Primitive("%set-class-layout", PACKAGE_SYS, true, "class layout")
+  private static final LispObject _SET_CLASS_LAYOUT =
+    autoloadPrimitive("%set-class-layout", PACKAGE_SYS, true, "pf__set_class_layout");
+
+  static final class pf__set_class_layout extends Primitive
+  {
+    pf__set_class_layout()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-        if (second instanceof Layout)
-          {
-            checkClass(first).setClassLayout((Layout)second);
-            return second;
-          }
-        return type_error(second, SymbolConstants.LAYOUT);
-      }
-    };
+      super("%set-class-layout", PACKAGE_SYS, true, "class layout");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+      if (second instanceof Layout)
+        {
+          checkClass(first).setClassLayout((Layout)second);
+          return second;
+        }
+      return type_error(second, SymbolConstants.LAYOUT);
+    }
+  }
 
   // ### class-direct-superclasses
-  private static final Primitive CLASS_DIRECT_SUPERCLASSES =
-    new Primitive("class-direct-superclasses", PACKAGE_SYS, true)
+  private static final LispObject CLASS_DIRECT_SUPERCLASSES =
+    autoloadPrimitive("class-direct-superclasses", PACKAGE_SYS, true, "pf_class_direct_superclasses");
+
+  static final class pf_class_direct_superclasses extends Primitive
+  {
+    pf_class_direct_superclasses()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkClass(arg).getDirectSuperclasses();
-      }
-    };
+      super("class-direct-superclasses", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkClass(arg).getDirectSuperclasses();
+    }
+  }
 
   // ### %set-class-direct-superclasses
-  private static final Primitive _SET_CLASS_DIRECT_SUPERCLASSES =
-    new Primitive("%set-class-direct-superclasses", PACKAGE_SYS, true)
+  private static final LispObject _SET_CLASS_DIRECT_SUPERCLASSES =
+    autoloadPrimitive("%set-class-direct-superclasses", PACKAGE_SYS, true, "pf__set_class_direct_superclasses");
+
+  static final class pf__set_class_direct_superclasses extends Primitive
+  {
+    pf__set_class_direct_superclasses()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-            checkClass(first).setDirectSuperclasses(second);
-            return second;
-      }
-    };
+      super("%set-class-direct-superclasses", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+          checkClass(first).setDirectSuperclasses(second);
+          return second;
+    }
+  }
 
   // ### class-direct-subclasses
-  private static final Primitive CLASS_DIRECT_SUBCLASSES =
-    new Primitive("class-direct-subclasses", PACKAGE_SYS, true)
+  private static final LispObject CLASS_DIRECT_SUBCLASSES =
+    autoloadPrimitive("class-direct-subclasses", PACKAGE_SYS, true, "pf_class_direct_subclasses");
+
+  static final class pf_class_direct_subclasses extends Primitive
+  {
+    pf_class_direct_subclasses()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkClass(arg).getDirectSubclasses();
-      }
-    };
+      super("class-direct-subclasses", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkClass(arg).getDirectSubclasses();
+    }
+  }
 
   // ### %set-class-direct-subclasses
-  private static final Primitive _SET_CLASS_DIRECT_SUBCLASSES =
-    new Primitive("%set-class-direct-subclasses", PACKAGE_SYS, true,
-                  "class direct-subclasses")
+  private static final LispObject _SET_CLASS_DIRECT_SUBCLASSES =
+    autoloadPrimitive("%set-class-direct-subclasses", PACKAGE_SYS, true, "pf__set_class_direct_subclasses");
+
+  static final class pf__set_class_direct_subclasses extends Primitive
+  {
+    pf__set_class_direct_subclasses()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-          checkClass(first).setDirectSubclasses(second);
-          return second;
-      }
-    };
+      super("%set-class-direct-subclasses", PACKAGE_SYS, true, "class direct-subclasses");
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+        checkClass(first).setDirectSubclasses(second);
+        return second;
+    }
+  }
 
   // ### %class-precedence-list
-  private static final Primitive _CLASS_PRECEDENCE_LIST =
-    new Primitive("%class-precedence-list", PACKAGE_SYS, true)
+  private static final LispObject _CLASS_PRECEDENCE_LIST =
+    autoloadPrimitive("%class-precedence-list", PACKAGE_SYS, true, "pf__class_precedence_list");
+
+  static final class pf__class_precedence_list extends Primitive
+  {
+    pf__class_precedence_list()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return checkClass(arg).getCPL();
-      }
-    };
+      super("%class-precedence-list", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return checkClass(arg).getCPL();
+    }
+  }
 
   // ### set-class-precedence-list
-  private static final Primitive SET_CLASS_PRECEDENCE_LIST =
-    new Primitive("set-class-precedence-list", PACKAGE_SYS, true)
+  private static final LispObject SET_CLASS_PRECEDENCE_LIST =
+    autoloadPrimitive("set-class-precedence-list", PACKAGE_SYS, true, "pf_set_class_precedence_list");
+
+  static final class pf_set_class_precedence_list extends Primitive
+  {
+    pf_set_class_precedence_list()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-          checkClass(first).classPrecedenceList = second;
-          return second;
-      }
-    };
+      super("set-class-precedence-list", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+        checkClass(first).classPrecedenceList = second;
+        return second;
+    }
+  }
 
   // ### class-direct-methods
-  private static final Primitive CLASS_DIRECT_METHODS =
-    new Primitive("class-direct-methods", PACKAGE_SYS, true)
+  private static final LispObject CLASS_DIRECT_METHODS =
+    autoloadPrimitive("class-direct-methods", PACKAGE_SYS, true, "pf_class_direct_methods");
+
+  static final class pf_class_direct_methods extends Primitive
+  {
+    pf_class_direct_methods()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-        throws ConditionThrowable
-      {
-          return checkClass(arg).directMethods;
-      }
-    };
+      super("class-direct-methods", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+      throws ConditionThrowable
+    {
+        return checkClass(arg).directMethods;
+    }
+  }
 
   // ### %set-class-direct-methods
-  private static final Primitive _SET_CLASS_DIRECT_METHODS =
-    new Primitive("%set-class-direct-methods", PACKAGE_SYS, true)
+  private static final LispObject _SET_CLASS_DIRECT_METHODS =
+    autoloadPrimitive("%set-class-direct-methods", PACKAGE_SYS, true, "pf__set_class_direct_methods");
+
+  static final class pf__set_class_direct_methods extends Primitive
+  {
+    pf__set_class_direct_methods()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-          checkClass(first).directMethods = second;
-          return second;
-      }
-    };
+      super("%set-class-direct-methods", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+        checkClass(first).directMethods = second;
+        return second;
+    }
+  }
 
   // ### class-documentation
-  private static final Primitive CLASS_DOCUMENTATION =
-    new Primitive("class-documentation", PACKAGE_SYS, true)
+  private static final LispObject CLASS_DOCUMENTATION =
+    autoloadPrimitive("class-documentation", PACKAGE_SYS, true, "pf_class_documentation");
+
+  static final class pf_class_documentation extends Primitive
+  {
+    pf_class_documentation()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-        throws ConditionThrowable
-      {
-          return checkClass(arg).documentation;
-      }
-    };
+      super("class-documentation", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+      throws ConditionThrowable
+    {
+        return checkClass(arg).documentation;
+    }
+  }
 
   // ### %set-class-documentation
-  private static final Primitive _SET_CLASS_DOCUMENTATION =
-    new Primitive("%set-class-documentation", PACKAGE_SYS, true)
+  private static final LispObject _SET_CLASS_DOCUMENTATION =
+    autoloadPrimitive("%set-class-documentation", PACKAGE_SYS, true, "pf__set_class_documentation");
+
+  static final class pf__set_class_documentation extends Primitive
+  {
+    pf__set_class_documentation()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-          checkClass(first).documentation = second;
-          return second;
-      }
-    };
+      super("%set-class-documentation", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+        checkClass(first).documentation = second;
+        return second;
+    }
+  }
 
   // ### class-finalized-p
-  private static final Primitive CLASS_FINALIZED_P =
-    new Primitive("class-finalized-p", PACKAGE_SYS, true)
+  private static final LispObject CLASS_FINALIZED_P =
+    autoloadPrimitive("class-finalized-p", PACKAGE_SYS, true, "pf_class_finalized_p");
+
+  static final class pf_class_finalized_p extends Primitive
+  {
+    pf_class_finalized_p()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-            return checkClass(arg).isFinalized() ? T : NIL;
-      }
-    };
+      super("class-finalized-p", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+          return checkClass(arg).isFinalized() ? T : NIL;
+    }
+  }
 
   // ### %set-class-finalized-p
-  private static final Primitive _SET_CLASS_FINALIZED_P =
-    new Primitive("%set-class-finalized-p", PACKAGE_SYS, true)
+  private static final LispObject _SET_CLASS_FINALIZED_P =
+    autoloadPrimitive("%set-class-finalized-p", PACKAGE_SYS, true, "pf__set_class_finalized_p");
+
+  static final class pf__set_class_finalized_p extends Primitive
+  {
+    pf__set_class_finalized_p()
     {
-      @Override
-      public LispObject execute(LispObject first, LispObject second)
-        throws ConditionThrowable
-      {
-          checkClass(first).setFinalized(second != NIL);
-          return second;
-      }
-    };
+      super("%set-class-finalized-p", PACKAGE_SYS, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject first, LispObject second)
+      throws ConditionThrowable
+    {
+        checkClass(first).setFinalized(second != NIL);
+        return second;
+    }
+  }
 
   // ### classp
-  private static final Primitive CLASSP =
-    new Primitive("classp", PACKAGE_EXT, true)
+  private static final LispObject CLASSP =
+    autoloadPrimitive("classp", PACKAGE_EXT, true, "pf_classp");
+
+  static final class pf_classp extends Primitive
+  {
+    pf_classp()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg instanceof LispClass ? T : NIL;
-      }
-    };
+      super("classp", PACKAGE_EXT, true);
+    }
 
-  // ### char-to-utf8 char => octets
-  private static final Primitive CHAR_TO_UTF8 =
-    new Primitive("char-to-utf8", PACKAGE_EXT, true)
+    @Override
+    public LispObject execute(LispObject arg)
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-        final LispCharacter c;
-        c = checkCharacter( arg);
-        char[] chars = new char[1];
-        chars[0] = c.value;
-        String s = new String(chars);
-        final byte[] bytes;
-        try
-          {
-            bytes = s.getBytes("UTF8");
-          }
-        catch (java.io.UnsupportedEncodingException e)
-          {
-            return error(new LispError("UTF8 is not a supported encoding."));
-          }
-        LispObject[] objects = new LispObject[bytes.length];
-        for (int i = bytes.length; i-- > 0;)
-          {
-            int n = bytes[i];
-            if (n < 0)
-              n += 256;
-            objects[i] = Fixnum.makeFixnum(n);
-          }
-        return new SimpleVector(objects);
-      }
-    };
+      return arg instanceof LispClass ? T : NIL;
+    }
+  }
+
+  // ### char-to-utf8 char => octets
+  private static final LispObject CHAR_TO_UTF8 =
+    autoloadPrimitive("char-to-utf8", PACKAGE_EXT, true, "pf_char_to_utf8");
+
+  static final class pf_char_to_utf8 extends Primitive
+  {
+    pf_char_to_utf8()
+    {
+      super("char-to-utf8", PACKAGE_EXT, true);
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+      final LispCharacter c;
+      c = checkCharacter( arg);
+      char[] chars = new char[1];
+      chars[0] = c.value;
+      String s = new String(chars);
+      final byte[] bytes;
+      try
+        {
+          bytes = s.getBytes("UTF8");
+        }
+      catch (java.io.UnsupportedEncodingException e)
+        {
+          return error(new LispError("UTF8 is not a supported encoding."));
+        }
+      LispObject[] objects = new LispObject[bytes.length];
+      for (int i = bytes.length; i-- > 0;)
+        {
+          int n = bytes[i];
+          if (n < 0)
+            n += 256;
+          objects[i] = Fixnum.makeFixnum(n);
+        }
+      return new SimpleVector(objects);
+    }
+  }
 
   // ### %documentation
-  private static final Primitive _DOCUMENTATION =
-    new Primitive("%documentation", PACKAGE_SYS, true,
-                  "object doc-type")
+  private static final LispObject _DOCUMENTATION =
+    autoloadPrimitive("%documentation", PACKAGE_SYS, true, "pf__documentation");
+
+  static final class pf__documentation extends Primitive
+  {
+    pf__documentation()
     {
-      @Override
-      public LispObject execute(LispObject object, LispObject docType)
-        throws ConditionThrowable
-      {
-        LispObject doc = object.getDocumentation(docType);
-        if (doc == NIL)
-          {
-            if (docType == SymbolConstants.FUNCTION && object instanceof Symbol)
-              {
-                LispObject function = object.getSymbolFunction();
-                if (function != null)
-                  doc = function.getDocumentation(docType);
-              }
-          }
-        return doc;
-      }
-    };
+      super("%documentation", PACKAGE_SYS, true, "object doc-type");
+    }
+
+    @Override
+    public LispObject execute(LispObject object, LispObject docType)
+      throws ConditionThrowable
+    {
+      LispObject doc = object.getDocumentation(docType);
+      if (doc == NIL)
+        {
+          if (docType == SymbolConstants.FUNCTION && object instanceof Symbol)
+            {
+              LispObject function = object.getSymbolFunction();
+              if (function != null)
+                doc = function.getDocumentation(docType);
+            }
+        }
+      return doc;
+    }
+  }
 
   // ### %set-documentation
-  private static final Primitive _SET_DOCUMENTATION =
-    new Primitive("%set-documentation", PACKAGE_SYS, true,
-                  "object doc-type documentation")
+  private static final LispObject _SET_DOCUMENTATION =
+    autoloadPrimitive("%set-documentation", PACKAGE_SYS, true, "pf__set_documentation");
+
+  static final class pf__set_documentation extends Primitive
+  {
+    pf__set_documentation()
     {
-      @Override
-      public LispObject execute(LispObject object, LispObject docType,
-                                LispObject documentation)
-        throws ConditionThrowable
-      {
-        object.setDocumentation(docType, documentation);
-        return documentation;
-      }
-    };
+      super("%set-documentation", PACKAGE_SYS, true, "object doc-type documentation");
+    }
+
+    @Override
+    public LispObject execute(LispObject object, LispObject docType,
+                              LispObject documentation)
+      throws ConditionThrowable
+    {
+      object.setDocumentation(docType, documentation);
+      return documentation;
+    }
+  }
 
   // ### %putf
-  private static final Primitive _PUTF =
-    new Primitive("%putf", PACKAGE_SYS, true,
-                  "plist indicator new-value")
+  private static final LispObject _PUTF =
+    autoloadPrimitive("%putf", PACKAGE_SYS, true, "pf__putf");
+
+  static final class pf__putf extends Primitive
+  {
+    pf__putf()
     {
-      @Override
-      public LispObject execute(LispObject plist, LispObject indicator,
-                                LispObject newValue)
-        throws ConditionThrowable
-      {
-        return putf(plist, indicator, newValue);
-      }
-    };
+      super("%putf", PACKAGE_SYS, true, "plist indicator new-value");
+    }
+
+    @Override
+    public LispObject execute(LispObject plist, LispObject indicator,
+                              LispObject newValue)
+      throws ConditionThrowable
+    {
+      return putf(plist, indicator, newValue);
+    }
+  }
 
   // ### function-plist
-  private static final Primitive FUNCTION_PLIST =
-    new Primitive("function-plist", PACKAGE_SYS, true, "function")
+  private static final LispObject FUNCTION_PLIST =
+    autoloadPrimitive("function-plist", PACKAGE_SYS, true, "pf_function_plist");
+
+  static final class pf_function_plist extends Primitive
+  {
+    pf_function_plist()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return checkFunction(arg).getPropertyList();
-      }
-    };
+      super("function-plist", PACKAGE_SYS, true, "function");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        return checkFunction(arg).getPropertyList();
+    }
+  }
 
   // ### make-keyword
-  private static final Primitive MAKE_KEYWORD =
-    new Primitive("make-keyword", PACKAGE_SYS, true, "symbol")
+  private static final LispObject MAKE_KEYWORD =
+    autoloadPrimitive("make-keyword", PACKAGE_SYS, true, "pf_make_keyword");
+
+  static final class pf_make_keyword extends Primitive
+  {
+    pf_make_keyword()
     {
-      @Override
-      public LispObject execute(LispObject arg) throws ConditionThrowable
-      {
-          return PACKAGE_KEYWORD.intern(checkSymbol(arg).getSymbolName());
-      }
-    };
+      super("make-keyword", PACKAGE_SYS, true, "symbol");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg) throws ConditionThrowable
+    {
+        final Symbol symbol = checkSymbol(arg);
+        return PACKAGE_KEYWORD.intern(symbol.getSymbolName(), symbol.sxhash());
+    }
+  }
 
   // ### standard-object-p object => generalized-boolean
-  private static final Primitive STANDARD_OBJECT_P =
-    new Primitive("standard-object-p", PACKAGE_SYS, true, "object")
+  private static final LispObject STANDARD_OBJECT_P =
+    autoloadPrimitive("standard-object-p", PACKAGE_SYS, true, "pf_standard_object_p");
+
+  static final class pf_standard_object_p extends Primitive
+  {
+    pf_standard_object_p()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        return arg instanceof StandardObject ? T : NIL;
-      }
-    };
+      super("standard-object-p", PACKAGE_SYS, true, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      return arg instanceof StandardObject ? T : NIL;
+    }
+  }
 
   // ### copy-tree
-  private static final Primitive COPY_TREE =
-    new Primitive(SymbolConstants.COPY_TREE, "object")
+  private static final LispObject COPY_TREE =
+    autoloadPrimitive(SymbolConstants.COPY_TREE, "pf_copy_tree");
+
+  static final class pf_copy_tree extends Primitive
+  {
+    pf_copy_tree()
     {
-      @Override
-      public LispObject execute(LispObject arg)
-      {
-        if (arg instanceof Cons)
-          {
-            Cons cons = (Cons) arg;
-            return makeCons(execute(cons.CAR()), execute(cons.CDR()));
-          }
-        else
-          return arg;
-      }
-    };
+      super(SymbolConstants.COPY_TREE, "object");
+    }
+
+    @Override
+    public LispObject execute(LispObject arg)
+    {
+      if (arg instanceof Cons)
+        {
+          Cons cons = (Cons) arg;
+          return makeCons(execute(cons.CAR()), execute(cons.CDR()));
+        }
+      else
+        return arg;
+    }
+  }
     
 }
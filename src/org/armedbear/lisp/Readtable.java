@@ -46,7 +46,7 @@ public class Readtable extends AbstractLispObject
   public static final byte SYNTAX_TYPE_SINGLE_ESCAPE         = 4;
   public static final byte SYNTAX_TYPE_MULTIPLE_ESCAPE       = 5;
 
-  protected final CharHashMap<Byte>         syntax               = new CharHashMap<Byte>(Byte.class,SYNTAX_TYPE_CONSTITUENT);
+  protected final CharByteMap               syntax               = new CharByteMap(SYNTAX_TYPE_CONSTITUENT);
   protected final CharHashMap<LispObject>   readerMacroFunctions = new CharHashMap<LispObject>(LispObject.class,null);
   protected final CharHashMap<DispatchTable> dispatchTables       = new CharHashMap<DispatchTable>(DispatchTable.class,null);// new DispatchTable[CHAR_MAX];
 
@@ -59,7 +59,7 @@ public class Readtable extends AbstractLispObject
 
   protected void initialize()
   {
-	Byte[] syntax = this.syntax.constants;
+	byte[] syntax = this.syntax.constants;
     syntax[9]    = SYNTAX_TYPE_WHITESPACE; // tab
     syntax[10]   = SYNTAX_TYPE_WHITESPACE; // linefeed
     syntax[12]   = SYNTAX_TYPE_WHITESPACE; // form feed
@@ -142,12 +142,7 @@ public class Readtable extends AbstractLispObject
     Iterator<Character> rmIterator = from.syntax.getCharIterator();
     while (rmIterator.hasNext()) {
     	char c = rmIterator.next();
-        Byte dt = from.syntax.get(c);
-        if (dt!=null) {
-            to.syntax.put(c, dt);        	
-        } else {
-            to.syntax.put(c, null);        	
-        }    	
+        to.syntax.put(c, from.syntax.get(c));
     }
     
     rmIterator = from.readerMacroFunctions.getCharIterator();
@@ -47,6 +47,11 @@ public final class SocketStream extends TwoWayStream
         this.socket = socket;
     }
 
+    public Socket getSocket()
+    {
+        return socket;
+    }
+
     @Override
     public LispObject typeOf()
     {
@@ -72,6 +77,18 @@ public final class SocketStream extends TwoWayStream
     @Override
     public LispObject close(LispObject abort) throws ConditionThrowable
     {
+	// Closing the socket drops anything still buffered for it.
+	if (abort == NIL && isOpen()) {
+	    _finishOutput();
+	    // In an event loop callback, output the socket hasn't taken yet
+	    // is still queued; the loop closes the socket once it is sent.
+	    EventLoop loop = EventLoop.current();
+	    if (loop != null && socket.getChannel() != null
+		&& loop.closeWhenSent(socket.getChannel())) {
+		setOpen(false);
+		return T;
+	    }
+	}
 	try {
 	    socket.close();
 	    setOpen(false);
@@ -456,6 +456,12 @@ public final class SpecialOperators extends LispFile
                 Autoload autoload = (Autoload) operator;
                 autoload.load();
                 operator = autoload.getSymbol().getSymbolFunction();
+                // Loading a system file may have installed a proxy.
+                if (operator instanceof AutoloadedFunctionProxy)
+                  {
+                    ((AutoloadedFunctionProxy)operator).load();
+                    operator = autoload.getSymbol().getSymbolFunction();
+                  }
               }
             if (operator instanceof Function)
               return operator;
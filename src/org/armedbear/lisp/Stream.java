@@ -49,6 +49,8 @@ import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
 import java.util.BitSet;
 
@@ -91,6 +93,17 @@ public class Stream extends AbstractLispObject
     LF
   }
 
+  /** When buffered character output is pushed to the underlying writer
+   *
+   * NONE flushes after every write, LINE after every newline, and FULL
+   * only when the buffer fills or on FINISH-OUTPUT/FORCE-OUTPUT/CLOSE.
+   */
+  public enum Buffering {
+    NONE,
+    LINE,
+    FULL
+  }
+
   static final protected Symbol keywordDefault = internKeyword("DEFAULT");
   
   static final private Symbol keywordCodePage = internKeyword("CODE-PAGE");
@@ -101,6 +114,10 @@ public class Stream extends AbstractLispObject
   static final private Symbol keywordLF = internKeyword("LF");
   static final private Symbol keywordCRLF = internKeyword("CRLF");
   static final private Symbol keywordRAW = internKeyword("RAW");
+
+  static final private Symbol keywordNone = internKeyword("NONE");
+  static final private Symbol keywordLine = internKeyword("LINE");
+  static final private Symbol keywordFull = internKeyword("FULL");
     
   public final static EolStyle platformEolStyle = Utilities.isPlatformWindows ? EolStyle.CRLF : EolStyle.LF;
     
@@ -109,6 +126,7 @@ public class Stream extends AbstractLispObject
   protected LispObject externalFormat = NIL;
   protected String encoding = null;
   protected char lastChar = 0;
+  protected Buffering buffering = Buffering.LINE;
   
   // Binary input.
   private InputStream in;
@@ -191,7 +209,7 @@ public class Stream extends AbstractLispObject
   protected void initAsCharacterInputStream(Reader reader)
   {
     if (! (reader instanceof PushbackReader))
-        this.reader = new PushbackReader(reader, 5);
+        this.reader = new BufferedPushbackReader(reader);
     else
         this.reader = (PushbackReader)reader;
     
@@ -257,6 +275,16 @@ public class Stream extends AbstractLispObject
     interactive = b;
   }
 
+  public Buffering getBuffering() throws ConditionThrowable
+  {
+    return buffering;
+  }
+
+  public void setBuffering(Buffering buffering) throws ConditionThrowable
+  {
+    this.buffering = buffering;
+  }
+
   public LispObject getExternalFormat() {
       return externalFormat;
   }
@@ -1185,11 +1213,12 @@ public class Stream extends AbstractLispObject
                                              "\" not found."));
             final String symbolName = token.substring(index + 1);
             final SimpleString s = new SimpleString(symbolName);
-            Symbol symbol = pkg.findExternalSymbol(s);
+            final int hash = s.sxhash();
+            Symbol symbol = pkg.findExternalSymbol(s, hash);
             if (symbol != null)
               return symbol;
             // Error!
-            if (pkg.findInternalSymbol(s) != null)
+            if (pkg.findInternalSymbol(s, hash) != null)
               return error(new ReaderError("The symbol \"" + symbolName +
                                             "\" is not external in package " +
                                             packageName + '.',
@@ -1202,7 +1231,8 @@ public class Stream extends AbstractLispObject
           }
       }
     // Intern token in current package.
-    return ((LispPackage)SymbolConstants._PACKAGE_.symbolValue(thread)).intern(new SimpleString(token));
+    final SimpleString s = new SimpleString(token);
+    return ((LispPackage)SymbolConstants._PACKAGE_.symbolValue(thread)).intern(s, s.sxhash());
   }
 
   private final BitSet _readToken(FastStringBuffer sb, Readtable rt)
@@ -1271,6 +1301,19 @@ public class Stream extends AbstractLispObject
               break;
             }
           byte syntaxType = rt.getSyntaxType(c);
+          if (syntaxType == Readtable.SYNTAX_TYPE_CONSTITUENT && c > ' ' && c < 127)
+            {
+              // Take the rest of a run of plain constituents straight from
+              // the buffer.
+              if (readtableCase == Keyword.UPCASE)
+                c = LispCharacter.toUpperCase(c);
+              else if (readtableCase == Keyword.DOWNCASE)
+                c = LispCharacter.toLowerCase(c);
+              sb.append(c);
+              _readBuffered(sb, rt.syntax.constants,
+                            Readtable.SYNTAX_TYPE_CONSTITUENT, readtableCase);
+              continue;
+            }
           if (syntaxType == Readtable.SYNTAX_TYPE_TERMINATING_MACRO)
             {
               _unreadChar(c);
@@ -1626,6 +1669,8 @@ public class Stream extends AbstractLispObject
             char c = (char) n;
             if (!rt.isWhitespace(c))
                 return c;
+            _readBuffered(null, rt.syntax.constants,
+                          Readtable.SYNTAX_TYPE_WHITESPACE, null);
           }
       } 
     catch (IOException e)
@@ -1947,6 +1992,72 @@ public class Stream extends AbstractLispObject
     return n;
   }
 
+  /** Returns the characters already read ahead of the stream's position,
+   * which the Lisp reader may scan in place, or null
+   *
+   * Taking characters from the buffer consumes them.
+   */
+  protected CharBuffer readAheadBuffer()
+  {
+    if (reader instanceof BufferedPushbackReader)
+      return ((BufferedPushbackReader)reader).buffer;
+    return null;
+  }
+
+  /** Consumes the run of read-ahead characters whose syntax type in the
+   * ASCII syntax table is syntaxType, appending them to sb (if it is not
+   * null) with their case converted for readtableCase
+   *
+   * Only printable ASCII characters, plus tab when skipping whitespace,
+   * are taken; line ends and anything needing more care are left for
+   * _readChar().
+   */
+  protected void _readBuffered(FastStringBuffer sb, byte[] syntax,
+                               byte syntaxType, LispObject readtableCase)
+    throws ConditionThrowable
+  {
+    final CharBuffer buffer = readAheadBuffer();
+    if (buffer == null)
+      return;
+    final char[] chars = buffer.array();
+    final int base = buffer.arrayOffset();
+    final int start = base + buffer.position();
+    final int limit = base + buffer.limit();
+    final boolean upcase = readtableCase == Keyword.UPCASE;
+    final boolean downcase = readtableCase == Keyword.DOWNCASE;
+    int i = start;
+    while (i < limit)
+      {
+        char c = chars[i];
+        if (c >= 127 || syntax[c] != syntaxType)
+          break;
+        if (sb == null)
+          {
+            if (c < ' ' && c != '\t')
+              break;
+          }
+        else
+          {
+            if (c <= ' ')
+              break;
+            if (upcase)
+              {
+                if (c >= 'a' && c <= 'z')
+                  c -= 'a' - 'A';
+              }
+            else if (downcase)
+              {
+                if (c >= 'A' && c <= 'Z')
+                  c += 'a' - 'A';
+              }
+            sb.append(c);
+          }
+        ++i;
+      }
+    buffer.position(i - base);
+    offset += i - start;
+  }
+
   /** Puts a character back into the (underlying) stream
    * 
    * @param n
@@ -1980,6 +2091,52 @@ public class Stream extends AbstractLispObject
     return reader.ready();
   }
 
+  /** Reads characters off an underlying stream into chars[start..end),
+   * applying the same end-of-line translation as _readChar()
+   *
+   * @param chars
+   * @param start
+   * @param end
+   * @return the index following the last character stored; less than
+   *         end only at end-of-file
+   * @throws org.armedbear.lisp.ConditionThrowable
+   */
+  protected int _readChars(char[] chars, int start, int end)
+    throws ConditionThrowable, IOException
+  {
+    if (reader == null || eolStyle == EolStyle.CRLF)
+      {
+        // Composite streams override _readChar(); CRLF needs lookahead.
+        for (int i = start; i < end; i++)
+          {
+            int n = _readChar();
+            if (n < 0)
+              return i;
+            chars[i] = (char) n;
+          }
+        return end;
+      }
+
+    int pos = start;
+    while (pos < end)
+      {
+        int n = reader.read(chars, pos, end - pos);
+        if (n < 0)
+          {
+            pastEnd = true;
+            break;
+          }
+        offset += n;
+        for (int limit = pos + n; pos < limit; pos++)
+          if (chars[pos] == eolChar)
+            {
+              chars[pos] = '\n';
+              ++lineNumber;
+            }
+      }
+    return pos;
+  }
+
   /** Writes a character into the underlying stream,
    * updating charPos while doing so
    * 
@@ -1996,12 +2153,15 @@ public class Stream extends AbstractLispObject
 
           writer.write(eolChar);
           lastChar = eolChar;
-          writer.flush();
+          if (buffering != Buffering.FULL)
+            writer.flush();
           charPos = 0;
         } else {
           writer.write(c);
           lastChar = c;
           ++charPos;
+          if (buffering == Buffering.NONE)
+            writer.flush();
         }
       }
     catch (NullPointerException e)
@@ -2029,10 +2189,25 @@ public class Stream extends AbstractLispObject
     try
       {
         if (eolStyle != EolStyle.RAW) {
+          // Write the runs between newlines as chunks, and let
+          // _writeChar() translate the newlines themselves.
+          int chunk = start;
           for (int i = start; i < end; i++)
-            //###FIXME: the number of writes can be greatly reduced by
-            // writing the space between newlines as chunks.
-            _writeChar(chars[i]);
+            if (chars[i] == '\n') {
+              if (chunk < i) {
+                writer.write(chars, chunk, i - chunk);
+                lastChar = chars[i - 1];
+              }
+              _writeChar('\n');
+              chunk = i + 1;
+            }
+          if (chunk < end) {
+            writer.write(chars, chunk, end - chunk);
+            lastChar = chars[end - 1];
+            charPos += (end - chunk);
+            if (buffering == Buffering.NONE)
+              writer.flush();
+          }
           return;
         }
         
@@ -2053,10 +2228,13 @@ public class Stream extends AbstractLispObject
           {
             // No newline.
             charPos += (end - start);
+            if (buffering == Buffering.NONE)
+              writer.flush();
               }
         else
           {
             charPos = end - (index + 1);
+            if (buffering != Buffering.FULL)
               writer.flush();
             }
           }
@@ -2149,6 +2327,8 @@ public class Stream extends AbstractLispObject
     try
       {
         out.write(n); // Writes an 8-bit byte.
+        if (buffering == Buffering.NONE)
+          out.flush();
       }
     catch (NullPointerException e)
       {
@@ -2161,6 +2341,81 @@ public class Stream extends AbstractLispObject
       }
   }
 
+  /** Reads 8-bit bytes off the underlying stream into bytes[start..end)
+   *
+   * @param bytes
+   * @param start
+   * @param end
+   * @return the index following the last byte stored; less than
+   *         end only at end-of-file
+   * @throws org.armedbear.lisp.ConditionThrowable
+   */
+  public int _readBytes(byte[] bytes, int start, int end)
+    throws ConditionThrowable
+  {
+    if (in == null)
+      {
+        // Composite streams override _readByte().
+        for (int i = start; i < end; i++)
+          {
+            int n = _readByte();
+            if (n < 0)
+              return i;
+            bytes[i] = (byte) n;
+          }
+        return end;
+      }
+    try
+      {
+        int pos = start;
+        while (pos < end)
+          {
+            int n = in.read(bytes, pos, end - pos);
+            if (n < 0)
+              {
+                pastEnd = true;
+                break;
+              }
+            pos += n;
+          }
+        return pos;
+      }
+    catch (IOException e)
+      {
+        error(new StreamError(this, e));
+        // Not reached.
+        return start;
+      }
+  }
+
+  /** Writes bytes[start..end) to the underlying stream
+   *
+   * @param bytes
+   * @param start
+   * @param end
+   * @throws org.armedbear.lisp.ConditionThrowable
+   */
+  public void _writeBytes(byte[] bytes, int start, int end)
+    throws ConditionThrowable
+  {
+    if (out == null)
+      {
+        for (int i = start; i < end; i++)
+          _writeByte(bytes[i] & 0xff);
+        return;
+      }
+    try
+      {
+        out.write(bytes, start, end - start);
+        if (buffering == Buffering.NONE)
+          out.flush();
+      }
+    catch (IOException e)
+      {
+        error(new StreamError(this, e));
+      }
+  }
+
   /** Flushes any buffered output in the (underlying) stream
    * 
    * @throws org.armedbear.lisp.ConditionThrowable
@@ -2809,6 +3064,17 @@ public class Stream extends AbstractLispObject
       }
     };
 
+  // The array holding the elements of an (unsigned-byte 8) vector, or null
+  // if it doesn't have one of its own.
+  private static final byte[] unsignedByte8Elements(LispVector v)
+  {
+    if (v instanceof BasicVector_UnsignedByte8)
+      return ((BasicVector_UnsignedByte8)v).getElements();
+    if (v instanceof ComplexVector_UnsignedByte8)
+      return ((ComplexVector_UnsignedByte8)v).getElements();
+    return null;
+  }
+
   // ### write-vector-unsigned-byte-8
   private static final Primitive WRITE_VECTOR_UNSIGNED_BYTE_8 =
     new Primitive("write-vector-unsigned-byte-8", PACKAGE_SYS, true,
@@ -2823,8 +3089,17 @@ public class Stream extends AbstractLispObject
         final Stream stream = checkStream(second);
         int start = third.intValue();
         int end = fourth.intValue();
+        checkBounds(start, end, v.size());
+        final byte[] elements = unsignedByte8Elements(v);
+        if (elements != null)
+          {
+            stream._writeBytes(elements, start, end);
+            return v;
+          }
+        byte[] bytes = new byte[end - start];
         for (int i = start; i < end; i++)
-          stream._writeByte(v.aref(i));
+          bytes[i - start] = (byte) v.aref(i);
+        stream._writeBytes(bytes, 0, bytes.length);
         return v;
       }
     };
@@ -2846,17 +3121,237 @@ public class Stream extends AbstractLispObject
         if (!v.getElementType().equal(UNSIGNED_BYTE_8))
           return type_error(first, list(SymbolConstants.VECTOR,
                                               UNSIGNED_BYTE_8));
-        for (int i = start; i < end; i++)
+        checkBounds(start, end, v.size());
+        final byte[] elements = unsignedByte8Elements(v);
+        if (elements != null)
+          return Fixnum.makeFixnum(stream._readBytes(elements, start, end));
+        byte[] bytes = new byte[end - start];
+        int n = stream._readBytes(bytes, 0, bytes.length);
+        for (int i = 0; i < n; i++)
+          v.aset(start + i, bytes[i] & 0xff);
+        return Fixnum.makeFixnum(start + n);
+      }
+    };
+
+  // Integer elements wider than 8 bits travel as big-endian groups of
+  // bytes, the same as READ-BYTE and WRITE-BYTE use, a buffer at a time.
+  private static final int INTEGER_VECTOR_BUFFER_SIZE = 8192;
+
+  // ### %read-integer-vector vector stream start end width signedp => position
+  private static final Primitive _READ_INTEGER_VECTOR =
+    new Primitive("%read-integer-vector", PACKAGE_SYS, false,
+                  "vector stream start end width signedp")
+    {
+      @Override
+      public LispObject execute(LispObject[] args) throws ConditionThrowable
+      {
+        if (args.length != 6)
+          return error(new WrongNumberOfArgumentsException(this));
+        final LispVector v = checkVector(args[0]);
+        final Stream stream = checkBinaryInputStream(args[1]);
+        final int start = args[2].intValue();
+        final int end = args[3].intValue();
+        final int width = args[4].intValue();
+        final boolean signed = args[5] != NIL;
+        checkBounds(start, end, v.size());
+        if (width % 8 != 0 || width < 16 || width > 32)
+          return type_error(args[4], list(SymbolConstants.MEMBER,
+                                          Fixnum.makeFixnum(16),
+                                          Fixnum.makeFixnum(24),
+                                          Fixnum.makeFixnum(32)));
+        final int bytesPerElement = width / 8;
+        final int[] ub16 = (v instanceof BasicVector_UnsignedByte16 && !signed)
+          ? ((BasicVector_UnsignedByte16)v).getElements() : null;
+        final long[] ub32 = (v instanceof BasicVector_UnsignedByte32 && !signed)
+          ? ((BasicVector_UnsignedByte32)v).getElements() : null;
+        final int chunk = INTEGER_VECTOR_BUFFER_SIZE / bytesPerElement;
+        final byte[] bytes =
+          new byte[Math.min(end - start, chunk) * bytesPerElement];
+        int i = start;
+        while (i < end)
           {
-            int n = stream._readByte();
-            if (n < 0)
+            final int wanted = Math.min(end - i, chunk) * bytesPerElement;
+            final int n = stream._readBytes(bytes, 0, wanted);
+            final int count = n / bytesPerElement;
+            for (int j = 0, k = 0; j < count; j++, i++)
+              {
+                long value = 0;
+                for (int b = 0; b < bytesPerElement; b++)
+                  value = (value << 8) | (bytes[k++] & 0xff);
+                if (signed && (value & (1L << (width - 1))) != 0)
+                  value -= (1L << width);
+                if (ub16 != null && width == 16)
+                  ub16[i] = (int) value;
+                else if (ub32 != null && width == 32)
+                  ub32[i] = value;
+                else
+                  v.aset(i, number(value));
+              }
+            if (n < wanted)
+              break; // End of file.
+          }
+        return Fixnum.makeFixnum(i);
+      }
+    };
+
+  // ### %write-integer-vector vector stream start end width signedp => vector
+  private static final Primitive _WRITE_INTEGER_VECTOR =
+    new Primitive("%write-integer-vector", PACKAGE_SYS, false,
+                  "vector stream start end width signedp")
+    {
+      @Override
+      public LispObject execute(LispObject[] args) throws ConditionThrowable
+      {
+        if (args.length != 6)
+          return error(new WrongNumberOfArgumentsException(this));
+        final LispVector v = checkVector(args[0]);
+        final Stream stream = checkStream(args[1]);
+        final int start = args[2].intValue();
+        final int end = args[3].intValue();
+        final int width = args[4].intValue();
+        final boolean signed = args[5] != NIL;
+        checkBounds(start, end, v.size());
+        if (width % 8 != 0 || width < 16 || width > 32)
+          return type_error(args[4], list(SymbolConstants.MEMBER,
+                                          Fixnum.makeFixnum(16),
+                                          Fixnum.makeFixnum(24),
+                                          Fixnum.makeFixnum(32)));
+        final int bytesPerElement = width / 8;
+        final long min = signed ? -(1L << (width - 1)) : 0;
+        final long max = signed ? (1L << (width - 1)) - 1 : (1L << width) - 1;
+        final int chunk = INTEGER_VECTOR_BUFFER_SIZE / bytesPerElement;
+        final byte[] bytes =
+          new byte[Math.min(end - start, chunk) * bytesPerElement];
+        int i = start;
+        while (i < end)
+          {
+            final int count = Math.min(end - i, chunk);
+            for (int j = 0, k = 0; j < count; j++, i++)
+              {
+                final LispObject obj = v.AREF(i);
+                if (!obj.isInteger()
+                    || (obj instanceof Bignum
+                        && ((Bignum)obj).bigIntegerValue().bitLength() > 32))
+                  return type_error(obj, list(signed ? SymbolConstants.SIGNED_BYTE
+                                                     : SymbolConstants.UNSIGNED_BYTE,
+                                              args[4]));
+                long value = obj.longValue();
+                if (value < min || value > max)
+                  return type_error(obj, list(signed ? SymbolConstants.SIGNED_BYTE
+                                                     : SymbolConstants.UNSIGNED_BYTE,
+                                              args[4]));
+                k += bytesPerElement;
+                for (int b = 1; b <= bytesPerElement; b++)
+                  {
+                    bytes[k - b] = (byte) value;
+                    value >>= 8;
+                  }
+              }
+            stream._writeBytes(bytes, 0, count * bytesPerElement);
+          }
+        return v;
+      }
+    };
+
+  private static final int COPY_BUFFER_SIZE = 65536;
+
+  // ### copy-stream-contents input output => count
+  // Copies everything left in INPUT to OUTPUT.  From a binary file stream
+  // to a socket stream over a channel, the bytes go straight from the file
+  // channel to the socket; otherwise they are copied a buffer at a time.
+  private static final Primitive COPY_STREAM_CONTENTS =
+    new Primitive("copy-stream-contents", PACKAGE_EXT, true, "input output")
+    {
+      @Override
+      public LispObject execute(LispObject first, LispObject second)
+        throws ConditionThrowable
+      {
+        final Stream in = checkStream(first);
+        final Stream out = checkStream(second);
+        if (in.isBinaryInputStream())
+          {
+            if (!out.isBinaryOutputStream())
+              return error(new TypeError("The value " + out.writeToString()
+                                         + " is not a binary output stream."));
+            long total = 0;
+            // An event loop's thread can't wait for the socket, so its
+            // output goes through the stream, which queues it.
+            if (in instanceof FileStream && out instanceof SocketStream
+                && ((FileStream)in).canTransfer()
+                && EventLoop.current() == null)
+              {
+                SocketChannel channel =
+                  ((SocketStream)out).getSocket().getChannel();
+                if (channel != null)
+                  {
+                    out._finishOutput();
+                    total = ((FileStream)in).transferTo(channel);
+                  }
+              }
+            // Whatever transferTo() did not send is copied here.
+            final byte[] bytes = new byte[COPY_BUFFER_SIZE];
+            int n;
+            while ((n = in._readBytes(bytes, 0, bytes.length)) > 0)
               {
-                // End of file.
-                return Fixnum.makeFixnum(i);
+                out._writeBytes(bytes, 0, n);
+                total += n;
               }
-            v.aset(i, n);
+            return number(total);
+          }
+        if (!in.isCharacterInputStream())
+          return error(new TypeError("The value " + in.writeToString()
+                                     + " is not an input stream."));
+        if (!out.isCharacterOutputStream())
+          return error(new TypeError("The value " + out.writeToString()
+                                     + " is not a character output stream."));
+        final char[] chars = new char[COPY_BUFFER_SIZE];
+        long total = 0;
+        try
+          {
+            int n;
+            while ((n = in._readChars(chars, 0, chars.length)) > 0)
+              {
+                out._writeChars(chars, 0, n);
+                total += n;
+              }
+          }
+        catch (IOException e)
+          {
+            return error(new StreamError(in, e));
+          }
+        return number(total);
+      }
+    };
+
+  // ### %read-string string input-stream start end => position
+  private static final Primitive _READ_STRING =
+    new Primitive("%read-string", PACKAGE_SYS, false,
+                  "string input-stream start end")
+    {
+      @Override
+      public LispObject execute(LispObject first, LispObject second,
+                                LispObject third, LispObject fourth)
+        throws ConditionThrowable
+      {
+        final AbstractString s = checkString(first);
+        final Stream stream = checkStream(second);
+        final int start = third.intValue();
+        final int end = fourth.intValue();
+        checkBounds(start, end, s.size());
+        try
+          {
+            if (s instanceof SimpleString)
+              return Fixnum.makeFixnum(stream._readChars(s.chars(), start, end));
+            char[] chars = new char[end - start];
+            int n = stream._readChars(chars, 0, chars.length);
+            for (int i = 0; i < n; i++)
+              s.setCharAt(start + i, chars[i]);
+            return Fixnum.makeFixnum(start + n);
+          }
+        catch (IOException e)
+          {
+            return error(new StreamError(stream, e));
           }
-        return fourth;
       }
     };
 
@@ -2924,4 +3419,45 @@ public class Stream extends AbstractLispObject
         return second;
       }
     };
+
+  // ### %stream-buffering stream => mode
+  private static final Primitive STREAM_BUFFERING =
+    new Primitive("%stream-buffering", PACKAGE_SYS, false, "stream")
+    {
+      @Override
+      public LispObject execute(LispObject arg) throws ConditionThrowable
+      {
+        switch (checkStream(arg).getBuffering())
+          {
+          case NONE:
+            return keywordNone;
+          case FULL:
+            return keywordFull;
+          default:
+            return keywordLine;
+          }
+      }
+    };
+
+  // ### %set-stream-buffering stream mode => mode
+  private static final Primitive STREAM_SET_BUFFERING =
+    new Primitive("%set-stream-buffering", PACKAGE_SYS, false, "stream mode")
+    {
+      @Override
+      public LispObject execute(LispObject first, LispObject second)
+        throws ConditionThrowable
+      {
+        final Stream stream = checkStream(first);
+        if (second == keywordNone)
+          stream.setBuffering(Buffering.NONE);
+        else if (second == keywordLine)
+          stream.setBuffering(Buffering.LINE);
+        else if (second == keywordFull)
+          stream.setBuffering(Buffering.FULL);
+        else
+          return type_error(second, list(SymbolConstants.MEMBER, keywordNone,
+                                         keywordLine, keywordFull));
+        return second;
+      }
+    };
 }
@@ -35,11 +35,16 @@ package org.armedbear.lisp;
 import static org.armedbear.lisp.Nil.NIL;
 import static org.armedbear.lisp.Lisp.*;
 
-import java.io.StringWriter;
+import java.io.Writer;
 
 public final class StringOutputStream extends Stream
 {
-    private final StringWriter stringWriter;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Output so far, in buffer[0..length).  Nothing here is synchronized:
+    // a string output stream belongs to the thread writing to it.
+    private char[] buffer = new char[INITIAL_CAPACITY];
+    private int length;
 
     public StringOutputStream()
     {
@@ -50,7 +55,122 @@ public final class StringOutputStream extends Stream
     {
         this.elementType = elementType;
         this.eolStyle = EolStyle.RAW;
-        initAsCharacterOutputStream(stringWriter = new StringWriter());
+        initAsCharacterOutputStream(new BufferWriter());
+    }
+
+    // What Stream writes through when it doesn't go through the
+    // overrides below.
+    private final class BufferWriter extends Writer
+    {
+        @Override
+        public void write(int c)
+        {
+            StringOutputStream.this.append((char)c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int len)
+        {
+            StringOutputStream.this.append(chars, offset, len);
+        }
+
+        @Override
+        public void write(String s, int offset, int len)
+        {
+            ensureCapacity(length + len);
+            s.getChars(offset, offset + len, buffer, length);
+            length += len;
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+
+    private void ensureCapacity(int minimumCapacity)
+    {
+        if (minimumCapacity > buffer.length)
+          {
+            int newCapacity = Math.max(buffer.length * 2, INITIAL_CAPACITY);
+            if (newCapacity < minimumCapacity)
+                newCapacity = minimumCapacity;
+            char[] newBuffer = new char[newCapacity];
+            System.arraycopy(buffer, 0, newBuffer, 0, length);
+            buffer = newBuffer;
+          }
+    }
+
+    private void append(char c)
+    {
+        if (length == buffer.length)
+            ensureCapacity(length + 1);
+        buffer[length++] = c;
+    }
+
+    private void append(char[] chars, int offset, int len)
+    {
+        ensureCapacity(length + len);
+        System.arraycopy(chars, offset, buffer, length, len);
+        length += len;
+    }
+
+    @Override
+    public void _writeChar(char c)
+    {
+        append(c);
+        lastChar = c;
+        if (c == '\n')
+            charPos = 0;
+        else
+            ++charPos;
+    }
+
+    @Override
+    public void _writeChars(char[] chars, int start, int end)
+    {
+        if (start >= end)
+            return;
+        append(chars, start, end - start);
+        lastChar = chars[end - 1];
+        for (int i = end; i-- > start;)
+          {
+            if (chars[i] == '\n')
+              {
+                charPos = end - (i + 1);
+                return;
+              }
+          }
+        charPos += (end - start);
+    }
+
+    @Override
+    public void _writeString(String s)
+    {
+        final int len = s.length();
+        if (len == 0)
+            return;
+        ensureCapacity(length + len);
+        s.getChars(0, len, buffer, length);
+        length += len;
+        lastChar = s.charAt(len - 1);
+        int index = s.lastIndexOf('\n');
+        if (index < 0)
+            charPos += len;
+        else
+            charPos = len - (index + 1);
+    }
+
+    @Override
+    public void _writeLine(String s)
+    {
+        _writeString(s);
+        _writeChar('\n');
     }
 
     @Override
@@ -84,17 +204,17 @@ public final class StringOutputStream extends Stream
     {
         if (elementType == NIL)
             return 0;
-        return stringWriter.getBuffer().length();
+        return length;
     }
 
     public LispObject getStringOutputString() throws ConditionThrowable
     {
         if (elementType == NIL)
             return new NilVector(0);
-        StringBuffer sb = stringWriter.getBuffer();
-        SimpleString s = new SimpleString(sb);
-        sb.setLength(0);
-        return s;
+        final char[] chars = new char[length];
+        System.arraycopy(buffer, 0, chars, 0, length);
+        length = 0;
+        return new SimpleString(chars);
     }
 
     @Override
@@ -38,21 +38,22 @@ import static org.armedbear.lisp.Lisp.*;
 import java.util.ArrayList;
 import java.util.List;
 
+// Lookups don't lock: entries are immutable and each change publishes a
+// new chain (or, after a rehash, a new bucket array), so a reader sees
+// the table either as it was before a change or as it is after it.
+// Changes are serialized on the table itself.
 public final class SymbolHashTable
 {
     private static final float LOAD_FACTOR = 0.75f;
 
     private int threshold;
-    private HashEntry[] buckets;
+    private volatile HashEntry[] buckets;
     private int count;
 
-    private int mask;
-
     public SymbolHashTable(int size)
     {
         buckets = new HashEntry[calculateInitialCapacity(size)];
         threshold = (int) (size * LOAD_FACTOR);
-        mask = buckets.length - 1;
     }
 
     private static int calculateInitialCapacity(int size)
@@ -65,26 +66,16 @@ public final class SymbolHashTable
 
     public Symbol get(SimpleString key)
     {
-        HashEntry e = buckets[key.sxhash() & mask];
-        while (e != null) {
-            try {
-                if (key.equal(e.symbol.getSymbolName()))
-                    return e.symbol; // Return the symbol.
-            }
-            catch (Throwable t) {
-                Debug.trace(t); // Shouldn't happen.
-            }
-            e = e.next;
-        }
-        return null;
+        return get(key, key.sxhash());
     }
 
     public Symbol get(SimpleString key, int hash)
     {
-        HashEntry e = buckets[hash & mask];
+        final HashEntry[] b = buckets;
+        HashEntry e = b[hash & (b.length - 1)];
         while (e != null) {
             try {
-                if (key.equal(e.symbol.getSymbolName()))
+                if (e.hash == hash && key.equal(e.symbol.getSymbolName()))
                     return e.symbol; // Return the symbol.
             }
             catch (Throwable t) {
@@ -95,18 +86,19 @@ public final class SymbolHashTable
         return null;
     }
 
-    public void put(final SimpleString key, final Symbol symbol)
+    public synchronized void put(final SimpleString key, final Symbol symbol)
     {
-        int index = key.sxhash() & mask;
-        HashEntry e = buckets[index];
-        while (e != null) {
+        final int hash = key.sxhash();
+        final HashEntry[] b = buckets;
+        final int index = hash & (b.length - 1);
+        for (HashEntry e = b[index]; e != null; e = e.next) {
             try {
-                if (key.equal(e.symbol.getSymbolName())) {
+                if (e.hash == hash && key.equal(e.symbol.getSymbolName())) {
                     if (e.symbol != symbol) {
                         Debug.trace("replacing existing key for " + key.getStringValue() +
                                     " in package " + e.symbol.getLispPackage().writeToString());
                         Thread.dumpStack();
-                        e.symbol = symbol;
+                        replace(b, index, e, symbol);
                     }
                     return;
                 }
@@ -114,30 +106,24 @@ public final class SymbolHashTable
             catch (Throwable t) {
                 Debug.trace(t); // FIXME
             }
-            e = e.next;
         }
         // Not found. We need to add a new entry.
-        if (++count > threshold) {
-            rehash();
-            // We need a new index for the bigger table.
-            index = key.sxhash() & mask;
-        }
-        e = new HashEntry(symbol);
-        e.next = buckets[index];
-        buckets[index] = e;
+        add(symbol, hash);
     }
 
-    public void put(Symbol symbol)
+    public synchronized void put(Symbol symbol)
     {
-        int index = symbol.sxhash() & mask;
-        HashEntry e = buckets[index];
-        while (e != null) {
+        final int hash = symbol.sxhash();
+        final HashEntry[] b = buckets;
+        final int index = hash & (b.length - 1);
+        for (HashEntry e = b[index]; e != null; e = e.next) {
             try {
-                if (symbol.getSymbolName().equal(e.symbol.getSymbolName())) {
+                if (e.hash == hash &&
+                    symbol.getSymbolName().equal(e.symbol.getSymbolName())) {
                     if (e.symbol != symbol) {
                         Debug.trace("replacing existing key for " + symbol.getName());
                         Thread.dumpStack();
-                        e.symbol = symbol; // Replace existing key.
+                        replace(b, index, e, symbol); // Replace existing key.
                     }
                     return;
                 }
@@ -145,33 +131,26 @@ public final class SymbolHashTable
             catch (Throwable t) {
                 Debug.trace(t); // FIXME
             }
-            e = e.next;
         }
         // Not found. We need to add a new entry.
-        if (++count > threshold) {
-            rehash();
-            // Need a new hash value to suit the bigger table.
-            index = symbol.sxhash() & mask;
-        }
-        e = new HashEntry(symbol);
-        e.next = buckets[index];
-        buckets[index] = e;
+        add(symbol, hash);
     }
 
-    public LispObject remove(LispObject key)
+    public synchronized LispObject remove(LispObject key)
     {
         if (key instanceof Symbol)
             key = ((Symbol)key).getSymbolName();
-        int index = key.sxhash() & mask;
-        HashEntry e = buckets[index];
-        HashEntry last = null;
-        while (e != null) {
+        final int hash = key.sxhash();
+        final HashEntry[] b = buckets;
+        final int index = hash & (b.length - 1);
+        for (HashEntry e = b[index]; e != null; e = e.next) {
             try {
-                if (key.equal(e.symbol.getSymbolName())) {
-                    if (last == null)
-                        buckets[index] = e.next;
-                    else
-                        last.next = e.next;
+                if (e.hash == hash && key.equal(e.symbol.getSymbolName())) {
+                    // Copy the entries in front of the one that goes.
+                    HashEntry chain = e.next;
+                    for (HashEntry f = b[index]; f != e; f = f.next)
+                        chain = new HashEntry(f.symbol, f.hash, chain);
+                    publish(b, index, chain);
                     --count;
                     return e.symbol; // The key is the value!
                 }
@@ -179,42 +158,60 @@ public final class SymbolHashTable
             catch (Throwable t) {
                 Debug.trace(t); // FIXME
             }
-            last = e;
-            e = e.next;
         }
         return null;
     }
 
+    // Replaces the symbol in entry E, in bucket INDEX of B.
+    private void replace(HashEntry[] b, int index, HashEntry e, Symbol symbol)
+    {
+        HashEntry chain = new HashEntry(symbol, e.hash, e.next);
+        for (HashEntry f = b[index]; f != e; f = f.next)
+            chain = new HashEntry(f.symbol, f.hash, chain);
+        publish(b, index, chain);
+    }
+
+    private void add(Symbol symbol, int hash)
+    {
+        if (++count > threshold)
+            rehash();
+        final HashEntry[] b = buckets;
+        final int index = hash & (b.length - 1);
+        publish(b, index, new HashEntry(symbol, hash, b[index]));
+    }
+
+    // Stores CHAIN as bucket INDEX of B, which is the current bucket array.
+    // Writing the volatile field afterwards makes the new chain visible to
+    // readers that start after this.
+    private void publish(HashEntry[] b, int index, HashEntry chain)
+    {
+        b[index] = chain;
+        buckets = b;
+    }
+
     private void rehash()
     {
-        HashEntry[] oldBuckets = buckets;
-        int newCapacity = buckets.length * 2;
+        final HashEntry[] oldBuckets = buckets;
+        final int newCapacity = oldBuckets.length * 2;
         threshold = (int) (newCapacity * LOAD_FACTOR);
-        buckets = new HashEntry[newCapacity];
-        mask = buckets.length - 1;
+        final HashEntry[] newBuckets = new HashEntry[newCapacity];
+        final int mask = newCapacity - 1;
         for (int i = oldBuckets.length; i-- > 0;) {
-            HashEntry e = oldBuckets[i];
-            while (e != null) {
-                final int index = e.symbol.sxhash() & mask;
-                HashEntry dest = buckets[index];
-                if (dest != null) {
-                    while (dest.next != null)
-                        dest = dest.next;
-                    dest.next = e;
-                } else
-                    buckets[index] = e;
-                HashEntry next = e.next;
-                e.next = null;
-                e = next;
+            for (HashEntry e = oldBuckets[i]; e != null; e = e.next) {
+                final int index = e.hash & mask;
+                newBuckets[index] = new HashEntry(e.symbol, e.hash,
+                                                  newBuckets[index]);
             }
         }
+        buckets = newBuckets;
     }
 
     public List<Symbol> getSymbols()
     {
+        final HashEntry[] b = buckets;
         ArrayList<Symbol> list = new ArrayList<Symbol>();
-        for (int i = 0; i < buckets.length; i++) {
-            HashEntry e = buckets[i];
+        for (int i = 0; i < b.length; i++) {
+            HashEntry e = b[i];
             while (e != null) {
                 list.add(e.symbol);
                 e = e.next;
@@ -223,14 +220,17 @@ public final class SymbolHashTable
         return list;
     }
 
-    private static class HashEntry
+    private static final class HashEntry
     {
-        Symbol symbol;
-        HashEntry next;
+        final Symbol symbol;
+        final int hash;
+        final HashEntry next;
 
-        HashEntry(Symbol symbol)
+        HashEntry(Symbol symbol, int hash, HashEntry next)
         {
             this.symbol = symbol;
+            this.hash = hash;
+            this.next = next;
         }
     }
 }
@@ -126,12 +126,39 @@ public final class SynonymStream extends Stream
         return checkStream(symbol.symbolValue()).fileStringLength(arg);
     }
 
+    @Override
+    public Buffering getBuffering() throws ConditionThrowable
+    {
+        return checkStream(symbol.symbolValue()).getBuffering();
+    }
+
+    @Override
+    public void setBuffering(Buffering buffering) throws ConditionThrowable
+    {
+        checkStream(symbol.symbolValue()).setBuffering(buffering);
+    }
+
     @Override
     protected int _readChar() throws ConditionThrowable, java.io.IOException
     {
         return checkStream(symbol.symbolValue())._readChar();
     }
 
+    @Override
+    protected int _readChars(char[] chars, int start, int end)
+        throws ConditionThrowable, java.io.IOException
+    {
+        return checkStream(symbol.symbolValue())._readChars(chars, start, end);
+    }
+
+    @Override
+    protected void _readBuffered(FastStringBuffer sb, byte[] syntax,
+                                 byte syntaxType, LispObject readtableCase)
+        throws ConditionThrowable
+    {
+        checkStream(symbol.symbolValue())._readBuffered(sb, syntax, syntaxType, readtableCase);
+    }
+
     @Override
     protected void _unreadChar(int n) throws ConditionThrowable, java.io.IOException
     {
@@ -183,6 +210,20 @@ public final class SynonymStream extends Stream
         checkStream(symbol.symbolValue())._writeByte(n);
     }
 
+    @Override
+    public int _readBytes(byte[] bytes, int start, int end)
+        throws ConditionThrowable
+    {
+        return checkStream(symbol.symbolValue())._readBytes(bytes, start, end);
+    }
+
+    @Override
+    public void _writeBytes(byte[] bytes, int start, int end)
+        throws ConditionThrowable
+    {
+        checkStream(symbol.symbolValue())._writeBytes(bytes, start, end);
+    }
+
     @Override
     public void _finishOutput() throws ConditionThrowable
     {
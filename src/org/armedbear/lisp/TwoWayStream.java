@@ -120,6 +120,18 @@ public class TwoWayStream extends Stream
         return super.typep(type);
     }
 
+    @Override
+    public Buffering getBuffering() throws ConditionThrowable
+    {
+        return out.getBuffering();
+    }
+
+    @Override
+    public void setBuffering(Buffering buffering) throws ConditionThrowable
+    {
+        out.setBuffering(buffering);
+    }
+
     // Returns -1 at end of file.
     @Override
     protected int _readChar() throws ConditionThrowable, java.io.IOException
@@ -127,6 +139,21 @@ public class TwoWayStream extends Stream
         return in._readChar();
     }
 
+    @Override
+    protected int _readChars(char[] chars, int start, int end)
+        throws ConditionThrowable, java.io.IOException
+    {
+        return in._readChars(chars, start, end);
+    }
+
+    @Override
+    protected void _readBuffered(FastStringBuffer sb, byte[] syntax,
+                                 byte syntaxType, LispObject readtableCase)
+        throws ConditionThrowable
+    {
+        in._readBuffered(sb, syntax, syntaxType, readtableCase);
+    }
+
     @Override
     protected void _unreadChar(int n) throws ConditionThrowable, java.io.IOException
     {
@@ -178,6 +205,20 @@ public class TwoWayStream extends Stream
         out._writeByte(n);
     }
 
+    @Override
+    public int _readBytes(byte[] bytes, int start, int end)
+        throws ConditionThrowable
+    {
+        return in._readBytes(bytes, start, end);
+    }
+
+    @Override
+    public void _writeBytes(byte[] bytes, int start, int end)
+        throws ConditionThrowable
+    {
+        out._writeBytes(bytes, start, end);
+    }
+
     @Override
     public void _finishOutput() throws ConditionThrowable
     {
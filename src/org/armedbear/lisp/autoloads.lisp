@@ -44,6 +44,7 @@
           "strings")
 (autoload 'copy-symbol)
 (autoload '(open parse-integer))
+(autoload 'check-buffering "open")
 (autoload '(sort stable-sort merge) "sort")
 (autoload 'tree-equal)
 (autoload 'make-hash-table)
@@ -175,6 +176,7 @@
 (autoload-macro 'step)
 (autoload 'load)
 (autoload '(compile with-file-compilation) "jvm")
+(autoload 'jvm::auto-compile "jvm")
 (autoload-macro 'with-compilation-unit "jvm")
 
 (autoload-macro '(case ccase ecase typecase ctypecase etypecase) "case")
@@ -290,6 +292,42 @@
 (autoload 'socket-local-address "socket")
 (export 'socket-peer-address)
 (autoload 'socket-peer-address "socket")
+(export 'make-nonblocking-socket)
+(autoload 'make-nonblocking-socket "socket")
+(export 'make-nonblocking-server-socket)
+(autoload 'make-nonblocking-server-socket "socket")
+(export 'nonblocking-socket-accept)
+(autoload 'nonblocking-socket-accept "socket")
+(export 'make-event-loop)
+(autoload 'make-event-loop "socket")
+(export 'event-loop-register)
+(autoload 'event-loop-register "socket")
+(export 'event-loop-unregister)
+(autoload 'event-loop-unregister "socket")
+(export 'event-loop-run)
+(autoload 'event-loop-run "socket")
+(export 'event-loop-poll)
+(autoload 'event-loop-poll "socket")
+(export 'event-loop-stop)
+(autoload 'event-loop-stop "socket")
+(export 'event-loop-close)
+(autoload 'event-loop-close "socket")
+
+(export 'make-form-reader)
+(autoload 'make-form-reader "form-reader")
+(export 'make-parallel-form-reader)
+(autoload 'make-parallel-form-reader "form-reader")
+(export 'read-next-form)
+(autoload 'read-next-form "form-reader")
+(export 'close-form-reader)
+(autoload 'close-form-reader "form-reader")
+(export 'do-forms)
+(autoload-macro 'do-forms "form-reader")
+(export '*warm-up-autoloads*)
+(export 'warm-up-autoloads)
+(autoload 'warm-up-autoloads "warm-up")
+(export 'record-autoloads)
+(autoload 'record-autoloads "warm-up")
 
 (in-package "THREADS")
 (sys::export '(mailbox-send mailbox-empty-p mailbox-read mailbox-peek))
@@ -320,6 +358,7 @@
 (autoload-macro 'collect)
 (export 'compile-file-if-needed)
 (autoload 'compile-file-if-needed "compile-file")
+(autoload 'compile-independent-files "compile-file")
 (export 'describe-compiler-policy)
 (autoload 'describe-compiler-policy)
 (export 'macroexpand-all)
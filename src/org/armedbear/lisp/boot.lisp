@@ -111,6 +111,17 @@
 
 (export 'charpos '#:extensions)
 
+(defun stream-buffering (stream)
+  "Returns :NONE, :LINE or :FULL, saying when character output written to
+STREAM is pushed to the underlying device: after every write, after every
+newline, or only when its buffer fills or on FINISH-OUTPUT/FORCE-OUTPUT."
+  (sys::%stream-buffering stream))
+
+(defun (setf stream-buffering) (new-value stream)
+  (sys::%set-stream-buffering stream new-value))
+
+(export 'stream-buffering '#:extensions)
+
 ;; Redefined in precompiler.lisp.
 (defun precompile (name &optional definition)
   (declare (ignore name definition))
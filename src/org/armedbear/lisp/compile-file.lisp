@@ -66,6 +66,45 @@
   (declare (ignore ignored))
   (assert nil))
 
+;;; Files compiled by concurrent compile jobs share the global
+;;; environment, so COMPILE-FILE holds *COMPILE-TIME-LOCK* while it
+;;; changes it: while it evaluates forms at compile time, and while it
+;;; installs and removes dummy definitions.
+
+(defvar *compile-time-lock* (make-symbol "COMPILE-TIME-LOCK"))
+
+(defmacro with-compile-time-lock (&body body)
+  `(threads:synchronized-on *compile-time-lock*
+     ,@body))
+
+(defun compile-time-eval (form)
+  (with-compile-time-lock
+    (eval form)))
+
+(defvar *dummy-definitions* (make-hash-table :test 'equal)
+  "The number of files being compiled that rely on the dummy definition
+of each name.")
+
+(defun provide-dummy-definition (name)
+  "Makes NAME fbound until the end of the file being compiled, if it
+isn't already, so that functions calling it can be loaded."
+  (with-compile-time-lock
+    (when (or (not (fboundp name))
+              (eq (fdefinition name) #'dummy))
+      (setf (fdefinition name) #'dummy)
+      (incf (gethash name *dummy-definitions* 0))
+      (push name *fbound-names*))))
+
+(defun remove-dummy-definitions ()
+  "Removes the dummy definitions no other file being compiled relies on."
+  (with-compile-time-lock
+    (dolist (name *fbound-names*)
+      (when (zerop (decf (gethash name *dummy-definitions*)))
+        (remhash name *dummy-definitions*)
+        (when (and (fboundp name)
+                   (eq (fdefinition name) #'dummy))
+          (fmakunbound name))))))
+
 (declaim (ftype (function (t) t) verify-load))
 ;(defun verify-load (classfile)
 ;  (and classfile
@@ -76,6 +115,509 @@
   (declare (ignore classfile))
   t)
 
+;;; Parallel compilation
+;;;
+;;; A compile job runs a function on a thread of its own. Warnings,
+;;; compiler errors and output produced by the job are collected and
+;;; replayed in the submitting thread by FINISH-COMPILE-JOB, so that
+;;; jobs finished in submission order produce the same diagnostics
+;;; and FASL contents as a sequential compilation.
+
+(defvar *compile-job-specials*
+  '(*package* *readtable* *read-base* *read-default-float-format*
+    *read-eval* *read-suppress*
+    *print-array* *print-base* *print-case* *print-circle* *print-escape*
+    *print-gensym* *print-length* *print-level* *print-lines*
+    *print-miser-width* *print-pretty* *print-radix* *print-readably*
+    *print-right-margin*
+    *default-pathname-defaults* *warn-on-redefinition*
+    *compile-verbose* *compile-print* *compile-file-zip*
+    *compile-file-cache-directory* *block-compile*
+    *compile-file-pathname* *compile-file-truename* *compile-file-environment*
+    *source* *source-position* *output-file-pathname* *fasl-anonymous-package*
+    *compiler-error-context* *suppress-compiler-warnings*
+    *speed* *space* *safety* *debug* *explain* *inline-declarations*
+    *defined-functions* *undefined-functions* jvm::*in-compilation-unit*
+    jvm::*file-compilation* jvm::*pathnames-generator*
+    jvm::*functions-defined-in-current-file* jvm::*file-inline-expansions*
+    jvm::*visible-variables*
+    jvm::*source-line-number*)
+  "Special variables whose values a compile job inherits from the
+thread submitting it.")
+
+(defvar *compile-job-lock* (make-symbol "COMPILE-JOB-LOCK"))
+
+(defvar *running-compile-jobs* 0)
+
+(defstruct (compile-job (:constructor %make-compile-job (function)))
+  function
+  done
+  values
+  conditions ; (condition . error-context) in the order they were signalled
+  output
+  error-output
+  defined-functions
+  undefined-functions)
+
+(defun run-compile-job (job bindings)
+  (let ((output (make-string-output-stream))
+        (error-output (make-string-output-stream))
+        (conditions ()))
+    (unwind-protect
+         (progv (mapcar #'car bindings) (mapcar #'cdr bindings)
+           (let ((*standard-output* output)
+                 (*error-output* error-output)
+                 (defined-functions *defined-functions*))
+             (jvm::with-fresh-compiler-state
+               (handler-case
+                   (handler-bind ((compiler-error
+                                   #'(lambda (c)
+                                       (push (cons c *compiler-error-context*)
+                                             conditions)
+                                       (throw 'jvm::compile-defun-abort
+                                         (funcall jvm::*compiler-error-bailout*))))
+                                  (warning
+                                   #'(lambda (c)
+                                       (push (cons c *compiler-error-context*)
+                                             conditions)
+                                       (muffle-warning c))))
+                     (setf (compile-job-values job)
+                           (multiple-value-list
+                            (funcall (compile-job-function job)))))
+                 (error (c)
+                   (push (cons c *compiler-error-context*) conditions))))
+             (setf (compile-job-defined-functions job)
+                   (ldiff *defined-functions* defined-functions)
+                   (compile-job-undefined-functions job)
+                   *undefined-functions*)))
+      (setf (compile-job-output job) (get-output-stream-string output)
+            (compile-job-error-output job) (get-output-stream-string error-output)
+            (compile-job-conditions job) (nreverse conditions))
+      (threads:synchronized-on *compile-job-lock*
+        (setf (compile-job-done job) t)
+        (decf *running-compile-jobs*)
+        (threads:object-notify-all *compile-job-lock*)))))
+
+(defconstant +compile-job-gensym-block+ 10000000)
+
+(defun submit-compile-job (function)
+  "Runs FUNCTION on a new thread as soon as fewer than
+*COMPILE-FILE-JOBS* jobs are running, returning the job."
+  (let ((job (%make-compile-job function))
+        (bindings (mapcan #'(lambda (var)
+                              (when (boundp var)
+                                (list (cons var (symbol-value var)))))
+                          *compile-job-specials*)))
+    ;; Give each job its own range of gensym numbers, so that the names
+    ;; of symbols it creates don't depend on how jobs are scheduled.
+    (push (cons '*gensym-counter* *gensym-counter*) bindings)
+    (incf *gensym-counter* +compile-job-gensym-block+)
+    (threads:synchronized-on *compile-job-lock*
+      (loop
+        (when (< *running-compile-jobs* *compile-file-jobs*)
+          (return))
+        (threads:object-wait *compile-job-lock*))
+      (incf *running-compile-jobs*))
+    (threads:make-thread #'(lambda () (run-compile-job job bindings))
+                         :name "compile job")
+    job))
+
+(defun finish-compile-job (job)
+  "Waits for JOB to complete and replays its output and conditions in
+the current thread, then returns the values of the job's function."
+  (threads:synchronized-on *compile-job-lock*
+    (loop
+      (when (compile-job-done job)
+        (return))
+      (threads:object-wait *compile-job-lock*)))
+  (write-string (compile-job-output job) *standard-output*)
+  (write-string (compile-job-error-output job) *error-output*)
+  (when (boundp '*undefined-functions*)
+    (dolist (name (compile-job-undefined-functions job))
+      (unless (member name *defined-functions* :test #'equal)
+        (pushnew name *undefined-functions* :test #'equal))))
+  (dolist (name (compile-job-defined-functions job))
+    (note-name-defined name))
+  (dolist (entry (compile-job-conditions job))
+    (let ((condition (car entry))
+          (*compiler-error-context* (cdr entry)))
+      (typecase condition
+        (compiler-error
+         (catch 'jvm::compile-defun-abort
+           (let ((jvm::*compiler-error-bailout* (constantly nil)))
+             (signal condition))))
+        (warning
+         (warn condition))
+        (t
+         (error condition)))))
+  (values-list (compile-job-values job)))
+
+(defun compile-independent-files (function files)
+  "Calls FUNCTION on each of FILES, on up to *COMPILE-FILE-JOBS* threads
+at a time, and returns a list of the results. Compiling one of FILES must
+not depend on any of the others. The calls are made in turn when this is
+called at compile time, since *COMPILE-TIME-LOCK* is then held."
+  (if (and (> *compile-file-jobs* 1)
+           (null *compile-file-pathname*))
+      (with-compilation-unit ()
+        (mapcar #'finish-compile-job
+                (mapcar #'(lambda (file)
+                            (submit-compile-job
+                             #'(lambda ()
+                                 (let ((*compile-file-jobs* 1))
+                                   (funcall function file)))))
+                        files)))
+      (mapcar function files)))
+
+(defvar *pending-defuns* ()
+  "Top-level DEFUNs being compiled by compile jobs, most recent first.")
+
+(defvar *job-classfile-names* ()
+  "Class files of local functions which aren't numbered by *CLASS-NUMBER*:
+those written by compile jobs or named after compile cache entries.")
+
+(defun defer-defun-p (name compile-time-too)
+  (and (> *compile-file-jobs* 1)
+       (not compile-time-too)
+       (not (and (symbolp name) (eq (get name '%inline) 'INLINE)))))
+
+(defun defer-defun (name lambda-list doc expr)
+  "Submits a compile job for the top-level function NAME. Its class file
+is numbered now; local functions it contains are numbered within it."
+  (let* ((classfile-name (next-classfile-name))
+         (number *class-number*)
+         (key (claim-compile-cache-key name expr))
+         (children ())
+         (job (submit-compile-job
+               #'(lambda ()
+                   (let* ((count 0)
+                          (jvm::*pathnames-generator*
+                           #'(lambda ()
+                               (let ((pathname (compute-classfile-name
+                                                (%format nil "~D-~D"
+                                                         number (incf count)))))
+                                 (push pathname children)
+                                 pathname))))
+                     (multiple-value-bind (classfile local-classfiles)
+                         (report-error
+                          (compile-defun-cached name expr classfile-name
+                                                key))
+                       (when classfile
+                         (dolist (pathname local-classfiles)
+                           (push pathname children)))
+                       classfile))))))
+    (push (list job name lambda-list doc expr *source-position*
+                #'(lambda () (nreverse children)))
+          *pending-defuns*)))
+
+(defun finish-pending-defuns (stream)
+  "Waits for the compile jobs of deferred top-level functions and writes
+their definitions to STREAM in source order."
+  (when *pending-defuns*
+    (let ((pending (reverse *pending-defuns*)))
+      (setf *pending-defuns* ())
+      (dolist (entry pending)
+        (destructuring-bind (job name lambda-list doc expr source-position
+                                 children)
+            entry
+          (let* ((classfile (finish-compile-job job))
+                 (compiled-function (verify-load classfile)))
+            (setf *job-classfile-names*
+                  (append *job-classfile-names* (funcall children)))
+            (dump-form
+             (cond (compiled-function
+                    `(fset ',name
+                           (autoload-compiled-function ',name ,(file-namestring classfile))
+                           ,source-position
+                           ',lambda-list
+                           ,doc))
+                   (t
+                    (format *error-output*
+                            "; Unable to compile function ~A~%" name)
+                    `(fset ',name
+                           ,(precompiler:precompile-form
+                             expr nil *compile-file-environment*)
+                           ,source-position
+                           ',lambda-list
+                           ,doc)))
+             stream)
+            (%stream-terpri stream)))))))
+
+;;; Compile cache
+;;;
+;;; When *COMPILE-FILE-CACHE-DIRECTORY* names a directory, the class files
+;;; generated for top-level functions, macros and forms are saved there
+;;; under a key which describes everything the generated code depends on:
+;;; the macroexpanded function, the compiler policy, and what the compiler
+;;; knows about the symbols the function refers to. Recompiling a file
+;;; after editing it then only runs the compiler on the functions whose
+;;; keys changed.
+;;;
+;;; The class files of the local functions of a cached function are named
+;;; after its cache entry rather than numbered, so that they keep their
+;;; names when functions are added or removed before it. Functions which
+;;; produce compiler diagnostics or close over top-level variables are
+;;; never cached. Line numbers in a cached class file are those of the
+;;; compilation which created it.
+
+(defvar *compile-cache-names* nil
+  "A hash table of the cache entries used by the current COMPILE-FILE.")
+
+(defun compile-cache-canonicalize (form)
+  "Returns a copy of FORM with uninterned symbols replaced by symbols
+numbered in order of appearance, and the interned symbols FORM refers to."
+  (let ((renamed (make-hash-table :test 'eq))
+        (active (make-hash-table :test 'eq))
+        (symbols ()))
+    (labels ((walk (x)
+               (cond ((consp x)
+                      (when (gethash x active)
+                        ;; Circular structure.
+                        (return-from compile-cache-canonicalize nil))
+                      (setf (gethash x active) t)
+                      (prog1 (cons (walk (car x)) (walk (cdr x)))
+                        (remhash x active)))
+                     ((null x)
+                      nil)
+                     ((not (symbolp x))
+                      x)
+                     ((null (symbol-package x))
+                      (or (gethash x renamed)
+                          (setf (gethash x renamed)
+                                (make-symbol (%format nil "G~D"
+                                                      (hash-table-count renamed))))))
+                     (t
+                      (pushnew x symbols)
+                      x))))
+      (values (walk form) (nreverse symbols)))))
+
+(defun compile-cache-symbol-facts (symbol self)
+  "Returns what the compiler knows about SYMBOL, or NIL if nothing. SELF
+is true when SYMBOL names the function being compiled, whose current
+definition doesn't affect the code compiled for it."
+  (let ((facts (list (cond ((special-operator-p symbol) :special-operator)
+                           ((macro-function symbol) :macro)
+                           ((and (fboundp symbol) (not self)) :function))
+                     (and (not self) (memq symbol *defined-functions*) t)
+                     (and (memq symbol jvm::*functions-defined-in-current-file*)
+                          t)
+                     (proclaimed-ftype symbol)
+                     (cond ((inline-p symbol) (inline-expansion symbol))
+                           ((notinline-p symbol) :notinline)
+                           (t (cdr (assoc symbol
+                                          jvm::*file-inline-expansions*))))
+                     (special-variable-p symbol)
+                     (proclaimed-type symbol)
+                     (when (and (constantp symbol) (boundp symbol))
+                       (list (symbol-value symbol))))))
+    (when (some #'identity facts)
+      (cons symbol facts))))
+
+(defun compile-cache-key (name expr)
+  "Returns a string which identifies the class files compiled for the
+top-level function NAME with lambda expression EXPR, or NIL if they can't
+be cached."
+  (handler-case
+      (multiple-value-bind (form symbols)
+          ;; Don't let macroexpansion here change the names of symbols
+          ;; created by the compiler.
+          (let ((*gensym-counter* *gensym-counter*))
+            (compile-cache-canonicalize
+             (list name (precompiler:precompile-form expr t nil))))
+        (when form
+          ;; Symbols are printed relative to the current package, which
+          ;; keeps keys short and still tells different symbols apart.
+          (let ((package *package*))
+            (with-standard-io-syntax
+              (let ((*package* package)
+                    (*print-circle* t)
+                    (*print-pretty* nil))
+                (prin1-to-string
+                 (list *fasl-version* (lisp-implementation-version)
+                       (file-namestring *compile-file-truename*)
+                       (pathname-name *output-file-pathname*)
+                       *speed* *space* *safety* *debug* *block-compile*
+                       form
+                       (mapcan #'(lambda (symbol)
+                                   (unless (memq (symbol-package symbol)
+                                                 (list +cl-package+
+                                                       +keyword-package+))
+                                     (let ((facts (compile-cache-symbol-facts
+                                                   symbol (eq symbol name))))
+                                       (when facts
+                                         (list facts)))))
+                               symbols))))))))
+    (error ()
+      nil)))
+
+(defun compile-cache-entry-name (key)
+  (format nil "~36R-~36R" (sxhash key) (length key)))
+
+(defun claim-compile-cache-key (name expr)
+  "Returns the compile cache key for the top-level function NAME with
+lambda expression EXPR, or NIL if it isn't to be cached. Keys are computed
+by the thread running COMPILE-FILE, so that they only depend on the forms
+processed before NAME, and no two functions in a file get the same key."
+  (when (and *compile-file-cache-directory*
+             (null jvm::*visible-variables*))
+    (let* ((key (compile-cache-key name expr))
+           (entry (and key (compile-cache-entry-name key))))
+      (when (and entry (not (gethash entry *compile-cache-names*)))
+        (setf (gethash entry *compile-cache-names*) t)
+        key))))
+
+(defun compile-cache-pathname (entry &optional local-function-number)
+  (merge-pathnames (make-pathname :name (if local-function-number
+                                            (%format nil "~A-~D" entry
+                                                     local-function-number)
+                                            entry)
+                                  :type "cls")
+                   *compile-file-cache-directory*))
+
+(defun compile-cache-key-pathname (entry)
+  (merge-pathnames (make-pathname :name entry :type "key")
+                   *compile-file-cache-directory*))
+
+(defun local-classfile-name (entry local-function-number)
+  (compute-classfile-name (%format nil "~A-~D" entry local-function-number)))
+
+(defun copy-class-file (from to)
+  (with-open-file (in from :element-type '(unsigned-byte 8))
+    (with-open-file (out to :direction :output :if-exists :supersede
+                         :element-type '(unsigned-byte 8))
+      (let ((buffer (make-array (file-length in)
+                                :element-type '(unsigned-byte 8))))
+        (read-sequence buffer in)
+        (write-sequence buffer out))))
+  to)
+
+(defun compile-cache-lookup (key entry classfile-name)
+  "Copies the class files cached for KEY under ENTRY to CLASSFILE-NAME and
+the names of its local functions, and notes the functions they call which
+were undefined when they were compiled. Returns CLASSFILE-NAME and the
+class files of the local functions, or NIL if there's no such entry."
+  (with-open-file (in (compile-cache-key-pathname entry)
+                      :if-does-not-exist nil)
+    (when in
+      (destructuring-bind (length count &rest undefined-functions)
+          (with-standard-io-syntax
+            (let ((*package* +keyword-package+)
+                  (*read-eval* nil))
+              (read-from-string (read-line in))))
+        (let ((text (make-string length)))
+          (when (and (= length (length key))
+                     (= (read-sequence text in) length)
+                     (string= text key))
+            (copy-class-file (compile-cache-pathname entry) classfile-name)
+            (when (boundp '*undefined-functions*)
+              (dolist (name undefined-functions)
+                (unless (memq name *defined-functions*)
+                  (pushnew name *undefined-functions*))))
+            (values classfile-name
+                    (loop for i from 1 to count
+                          collect (copy-class-file
+                                   (compile-cache-pathname entry i)
+                                   (local-classfile-name entry i))))))))))
+
+(defun compile-cache-store (key entry classfile local-classfiles
+                            undefined-functions)
+  (ensure-directories-exist *compile-file-cache-directory*)
+  (copy-class-file classfile (compile-cache-pathname entry))
+  (loop for local-classfile in local-classfiles
+        for i from 1
+        do (copy-class-file local-classfile (compile-cache-pathname entry i)))
+  ;; The key is written last: an entry is only used once it's complete.
+  (with-open-file (out (compile-cache-key-pathname entry)
+                       :direction :output :if-exists :supersede)
+    (with-standard-io-syntax
+      (let ((*package* +keyword-package+)
+            (*print-pretty* nil))
+        (prin1 (list* (length key) (length local-classfiles)
+                      undefined-functions)
+               out)))
+    (terpri out)
+    (write-string key out)))
+
+(defun compile-defun-cached (name expr classfile-name key)
+  "Like JVM:COMPILE-DEFUN, but reuses the class files cached under KEY
+when there are any. The second value is the list of class files of local
+functions which were named after the cache entry."
+  (unless key
+    (return-from compile-defun-cached
+      (jvm:compile-defun name expr nil classfile-name)))
+  (let ((entry (compile-cache-entry-name key)))
+    (multiple-value-bind (classfile local-classfiles)
+        (ignore-errors (compile-cache-lookup key entry classfile-name))
+      (when classfile
+        (return-from compile-defun-cached
+          (values classfile local-classfiles))))
+    (let* ((undefined-functions (and (boundp '*undefined-functions*)
+                                     *undefined-functions*))
+           (local-classfiles ())
+           (cacheable t)
+           (classfile
+            (let ((jvm::*pathnames-generator*
+                   #'(lambda ()
+                       (car (push (local-classfile-name
+                                   entry (1+ (length local-classfiles)))
+                                  local-classfiles)))))
+              (handler-bind (((or warning compiler-error)
+                              #'(lambda (c)
+                                  (declare (ignore c))
+                                  (setf cacheable nil)
+                                  nil)))
+                (jvm:compile-defun name expr nil classfile-name)))))
+      (setf local-classfiles (nreverse local-classfiles))
+      (when (and classfile cacheable)
+        (ignore-errors
+          (compile-cache-store
+           key entry classfile local-classfiles
+           (and (boundp '*undefined-functions*)
+                (remove-if #'(lambda (name)
+                               (memq name undefined-functions))
+                           *undefined-functions*)))))
+      (values classfile local-classfiles))))
+
+(defun compile-toplevel-function (name expr classfile-name)
+  "Compiles EXPR to CLASSFILE-NAME in the thread running COMPILE-FILE,
+reusing cached class files when possible."
+  (multiple-value-bind (classfile local-classfiles)
+      (compile-defun-cached name expr classfile-name
+                            (claim-compile-cache-key name expr))
+    (when classfile
+      (setf *job-classfile-names*
+            (append *job-classfile-names* local-classfiles)))
+    classfile))
+
+(defun note-auto-inline-expansion (name block-name lambda-list decls body)
+  "When *COMPILE-FILE-AUTO-INLINE* is true, makes the top-level function
+NAME a candidate for inlining into calls later in the file, provided it
+has a simple lambda list and calls no function defined in this file."
+  (when (and *compile-file-auto-inline*
+             (symbolp name)
+             (not (inline-p name))
+             (not (notinline-p name))
+             (or (null *compile-file-environment*)
+                 (empty-environment-p *compile-file-environment*)))
+    (let ((expansion (jvm::generate-inline-expansion block-name lambda-list
+                                                     body))
+          (defined (cons name jvm::*functions-defined-in-current-file*)))
+      (labels ((calls-defined-p (form)
+                 (cond ((consp form)
+                        (or (calls-defined-p (car form))
+                            (calls-defined-p (cdr form))))
+                       ((symbolp form)
+                        (memq form defined)))))
+        (when (and expansion
+                   (not (calls-defined-p body))
+                   (notany #'(lambda (decl)
+                               (assoc 'SPECIAL (cdr decl)))
+                           decls))
+          (push (cons name (list* 'LAMBDA lambda-list
+                                  (append (copy-tree decls)
+                                          (cddr expansion))))
+                jvm::*file-inline-expansions*))))))
+
 (declaim (ftype (function (t stream) t) process-defconstant))
 (defun process-defconstant (form stream)
   ;; "If a DEFCONSTANT form appears as a top level form, the compiler
@@ -85,7 +627,7 @@
   ;; initial-value can be evaluated at compile time (regardless of
   ;; whether or not references to name appear in the file) and that
   ;; it always evaluates to the same value."
-  (eval form)
+  (compile-time-eval form)
   (dump-form form stream)
   (%stream-terpri stream))
 
@@ -102,9 +644,13 @@
 
 (declaim (ftype (function (t stream t) t) process-toplevel-form))
 (defun process-toplevel-form (form stream compile-time-too)
+  ;; Top-level forms other than DEFUN may have compile-time side effects
+  ;; which deferred functions must not observe, so let those finish first.
+  (unless (and (consp form) (memq (%car form) '(DEFUN PROGN)))
+    (finish-pending-defuns stream))
   (if (atom form)
       (when compile-time-too
-        (eval form))
+        (compile-time-eval form))
     (progn
       (let ((operator (%car form)))
         (case operator
@@ -114,7 +660,7 @@
           ((IN-PACKAGE DEFPACKAGE)
            (note-toplevel-form form)
            (setf form (precompiler:precompile-form form nil *compile-file-environment*))
-           (eval form)
+           (compile-time-eval form)
            ;; Force package prefix to be used when dumping form.
            (let ((*package* +keyword-package+))
              (dump-form form stream))
@@ -123,7 +669,7 @@
           ((DEFVAR DEFPARAMETER)
            (note-toplevel-form form)
            (if compile-time-too
-               (eval form)
+               (compile-time-eval form)
                ;; "If a DEFVAR or DEFPARAMETER form appears as a top level form,
                ;; the compiler must recognize that the name has been proclaimed
                ;; special. However, it must neither evaluate the initial-value
@@ -140,42 +686,47 @@
            (let* ((name (second form))
                   (block-name (fdefinition-block-name name))
                   (lambda-list (third form))
-                  (body (nthcdr 3 form)))
+                  (body (nthcdr 3 form))
+                  (deferred (defer-defun-p name compile-time-too)))
+             (unless deferred
+               (finish-pending-defuns stream))
              (jvm::with-saved-compiler-policy
                (multiple-value-bind (body decls doc)
                    (parse-body body)
-                 (let* ((expr `(lambda ,lambda-list
-                                 ,@decls (block ,block-name ,@body)))
-                        (classfile-name (next-classfile-name))
-                        (classfile (report-error
-                                    (jvm:compile-defun name expr nil
-                                                       classfile-name)))
-                        (compiled-function (verify-load classfile)))
-                   (cond
-                     (compiled-function
-                      (setf form
-                            `(fset ',name
-                                   (load-compiled-function ,(file-namestring classfile))
-                                   ,*source-position*
-                                   ',lambda-list
-                                   ,doc))
-                      (when compile-time-too
-                        (fset name compiled-function)))
-                     (t
-                      ;; FIXME Should be a warning or error of some sort...
-                      (format *error-output*
-                              "; Unable to compile function ~A~%" name)
-                      (let ((precompiled-function
-                             (precompiler:precompile-form expr nil
-                                              *compile-file-environment*)))
-                        (setf form
-                              `(fset ',name
-                                     ,precompiled-function
-                                     ,*source-position*
-                                     ',lambda-list
-                                     ,doc)))
-                      (when compile-time-too
-                        (eval form)))))
+                 (let ((expr `(lambda ,lambda-list
+                                ,@decls (block ,block-name ,@body))))
+                   (if deferred
+                       (defer-defun name lambda-list doc expr)
+                     (let* ((classfile-name (next-classfile-name))
+                            (classfile (report-error
+                                        (compile-toplevel-function
+                                         name expr classfile-name)))
+                            (compiled-function (verify-load classfile)))
+                       (cond
+                         (compiled-function
+                          (setf form
+                                `(fset ',name
+                                       (autoload-compiled-function ',name ,(file-namestring classfile))
+                                       ,*source-position*
+                                       ',lambda-list
+                                       ,doc))
+                          (when compile-time-too
+                            (fset name compiled-function)))
+                         (t
+                          ;; FIXME Should be a warning or error of some sort...
+                          (format *error-output*
+                                  "; Unable to compile function ~A~%" name)
+                          (let ((precompiled-function
+                                 (precompiler:precompile-form expr nil
+                                                  *compile-file-environment*)))
+                            (setf form
+                                  `(fset ',name
+                                         ,precompiled-function
+                                         ,*source-position*
+                                         ',lambda-list
+                                         ,doc)))
+                          (when compile-time-too
+                            (compile-time-eval form)))))))
                  (when (and (symbolp name) (eq (get name '%inline) 'INLINE))
                  ;; FIXME Need to support SETF functions too!
                    (setf (inline-expansion name)
@@ -184,15 +735,17 @@
                    (dump-form `(setf (inline-expansion ',name)
                                      ',(inline-expansion name))
                               stream)
-                   (%stream-terpri stream))))
+                   (%stream-terpri stream))
+                 (note-auto-inline-expansion name block-name lambda-list
+                                             decls body)))
              (push name jvm::*functions-defined-in-current-file*)
              (note-name-defined name)
              ;; If NAME is not fbound, provide a dummy definition so that
              ;; getSymbolFunctionOrDie() will succeed when we try to verify that
              ;; functions defined later in the same file can be loaded correctly.
-             (unless (fboundp name)
-               (setf (fdefinition name) #'dummy)
-               (push name *fbound-names*))))
+             (provide-dummy-definition name)
+             (when deferred
+               (return-from process-toplevel-form))))
           ((DEFGENERIC DEFMETHOD)
            (note-toplevel-form form)
            (note-name-defined (second form))
@@ -203,12 +756,12 @@
           (DEFMACRO
            (note-toplevel-form form)
            (let ((name (second form)))
-             (eval form)
+             (compile-time-eval form)
              (let* ((expr (function-lambda-expression (macro-function name)))
                     (classfile-name (next-classfile-name))
                     (classfile
                      (ignore-errors
-                       (jvm:compile-defun nil expr nil classfile-name))))
+                       (compile-toplevel-function nil expr classfile-name))))
                (if (null (verify-load classfile))
                    ;; FIXME error or warning
                    (format *error-output* "; Unable to compile macro ~A~%" name)
@@ -227,7 +780,7 @@
                                     ',(third form)))))))))
           (DEFTYPE
            (note-toplevel-form form)
-           (eval form))
+           (compile-time-eval form))
           (EVAL-WHEN
            (multiple-value-bind (ct lt e)
                (parse-eval-when-situations (cadr form))
@@ -236,7 +789,7 @@
                (if lt
                    (process-toplevel-progn body stream new-compile-time-too)
                  (when new-compile-time-too
-                   (eval `(progn ,@body)))))
+                   (compile-time-eval `(progn ,@body)))))
            (return-from process-toplevel-form)))
           (LOCALLY
            ;; FIXME Need to handle special declarations too!
@@ -272,7 +825,7 @@
 ;;;                      (setf form (precompiler:precompile-form form nil
 ;;;                                                  *compile-file-environment*))
                   (when compile-time-too
-                    (eval form))
+                    (compile-time-eval form))
                   (return-from process-toplevel-form))
                  ((eq operator 'PUT)
                   (setf form (precompiler:precompile-form form nil *compile-file-environment*)))
@@ -292,7 +845,7 @@
                     (dump-form form stream))
                   (%stream-terpri stream)
                   (when compile-time-too
-                    (eval form))
+                    (compile-time-eval form))
                   (return-from process-toplevel-form))
                  ((and (eq operator '%SET-FDEFINITION)
                        (eq (car (second form)) 'QUOTE)
@@ -326,7 +879,7 @@
   ;; however, binding *load-truename* isn't fully compliant, I think.
   (let ((*load-truename* *output-file-pathname*))
     (when compile-time-too
-      (eval form))))
+      (compile-time-eval form))))
 
 (declaim (ftype (function (t) t) convert-ensure-method))
 (defun convert-ensure-method (form)
@@ -344,7 +897,8 @@
         (jvm::with-saved-compiler-policy
           (let* ((classfile-name (next-classfile-name))
                  (classfile (report-error
-                             (jvm:compile-defun nil lambda-expression nil classfile-name)))
+                             (compile-toplevel-function nil lambda-expression
+                                                        classfile-name)))
                  (compiled-function (verify-load classfile)))
             (cond (compiled-function
                    (setf (getf tail key)
@@ -357,7 +911,8 @@
 (defun convert-toplevel-form (form)
   (let* ((expr `(lambda () ,form))
          (classfile-name (next-classfile-name))
-         (classfile (report-error (jvm:compile-defun nil expr nil classfile-name)))
+         (classfile (report-error
+                     (compile-toplevel-function nil expr classfile-name)))
          (compiled-function (verify-load classfile)))
     (setf form
           (if compiled-function
@@ -414,6 +969,9 @@
                         (merge-pathnames output-file *default-pathname-defaults*)
                         (compile-file-pathname input-file)))
   (let* ((*output-file-pathname* output-file)
+         (*pending-defuns* ())
+         (*job-classfile-names* ())
+         (*compile-cache-names* (make-hash-table :test 'equal))
          (type (pathname-type output-file))
          (temp-file (merge-pathnames (make-pathname :type (concatenate 'string type "-tmp"))
                                      output-file))
@@ -437,8 +995,11 @@
                   (*read-base* *read-base*)
                   (*package* *package*)
                   (jvm::*functions-defined-in-current-file* '())
+                  (jvm::*file-inline-expansions* '())
+                  (*block-compile* nil)
                   (*fbound-names* '())
-                  (*fasl-anonymous-package* (%make-package)))
+                  (*fasl-anonymous-package* (%make-package))
+                  (*fasl-dump-table* (make-fasl-dump-table out)))
               (jvm::with-saved-compiler-policy
                 (jvm::with-file-compilation
                   (write "; -*- Mode: Lisp -*-" :escape nil :stream out)
@@ -467,9 +1028,9 @@
                               (*compiler-error-context* form))
                          (when (eq form in)
                            (return))
-                         (process-toplevel-form form out nil))))
-                  (dolist (name *fbound-names*)
-                    (fmakunbound name)))))))
+                         (process-toplevel-form form out nil)))
+                    (finish-pending-defuns out))
+                  (remove-dummy-definitions))))))
         (rename-file temp-file output-file)
 
         (when *compile-file-zip*
@@ -484,6 +1045,9 @@
               (let* ((pathname (compute-classfile-name (1+ i))))
                 (when (probe-file pathname)
                   (push pathname pathnames))))
+            (dolist (pathname *job-classfile-names*)
+              (when (probe-file pathname)
+                (push pathname pathnames)))
             (setf pathnames (nreverse pathnames))
             (let ((load-file (merge-pathnames (make-pathname :type "_")
                                               output-file)))
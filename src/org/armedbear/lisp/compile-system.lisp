@@ -84,11 +84,13 @@
         (*warn-on-redefinition* nil))
     (unless output-path
       (setf output-path *default-pathname-defaults*))
-    (flet ((do-compile (file)
-             (let ((out (make-pathname :type "abcl"
-                                       :defaults (merge-pathnames
-                                                  file output-path))))
-               (compile-file-if-needed file :output-file out))))
+    (labels ((do-compile (file)
+               (let ((out (make-pathname :type "abcl"
+                                         :defaults (merge-pathnames
+                                                    file output-path))))
+                 (compile-file-if-needed file :output-file out)))
+             (compile-unordered (files)
+               (compile-independent-files #'do-compile files)))
       (load (do-compile "coerce.lisp"))
       (load (do-compile "open.lisp"))
       (load (do-compile "dump-form.lisp"))
@@ -122,7 +124,7 @@
       (load (do-compile "ldb.lisp"))
       (load (do-compile "destructuring-bind.lisp"))
       ;; But not for these.
-      (mapc #'do-compile '("adjoin.lisp"
+      (compile-unordered '("adjoin.lisp"
                            "and.lisp"
                            "apropos.lisp"
                            "arrays.lisp"
@@ -176,6 +178,7 @@
                            "fdefinition.lisp"
                            "fill.lisp"
                            "find-all-symbols.lisp"
+                           "form-reader.lisp"
                            "gentemp.lisp"
                            "gray-streams.lisp"
 			   "gui.lisp"
@@ -253,6 +256,7 @@
                            "trace.lisp"
                            "tree-equal.lisp"
                            "upgraded-complex-part-type.lisp"
+                           "warm-up.lisp"
                            "with-accessors.lisp"
                            "with-hash-table-iterator.lisp"
                            "with-input-from-string.lisp"
@@ -265,7 +269,8 @@
                            "write-sequence.lisp")))
     t))
 
-(defun compile-system (&key quit (zip t) output-path)
+(defun compile-system (&key quit (zip t) output-path
+                            ((:jobs *compile-file-jobs*) *compile-file-jobs*))
   (let ((status -1))
     (check-lisp-home)
     (time
@@ -967,6 +967,33 @@
                          (list* (car form) (nreverse syms)))))))
         form)))
 
+(defun auto-inline-expansion (form)
+  "Returns the inline expansion to substitute for FORM, a call to a small
+function defined earlier in the file being compiled, or NIL. The expansion
+isn't used if a lexical variable or local function at the call site would
+capture one of the symbols in it."
+  (let* ((op (car form))
+         (expansion (and *enable-inline-expansion*
+                         (symbolp op)
+                         (not (notinline-p op))
+                         (cdr (assoc op *file-inline-expansions*))))
+         (parameters (second expansion)))
+    (labels ((captured-p (form)
+               (cond ((consp form)
+                      (or (captured-p (car form)) (captured-p (cdr form))))
+                     ((or (null form) (not (symbolp form))
+                          (memq form parameters))
+                      nil)
+                     ((find-local-function form))
+                     (t
+                      (let ((variable (find-visible-variable form)))
+                        (and variable (not (variable-special-p variable))))))))
+      (when (and expansion
+                 (= (length (cdr form)) (length parameters))
+                 (inline-within-budget-p op expansion nil)
+                 (not (captured-p (cddr expansion))))
+        expansion))))
+
 (defknown p1-function-call (t) t)
 (defun p1-function-call (form)
   (let ((new-form (rewrite-function-call form)))
@@ -983,12 +1010,14 @@
 
            (when (and *enable-inline-expansion* (inline-p op))
              (let ((expansion (local-function-inline-expansion local-function)))
-               (when expansion
+               (when (and expansion (inline-within-budget-p op expansion t))
                  (let ((explain *explain*))
                    (when (and explain (memq :calls explain))
                      (format t ";   inlining call to local function ~S~%" op)))
                  (return-from p1-function-call
-                   (p1 (expand-inline form expansion))))))
+                   (let ((*functions-being-inlined*
+                          (cons op *functions-being-inlined*)))
+                     (p1 (expand-inline form expansion)))))))
 
            ;; FIXME
            (dformat t "local function assumed not single-valued~%")
@@ -1001,6 +1030,15 @@
           (t
            ;; Not a local function call.
            (dformat t "p1 non-local call to ~S~%" op)
+           (let ((expansion (auto-inline-expansion form)))
+             (when expansion
+               (let ((explain *explain*))
+                 (when (and explain (memq :calls explain))
+                   (format t ";   inlining call to ~S~%" op)))
+               (return-from p1-function-call
+                 (let ((*functions-being-inlined*
+                        (cons op *functions-being-inlined*)))
+                   (p1 (expand-inline form expansion))))))
            (unless (single-valued-p form)
 ;;                (format t "not single-valued op = ~S~%" op)
              (setf (compiland-%single-valued-p *current-compiland*) nil)))))
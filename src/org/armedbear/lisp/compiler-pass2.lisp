@@ -2938,6 +2938,13 @@ itself is *not* compiled by this function."
                      (lookup-or-declare-symbol op)
                    (emit 'getstatic class name +lisp-symbol+))
                  (aload 0)))
+            ((and *block-compile*
+                  *file-compilation*
+                  (memq op *functions-defined-in-current-file*)
+                  (not (notinline-p op)))
+             ;; Block compilation: call the function defined earlier in
+             ;; this file directly instead of through its symbol.
+             (emit 'getstatic *this-class* (declare-function op) +lisp-object+))
             (t
              (multiple-value-bind
                    (name class)
@@ -3451,8 +3458,57 @@ given a specific common representation.")
 (defun p2-test-simple-vector-p (form)
   (p2-test-instanceof-predicate form +lisp-simple-vector-class+))
 
+(defknown fold-constant (t) t)
+(defun fold-constant (form)
+  "Returns the value of FORM and T if FORM is an integer, a reference to a
+variable with a constant integer value, or integer arithmetic or a numeric
+comparison on such forms; otherwise returns NIL and NIL. The results for
+compound forms are kept in *CONSTANT-FOLDS*, so each form is folded once."
+  (if (and (consp form) *constant-folds*)
+      (let ((entry (gethash form *constant-folds*)))
+        (unless entry
+          (setf entry (multiple-value-call #'cons (%fold-constant form))
+                (gethash form *constant-folds*) entry))
+        (values (car entry) (cdr entry)))
+      (%fold-constant form)))
+
+(defun %fold-constant (form)
+  (cond ((integerp form)
+         (values form t))
+        ((var-ref-p form)
+         (if (and (var-ref-constant-p form)
+                  (integerp (var-ref-constant-value form)))
+             (values (var-ref-constant-value form) t)
+             (values nil nil)))
+        ((and (consp form)
+              (memq (%car form) '(+ - * 1+ 1- ABS MIN MAX ASH LOGAND LOGIOR
+                                  LOGXOR LOGNOT = /= < > <= >= ZEROP PLUSP
+                                  MINUSP EVENP ODDP))
+              (not (notinline-p (%car form))))
+         (let ((args ()))
+           (dolist (arg (%cdr form))
+             (multiple-value-bind (value foldable-p) (fold-constant arg)
+               (unless foldable-p
+                 (return-from %fold-constant (values nil nil)))
+               (push value args)))
+           (setf args (nreverse args))
+           (if (or (null args)
+                   (and (memq (%car form) '(1+ 1- ABS LOGNOT ZEROP PLUSP MINUSP
+                                            EVENP ODDP))
+                        (cdr args))
+                   (and (eq (%car form) 'ASH)
+                        (not (and (= (length args) 2)
+                                  (<= (second args) 64)))))
+               (values nil nil)
+               (values (apply (%car form) args) t))))
+        (t
+         (values nil nil))))
+
 (defknown compile-test-form (t) t)
 (defun compile-test-form (test-form)
+  (multiple-value-bind (value foldable-p) (fold-constant test-form)
+    (when foldable-p
+      (return-from compile-test-form (if value :consequent :alternate))))
   (when (consp test-form)
     (let* ((op (%car test-form))
            (handler (p2-test-handler op))
@@ -3659,6 +3715,31 @@ given a specific common representation.")
                                  (lisp-object-arg-types 1) "Z")
              'ifeq)))))
 
+(defun compare-integer-types (op type1 type2)
+  "Returns :CONSEQUENT or :ALTERNATE if (OP X Y) has the same value for all
+integers X of TYPE1 and Y of TYPE2, otherwise NIL."
+  (let ((low1 (integer-type-low type1))
+        (high1 (integer-type-high type1))
+        (low2 (integer-type-low type2))
+        (high2 (integer-type-high type2)))
+    (ecase op
+      (<
+       (cond ((and high1 low2 (< high1 low2)) :consequent)
+             ((and low1 high2 (>= low1 high2)) :alternate)))
+      (<=
+       (cond ((and high1 low2 (<= high1 low2)) :consequent)
+             ((and low1 high2 (> low1 high2)) :alternate)))
+      (>
+       (compare-integer-types '< type2 type1))
+      (>=
+       (compare-integer-types '<= type2 type1))
+      (=
+       (cond ((and low1 high1 low2 high2 (= low1 high1 low2 high2))
+              :consequent)
+             ((or (and high1 low2 (< high1 low2))
+                  (and high2 low1 (< high2 low1)))
+              :alternate))))))
+
 (defun p2-test-numeric-comparison (form)
   (when (check-min-args form 1)
     (when (= (length form) 3)
@@ -3670,6 +3751,11 @@ given a specific common representation.")
              (type2 (derive-compiler-type arg2)))
         (cond ((and (fixnump arg1) (fixnump arg2))
                (if (funcall op arg1 arg2) :consequent :alternate))
+              ((and (or (var-ref-p arg1) (integerp arg1))
+                    (or (var-ref-p arg2) (integerp arg2))
+                    (integer-type-p type1)
+                    (integer-type-p type2)
+                    (compare-integer-types op type1 type2)))
               ((and (fixnum-type-p type1) (fixnum-type-p type2))
 	       (compile-forms-and-maybe-emit-clear-values arg1 'stack :int
 							  arg2 'stack :int)
@@ -4193,6 +4279,535 @@ given a specific common representation.")
       (dolist (variable removed)
         (setf (let-vars block) (remove variable (let-vars block)))))))
 
+;;; Range analysis
+;;;
+;;; A LET variable which is initialized to an integer and only changed by
+;;; SETQ forms in the body of the LET, like the induction variables of
+;;; DOTIMES, DO and LOOP, gets no derived type from its initform. Instead,
+;;; the body is interpreted over integer intervals: tests like (< I N)
+;;; narrow the interval of I in the branches of an IF, and the states at the
+;;; tags of a TAGBODY are iterated to a fixed point, with widening to keep
+;;; the iteration finite. The union of the values assigned to a variable
+;;; becomes its derived type and decides its representation, so that it can
+;;; be unboxed, and the interval
+;;; seen at each reference becomes the derived type of the VAR-REF, so that
+;;; arithmetic on it can skip the overflow checks.
+;;;
+;;; A state is either :DEAD (unreachable) or a list of (VARIABLE TYPE TWIN)
+;;; entries, where TYPE is an integer type and TWIN is NIL or another
+;;; variable which is known to hold the same value.
+
+(defvar *range-tags* nil
+  "Alist of the names of the tags being analyzed and the incoming states.")
+
+(defvar *range-blocks* nil
+  "Alist of the names of the blocks being analyzed and the exit states.")
+
+(defvar *range-recording* nil
+  "True in the final pass over a form, when values and references are noted.")
+
+(defvar *range-values* nil
+  "Hash table of the union of the values assigned to each variable.")
+
+(defvar *range-reference-types* nil
+  "Hash table of the union of the types seen at each VAR-REF.")
+
+(defvar *range-saved-types* nil
+  "Alist of the variables whose types are changed during the analysis.")
+
+(defvar *range-state* nil
+  "The state in which RANGE-OF is deriving the type of a form. DERIVE-TYPE
+uses it for references to the variables it covers.")
+
+(defun range-union (type1 type2)
+  (cond ((null type1) type2)
+        ((null type2) type1)
+        (t
+         (let ((low1 (integer-type-low type1))
+               (low2 (integer-type-low type2))
+               (high1 (integer-type-high type1))
+               (high2 (integer-type-high type2)))
+           (%make-integer-type (and low1 low2 (min low1 low2))
+                               (and high1 high2 (max high1 high2)))))))
+
+(defun range-subsumes-p (type1 type2)
+  "True if every value of TYPE2 is of TYPE1."
+  (let ((low1 (integer-type-low type1))
+        (low2 (integer-type-low type2))
+        (high1 (integer-type-high type1))
+        (high2 (integer-type-high type2)))
+    (and (or (null low1) (and low2 (<= low1 low2)))
+         (or (null high1) (and high2 (>= high1 high2))))))
+
+(defun range-widen (type1 type2)
+  "Returns the union of TYPE1 and TYPE2, dropping the bounds which grew."
+  (let ((low1 (integer-type-low type1))
+        (low2 (integer-type-low type2))
+        (high1 (integer-type-high type1))
+        (high2 (integer-type-high type2)))
+    (%make-integer-type (and low1 low2 (<= low1 low2) low1)
+                        (and high1 high2 (>= high1 high2) high1))))
+
+(defun range-state-join (state1 state2)
+  (cond ((eq state1 :dead)
+         state2)
+        ((eq state2 :dead)
+         state1)
+        (t
+         (mapcar #'(lambda (entry1)
+                     (let ((entry2 (assoc (car entry1) state2)))
+                       (list (car entry1)
+                             (range-union (second entry1) (second entry2))
+                             (and (eq (third entry1) (third entry2))
+                                  (third entry1)))))
+                 state1))))
+
+(defun range-state-subsumes-p (state1 state2)
+  (cond ((eq state2 :dead)
+         t)
+        ((eq state1 :dead)
+         nil)
+        (t
+         (every #'(lambda (entry2)
+                    (let ((entry1 (assoc (car entry2) state1)))
+                      (and (range-subsumes-p (second entry1) (second entry2))
+                           (or (null (third entry1))
+                               (eq (third entry1) (third entry2))))))
+                state2))))
+
+(defun range-state-widen (state1 state2)
+  (if (eq state1 :dead)
+      state2
+      (mapcar #'(lambda (entry1)
+                  (let ((entry2 (assoc (car entry1) state2)))
+                    (list (car entry1)
+                          (range-widen (second entry1) (second entry2))
+                          (and (eq (third entry1) (third entry2))
+                               (third entry1)))))
+              state1)))
+
+(defun range-state-entry (name state)
+  (find name state :key #'(lambda (entry) (variable-name (car entry)))))
+
+(defun range-save-type (variable)
+  (unless (assoc variable *range-saved-types*)
+    (push (list variable
+                (variable-declared-type variable)
+                (variable-derived-type variable))
+          *range-saved-types*)))
+
+(defun range-of (form state)
+  "Returns the integer type of FORM in STATE, or NIL."
+  (let ((entry (and (var-ref-p form)
+                    (not (var-ref-constant-p form))
+                    (assoc (var-ref-variable form) state))))
+    (if entry
+        (second entry)
+        (let ((variable (and (var-ref-p form) (var-ref-variable form))))
+          (when (and variable
+                     (not (variable-special-p variable))
+                     (zerop (variable-writes variable))
+                     (not (integer-type-p (variable-declared-type variable))))
+            ;; The limit variable of LOOP is declared (AND NUMBER REAL).
+            (setf form (variable-initform variable)))
+          (let ((type (let ((*range-state* state))
+                        (derive-compiler-type form))))
+            (when (integer-type-p type)
+              type))))))
+
+(defun range-note-value (variable type)
+  (when *range-recording*
+    (setf (gethash variable *range-values*)
+          (range-union (gethash variable *range-values*) type))))
+
+(defun range-note-reference (ref state)
+  (when *range-recording*
+    (let ((entry (and (not (var-ref-constant-p ref))
+                      (assoc (var-ref-variable ref) state))))
+      (when entry
+        (setf (gethash ref *range-reference-types*)
+              (range-union (gethash ref *range-reference-types*)
+                           (second entry)))))))
+
+(defun range-assign (state variable type twin)
+  (mapcar #'(lambda (entry)
+              (cond ((eq (car entry) variable)
+                     (list variable type twin))
+                    ((eq (third entry) variable)
+                     (list (car entry) (second entry) nil))
+                    (t
+                     entry)))
+          state))
+
+(defun range-narrow (state variable low high)
+  "Returns STATE with the value of VARIABLE known to be between LOW and HIGH."
+  (let ((twin (third (assoc variable state)))
+        (dead nil))
+    (flet ((narrow (type)
+             (let ((new-low (cond ((null low) (integer-type-low type))
+                                  ((null (integer-type-low type)) low)
+                                  (t (max low (integer-type-low type)))))
+                   (new-high (cond ((null high) (integer-type-high type))
+                                   ((null (integer-type-high type)) high)
+                                   (t (min high (integer-type-high type))))))
+               (when (and new-low new-high (> new-low new-high))
+                 (setf dead t))
+               (%make-integer-type new-low new-high))))
+      (let ((state (mapcar #'(lambda (entry)
+                               (if (or (eq (car entry) variable)
+                                       (eq (third entry) variable)
+                                       (and twin
+                                            (or (eq (car entry) twin)
+                                                (eq (third entry) twin))))
+                                   (list (car entry)
+                                         (narrow (second entry))
+                                         (third entry))
+                                   entry))
+                           state)))
+        (if dead :dead state)))))
+
+(defun range-refine-operand (op x y state)
+  "Narrows the interval of X in STATE, given that (OP X Y) is true."
+  (let ((entry (and (neq state :dead)
+                    (var-ref-p x)
+                    (not (var-ref-constant-p x))
+                    (assoc (var-ref-variable x) state))))
+    (if (null entry)
+        state
+        (let ((type (range-of y state)))
+          (if (null type)
+              state
+              (let ((low (integer-type-low type))
+                    (high (integer-type-high type))
+                    (variable (car entry)))
+                (ecase op
+                  (<  (range-narrow state variable nil (and high (1- high))))
+                  (<= (range-narrow state variable nil high))
+                  (>  (range-narrow state variable (and low (1+ low)) nil))
+                  (>= (range-narrow state variable low nil))
+                  (=  (range-narrow state variable low high)))))))))
+
+(defun range-refine (test state truth)
+  "Returns STATE narrowed by TEST evaluating to TRUTH."
+  (cond ((or (eq state :dead) (atom test))
+         state)
+        ((and (memq (car test) '(NOT NULL))
+              (= (length test) 2))
+         (range-refine (second test) state (not truth)))
+        ((eq (car test) 'AND)
+         (if truth
+             (dolist (arg (cdr test) state)
+               (setf state (range-refine arg state t)))
+             state))
+        ((eq (car test) 'OR)
+         (if truth
+             state
+             (dolist (arg (cdr test) state)
+               (setf state (range-refine arg state nil)))))
+        ((and (memq (car test) '(< > <= >= =))
+              (= (length test) 3))
+         (let ((op (if truth
+                       (car test)
+                       (cdr (assoc (car test)
+                                   '((< . >=) (> . <=) (<= . >) (>= . <)))))))
+           (if (null op)
+               state
+               (range-refine-operand
+                (cdr (assoc op '((< . >) (> . <) (<= . >=) (>= . <=) (= . =))))
+                (third test) (second test)
+                (range-refine-operand op (second test) (third test)
+                                      state)))))
+        (t
+         state)))
+
+(defun range-map-subforms (function form)
+  "Calls FUNCTION on each compound subform of FORM, looking into nodes."
+  (cond ((node-p form)
+         (when (let/let*-node-p form)
+           (dolist (variable (let-vars form))
+             (range-map-subforms function (variable-initform variable))))
+         (range-map-subforms function (node-form form)))
+        ((consp form)
+         (funcall function form)
+         (unless (eq (car form) 'QUOTE)
+           (do ((tail form (cdr tail)))
+               ((atom tail))
+             (range-map-subforms function (car tail)))))))
+
+(defun range-writes-p (form state)
+  (range-map-subforms #'(lambda (subform)
+                          (when (and (eq (car subform) 'SETQ)
+                                     (range-state-entry (second subform)
+                                                        state))
+                            (return-from range-writes-p t)))
+                      form)
+  nil)
+
+(defun range-transfer (name targets state)
+  "Joins STATE into the incoming state of the tag or block NAME in TARGETS."
+  (let ((target (assoc name targets)))
+    (when (and target (neq state :dead))
+      (setf (cdr target) (range-state-join (cdr target) state))))
+  :dead)
+
+(defun range-walk-opaque (form state)
+  "Handles a FORM whose control flow isn't analyzed, which mustn't assign
+the variables being analyzed."
+  (range-map-subforms #'(lambda (subform)
+                          (case (car subform)
+                            (SETQ
+                             (let ((entry (range-state-entry (second subform)
+                                                             state)))
+                               (when entry
+                                 (throw 'range-analysis (car entry)))))
+                            (GO
+                             (range-transfer (second subform) *range-tags*
+                                             state))
+                            (RETURN-FROM
+                             (range-transfer (second subform) *range-blocks*
+                                             state))))
+                      form)
+  state)
+
+(defun range-fix-variable (variable state)
+  "Derives the type of an unassigned VARIABLE from its initform in STATE."
+  (when (and (not (variable-special-p variable))
+             (zerop (variable-writes variable))
+             (eq (variable-declared-type variable) :none))
+    (range-save-type variable)
+    (setf (variable-derived-type variable)
+          (or (range-of (variable-initform variable) state) :none))))
+
+(defun range-walk-setq (form state)
+  (let* ((value (third form))
+         (state (range-walk value state))
+         (entry (and (neq state :dead)
+                     (range-state-entry (second form) state))))
+    (if (null entry)
+        state
+        (let* ((variable (car entry))
+               (source (and (var-ref-p value)
+                            (not (var-ref-constant-p value))
+                            (assoc (var-ref-variable value) state)))
+               (type (range-of value state)))
+          (unless type
+            (throw 'range-analysis variable))
+          (range-note-value variable type)
+          (range-assign state variable type
+                        (and source
+                             (neq (car source) variable)
+                             (car source)))))))
+
+(defun range-walk-tagbody (block state)
+  (let* ((body (cdr (tagbody-form block)))
+         (names (remove-duplicates (mapcar #'tag-name (tagbody-tags block))))
+         (incoming (mapcar #'(lambda (name) (cons name :dead)) names))
+         (assumed (mapcar #'(lambda (name) (cons name :dead)) names)))
+    (flet ((walk ()
+             (dolist (entry incoming)
+               (setf (cdr entry) :dead))
+             (let ((current state))
+               (dolist (subform body current)
+                 (if (or (symbolp subform) (integerp subform))
+                     (let ((entry (assoc subform incoming)))
+                       (setf (cdr entry) (range-state-join (cdr entry) current)
+                             current (range-state-join
+                                      (cdr entry)
+                                      (cdr (assoc subform assumed)))))
+                     (setf current (range-walk subform current)))))))
+      ;; Iterate to a fixed point, ignoring transfers out of the TAGBODY.
+      (let ((*range-tags* incoming)
+            (*range-blocks* nil)
+            (*range-recording* nil))
+        (dotimes (i 20 (throw 'range-analysis t))
+          (walk)
+          (when (every #'(lambda (entry)
+                           (range-state-subsumes-p
+                            (cdr (assoc (car entry) assumed)) (cdr entry)))
+                       incoming)
+            (return))
+          (dolist (entry assumed)
+            (let ((new (range-state-join
+                        (cdr entry) (cdr (assoc (car entry) incoming)))))
+              (setf (cdr entry)
+                    (if (< i 3)
+                        new
+                        (range-state-widen (cdr entry) new))))))
+        ;; Narrow the widened states.
+        (walk)
+        (dolist (entry assumed)
+          (setf (cdr entry) (cdr (assoc (car entry) incoming)))))
+      (let ((*range-tags* (append incoming *range-tags*)))
+        (walk)))))
+
+(defun range-walk-block (block state)
+  (let* ((target (cons (block-name block) :dead))
+         (state (let ((*range-blocks* (cons target *range-blocks*)))
+                  (range-walk-forms (cddr (block-form block)) state))))
+    (range-state-join state (cdr target))))
+
+(defun range-walk-let (block state)
+  (dolist (variable (let-vars block))
+    (setf state (range-walk (variable-initform variable) state))
+    (unless (eq state :dead)
+      (range-fix-variable variable state)))
+  (range-walk-forms (cddr (let-form block)) state))
+
+(defun range-walk-forms (forms state)
+  (dolist (form forms state)
+    (setf state (range-walk form state))))
+
+(defun range-walk (form state)
+  "Returns the state after evaluating FORM in STATE."
+  (cond ((eq state :dead)
+         :dead)
+        ((var-ref-p form)
+         (range-note-reference form state)
+         state)
+        ((tagbody-node-p form)
+         (if (some #'tag-used-non-locally (tagbody-tags form))
+             (range-walk-opaque form state)
+             (range-walk-tagbody form state)))
+        ((block-node-p form)
+         (if (block-non-local-return-p form)
+             (range-walk-opaque form state)
+             (range-walk-block form state)))
+        ((let/let*-node-p form)
+         (if (some #'(lambda (variable)
+                       (range-state-entry (variable-name variable) state))
+                   (let-vars form))
+             (range-walk-opaque form state)
+             (range-walk-let form state)))
+        ((locally-node-p form)
+         (range-walk-forms (cdr (locally-form form)) state))
+        ((node-p form)
+         (range-walk-opaque form state))
+        ((atom form)
+         state)
+        (t
+         (let ((op (car form)))
+           (case op
+             ((QUOTE FUNCTION LOAD-TIME-VALUE DECLARE)
+              state)
+             (SETQ
+              (range-walk-setq form state))
+             (IF
+              (let ((test (second form))
+                    (state (range-walk (second form) state)))
+                (if (or (eq state :dead) (range-writes-p test state))
+                    (range-state-join (range-walk (third form) state)
+                                      (range-walk (fourth form) state))
+                    (range-state-join
+                     (range-walk (third form) (range-refine test state t))
+                     (range-walk (fourth form) (range-refine test state nil))))))
+             ((AND OR)
+              (if (null (cdr form))
+                  state
+                  (let ((result :dead))
+                    (dolist (arg (cdr form) result)
+                      (setf state (range-walk arg state)
+                            result (range-state-join result state))))))
+             ((THE TRULY-THE)
+              (range-walk (third form) state))
+             (GO
+              (range-transfer (second form) *range-tags* state))
+             (RETURN-FROM
+              (range-transfer (second form) *range-blocks*
+                              (range-walk-forms (cddr form) state)))
+             (t
+              (if (and (symbolp op)
+                       (or (eq op 'PROGN)
+                           (not (special-operator-p op))))
+                  (range-walk-forms (cdr form) state)
+                  (range-walk-opaque form state))))))))
+
+(defun range-candidate-p (variable)
+  (and (not (variable-special-p variable))
+       (null (variable-closure-index variable))
+       (not (variable-used-non-locally-p variable))
+       (null (variable-representation variable))
+       (plusp (variable-writes variable))
+       (plusp (variable-reads variable))
+       (eq (variable-derived-type variable) :none)
+       (not (integer-type-p (variable-declared-type variable)))
+       (variable-initform variable)))
+
+(defun range-analyze (block candidates)
+  "Returns hash tables of the types of CANDIDATES and of their references,
+or throws RANGE-ANALYSIS with the variable (or T) which defeated the analysis."
+  (let ((*range-tags* nil)
+        (*range-blocks* nil)
+        (*range-recording* t)
+        (*range-values* (make-hash-table :test 'eq))
+        (*range-reference-types* (make-hash-table :test 'eq))
+        (*range-saved-types* nil)
+        (state ()))
+    (unwind-protect
+         (progn
+           (dolist (variable candidates)
+             (range-save-type variable)
+             (setf (variable-declared-type variable) :none))
+           (dolist (variable (let-vars block))
+             (setf state (range-walk (variable-initform variable) state))
+             (when (eq state :dead)
+               (throw 'range-analysis t))
+             (cond ((memq variable candidates)
+                    (let ((type (range-of (variable-initform variable) state)))
+                      (unless type
+                        (throw 'range-analysis variable))
+                      (range-note-value variable type)
+                      (setf state
+                            (append state (list (list variable type nil))))))
+                   (t
+                    (range-fix-variable variable state))))
+           (range-walk-forms (cddr (let-form block)) state)
+           (values *range-values* *range-reference-types*))
+      (dolist (saved *range-saved-types*)
+        (destructuring-bind (variable declared-type derived-type) saved
+          (setf (variable-declared-type variable) declared-type
+                (variable-derived-type variable) derived-type))))))
+
+(defun derive-let-variable-ranges (block)
+  "Derives integer types for the assigned variables of the LET/LET* node
+BLOCK and for their references in its body."
+  (let ((candidates (remove-if-not #'range-candidate-p (let-vars block))))
+    (loop
+      (when (null candidates)
+        (return))
+      (let* ((values nil)
+             (reference-types nil)
+             (failed (catch 'range-analysis
+                       (multiple-value-setq (values reference-types)
+                         (range-analyze block candidates))
+                       nil)))
+        (cond ((eq failed t)
+               (return))
+              (failed
+               (setf candidates (remove failed candidates)))
+              (t
+               (dolist (variable candidates)
+                 (let ((type (gethash variable values))
+                       (declared-type (variable-declared-type variable)))
+                   (cond ((eq declared-type :none)
+                          ;; DERIVE-VARIABLE-REPRESENTATION only uses the
+                          ;; derived types of unassigned variables.
+                          (setf (variable-derived-type variable) type)
+                          (let ((representation (type-representation type)))
+                            (when (memq representation '(:int :long))
+                              (setf (variable-representation variable)
+                                    representation))))
+                         ((and (or (symbolp declared-type)
+                                   (consp declared-type))
+                               (subtypep (list 'INTEGER
+                                               (or (integer-type-low type) '*)
+                                               (or (integer-type-high type) '*))
+                                         declared-type))
+                          (setf (variable-declared-type variable) type)))))
+               (maphash #'(lambda (ref type)
+                            (setf (var-ref-derived-type ref) type))
+                        reference-types)
+               (return)))))))
+
 (defun derive-variable-representation (variable block
                                        &key (type nil type-supplied-p))
   (when (not (null (variable-representation variable)))
@@ -4492,6 +5107,7 @@ given a specific common representation.")
       (save-dynamic-environment (let-environment-register block))
       (label label-START))
     (propagate-vars block)
+    (derive-let-variable-ranges block)
     (ecase (car form)
       (LET
        (p2-let-bindings block))
@@ -6477,6 +7093,10 @@ for use with derive-type-times.")
                   (cond ((variable-special-p variable)
                          (or (proclaimed-type (variable-name variable))
                              t))
+                        ((and (consp *range-state*)
+                              (second (assoc variable *range-state*))))
+                        ((var-ref-derived-type form)
+                         (var-ref-derived-type form))
                         ((neq (variable-declared-type variable) :none)
                          (variable-declared-type variable))
                         ((neq (variable-derived-type variable) :none)
@@ -7959,6 +8579,11 @@ We need more thought here.
 
 (defknown compile-form (t t t) t)
 (defun compile-form (form target representation)
+  (when (consp form)
+    (multiple-value-bind (value foldable-p) (fold-constant form)
+      (when foldable-p
+        (return-from compile-form
+          (compile-form value target representation)))))
   (cond ((consp form)
          (let* ((op (%car form))
                 (handler (and (symbolp op) (get op 'p2-handler))))
@@ -8411,6 +9036,7 @@ We need more thought here.
   (let ((*all-variables* nil)
         (*closure-variables* nil)
         (*undefined-variables* nil)
+        (*constant-folds* (make-hash-table :test 'eq))
         (*local-functions* *local-functions*)
         (*current-compiland* compiland))
     (with-saved-compiler-policy
@@ -8646,6 +9272,17 @@ We need more thought here.
 (defun compile (name &optional definition)
   (jvm-compile name definition))
 
+(defun auto-compile (function)
+  "Compiles the interpreted closure FUNCTION for tiered execution.
+Runs in the auto-compiler thread, so any output or error is swallowed.
+Returns the compiled function, or NIL if FUNCTION can't be compiled."
+  (let ((*error-output* (make-broadcast-stream))
+        (*standard-output* (make-broadcast-stream)))
+    (ignore-errors
+      (let ((compiled (jvm-compile nil function)))
+        (when (compiled-function-p compiled)
+          compiled)))))
+
 (defmacro with-file-compilation (&body body)
   `(let ((*file-compilation* t)
          (*pathnames-generator* #'sys::next-classfile-name))
@@ -106,6 +106,118 @@
         (t
          (%stream-output-object object stream))))
 
+;;; Encoded forms
+;;;
+;;; COMPILE-FILE binds *FASL-DUMP-TABLE* while it writes a fasl. Forms
+;;; dumped to that fasl are then written as #~ followed by a compact
+;;; encoding which the loader decodes without going through the reader:
+;;; every object starts with a one-character tag, and each symbol and
+;;; package is spelled out only the first time it appears in the fasl,
+;;; after which it is referred to by its index in the fasl's object
+;;; table. Objects the encoding doesn't cover are written by the printer
+;;; as before. The format is described in FaslDecoder.java.
+
+(defstruct (fasl-dump-table (:constructor make-fasl-dump-table (stream)))
+  stream
+  (objects (make-hash-table :test 'eq) :type hash-table))
+
+(defvar *fasl-dump-table* nil)
+
+(declaim (ftype (function (unsigned-byte stream) t) dump-encoded-number))
+(defun dump-encoded-number (n stream)
+  (loop
+    (when (< n 32)
+      (%stream-write-char (code-char (+ n #.(char-code #\0))) stream)
+      (return))
+    (%stream-write-char (code-char (+ (logand n 31) #.(char-code #\P))) stream)
+    (setf n (ash n -5))))
+
+(declaim (ftype (function (string stream) t) dump-encoded-chars))
+(defun dump-encoded-chars (string stream)
+  (dump-encoded-number (length string) stream)
+  (write-string string stream))
+
+(declaim (ftype (function (t) t) encoded-object-index))
+(defun encoded-object-index (object)
+  (gethash object (fasl-dump-table-objects *fasl-dump-table*)))
+
+(declaim (ftype (function (t) t) note-encoded-object))
+(defun note-encoded-object (object)
+  (let ((objects (fasl-dump-table-objects *fasl-dump-table*)))
+    (setf (gethash object objects) (hash-table-count objects))))
+
+(declaim (ftype (function (symbol stream) t) dump-encoded-symbol))
+(defun dump-encoded-symbol (symbol stream)
+  (let ((index (encoded-object-index symbol)))
+    (when index
+      (%stream-write-char #\! stream)
+      (dump-encoded-number index stream)
+      (return-from dump-encoded-symbol)))
+  (let* ((package (symbol-package symbol))
+         (package-name (and package (package-name package))))
+    (cond ((null package-name)
+           (%stream-write-char #\# stream))
+          (t
+           (%stream-write-char #\$ stream)
+           (let ((index (encoded-object-index package)))
+             (cond (index
+                    (%stream-write-char #\! stream)
+                    (dump-encoded-number index stream))
+                   (t
+                    (%stream-write-char #\% stream)
+                    (dump-encoded-chars package-name stream)
+                    (note-encoded-object package))))))
+    (dump-encoded-chars (symbol-name symbol) stream)
+    (note-encoded-object symbol)))
+
+(declaim (ftype (function (t stream) t) dump-encoded-object))
+(defun dump-encoded-object (object stream)
+  (cond ((null object)
+         (%stream-write-char #\/ stream))
+        ((consp object)
+         (let ((length 1)
+               (tail (%cdr object)))
+           (declare (type index length))
+           (loop
+             (unless (consp tail)
+               (return))
+             (incf length)
+             (setf tail (%cdr tail)))
+           (%stream-write-char (if tail #\. #\() stream)
+           (dump-encoded-number length stream)
+           (dotimes (i length)
+             (dump-encoded-object (%car object) stream)
+             (setf object (%cdr object)))
+           (when tail
+             (dump-encoded-object tail stream))))
+        ((symbolp object)
+         (dump-encoded-symbol object stream))
+        ((fixnump object)
+         (cond ((minusp object)
+                (%stream-write-char #\- stream)
+                (dump-encoded-number (- object) stream))
+               (t
+                (%stream-write-char #\+ stream)
+                (dump-encoded-number object stream))))
+        ((characterp object)
+         (%stream-write-char #\' stream)
+         (dump-encoded-number (char-code object) stream))
+        ((stringp object)
+         (%stream-write-char #\" stream)
+         (dump-encoded-chars object stream))
+        ((and (vectorp object) (not (bit-vector-p object)))
+         ;; Like DUMP-VECTOR, this loads as a simple vector.
+         (let ((length (length object)))
+           (%stream-write-char #\* stream)
+           (dump-encoded-number length stream)
+           (dotimes (i length)
+             (declare (type index i))
+             (dump-encoded-object (aref object i) stream))))
+        (t
+         (%stream-write-char #\| stream)
+         (dump-object object stream)
+         (%stream-write-char #\space stream))))
+
 (declaim (ftype (function (t stream) t) dump-form))
 (defun dump-form (form stream)
   (let ((*print-fasl* t)
@@ -116,6 +228,12 @@
         ;; make sure to write all floats with their exponent marker:
         ;; the dump-time default may not be the same at load-time
         (*read-default-float-format* nil))
-    (dump-object form stream)))
+    (cond ((and *fasl-dump-table*
+                (eq stream (fasl-dump-table-stream *fasl-dump-table*)))
+           (%stream-write-char #\# stream)
+           (%stream-write-char #\~ stream)
+           (dump-encoded-object form stream))
+          (t
+           (dump-object form stream)))))
 
 (provide 'dump-form)
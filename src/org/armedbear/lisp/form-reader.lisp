@@ -0,0 +1,420 @@
+;;; form-reader.lisp
+;;;
+;;; Copyright (C) 2009 The ABCL developers
+;;; $Id$
+;;;
+;;; This program is free software; you can redistribute it and/or
+;;; modify it under the terms of the GNU General Public License
+;;; as published by the Free Software Foundation; either version 2
+;;; of the License, or (at your option) any later version.
+;;;
+;;; This program is distributed in the hope that it will be useful,
+;;; but WITHOUT ANY WARRANTY; without even the implied warranty of
+;;; MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+;;; GNU General Public License for more details.
+;;;
+;;; You should have received a copy of the GNU General Public License
+;;; along with this program; if not, write to the Free Software
+;;; Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+;;;
+;;; As a special exception, the copyright holders of this library give you
+;;; permission to link this library with independent modules to produce an
+;;; executable, regardless of the license terms of these independent
+;;; modules, and to copy and distribute the resulting executable under
+;;; terms of your choice, provided that you also meet, for each linked
+;;; independent module, the terms and conditions of the license of that
+;;; module.  An independent module is a module which is not derived from
+;;; or based on this library.  If you modify this library, you may extend
+;;; this exception to your version of the library, but you are not
+;;; obligated to do so.  If you do not wish to do so, delete this
+;;; exception statement from your version.
+
+
+(in-package "SYSTEM")
+
+;;; Form readers produce the forms in a stream or file one at a time, so
+;;; that a large data file can be processed without holding all of its
+;;; forms at once. Forms are read with the reader variables that were in
+;;; effect when the form reader was made, whichever thread reads them.
+
+(defstruct (form-reader (:constructor %make-form-reader (next close)))
+  ;; Function of no arguments returning the next form and T, or NIL and
+  ;; NIL when there are no more.
+  next
+  ;; Function of no arguments releasing any threads reading ahead.
+  close)
+
+(defun reader-bindings ()
+  (list *package* *readtable* *read-base* *read-default-float-format*
+        *read-eval* *read-suppress*))
+
+(defmacro with-reader-bindings ((bindings) &body body)
+  `(destructuring-bind (*package* *readtable* *read-base*
+                        *read-default-float-format* *read-eval* *read-suppress*)
+       ,bindings
+     ,@body))
+
+(defun read-next-form (form-reader &optional (eof-error-p t) eof-value)
+  "Returns the next form from FORM-READER. At the end of the forms,
+signals END-OF-FILE if EOF-ERROR-P is true and returns EOF-VALUE
+otherwise. An error signalled while reading ahead is signalled here,
+when its position in the input is reached."
+  (multiple-value-bind (form present-p)
+      (funcall (form-reader-next form-reader))
+    (cond (present-p form)
+          (eof-error-p (error 'end-of-file :stream form-reader))
+          (t eof-value))))
+
+(defun close-form-reader (form-reader)
+  "Stops any reading ahead for FORM-READER. The underlying stream is
+not closed."
+  (funcall (form-reader-close form-reader))
+  t)
+
+(defmacro do-forms ((var form-reader &optional result) &body body)
+  "Evaluates BODY with VAR bound to each form of FORM-READER in turn.
+FORM-READER is closed when DO-FORMS returns or is exited, so that a
+non-local exit doesn't leave a thread reading ahead."
+  (let ((reader (gensym)) (eof (gensym)))
+    `(let ((,reader ,form-reader)
+           (,eof (list nil)))
+       (unwind-protect
+            (loop
+              (let ((,var (read-next-form ,reader nil ,eof)))
+                (when (eq ,var ,eof)
+                  (return ,result))
+                ,@body))
+         (close-form-reader ,reader)))))
+
+;;; Reading ahead on a thread
+
+(defstruct (form-queue (:constructor make-form-queue (limit)))
+  (forms ())
+  (tail ())
+  (count 0)
+  limit
+  (finished nil)
+  (condition nil)
+  (closed nil))
+
+(defun fill-form-queue (queue stream bindings)
+  (with-reader-bindings (bindings)
+    (let ((eof queue))
+      (loop
+        (let ((form (handler-case (read stream nil eof)
+                      (error (c)
+                        (setf (form-queue-condition queue) c)
+                        eof))))
+          (threads:synchronized-on queue
+            (loop
+              (when (or (< (form-queue-count queue) (form-queue-limit queue))
+                        (form-queue-closed queue))
+                (return))
+              (threads:object-wait queue))
+            (cond ((form-queue-closed queue))
+                  ((eq form eof)
+                   (setf (form-queue-finished queue) t))
+                  (t
+                   (let ((cell (list form)))
+                     (if (form-queue-forms queue)
+                         (setf (cdr (form-queue-tail queue)) cell)
+                         (setf (form-queue-forms queue) cell))
+                     (setf (form-queue-tail queue) cell))
+                   (incf (form-queue-count queue))))
+            (threads:object-notify-all queue))
+          (when (or (eq form eof) (form-queue-closed queue))
+            (return)))))))
+
+(defun next-queued-form (queue)
+  (let (form present-p condition)
+    (threads:synchronized-on queue
+      (loop
+        (when (or (form-queue-forms queue) (form-queue-finished queue))
+          (return))
+        (threads:object-wait queue))
+      (cond ((form-queue-forms queue)
+             (setf form (pop (form-queue-forms queue))
+                   present-p t)
+             (decf (form-queue-count queue))
+             (threads:object-notify-all queue))
+            (t
+             (setf condition (form-queue-condition queue)))))
+    (when condition
+      (error condition))
+    (values form present-p)))
+
+(defun make-form-reader (stream &key (prefetch 0))
+  "Returns a form reader for the forms in STREAM; see READ-NEXT-FORM.
+If PREFETCH is positive, a background thread reads up to that many forms
+ahead of the caller."
+  (let ((bindings (reader-bindings)))
+    (if (plusp prefetch)
+        (let ((queue (make-form-queue prefetch)))
+          (threads:make-thread #'(lambda ()
+                                   (fill-form-queue queue stream bindings))
+                               :name "form reader")
+          (%make-form-reader #'(lambda () (next-queued-form queue))
+                             #'(lambda ()
+                                 (threads:synchronized-on queue
+                                   (setf (form-queue-closed queue) t
+                                         (form-queue-finished queue) t
+                                         (form-queue-forms queue) nil)
+                                   (threads:object-notify-all queue)))))
+        (%make-form-reader #'(lambda ()
+                               (let* ((eof stream)
+                                      (form (with-reader-bindings (bindings)
+                                              (read stream nil eof))))
+                                 (if (eq form eof)
+                                     (values nil nil)
+                                     (values form t))))
+                           #'(lambda ())))))
+
+;;; Reading a file in parallel
+
+(defun skip-delimited (string start delimiter)
+  "Returns the index of the DELIMITER that ends the string or |...| token
+starting at START, honouring backslash escapes."
+  (declare (simple-string string) (fixnum start))
+  (let ((length (length string))
+        (i start))
+    (declare (fixnum length i))
+    (loop
+      (when (>= i length)
+        (return length))
+      (let ((c (schar string i)))
+        (cond ((char= c #\\)
+               (incf i))
+              ((char= c delimiter)
+               (return i))))
+      (incf i))))
+
+(defun skip-block-comment (string start)
+  "Returns the index of the # that ends the (possibly nested) #|...|#
+comment whose body starts at START."
+  (declare (simple-string string) (fixnum start))
+  (let ((length (length string))
+        (depth 1)
+        (i start))
+    (declare (fixnum length depth i))
+    (loop
+      (when (>= (1+ i) length)
+        (return length))
+      (let ((c (schar string i))
+            (next (schar string (1+ i))))
+        (cond ((and (char= c #\|) (char= next #\#))
+               (incf i)
+               (when (zerop (decf depth))
+                 (return i)))
+              ((and (char= c #\#) (char= next #\|))
+               (incf i)
+               (incf depth))))
+      (incf i))))
+
+(defun in-package-token-p (string start)
+  "Whether the token after the open parenthesis at START - 1 names
+IN-PACKAGE, with or without a package prefix."
+  (declare (simple-string string) (fixnum start))
+  (let* ((start (or (position-if-not #'whitespacep string :start start)
+                    (length string)))
+         (end (or (position-if #'(lambda (c)
+                                   (or (whitespacep c) (find c "()\";'`|")))
+                               string :start start)
+                  (length string)))
+         (colon (position #\: string :start start :end end :from-end t)))
+    (string-equal "IN-PACKAGE" string :start2 (if colon (1+ colon) start)
+                                      :end2 end)))
+
+(defun in-package-form-name (string start end)
+  "The name of the package set by the form from START to END of STRING,
+or NIL if it isn't an IN-PACKAGE form."
+  (let ((form (let ((*package* (find-package "KEYWORD"))
+                    (*read-eval* nil))
+                (read-from-string string t nil :start start :end end))))
+    (when (and (consp form)
+               (symbolp (car form))
+               (member (symbol-package (car form))
+                       (list (find-package "COMMON-LISP")
+                             (find-package "KEYWORD")))
+               (string= (symbol-name (car form)) "IN-PACKAGE")
+               (consp (cdr form)))
+      (string (cadr form)))))
+
+(defun split-at-top-level-forms (string count)
+  "Returns the start indices of about COUNT chunks of STRING of roughly
+equal size, each made of whole top-level forms. Chunks end just after a
+top-level list, found by following the reader's rules for strings,
+comments, escapes and |...|; a list that is the feature expression of
+#+ or #- doesn't end a chunk. A chunk always ends after a top-level
+IN-PACKAGE form. The second value lists the name of the package each
+chunk is to be read in, as set by the IN-PACKAGE forms before it, or NIL
+before the first of them."
+  (declare (simple-string string) (fixnum count))
+  (let* ((length (length string))
+         (target (max 1 (ceiling length count)))
+         (next target)
+         (depth 0)
+         (feature-expression-p nil)
+         (in-package-start nil)
+         (package nil)
+         (starts (list 0))
+         (packages (list nil))
+         (i 0))
+    (declare (fixnum length target next depth i))
+    (loop
+      (when (>= i length)
+        (return))
+      (let ((c (schar string i)))
+        (case c
+          (#\\
+           (incf i))
+          (#\"
+           (setf i (skip-delimited string (1+ i) #\")))
+          (#\|
+           (setf i (skip-delimited string (1+ i) #\|)))
+          (#\;
+           (setf i (or (position #\Newline string :start i) length)))
+          (#\#
+           (when (and (< (1+ i) length) (char= (schar string (1+ i)) #\|))
+             (setf i (skip-block-comment string (+ i 2)))))
+          (#\(
+           (when (zerop depth)
+             (cond ((and (>= i 2)
+                         (char= (schar string (- i 2)) #\#)
+                         (member (schar string (1- i)) '(#\+ #\-)))
+                    (setf feature-expression-p t))
+                   ((in-package-token-p string (1+ i))
+                    (setf in-package-start i))))
+           (incf depth))
+          (#\)
+           (when (plusp depth)
+             (decf depth)
+             (when (zerop depth)
+               (let ((name (and in-package-start
+                                (in-package-form-name string in-package-start
+                                                      (1+ i)))))
+                 (setf in-package-start nil)
+                 (when name
+                   (setf package name))
+                 (cond (feature-expression-p
+                        (setf feature-expression-p nil))
+                       ((and (or name (>= (1+ i) next)) (< (1+ i) length))
+                        (push (1+ i) starts)
+                        (push package packages)
+                        (setf next (+ i 1 target))))))))))
+      (incf i))
+    (values (nreverse starts) (nreverse packages))))
+
+(defstruct (form-chunk (:constructor make-form-chunk (start end package)))
+  start
+  end
+  ;; Name of the package to read in, or NIL for the form reader's own.
+  package
+  (started nil)
+  (done nil)
+  (forms ())
+  (condition nil))
+
+(defun read-form-chunk (chunk string bindings)
+  (with-reader-bindings (bindings)
+    (let ((forms ())
+          (condition nil))
+      (handler-case
+          (let ((*package* (let ((name (form-chunk-package chunk)))
+                             (cond ((null name) *package*)
+                                   ((find-package name))
+                                   (t (error 'package-error :package name))))))
+            (with-input-from-string (stream string
+                                            :start (form-chunk-start chunk)
+                                            :end (form-chunk-end chunk))
+              (let ((eof stream))
+                (loop
+                  (let ((form (read stream nil eof)))
+                    (when (eq form eof)
+                      (return))
+                    (push form forms))))))
+        (error (c)
+          (setf condition c)))
+      (threads:synchronized-on chunk
+        (setf (form-chunk-forms chunk) (nreverse forms)
+              (form-chunk-condition chunk) condition
+              (form-chunk-done chunk) t)
+        (threads:object-notify-all chunk)))))
+
+(defun available-processors ()
+  (java:jcall "availableProcessors"
+              (java:jstatic "getRuntime" "java.lang.Runtime")))
+
+(defun make-parallel-form-reader (pathname &key (threads (available-processors))
+                                                (external-format :default))
+  "Returns a form reader for the forms in the file PATHNAME, which reads
+chunks of the file on up to THREADS threads at once and returns their
+forms in order. The file's text is held in memory. The forms after a
+top-level IN-PACKAGE form are read in the package it names, as if the
+forms had been evaluated as they were read; until that package exists,
+they aren't read ahead of the caller, so that it can be defined by a
+form the caller evaluates first. Other forms that change how later ones
+are read only take effect within their own chunk."
+  (let* ((string (with-open-file (stream pathname
+                                         :external-format external-format)
+                   (let* ((buffer (make-string (file-length stream)))
+                          (end (read-sequence buffer stream)))
+                     (if (= end (length buffer))
+                         buffer
+                         (subseq buffer 0 end)))))
+         (bindings (reader-bindings))
+         (chunks (multiple-value-bind (starts packages)
+                     (with-reader-bindings (bindings)
+                       (split-at-top-level-forms string (* 4 (max threads 1))))
+                   (coerce (mapcar #'make-form-chunk
+                                   starts
+                                   (append (cdr starts)
+                                           (list (length string)))
+                                   packages)
+                           'simple-vector)))
+         (current 0)
+         (forms ())
+         (condition nil))
+    (flet ((start-chunks ()
+             ;; Keep the current chunk and the next THREADS - 1 going.
+             (loop for i from current
+                   below (min (length chunks) (+ current (max threads 1)))
+                   do (let ((chunk (svref chunks i)))
+                        (unless (or (form-chunk-started chunk)
+                                    (and (> i current)
+                                         (form-chunk-package chunk)
+                                         (null (find-package
+                                                (form-chunk-package chunk)))))
+                          (setf (form-chunk-started chunk) t)
+                          (threads:make-thread
+                           #'(lambda ()
+                               (read-form-chunk chunk string bindings))
+                           :name "form reader"))))))
+      (%make-form-reader
+       #'(lambda ()
+           (loop
+             (when forms
+               (return (values (pop forms) t)))
+             (when condition
+               (let ((c condition))
+                 (setf condition nil
+                       current (length chunks))
+                 (error c)))
+             (when (>= current (length chunks))
+               (return (values nil nil)))
+             (start-chunks)
+             (let ((chunk (svref chunks current)))
+               (threads:synchronized-on chunk
+                 (loop
+                   (when (form-chunk-done chunk)
+                     (return))
+                   (threads:object-wait chunk)))
+               (incf current)
+               (setf forms (form-chunk-forms chunk)
+                     condition (form-chunk-condition chunk)
+                     (form-chunk-forms chunk) nil))))
+       #'(lambda ()
+           (setf current (length chunks)
+                 forms nil
+                 condition nil))))))
+
+(provide '#:form-reader)
@@ -230,6 +230,10 @@ of the compilands being processed (p1: so far; p2: in total).")
 ;; Undefined variables that we've already warned about.
 (defvar *undefined-variables* nil)
 
+(defvar *constant-folds* nil
+  "An EQ hash table mapping the forms of the compiland being compiled to
+the results of FOLD-CONSTANT on them.")
+
 (defvar *dump-variables* nil)
 
 (defun dump-1-variable (variable)
@@ -282,7 +286,10 @@ of the compilands being processed (p1: so far; p2: in total).")
   ;; True if the VAR-REF has been rewritten to reference a constant value.
   constant-p
   ;; The constant value of this VAR-REF.
-  constant-value)
+  constant-value
+  ;; The type of the variable's value at this reference, if range analysis
+  ;; found it to be narrower than the type of the variable (or NIL).
+  derived-type)
 
 ;; obj can be a symbol or variable
 ;; returns variable or nil
@@ -358,6 +365,10 @@ of the compilands being processed (p1: so far; p2: in total).")
     (when (equal name (local-function-name local-function))
         (return local-function))))
 
+(defvar *file-inline-expansions* ()
+  "Alist of small functions defined earlier in the file being compiled and
+their inline expansions, when *COMPILE-FILE-AUTO-INLINE* is true.")
+
 (defvar *using-arg-array* nil)
 (defvar *hairy-arglist-p* nil)
 
@@ -527,6 +538,41 @@ of the compilands being processed (p1: so far; p2: in total).")
                (eq name (block-name block)))
       (return block))))
 
+(defmacro with-fresh-compiler-state (&body body)
+  "Establishes new bindings for the state passes 1 and 2 accumulate
+while compiling a function, so that `body' doesn't share it with
+compilations running in other threads."
+  `(let ((*pool* nil)
+         (*pool-count* 1)
+         (*pool-entries* nil)
+         (*fields* ())
+         (*static-code* ())
+         (*declared-symbols* nil)
+         (*declared-functions* nil)
+         (*declared-strings* nil)
+         (*declared-integers* nil)
+         (*declared-floats* nil)
+         (*declared-doubles* nil)
+         (*current-compiland* nil)
+         (*this-class* nil)
+         (*code* ())
+         (*register* 0)
+         (*registers-allocated* 0)
+         (*handlers* ())
+         (*visible-tags* ())
+         (*all-variables* nil)
+         (*closure-variables* nil)
+         (*undefined-variables* nil)
+         (*local-functions* ())
+         (*using-arg-array* nil)
+         (*hairy-arglist-p* nil)
+         (*child-p* nil)
+         (*blocks* ())
+         (*thread* nil)
+         (*initialize-thread-var* nil)
+         (*last-error-context* nil))
+     ,@body))
+
 (defknown node-constant-p (t) boolean)
 (defun node-constant-p (object)
   (cond ((node-p object)
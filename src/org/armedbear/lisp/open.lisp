@@ -99,14 +99,25 @@
                :format-control "Unsupported element type ~S."
                :format-arguments (list element-type)))))
 
+(defun check-buffering (buffering)
+  "Signals a TYPE-ERROR unless BUFFERING is NIL or a mode for STREAM-BUFFERING.
+Called before a stream is opened, so an invalid mode doesn't leave behind an
+open stream or a file already superseded."
+  (unless (memq buffering '(nil :none :line :full))
+    (error 'type-error
+           :datum buffering
+           :expected-type '(member :none :line :full))))
+
 (defun open (filename
 	     &key
 	     (direction :input)
 	     (element-type 'character)
 	     (if-exists nil if-exists-given)
 	     (if-does-not-exist nil if-does-not-exist-given)
-	     (external-format :default))
+	     (external-format :default)
+	     buffering)
 ;  (declare (ignore external-format)) ; FIXME
+  (check-buffering buffering)
   (setf element-type (case element-type
                        ((character base-char)
                         'character)
@@ -143,7 +154,11 @@
                    :pathname pathname
                    :format-control "The file ~S does not exist."
                    :format-arguments (list namestring)))))
-       (make-file-stream pathname namestring element-type :input nil external-format))
+       (let ((stream (make-file-stream pathname namestring element-type
+                                       :input nil external-format)))
+         (when buffering
+           (setf (stream-buffering stream) buffering))
+         stream))
       (:probe
        (case if-does-not-exist
          (:error
@@ -212,6 +227,8 @@
                   :pathname pathname
                   :format-control "Unable to open ~S."
                   :format-arguments (list namestring)))
+         (when buffering
+           (setf (stream-buffering stream) buffering))
          stream))
       (t
        (error 'simple-error
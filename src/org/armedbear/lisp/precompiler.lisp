@@ -35,6 +35,7 @@
           process-optimization-declarations
           process-special-declarations
           inline-p notinline-p inline-expansion expand-inline
+          *functions-being-inlined* inline-within-budget-p
           *defined-functions* *undefined-functions* note-name-defined))
 
 (defvar *inline-declarations* nil)
@@ -112,6 +113,29 @@
         (eq (cdr entry) 'NOTINLINE)
         (and (symbolp name) (eq (get name '%inline) 'NOTINLINE)))))
 
+(defvar *functions-being-inlined* nil
+  "Names of the functions whose inline expansions are being compiled, so
+that a recursive function isn't expanded into itself.")
+
+(declaim (ftype (function (t t t) t) inline-within-budget-p))
+(defun inline-within-budget-p (name expansion declared-p)
+  "True if EXPANSION may be substituted for a call to NAME. Functions
+declared inline are always expanded, except into their own expansions.
+Functions inlined automatically must fit a budget of 64 conses, which
+doubles for each point of SPEED above SPACE (halving for each point below)."
+  (let ((limit (* 64 (expt 2 (- *speed* *space*))))
+        (size 0))
+    (labels ((walk (form)
+               (when (consp form)
+                 (when (> (incf size) limit)
+                   (return-from inline-within-budget-p nil))
+                 (walk (car form))
+                 (walk (cdr form)))))
+      (unless (member name *functions-being-inlined* :test #'equal)
+        (unless declared-p
+          (walk expansion))
+        t))))
+
 (defun expand-inline (form expansion)
 ;;   (format t "expand-inline form = ~S~%" form)
 ;;   (format t "expand-inline expansion = ~S~%" expansion)
@@ -402,11 +426,13 @@
           (return-from precompile-function-call (precompile1 new-form)))))
     (when *enable-inline-expansion*
       (let ((expansion (inline-expansion op)))
-        (when expansion
+        (when (and expansion (inline-within-budget-p op expansion t))
           (let ((explain *explain*))
             (when (and explain (memq :calls explain))
               (format t ";   inlining call to ~S~%" op)))
-          (return-from precompile-function-call (precompile1 (expand-inline form expansion))))))
+          (return-from precompile-function-call
+            (let ((*functions-being-inlined* (cons op *functions-being-inlined*)))
+              (precompile1 (expand-inline form expansion)))))))
     (cons op (mapcar #'precompile1 (cdr form)))))
 
 (defun precompile-locally (form)
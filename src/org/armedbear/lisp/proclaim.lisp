@@ -31,7 +31,18 @@
 
 (in-package #:system)
 
-(export '(check-declaration-type proclaimed-type proclaimed-ftype ftype-result-type))
+(export '(check-declaration-type proclaimed-type proclaimed-ftype ftype-result-type
+          *block-compile*))
+
+(in-package #:extensions)
+
+(export 'block-compile)
+
+(in-package #:system)
+
+(defvar *block-compile* nil
+  "True if calls between functions defined in the file being compiled are
+linked directly, as requested by (DECLAIM (EXT:BLOCK-COMPILE T)).")
 
 (defmacro declaim (&rest decls)
 `(eval-when (:compile-toplevel :load-toplevel :execute)
@@ -99,6 +110,13 @@
                  (find-class name nil))
          (declaration-error name))
        (setf (gethash name (the hash-table *declaration-types*)) name)))
+    (EXT::BLOCK-COMPILE
+     ;; Only meaningful while compiling a file.  COMPILE-FILE and LOAD
+     ;; both rebind *BLOCK-COMPILE*, so the proclamation ends with the
+     ;; file it's in, and one in a file loaded at compile time doesn't
+     ;; affect the file being compiled.
+     (when *compile-file-pathname*
+       (setf *block-compile* (cadr declaration-specifier))))
     (:explain
      (dolist (spec (cdr declaration-specifier))
        (let ((val t)
@@ -39,12 +39,14 @@
       (setf end (length sequence)))
   (let* ((element-type (stream-element-type stream)))
     (cond ((eq element-type 'character)
-           (do ((pos start (1+ pos)))
-               ((>= pos end) pos)
-             (let ((element (read-char stream nil :eof)))
-               (when (eq element :eof)
-                 (return pos))
-               (setf (elt sequence pos) element))))
+           (if (stringp sequence)
+               (%read-string sequence stream start end)
+               (do ((pos start (1+ pos)))
+                   ((>= pos end) pos)
+                 (let ((element (read-char stream nil :eof)))
+                   (when (eq element :eof)
+                     (return pos))
+                   (setf (elt sequence pos) element)))))
           ((equal element-type '(unsigned-byte 8))
            (if (and (vectorp sequence)
                     (equal (array-element-type sequence) '(unsigned-byte 8)))
@@ -55,6 +57,13 @@
                    (when (eq element :eof)
                      (return pos))
                    (setf (elt sequence pos) element)))))
+          ((and (vectorp sequence)
+                (consp element-type)
+                (memq (%car element-type) '(unsigned-byte signed-byte))
+                (memql (cadr element-type) '(16 24 32)))
+           (%read-integer-vector sequence stream start end
+                                 (cadr element-type)
+                                 (eq (%car element-type) 'signed-byte)))
           (t
            (do ((pos start (1+ pos)))
                ((>= pos end) pos)
@@ -36,14 +36,28 @@
   (pushnew (string module-name) *modules* :test #'string=)
   t)
 
+;;; System modules are checked for and loaded under the lock for their
+;;; file (see %AUTOLOAD-LOCK), so that threads requiring one at the same
+;;; time load it once, and autoloads from that file wait for it.  Modules
+;;; loaded from PATHNAMES are user code, which may wait for other threads
+;;; that call autoloads, so the lock isn't held while they load.
 (defun require (module-name &optional pathnames)
-  (unless (member (string module-name) *modules* :test #'string=)
-    (let ((saved-modules (copy-list *modules*)))
-      (cond (pathnames
-             (unless (listp pathnames) (setf pathnames (list pathnames)))
-             (dolist (x pathnames)
-               (load x)))
-            (t
-             (let ((*readtable* (copy-readtable nil)))
-               (load-system-file (string-downcase (string module-name))))))
-      (set-difference *modules* saved-modules))))
+  (flet ((%require ()
+           (unless (member (string module-name) *modules* :test #'string=)
+             (let ((saved-modules (copy-list *modules*)))
+               (cond (pathnames
+                      (unless (listp pathnames)
+                        (setf pathnames (list pathnames)))
+                      (dolist (x pathnames)
+                        (load x)))
+                     (t
+                      (let ((*readtable* (copy-readtable nil)))
+                        (load-system-file
+                         (string-downcase (string module-name))))
+                      (%record-autoload (string module-name))))
+               (set-difference *modules* saved-modules)))))
+    (if pathnames
+        (%require)
+        (threads:synchronized-on (%autoload-lock
+                                  (string-downcase (string module-name)))
+          (%require)))))
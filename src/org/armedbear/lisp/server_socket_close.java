@@ -36,6 +36,7 @@ import static org.armedbear.lisp.Nil.NIL;
 import static org.armedbear.lisp.Lisp.*;
 
 import java.net.ServerSocket;
+import java.nio.channels.Channel;
 
 // ### %server-socket-close
 public final class server_socket_close extends Primitive
@@ -50,8 +51,11 @@ public final class server_socket_close extends Primitive
         throws ConditionThrowable
     {
         try {
-	    ServerSocket serverSocket = (ServerSocket) JavaObject.getObject(first);
-	    serverSocket.close();
+	    Object serverSocket = JavaObject.getObject(first);
+	    if (serverSocket instanceof Channel)
+		((Channel) serverSocket).close();
+	    else
+		((ServerSocket) serverSocket).close();
 	    return T;
         }
         catch (Exception e) {
@@ -31,16 +31,23 @@
 
 (in-package "SYSTEM")
 
-(defun get-socket-stream (socket &key (element-type 'character) (external-format :default))
+(defun get-socket-stream (socket &key (element-type 'character) (external-format :default)
+                                      buffering)
   ":ELEMENT-TYPE must be CHARACTER or (UNSIGNED-BYTE 8); the default is CHARACTER.
-EXTERNAL-FORMAT must be of the same format as specified for OPEN."
+EXTERNAL-FORMAT must be of the same format as specified for OPEN.
+BUFFERING, if given, is :NONE, :LINE or :FULL as for STREAM-BUFFERING;
+the default is :FULL."
   (cond ((eq element-type 'character))
         ((equal element-type '(unsigned-byte 8)))
         (t
          (error 'simple-type-error
                 :format-control
                 ":ELEMENT-TYPE must be CHARACTER or (UNSIGNED-BYTE 8).")))
-  (%socket-stream socket element-type external-format))
+  (check-buffering buffering)
+  (let ((stream (%socket-stream socket element-type external-format)))
+    (when buffering
+      (setf (stream-buffering stream) buffering))
+    stream))
 
 (defun make-socket (host port)
   (%make-socket host port))
@@ -57,6 +64,64 @@ EXTERNAL-FORMAT must be of the same format as specified for OPEN."
 (defun server-socket-close (socket)
   (%server-socket-close socket))
 
+;;; Non-blocking sockets and event loops.
+
+(defun make-nonblocking-socket (host port)
+  "Starts connecting a non-blocking socket to HOST and PORT and returns it
+without waiting for the connection to complete."
+  (%make-nonblocking-socket host port))
+
+(defun make-nonblocking-server-socket (port)
+  (%make-nonblocking-server-socket port))
+
+(defun nonblocking-socket-accept (socket)
+  "Returns a new non-blocking socket for a pending connection on SOCKET,
+or NIL if there is none."
+  (%nonblocking-socket-accept socket))
+
+(defun make-event-loop ()
+  (%make-event-loop))
+
+(defun event-loop-register (event-loop socket
+                            &key on-read on-write on-accept on-connect)
+  "Calls back into Lisp when SOCKET becomes ready, replacing any earlier
+registration of SOCKET with EVENT-LOOP.  SOCKET is a non-blocking server
+socket or a stream returned by GET-SOCKET-STREAM for a non-blocking socket.
+
+ON-ACCEPT is called with each newly accepted non-blocking socket.  ON-READ,
+ON-WRITE and ON-CONNECT are called with the stream.  Input already buffered
+in the stream does not make the socket ready again, so ON-READ should read
+everything LISTEN reports.  The stream is closed when ON-CONNECT is called
+for a connection that failed.
+
+Callbacks must not wait, since the loop serves no other socket meanwhile.
+Reading more input than LISTEN or READ-CHAR-NO-HANG report signals a
+STREAM-ERROR instead of waiting.  Output the socket won't take yet is
+queued and sent by the loop, which also defers CLOSE until it is sent."
+  (%event-loop-register event-loop socket on-read on-write on-accept on-connect))
+
+(defun event-loop-unregister (event-loop socket)
+  (%event-loop-register event-loop socket nil nil nil nil))
+
+(defun event-loop-run (event-loop)
+  "Dispatches ready sockets in the current thread until EVENT-LOOP-STOP is
+called or no sockets are left registered."
+  (%event-loop-run event-loop nil nil))
+
+(defun event-loop-poll (event-loop &optional timeout)
+  "Waits up to TIMEOUT seconds (indefinitely if NIL) for sockets to become
+ready and dispatches them.  Returns the number of sockets dispatched."
+  (%event-loop-run event-loop timeout t))
+
+(defun event-loop-stop (event-loop)
+  "Makes EVENT-LOOP-RUN return; may be called from any thread.  If
+EVENT-LOOP isn't running, the next EVENT-LOOP-RUN or EVENT-LOOP-POLL
+returns at once."
+  (%event-loop-stop event-loop))
+
+(defun event-loop-close (event-loop)
+  (%event-loop-close event-loop))
+
 (declaim (inline %socket-address %socket-port))
 (defun %socket-address (socket addressName)
    (java:jcall "getHostAddress" (java:jcall-raw addressName socket)))
@@ -36,6 +36,7 @@ import static org.armedbear.lisp.Nil.NIL;
 import static org.armedbear.lisp.Lisp.*;
 
 import java.net.Socket;
+import java.nio.channels.Channel;
 
 // ### %socket-close
 public final class socket_close extends Primitive
@@ -49,9 +50,12 @@ public final class socket_close extends Primitive
     public LispObject execute(LispObject first)
         throws ConditionThrowable
     {
-	Socket socket = (Socket) JavaObject.getObject(first);
+	Object socket = JavaObject.getObject(first);
         try {
-	    socket.close();
+	    if (socket instanceof Channel)
+		((Channel) socket).close();
+	    else
+		((Socket) socket).close();
 	    return T;
         }
         catch (Exception e) {
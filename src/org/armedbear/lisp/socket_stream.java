@@ -36,6 +36,7 @@ import static org.armedbear.lisp.Nil.NIL;
 import static org.armedbear.lisp.Lisp.*;
 
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 
 // ### %socket-stream
 public final class socket_stream extends Primitive
@@ -49,13 +50,18 @@ public final class socket_stream extends Primitive
     public LispObject execute(LispObject first, LispObject second, LispObject third)
         throws ConditionThrowable
     {
-        Socket socket = (Socket) ((IJavaObject)first).getObject();
+        Object object = ((IJavaObject)first).getObject();
         LispObject elementType = second; // Checked by caller.
+        if (object instanceof SocketChannel)
+            return NonBlockingSocket.makeSocketStream((SocketChannel) object,
+                                                      elementType, third);
+        Socket socket = (Socket) object;
         try {
              Stream in =
                  new Stream(socket.getInputStream(), elementType, third);
              Stream out =
                  new Stream(socket.getOutputStream(), elementType, third);
+             out.setBuffering(Stream.Buffering.FULL);
              return new SocketStream(socket, in, out);
         }
         catch (Exception e) {
@@ -45,6 +45,7 @@ import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
@@ -59,18 +60,9 @@ public class RandomAccessCharacterFile {
             super(null);
         }
         
-        private byte[] read_buf = new byte[1];
-
         @Override
         public final int read() throws IOException {
-            int len = read(read_buf);
-            if (len == 1) {
-                // byte is signed, char is unsigned, int is signed.
-                // buf can hold 0xff, we want it as 0xff in int, not -1.
-                return 0xff & (int) read_buf[0];
-            } else {
-                return -1;
-            }
+            return RandomAccessCharacterFile.this.readByte();
         }
                 
         @Override
@@ -180,16 +172,9 @@ public class RandomAccessCharacterFile {
             RandomAccessCharacterFile.this.close();
         }
         
-        private char[] read_buf = new char[1];
-
         @Override
         public final int read() throws IOException {
-            int n = this.read(read_buf);
-            
-            if (n == 1)
-                return read_buf[0];
-            else
-                return -1;
+            return RandomAccessCharacterFile.this.readChar();
         }
 
         @Override
@@ -251,7 +236,9 @@ public class RandomAccessCharacterFile {
     }
 
 
-    final static int BUFSIZ = 4*1024; // setting this to a small value like 8 is helpful for testing.
+    final static int BUFSIZ = 64*1024; // setting this to a small value like 8 is helpful for testing.
+    final static int CBUFSIZ = 4*1024;
+    final static int CHUNKSIZ = 64; // characters decoded at a time into cbuf.
 	
     private RandomAccessWriter writer;
     private RandomAccessReader reader;
@@ -275,8 +262,37 @@ public class RandomAccessCharacterFile {
     private boolean bbufIsDirty; /* whether bbuf holds data that must be written. */
     private boolean bbufIsReadable; /* whether bbuf.remaining() contains readable content. */
     private long bbufpos; /* where the beginning of bbuf is pointing in the file now. */
+    private boolean bbufIsMapped; /* whether bbuf maps the whole (read-only) file. */
+
+    /**
+     * cbuf holds characters decoded ahead of the logical position, so that
+     * reading a single character doesn't run the decoder.  The characters
+     * between cbuf.position() and cbuf.limit() have been taken out of bbuf
+     * but not yet returned; dropReadAhead() gives their bytes back before
+     * anything else uses the position in the file.  cbuf is decoded a
+     * chunk at a time: chunk i starts at character chunkChars[i] of cbuf,
+     * decoded from the bytes at file position chunkBytes[i], and entry
+     * chunks marks the end of the read-ahead.
+     */
+    private CharBuffer cbuf;
+    private int[] chunkChars = new int[CBUFSIZ / CHUNKSIZ + 2];
+    private long[] chunkBytes = new long[CBUFSIZ / CHUNKSIZ + 2];
+    private int chunks;
+    private CharsetDecoder lengthDecoder;
+    private ByteBuffer lengthBytes;
+    private CharBuffer lengthChars;
 
     public RandomAccessCharacterFile(RandomAccessFile raf, String encoding) throws IOException {
+        this(raf, encoding, false);
+    }
+
+    /**
+     * @param map when true and the file fits, map the whole file
+     *        read-only instead of reading it through a buffer.  Only
+     *        valid for files opened for input only.
+     */
+    public RandomAccessCharacterFile(RandomAccessFile raf, String encoding,
+                                     boolean map) throws IOException {
 
         fcn = raf.getChannel();
 
@@ -286,17 +302,29 @@ public class RandomAccessCharacterFile {
         cdec.onUnmappableCharacter(CodingErrorAction.REPLACE);
         cenc = cset.newEncoder();
 
-        bbuf = ByteBuffer.allocate(BUFSIZ);
+        cbuf = CharBuffer.allocate(CBUFSIZ);
+        cbuf.flip();
 
-        // there is no readable data available in the buffers.
-        bbuf.flip();
+        if (map && fcn.size() <= Integer.MAX_VALUE) {
+            bbuf = fcn.map(FileChannel.MapMode.READ_ONLY, 0, fcn.size());
+            bbuf.position((int)fcn.position());
+            bbufIsMapped = true;
+            bbufIsDirty = false;
+            bbufIsReadable = true;
+            bbufpos = 0;
+        } else {
+            bbuf = ByteBuffer.allocate(BUFSIZ);
 
-        // there is no write pending data in the buffers.
-        bbufIsDirty = false;
+            // there is no readable data available in the buffers.
+            bbuf.flip();
 
-        bbufIsReadable = false;
+            // there is no write pending data in the buffers.
+            bbufIsDirty = false;
 
-        bbufpos = fcn.position();
+            bbufIsReadable = false;
+
+            bbufpos = fcn.position();
+        }
 
         reader = new RandomAccessReader();
         writer = new RandomAccessWriter();
@@ -330,6 +358,11 @@ public class RandomAccessCharacterFile {
     }
 
     private final boolean ensureReadBbuf(boolean force) throws IOException {
+        if (bbufIsMapped)
+            // There's nothing more to read in; an underflow means the
+            // file ends in the middle of a character.
+            return bbuf.hasRemaining() && ! force;
+
         boolean bufReady = true;
 
         if ((bbuf.remaining() == 0) || force || ! bbufIsReadable) {
@@ -341,6 +374,7 @@ public class RandomAccessCharacterFile {
                 fcn.write(bbuf);
                 bbufpos += bbuf.position();
                 bbuf.clear();
+                bbufIsDirty = false;
             } else {
                 int bbufEnd = bbufIsReadable ? bbuf.limit() : bbuf.position();
                 fcn.position(bbufpos + bbufEnd);
@@ -356,7 +390,62 @@ public class RandomAccessCharacterFile {
         return bufReady;
     }
 
+  /*private*/ final int readChar() throws IOException {
+        if (! cbuf.hasRemaining()) {
+            cbuf.clear();
+            int n = decodeReadAhead();
+            cbuf.limit(n);
+            if (n == 0)
+                return -1;
+        }
+        return cbuf.get();
+    }
+
+    // Fills cbuf, recording where each chunk of it was decoded from so
+    // that position() never has to decode more than one chunk again.
+    private final int decodeReadAhead() throws IOException {
+        char[] cb = cbuf.array();
+        int n = 0;
+        chunks = 0;
+        while (n < cb.length) {
+            chunkChars[chunks] = n;
+            chunkBytes[chunks] = bbufpos + bbuf.position();
+            int m = decode(cb, n, Math.min(CHUNKSIZ, cb.length - n));
+            if (m <= 0)
+                break;
+            chunks++;
+            n += m;
+        }
+        chunkChars[chunks] = n;
+        chunkBytes[chunks] = bbufpos + bbuf.position();
+        return n;
+    }
+
   /*private*/ final int read(char[] cb, int off, int len) throws IOException {
+        int n = 0;
+        if (cbuf.hasRemaining()) {
+            n = Math.min(len, cbuf.remaining());
+            cbuf.get(cb, off, n);
+            if (n == len)
+                return n;
+        }
+        cbuf.clear();
+        cbuf.limit(0);
+        int m = decode(cb, off + n, len - n);
+        if (m < 0)
+            return (n == 0) ? -1 : n;
+        if (m == 0 && n == 0) {
+            // Only room for half a surrogate pair; take it via cbuf.
+            int c = readChar();
+            if (c < 0)
+                return -1;
+            cb[off] = (char)c;
+            return 1;
+        }
+        return n + m;
+    }
+
+    private final int decode(char[] cb, int off, int len) throws IOException {
         CharBuffer cbuf = CharBuffer.wrap(cb, off, len);
         boolean decodeWasUnderflow = false;
         boolean atEof = false;
@@ -364,16 +453,85 @@ public class RandomAccessCharacterFile {
 
             atEof = ! ensureReadBbuf(decodeWasUnderflow);
             CoderResult r = cdec.decode(bbuf, cbuf, atEof );
+            if (r.isOverflow())
+                // Full, or a surrogate pair doesn't fit in what is left.
+                break;
             decodeWasUnderflow = (CoderResult.UNDERFLOW == r);
         }
-        if (cbuf.remaining() == len) {
+        if (atEof)
+            // Allow decoding to pick up again, e.g. after FILE-POSITION.
+            cdec.reset();
+        if (cbuf.remaining() == len && atEof) {
             return -1;
         } else {
             return len - cbuf.remaining();
         }
     }
 
+    // Moves the file position back over characters decoded ahead by
+    // readChar(), so that it matches what has been handed out.
+    private final void dropReadAhead() throws IOException {
+        if (cbuf.hasRemaining())
+            position(position());
+        else {
+            cbuf.clear();
+            cbuf.limit(0);
+        }
+    }
+
+    // The file position just after the first count characters of cbuf.
+    // Only the chunk holding that position is decoded again, rather than
+    // the characters encoded, since malformed input decodes to
+    // replacement characters which don't encode back into it.
+    private final long readAheadPosition(int count) throws IOException {
+        int i = Math.min(count / CHUNKSIZ, chunks);
+        while (i < chunks && chunkChars[i + 1] <= count)
+            i++;
+        long start = chunkBytes[i];
+        int chars = count - chunkChars[i];
+        if (chars == 0)
+            return start;
+        long end = chunkBytes[i + 1];
+        if (end - start == chunkChars[i + 1] - chunkChars[i]
+            && cdec.maxCharsPerByte() <= 1.0f)
+            // One byte for each character.
+            return start + chars;
+        int length = (int)(end - start);
+        if (lengthBytes == null || lengthBytes.capacity() < length)
+            lengthBytes = ByteBuffer.allocate(Math.max(length, CHUNKSIZ * 4));
+        ByteBuffer in = lengthBytes;
+        in.clear();
+        if (start < bbufpos) {
+            // The start of these bytes has already left bbuf, so read it
+            // back from the file without moving the channel's position.
+            in.limit((int)Math.min(length, bbufpos - start));
+            while (in.hasRemaining())
+                if (fcn.read(in, start + in.position()) < 0)
+                    break;
+        }
+        in.limit(length);
+        if (end > bbufpos) {
+            ByteBuffer rest = bbuf.duplicate();
+            rest.limit((int)(end - bbufpos));
+            rest.position((int)Math.max(0, start - bbufpos));
+            in.put(rest);
+        }
+        in.flip();
+        if (lengthDecoder == null) {
+            lengthDecoder = cset.newDecoder();
+            lengthDecoder.onMalformedInput(CodingErrorAction.REPLACE);
+            lengthDecoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+            lengthChars = CharBuffer.allocate(CHUNKSIZ);
+        }
+        lengthDecoder.reset();
+        lengthChars.clear();
+        lengthChars.limit(chars);
+        lengthDecoder.decode(in, lengthChars, true);
+        return start + in.position();
+    }
+
   /*private*/ final void write(char[] cb, int off, int len) throws IOException {
+        dropReadAhead();
         CharBuffer cbuf = CharBuffer.wrap(cb, off, len);
         encodeAndWrite(cbuf, false, false);
     }
@@ -402,6 +560,13 @@ public class RandomAccessCharacterFile {
     }
 
     public final void position(long newPosition) throws IOException {
+        cbuf.clear();
+        cbuf.limit(0);
+        cdec.reset();
+        if (bbufIsMapped) {
+            bbuf.position((int)Math.min(newPosition, bbuf.limit()));
+            return;
+        }
         flushBbuf(true);
         long bbufend = bbufpos // in case bbuf is readable, its contents is valid
             + (bbufIsReadable ? bbuf.limit() : bbuf.position()); // beyond position()
@@ -413,11 +578,14 @@ public class RandomAccessCharacterFile {
             // far seek; discard the buffer (it's already cleared)
             bbuf.clear();
             bbuf.flip(); // "there is no useful data on this buffer yet."
+            bbufIsReadable = false;
             bbufpos = newPosition;
         }
     }
 	
     public final long position() throws IOException {
+        if (cbuf.hasRemaining())
+            return readAheadPosition(cbuf.position());
         return bbufpos + bbuf.position(); // the logical position within the file.
     }
 
@@ -451,22 +619,53 @@ public class RandomAccessCharacterFile {
         bbufIsReadable = false;
     }
 
+    public final int readByte() throws IOException {
+        dropReadAhead();
+        ensureReadBbuf(false);
+        if (! bbuf.hasRemaining())
+            return -1;
+        // byte is signed, int is signed: we want 0xff, not -1.
+        return 0xff & (int)bbuf.get();
+    }
+
     public final int read(byte[] b, int off, int len) throws IOException {
+        dropReadAhead();
         int pos = off;
         boolean atEof = false;
         while (pos - off < len && ! atEof) {
 
             atEof = ! ensureReadBbuf(false);
-            int want = len - pos;
+            int want = len - (pos - off);
             if (want > bbuf.remaining()) {
                 want = bbuf.remaining();
             }
             bbuf.get(b, pos, want);
             pos += want;
         }
+        if (pos == off && len > 0) {
+            return -1;
+        }
         return pos - off;
     }
         
+    // The characters decoded ahead of the read position.  Readers may
+    // consume them directly by advancing the buffer's position.
+    public final CharBuffer readAheadBuffer() {
+        return cbuf;
+    }
+
+    // Sends up to count bytes from the current position to target
+    // through the file channel, so they need not be copied through the
+    // heap, and moves the position past them.  Returns the number sent.
+    public final long transferTo(WritableByteChannel target, long count)
+        throws IOException {
+        long pos = position();
+        flush();
+        long n = fcn.transferTo(pos, count, target);
+        position(pos + n);
+        return n;
+    }
+
     // a method corresponding to the good ol' ungetc in C.
     // This function may fail when using (combined) character codes that use
     // escape sequences to switch between sub-codes.
@@ -488,6 +687,11 @@ public class RandomAccessCharacterFile {
         //  So we don't do the following.
         //  3. write the bytes.
         //  4. move the position back again.
+        if (cbuf.position() > 0 && cbuf.get(cbuf.position() - 1) == c) {
+            // Still in the read-ahead: just step back over it.
+            cbuf.position(cbuf.position() - 1);
+            return;
+        }
         if (singleCharBuf == null) {
             singleCharBuf = CharBuffer.allocate(1);
             shortByteBuf = ByteBuffer.allocate((int)cenc.maxBytesPerChar());
@@ -508,9 +712,10 @@ public class RandomAccessCharacterFile {
     }
 
   /*private*/ final void write(byte[] b, int off, int len) throws IOException {
+        dropReadAhead();
         int pos = off;
         while (pos < off + len) {
-            int want = len;
+            int want = off + len - pos;
             if (want > bbuf.remaining()) {
                 want = bbuf.remaining();
             }
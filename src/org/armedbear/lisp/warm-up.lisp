@@ -0,0 +1,101 @@
+;;; warm-up.lisp
+;;;
+;;; Copyright (C) 2009 The ABCL developers
+;;; $Id$
+;;;
+;;; This program is free software; you can redistribute it and/or
+;;; modify it under the terms of the GNU General Public License
+;;; as published by the Free Software Foundation; either version 2
+;;; of the License, or (at your option) any later version.
+;;;
+;;; This program is distributed in the hope that it will be useful,
+;;; but WITHOUT ANY WARRANTY; without even the implied warranty of
+;;; MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+;;; GNU General Public License for more details.
+;;;
+;;; You should have received a copy of the GNU General Public License
+;;; along with this program; if not, write to the Free Software
+;;; Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.
+;;;
+;;; As a special exception, the copyright holders of this library give you
+;;; permission to link this library with independent modules to produce an
+;;; executable, regardless of the license terms of these independent
+;;; modules, and to copy and distribute the resulting executable under
+;;; terms of your choice, provided that you also meet, for each linked
+;;; independent module, the terms and conditions of the license of that
+;;; module.  An independent module is a module which is not derived from
+;;; or based on this library.  If you modify this library, you may extend
+;;; this exception to your version of the library, but you are not
+;;; obligated to do so.  If you do not wish to do so, delete this
+;;; exception statement from your version.
+
+
+(in-package "SYSTEM")
+
+;;; Autoloads are loaded the first time their functions are called, so
+;;; the first caller of FORMAT, LOOP or CLOS in a fresh process waits for
+;;; their files to load. WARM-UP-AUTOLOADS loads them on a background
+;;; thread instead, typically from an init file or an --eval at startup.
+;;; Autoloads and REQUIRE load each file under a lock of its own, so a
+;;; thread calling one of these functions while it is being warmed up
+;;; waits for the load in progress rather than loading the file a second
+;;; time, and autoloads from other files go ahead meanwhile.
+
+(defvar *warm-up-autoloads* '(format defclass "LOOP")
+  "The autoloads loaded by WARM-UP-AUTOLOADS when it is given no list.
+Symbols name autoloaded functions or macros and strings name modules for
+REQUIRE.")
+
+;;; Recorded autoloads are written with the names of their symbols, since
+;;; the packages of some of them may not exist when the file is read.
+(defun recorded-autoload (autoload)
+  (if (symbolp autoload)
+      (list (package-name (symbol-package autoload)) (symbol-name autoload))
+      autoload))
+
+(defun recorded-autoload-symbol (autoload)
+  (if (consp autoload)
+      (let ((package (find-package (first autoload))))
+        (and package (values (find-symbol (second autoload) package))))
+      autoload))
+
+(defun record-autoloads (pathname)
+  "Writes the autoloads loaded so far to PATHNAME, for WARM-UP-AUTOLOADS
+to load in a later run."
+  (with-open-file (stream pathname :direction :output :if-exists :supersede)
+    (with-standard-io-syntax
+      (prin1 (mapcar #'recorded-autoload (loaded-autoloads)) stream)
+      (terpri stream)))
+  pathname)
+
+(defun read-recorded-autoloads (pathname)
+  (with-open-file (stream pathname :if-does-not-exist nil)
+    (if stream
+        (with-standard-io-syntax
+          (let ((*read-eval* nil))
+            (read stream nil nil)))
+        *warm-up-autoloads*)))
+
+(defun warm-up-autoload (autoload)
+  (let ((autoload (recorded-autoload-symbol autoload)))
+    (cond ((symbolp autoload)
+           (when (and autoload (autoloadp autoload))
+             (resolve autoload)))
+          (t
+           (let ((*warn-on-redefinition* nil))
+             (require autoload))))))
+
+(defun warm-up-autoloads (&optional (autoloads *warm-up-autoloads*))
+  "Loads AUTOLOADS on a background thread and returns the thread.
+AUTOLOADS is a list like *WARM-UP-AUTOLOADS* or the pathname of a file
+written by RECORD-AUTOLOADS; *WARM-UP-AUTOLOADS* is used if that file
+does not exist yet. An autoload that fails to load is skipped, and is
+loaded again by its first caller."
+  (let ((autoloads (if (listp autoloads)
+                       autoloads
+                       (read-recorded-autoloads autoloads))))
+    (threads:make-thread
+     #'(lambda ()
+         (dolist (autoload autoloads)
+           (ignore-errors (warm-up-autoload autoload))))
+     :name "autoload warm-up")))
@@ -61,6 +61,13 @@
                     ((>= i end) sequence)
                  (declare (type index i))
                  (write-8-bits (elt sequence i) stream))))
+          ((and (vectorp sequence)
+                (consp stream-element-type)
+                (memq (%car stream-element-type) '(unsigned-byte signed-byte))
+                (memql (cadr stream-element-type) '(16 24 32)))
+           (%write-integer-vector sequence stream start end
+                                  (cadr stream-element-type)
+                                  (eq (%car stream-element-type) 'signed-byte)))
           (t
            (do* ((i start (1+ i)))
                 ((>= i end) sequence)
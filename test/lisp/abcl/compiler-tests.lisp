@@ -429,3 +429,184 @@
   :args (#.most-positive-java-long #.most-negative-java-long)
   :results #.most-positive-java-long)
 
+(define-compiler-test dotimes.range.1
+  (lambda (v)
+    (let ((sum 0))
+      (dotimes (i (length v))
+        (setq sum (+ sum (+ i 1))))
+      sum))
+  :args (#(a b c d))
+  :results 10)
+
+(define-compiler-test loop.range.1
+  (lambda (x)
+    (declare (type fixnum x))
+    (let ((i 0))
+      (loop
+        (when (> i x)
+          (return i))
+        (setq i (+ i #.most-positive-fixnum)))))
+  :args (#.most-positive-fixnum)
+  :results #.(* 2 most-positive-fixnum))
+
+(define-compiler-test fold-constant.1
+  (lambda (x)
+    (let ((n 3))
+      (if (> (+ n 1) 2)
+          (list x (* n n))
+          (error "Not reached."))))
+  :args (:a)
+  :results (:a 9))
+
+#+abcl
+(deftest compile-file.encoded-constants.1
+  (let ((directory (make-temporary-directory *this-directory*))
+        (g (make-symbol "G")))
+    (unwind-protect
+        (let ((source (make-pathname :name "constants" :type "lisp"
+                                     :defaults directory)))
+          (with-open-file (stream source :direction :output)
+            (let ((*print-circle* t)
+                  (*package* (find-package '#:abcl.test.lisp)))
+              (prin1 '(in-package #:abcl.test.lisp) stream)
+              (prin1 `(defparameter *encoded-constants*
+                        '(,g ,g :key "a \"b\"" #\x -7 ,most-negative-fixnum
+                          12345678901234567890 1.5d0 (1 2 . 3) #(1 #(2))
+                          #*101 #p"/tmp/x.y"))
+                     stream)))
+          (load (compile-file source))
+          (let ((constants (symbol-value '*encoded-constants*)))
+            (values (eq (first constants) (second constants))
+                    (symbol-package (first constants))
+                    (cddr constants))))
+      (delete-directory-and-files directory)))
+  t
+  nil
+  (:key "a \"b\"" #\x -7 #.most-negative-fixnum
+   12345678901234567890 1.5d0 (1 2 . 3) #(1 #(2))
+   #*101 #p"/tmp/x.y"))
+
+;;; Writes FORMS to the file NAME.lisp in DIRECTORY, to be read in this
+;;; package, and returns the pathname of its fasl.
+#+abcl
+(defun compile-forms (forms name directory)
+  (let ((source (make-pathname :name name :type "lisp" :defaults directory)))
+    (with-open-file (stream source :direction :output)
+      (let ((*package* (find-package '#:abcl.test.lisp)))
+        (print '(in-package #:abcl.test.lisp) stream)
+        (dolist (form forms)
+          (print form stream))))
+    (compile-file source)))
+
+;;; Compiles FORMS with the compile cache in DIRECTORY, loads the fasl and
+;;; returns the number of functions the compiler compiled and the value of
+;;; (COMPILE-CACHE-TEST).
+#+abcl
+(defun compile-cached-forms (forms directory)
+  (let ((sys:*compile-file-cache-directory* (merge-pathnames "cache/"
+                                                             directory))
+        (compile-defun (fdefinition 'jvm:compile-defun))
+        (count 0))
+    (setf (fdefinition 'jvm:compile-defun)
+          #'(lambda (&rest args)
+              (incf count)
+              (apply compile-defun args)))
+    (unwind-protect
+         (load (compile-forms forms "cached" directory))
+      (setf (fdefinition 'jvm:compile-defun) compile-defun))
+    (list count (funcall 'compile-cache-test))))
+
+#+abcl
+(deftest compile-file.cache.1
+  (let ((directory (make-temporary-directory *this-directory*))
+        (forms '((defun compile-cache-test ()
+                   (compile-cache-test-macro)))))
+    (unwind-protect
+         (progn
+           (eval '(defmacro compile-cache-test-macro () 1))
+           (values (compile-cached-forms forms directory)
+                   ;; The second compile reuses the cached class file.
+                   (compile-cached-forms forms directory)
+                   ;; A changed macro or policy compiles it again.
+                   (progn
+                     (eval '(defmacro compile-cache-test-macro () 2))
+                     (compile-cached-forms forms directory))
+                   ;; Whatever SPEED is, this proclaims a different one.
+                   (compile-cached-forms `((declaim (optimize
+                                                     (speed ,(- 3 sys::*speed*))))
+                                           ,@forms)
+                                         directory)))
+      (delete-directory-and-files directory)))
+  (1 1)
+  (0 1)
+  (1 2)
+  (1 2))
+
+#+abcl
+(deftest block-compile.1
+  (let ((directory (make-temporary-directory *this-directory*)))
+    (unwind-protect
+         (progn
+           (load (compile-forms '((declaim (ext:block-compile t))
+                                  (defun block-compile-1-callee () 1)
+                                  (defun block-compile-1-caller ()
+                                    (block-compile-1-callee)))
+                                "block" directory))
+           ;; The caller keeps calling the definition from its file.
+           (setf (symbol-function 'block-compile-1-callee)
+                 (lambda () 2))
+           (values (block-compile-1-caller) (block-compile-1-callee)))
+      (delete-directory-and-files directory)))
+  1
+  2)
+
+#+abcl
+(deftest block-compile.2
+  (let ((directory (make-temporary-directory *this-directory*)))
+    (unwind-protect
+         (let ((inner (compile-forms '((declaim (ext:block-compile t)))
+                                     "inner" directory)))
+           ;; Loading a fasl with the proclamation while compiling another
+           ;; file doesn't turn block compilation on for that file.
+           (load (compile-forms `((eval-when (:compile-toplevel)
+                                    (load ,inner))
+                                  (defun block-compile-2-callee () 1)
+                                  (defun block-compile-2-caller ()
+                                    (block-compile-2-callee)))
+                                "outer" directory))
+           (setf (symbol-function 'block-compile-2-callee)
+                 (lambda () 2))
+           (values (block-compile-2-caller) (block-compile-2-callee)))
+      (delete-directory-and-files directory)))
+  2
+  2)
+
+#+abcl
+(deftest compile-independent-files.1
+  (let ((directory (make-temporary-directory *this-directory*)))
+    (unwind-protect
+         (let ((fasls (let ((sys:*compile-file-jobs* 2))
+                        (sys::compile-independent-files
+                         #'(lambda (file)
+                             (compile-forms (second file) (first file)
+                                            directory))
+                         '(("parallel-a"
+                            ((defmacro parallel-a-macro () 1)
+                             (defun parallel-a-caller ()
+                               (+ (parallel-a-macro) (parallel-a-callee)))
+                             (defun parallel-a-callee () 10)))
+                           ("parallel-b"
+                            ((defmacro parallel-b-macro () 2)
+                             (defun parallel-b-caller ()
+                               (+ (parallel-b-macro) (parallel-b-callee)))
+                             (defun parallel-b-callee () 20))))))))
+           ;; The dummy definitions made while compiling are gone.
+           (values (fboundp 'parallel-a-callee)
+                   (fboundp 'parallel-b-callee)
+                   (progn
+                     (mapc #'load fasls)
+                     (list (parallel-a-caller) (parallel-b-caller)))))
+      (delete-directory-and-files directory)))
+  nil
+  nil
+  (11 22))
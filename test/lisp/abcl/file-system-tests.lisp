@@ -511,3 +511,81 @@
          (delete-directory directory-namestring))
        )))
   t t t t)
+
+(deftest file-position.1
+  (let ((pathname (make-temporary-filename *this-directory*)))
+    (unwind-protect
+         (with-open-file (stream pathname :direction :io
+                                 :if-does-not-exist :create)
+           (write-string "abcdefghij" stream)
+           (file-position stream 2)
+           (values (read-char stream)
+                   (read-char stream)
+                   (file-position stream)
+                   (progn
+                     (write-string "XY" stream)
+                     (read-char stream))
+                   (file-position stream)
+                   (progn
+                     (file-position stream 0)
+                     (read-line stream))))
+      (delete-file pathname)))
+  #\c #\d 4 #\g 7 "abcdXYghij")
+
+(deftest file-position.2
+  (let ((pathname (make-temporary-filename *this-directory*)))
+    (with-open-file (stream pathname :direction :output
+                            :element-type '(unsigned-byte 8))
+      ;; "ab", a byte that isn't UTF-8, "c", a two byte character, "d".
+      (write-sequence '(97 98 255 99 195 169 100) stream))
+    (unwind-protect
+         (with-open-file (stream pathname :external-format :utf-8)
+           (values (char-code (read-char stream))
+                   (char-code (read-char stream))
+                   (file-position stream)
+                   (char-code (read-char stream))
+                   (char-code (read-char stream))
+                   (file-position stream)
+                   (char-code (read-char stream))
+                   (file-position stream)
+                   (char-code (read-char stream))))
+      (delete-file pathname)))
+  97 98 2 65533 99 4 233 6 100)
+
+;; Lines of one to four byte characters, long enough that FILE-POSITION
+;; is asked for all through the read-ahead and across refills of it.
+(deftest file-position.3
+  (let ((pathname (make-temporary-filename *this-directory*))
+        (chars (list #\a (code-char #xe9) (code-char #x20ac)
+                     (code-char #xd834) (code-char #xdd1e)))
+        (lines '()))
+    (dotimes (i 3000)
+      (push (with-output-to-string (s)
+              (format s "~D" i)
+              (dotimes (j (mod i 9))
+                (if (= (mod (+ i j) 4) 3)
+                    (write-string (coerce (last chars 2) 'string) s)
+                    (write-char (nth (mod (+ i j) 4) chars) s))))
+            lines))
+    (setf lines (nreverse lines))
+    (with-open-file (stream pathname :direction :output
+                            :external-format :utf-8)
+      (dolist (line lines)
+        (write-line line stream)))
+    (unwind-protect
+         (with-open-file (stream pathname :external-format :utf-8)
+           (let ((expected 0))
+             (dolist (line lines t)
+               (unless (equal (read-line stream) line)
+                 (return (list :line line)))
+               (incf expected 1)
+               (loop for c across line
+                     for code = (char-code c)
+                     do (incf expected (cond ((< code #x80) 1)
+                                             ((< code #x800) 2)
+                                             ((<= #xd800 code #xdfff) 2)
+                                             (t 3))))
+               (unless (= (file-position stream) expected)
+                 (return (list line (file-position stream) expected))))))
+      (delete-file pathname)))
+  t)
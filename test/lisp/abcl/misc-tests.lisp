@@ -96,3 +96,581 @@
   (read-from-string "(1 2 #+nil #k(3 4))")
   (1 2)
   19)
+
+(deftest read-sequence.1
+  (with-input-from-string (stream "hello world")
+    (let ((string (make-string 8 :initial-element #\.)))
+      (values (read-sequence string stream :start 1 :end 6)
+              string
+              (read-char stream))))
+  6
+  ".hello.."
+  #\Space)
+
+(deftest read-sequence.2
+  (with-input-from-string (stream "abc")
+    (let ((string (make-array 5 :element-type 'character
+                              :fill-pointer 5 :initial-element #\.)))
+      (values (read-sequence string stream)
+              (coerce string 'simple-string))))
+  3
+  "abc..")
+
+(deftest read-sequence.3
+  (let ((file (make-temporary-filename *this-directory*)))
+    (unwind-protect
+         (progn
+           (with-open-file (stream file :direction :output
+                                   :element-type '(signed-byte 16)
+                                   :if-exists :supersede)
+             (write-sequence #(0 -1 -32768 32767) stream))
+           (with-open-file (stream file :element-type '(signed-byte 16))
+             (let ((vector (make-array 5 :initial-element nil)))
+               (values (read-sequence vector stream)
+                       vector))))
+      (delete-file file)))
+  4
+  #(0 -1 -32768 32767 nil))
+
+;;; Starts an echo server on an event loop in another thread, sends LINE
+;;; to it through a socket made by MAKE-CLIENT-SOCKET (called with the
+;;; host and port) and returns the reply.
+(defun event-loop-echo (make-client-socket line)
+  (let* ((server (ext:make-nonblocking-server-socket 0))
+         (port (java:jcall (java:jmethod "java.net.ServerSocket"
+                                         "getLocalPort")
+                           (java:jcall (java:jmethod
+                                        "java.nio.channels.ServerSocketChannel"
+                                        "socket")
+                                       server)))
+         (event-loop (ext:make-event-loop)))
+    (flet ((echo (stream)
+             (loop
+               (let ((line (read-line stream nil)))
+                 (unless line
+                   (ext:event-loop-unregister event-loop stream)
+                   (close stream)
+                   (return))
+                 (write-line line stream)
+                 (finish-output stream)
+                 (unless (listen stream)
+                   (return))))))
+      (ext:event-loop-register
+       event-loop server
+       :on-accept (lambda (socket)
+                    (ext:event-loop-register event-loop
+                                             (ext:get-socket-stream socket)
+                                             :on-read #'echo)))
+      (let ((thread (threads:make-thread
+                     (lambda () (ext:event-loop-run event-loop)))))
+        (unwind-protect
+             (let ((stream (ext:get-socket-stream
+                            (funcall make-client-socket "localhost" port))))
+               (unwind-protect
+                    (progn
+                      (write-line line stream)
+                      (finish-output stream)
+                      (values (read-line stream)))
+                 (close stream)))
+          (ext:event-loop-stop event-loop)
+          (loop while (threads:thread-alive-p thread)
+                do (sleep 0.01))
+          (ext:server-socket-close server)
+          (ext:event-loop-close event-loop))))))
+
+(deftest event-loop.echo.1
+  (event-loop-echo #'ext:make-socket "hello")
+  "hello")
+
+(deftest event-loop.echo.2
+  (event-loop-echo #'ext:make-nonblocking-socket "hello")
+  "hello")
+
+(defun wait-for-thread (thread seconds)
+  (loop repeat (* seconds 100)
+        while (threads:thread-alive-p thread)
+        do (sleep 0.01))
+  (not (threads:thread-alive-p thread)))
+
+(deftest event-loop.stop.1
+  (let* ((server (ext:make-nonblocking-server-socket 0))
+         (event-loop (ext:make-event-loop)))
+    (ext:event-loop-register event-loop server :on-accept #'close)
+    (ext:event-loop-stop event-loop)
+    (let ((thread (threads:make-thread
+                   (lambda () (ext:event-loop-run event-loop)))))
+      (prog1 (wait-for-thread thread 5)
+        (ext:event-loop-stop event-loop)
+        (wait-for-thread thread 5)
+        (ext:server-socket-close server)
+        (ext:event-loop-close event-loop))))
+  t)
+
+;;; A callback that writes more than a client reads must not hold up the
+;;; loop: the first client doesn't read its reply, more than the sockets
+;;; can buffer, until the second has been answered.
+(deftest event-loop.queued-output.1
+  (let* ((server (ext:make-nonblocking-server-socket 0))
+         (port (java:jcall (java:jmethod "java.net.ServerSocket"
+                                         "getLocalPort")
+                           (java:jcall (java:jmethod
+                                        "java.nio.channels.ServerSocketChannel"
+                                        "socket")
+                                       server)))
+         (event-loop (ext:make-event-loop))
+         (reply (make-string 4000000 :initial-element #\x)))
+    (flet ((respond (stream)
+             (let ((line (read-line stream)))
+               (ext:event-loop-unregister event-loop stream)
+               (write-line (if (string= line "big") reply line) stream)
+               (close stream)))
+           (connect ()
+             (ext:get-socket-stream (ext:make-socket "localhost" port))))
+      (ext:event-loop-register
+       event-loop server
+       :on-accept (lambda (socket)
+                    (ext:event-loop-register event-loop
+                                             (ext:get-socket-stream socket)
+                                             :on-read #'respond)))
+      (let ((thread (threads:make-thread
+                     (lambda () (ext:event-loop-run event-loop))))
+            (big (connect))
+            (small (connect))
+            (answer nil))
+        (unwind-protect
+             (progn
+               (write-line "big" big)
+               (finish-output big)
+               (sleep 0.5)
+               (write-line "small" small)
+               (finish-output small)
+               (let ((reader (threads:make-thread
+                              (lambda () (setf answer (read-line small))))))
+                 (values (wait-for-thread reader 10)
+                         answer
+                         (length (read-line big)))))
+          (close big)
+          (close small)
+          (ext:event-loop-stop event-loop)
+          (wait-for-thread thread 5)
+          (ext:server-socket-close server)
+          (ext:event-loop-close event-loop)))))
+  t "small" 4000000)
+
+;;; A callback can't wait for the rest of a line.
+(deftest event-loop.partial-read.1
+  (let* ((server (ext:make-nonblocking-server-socket 0))
+         (port (java:jcall (java:jmethod "java.net.ServerSocket"
+                                         "getLocalPort")
+                           (java:jcall (java:jmethod
+                                        "java.nio.channels.ServerSocketChannel"
+                                        "socket")
+                                       server)))
+         (event-loop (ext:make-event-loop))
+         (result nil))
+    (ext:event-loop-register
+     event-loop server
+     :on-accept (lambda (socket)
+                  (ext:event-loop-register
+                   event-loop (ext:get-socket-stream socket)
+                   :on-read (lambda (stream)
+                              (setf result
+                                    (handler-case (read-line stream)
+                                      (stream-error () :would-wait)))
+                              (ext:event-loop-stop event-loop)))))
+    (let ((thread (threads:make-thread
+                   (lambda () (ext:event-loop-run event-loop))))
+          (client (ext:get-socket-stream (ext:make-socket "localhost" port))))
+      (unwind-protect
+           (progn
+             (write-string "partial" client)
+             (finish-output client)
+             (wait-for-thread thread 10)
+             result)
+        (close client)
+        (ext:event-loop-stop event-loop)
+        (wait-for-thread thread 5)
+        (ext:server-socket-close server)
+        (ext:event-loop-close event-loop))))
+  :would-wait)
+
+(deftest copy-stream-contents.1
+  (let (count)
+    (values (with-output-to-string (output)
+              (with-input-from-string (input "abc def")
+                (read-char input)
+                (setf count (ext:copy-stream-contents input output))))
+            count))
+  "bc def"
+  6)
+
+(defun copy-file-to-socket (make-client-socket)
+  (let* ((file (make-temporary-filename *this-directory*))
+         (server (ext:make-server-socket 0))
+         (port (java:jcall (java:jmethod "java.net.ServerSocket"
+                                         "getLocalPort")
+                           server))
+         (bytes (make-array 200000 :element-type '(unsigned-byte 8)))
+         (received nil))
+    (dotimes (i (length bytes))
+      (setf (aref bytes i) (mod i 251)))
+    (unwind-protect
+         (progn
+           (with-open-file (stream file :direction :output
+                                   :element-type '(unsigned-byte 8)
+                                   :if-exists :supersede)
+             (write-sequence bytes stream))
+           (let* ((client (funcall make-client-socket "localhost" port))
+                  (reader (threads:make-thread
+                           (lambda ()
+                             (let ((stream (ext:get-socket-stream
+                                            (ext:socket-accept server)
+                                            :element-type '(unsigned-byte 8))))
+                               (setf received
+                                     (loop for byte = (read-byte stream nil)
+                                           while byte
+                                           collect byte))
+                               (close stream)))))
+                  (count (with-open-file (input file
+                                                :element-type '(unsigned-byte 8))
+                           (read-byte input)
+                           (let ((output (ext:get-socket-stream
+                                          client
+                                          :element-type '(unsigned-byte 8))))
+                             (prog1 (ext:copy-stream-contents input output)
+                               (close output))))))
+             (loop while (threads:thread-alive-p reader)
+                   do (sleep 0.01))
+             (values count
+                     (length received)
+                     (equalp (coerce received 'vector) (subseq bytes 1)))))
+      (ext:server-socket-close server)
+      (delete-file file))))
+
+(deftest copy-stream-contents.2
+  (copy-file-to-socket #'ext:make-socket)
+  199999 199999 t)
+
+(deftest copy-stream-contents.3
+  (copy-file-to-socket #'ext:make-nonblocking-socket)
+  199999 199999 t)
+
+(deftest form-reader.1
+  (let ((reader (let ((*package* (find-package '#:abcl.test.lisp)))
+                  (ext:make-form-reader
+                   (make-string-input-stream "(a \")\") b #| ( |# (c)")
+                   :prefetch 2)))
+        (forms ()))
+    (ext:do-forms (form reader (nreverse forms))
+      (push form forms)))
+  ((a ")") b (c)))
+
+(defparameter *form-reader-test-text*
+  "(a \")\") #\\( (b) #| ) |# (c) #+(or) (d) (e)")
+
+(deftest split-at-top-level-forms.1
+  (let* ((string (progn
+                   (require '#:form-reader)
+                   *form-reader-test-text*))
+         (starts (sys::split-at-top-level-forms string 100)))
+    (mapcar (lambda (start end) (subseq string start end))
+            starts
+            (append (cdr starts) (list (length string)))))
+  ("(a \")\")" " #\\( (b)" " #| ) |# (c)" " #+(or) (d)" " (e)"))
+
+(deftest make-parallel-form-reader.1
+  (let ((pathname (make-temporary-filename *this-directory*)))
+    (with-open-file (stream pathname :direction :output)
+      (write-string *form-reader-test-text* stream))
+    (unwind-protect
+         (let ((reader (let ((*package* (find-package '#:abcl.test.lisp)))
+                         (ext:make-parallel-form-reader pathname :threads 2)))
+               (forms ()))
+           (ext:do-forms (form reader (nreverse forms))
+             (push form forms)))
+      (delete-file pathname)))
+  ((a ")") #\( (b) (c) (e)))
+
+;; Forms after an IN-PACKAGE are read in that package, even when it is
+;; only defined by a form the caller evaluates on the way.
+(deftest make-parallel-form-reader.2
+  (let ((pathname (make-temporary-filename *this-directory*)))
+    (when (find-package '#:form-reader-test)
+      (delete-package '#:form-reader-test))
+    (with-open-file (stream pathname :direction :output)
+      (write-string "(defpackage #:form-reader-test (:use)) (a)
+(in-package #:form-reader-test) (b) (c)
+(cl:in-package #:abcl.test.lisp) (d)" stream))
+    (unwind-protect
+         (let* ((*package* (find-package '#:abcl.test.lisp))
+                (reader (ext:make-parallel-form-reader pathname :threads 4))
+                (packages ()))
+           (ext:do-forms (form reader (nreverse packages))
+             (if (member (car form) '(defpackage in-package))
+                 (eval form)
+                 (push (package-name (symbol-package (car form)))
+                       packages))))
+      (delete-file pathname)
+      (when (find-package '#:form-reader-test)
+        (delete-package '#:form-reader-test))))
+  ("ABCL.TEST.LISP" "FORM-READER-TEST" "FORM-READER-TEST" "ABCL.TEST.LISP"))
+
+(deftest get-output-stream-string.1
+  (let* ((stream (make-string-output-stream))
+         (first (progn
+                  (write-string (make-string 64 :initial-element #\a) stream)
+                  (get-output-stream-string stream)))
+         (second (progn
+                   (write-string (make-string 64 :initial-element #\b) stream)
+                   (write-char #\c stream)
+                   (get-output-stream-string stream))))
+    (values (length first) (count #\a first)
+            (length second) (char second 64)
+            (get-output-stream-string stream)
+            (length (with-output-to-string (s)
+                      (write-string (make-string 64 :initial-element #\d) s)))))
+  64 64 65 #\c "" 64)
+
+(deftest stream-buffering.1
+  (let ((stream (make-string-output-stream)))
+    (values (ext:stream-buffering stream)
+            (setf (ext:stream-buffering stream) :full)
+            (ext:stream-buffering stream)))
+  :line
+  :full
+  :full)
+
+(deftest stream-buffering.2
+  (let ((pathname (make-temporary-filename *this-directory*)))
+    (with-open-file (stream pathname :direction :output)
+      (write-string "kept" stream))
+    (unwind-protect
+         (values (handler-case (open pathname :direction :output
+                                     :if-exists :supersede
+                                     :buffering :sometimes)
+                   (type-error () :type-error))
+                 (with-open-file (stream pathname)
+                   (read-line stream)))
+      (delete-file pathname)))
+  :type-error
+  "kept")
+
+(defmacro eval-cache-test-macro () 1)
+
+(deftest function.identity.1
+  (let ((f #'ensure-directories-exist))
+    (funcall f *this-directory*)
+    (list (eq f #'ensure-directories-exist)
+          (eq f (symbol-function 'ensure-directories-exist))
+          (eq f (fdefinition 'ensure-directories-exist))))
+  (t t t))
+
+(deftest eval.macro-redefinition.1
+  (let ((form (list 'eval-cache-test-macro)))
+    (values (eval form)
+            (progn
+              (eval '(defmacro eval-cache-test-macro () 2))
+              (eval form))))
+  1
+  2)
+
+(defvar *eval-cache-test-counter*)
+
+(deftest eval.macro-modification.1
+  (let ((*eval-cache-test-counter* 0)
+        (form (list 'incf '*eval-cache-test-counter* 1)))
+    (eval form)
+    (setf (third form) 10)
+    (eval form)
+    *eval-cache-test-counter*)
+  11)
+
+(defvar *eval-cache-test-expansions* 0)
+
+(defmacro eval-cache-counting-macro ()
+  (incf *eval-cache-test-expansions*)
+  nil)
+
+;;; Each thread keeps its own expansions.
+(deftest eval.macro-threads.1
+  (let ((form (list 'eval-cache-counting-macro)))
+    (setf *eval-cache-test-expansions* 0)
+    (eval form)
+    (eval form)
+    (let ((thread (threads:make-thread
+                   (lambda ()
+                     (eval form)
+                     (eval form)))))
+      (loop while (threads:thread-alive-p thread)
+            do (sleep 0.01)))
+    *eval-cache-test-expansions*)
+  2)
+
+(deftest auto-compile.1
+  (let ((f (let ((k 10)) (lambda (x) (+ x k)))))
+    (unwind-protect
+         (progn
+           (sys:set-auto-compile-threshold 100)
+           (dotimes (i 200) (funcall f i))
+           (loop repeat 100
+                 until (member f (sys:auto-compiled-functions))
+                 do (sleep 0.1))
+           (values (not (null (member f (sys:auto-compiled-functions))))
+                   (funcall f 5)))
+      (sys:set-auto-compile-threshold nil)))
+  t
+  15)
+
+(deftest auto-compile.2
+  (let ((f (let ((k 10)) (lambda (x) (+ x k)))))
+    (unwind-protect
+         (progn
+           (sys:set-auto-compile-threshold 100)
+           (dotimes (i 50) (funcall f i))
+           (sys:call-count f))
+      (sys:set-auto-compile-threshold nil)))
+  0)
+
+(deftest closure-keyword-arguments.1
+  (let ((f (lambda (&key a (b 2 b-p) ((:c c) (list a)))
+             (list a b b-p c))))
+    (values (funcall f)
+            (funcall f :b 5 :a 1 :b 7)
+            (funcall f :z 1 :allow-other-keys t)
+            (handler-case (funcall f :z 1 :allow-other-keys nil
+                                   :allow-other-keys t)
+              (program-error () :error))))
+  (nil 2 nil (nil))
+  (1 5 t (1))
+  (nil 2 nil (nil))
+  :error)
+
+(deftest intern.concurrent.1
+  (let* ((package (make-package (symbol-name (gensym "INTERN-TEST-"))
+                                :use nil))
+         (threads
+          (loop repeat 4
+                collect (threads:make-thread
+                         (lambda ()
+                           (dotimes (i 2000)
+                             (intern (princ-to-string i) package)))))))
+    (loop while (some #'threads:thread-alive-p threads)
+          do (sleep 0.01))
+    (prog1
+        (let ((count 0))
+          (do-symbols (symbol package)
+            (declare (ignore symbol))
+            (incf count))
+          count)
+      (delete-package package)))
+  2000)
+
+(deftest find-symbol.inherited.1
+  (let* ((used (make-package (symbol-name (gensym "USED-")) :use nil))
+         (user (make-package (symbol-name (gensym "USER-")) :use (list used)))
+         (symbol (intern "FOO" used)))
+    (unwind-protect
+         (flet ((status () (nth-value 1 (find-symbol "FOO" user))))
+           (list (status)
+                 (progn (export symbol used) (status))
+                 (progn (unexport symbol used) (status))
+                 (progn (export symbol used) (status))
+                 (progn (unuse-package used user) (status))
+                 (progn (use-package used user) (status))
+                 (progn (unintern symbol used) (status))))
+      (delete-package user)
+      (delete-package used)))
+  (nil :inherited nil :inherited nil :inherited nil))
+
+(deftest use-package.concurrent.1
+  (let* ((used (make-package (symbol-name (gensym "USED-")) :use nil))
+         (users (loop repeat 3
+                      collect (make-package (symbol-name (gensym "USER-"))
+                                            :use nil)))
+         (symbol (intern "FOO" used))
+         (errors nil)
+         (threads
+          (cons (threads:make-thread
+                 (lambda ()
+                   (handler-case
+                       (dotimes (i 20000)
+                         (export symbol used)
+                         (unexport symbol used))
+                     (error (e) (push e errors)))))
+                (mapcar (lambda (user)
+                          (threads:make-thread
+                           (lambda ()
+                             (handler-case
+                                 (dotimes (i 20000)
+                                   (use-package used user)
+                                   (unuse-package used user))
+                               (error (e) (push e errors))))))
+                        users))))
+    (loop while (some #'threads:thread-alive-p threads)
+          do (sleep 0.01))
+    (multiple-value-prog1
+        (values errors (package-used-by-list used))
+      (mapc #'delete-package users)
+      (delete-package used)))
+  nil nil)
+
+(deftest read.multiple-values.1
+  (let ((*package* (find-package "CL-USER")))
+    (list (multiple-value-list (read (make-string-input-stream "car ")))
+          (multiple-value-list
+           (read (make-string-input-stream "(a b zz)")))))
+  ((car) ((cl-user::a cl-user::b cl-user::zz))))
+
+(deftest warm-up-autoloads.1
+  (let ((pathname (make-temporary-filename *this-directory*)))
+    (let ((thread (ext:warm-up-autoloads pathname)))
+      (loop while (threads:thread-alive-p thread)
+            do (sleep 0.01)))
+    (unwind-protect
+         (progn
+           (ext:record-autoloads pathname)
+           (let ((recorded (with-open-file (stream pathname) (read stream))))
+             (list (ext:autoloadp 'defclass)
+                   (find "LOOP" (ext:loaded-autoloads) :test #'equal)
+                   (= (length recorded) (length (ext:loaded-autoloads)))
+                   (find "LOOP" recorded :test #'equal))))
+      (delete-file pathname)))
+  (nil "LOOP" t "LOOP"))
+
+(deftest require.pathnames.1
+  (let ((pathname (make-pathname :type "lisp"
+                                 :defaults (make-temporary-filename
+                                            *this-directory*))))
+    (with-open-file (stream pathname :direction :output)
+      (write-string "(let ((thread (threads:make-thread
+                                   (lambda () (require \"LOOP\")))))
+                      (do () ((not (threads:thread-alive-p thread)))
+                        (sleep 0.01)))
+                     (provide \"REQUIRE-PATHNAMES-1\")"
+                    stream))
+    (unwind-protect
+         (require "REQUIRE-PATHNAMES-1" pathname)
+      (setf *modules* (remove "REQUIRE-PATHNAMES-1" *modules*
+                              :test #'string=))
+      (delete-file pathname)))
+  ("REQUIRE-PATHNAMES-1"))
+
+(deftest autoload-lock.1
+  (let* ((lock (sys::%autoload-lock "autoload-lock-test"))
+         (held nil)
+         (release nil)
+         (thread (threads:make-thread
+                  (lambda ()
+                    (threads:synchronized-on lock
+                      (setf held t)
+                      (loop until release do (sleep 0.01)))))))
+    (loop until held do (sleep 0.01))
+    (unwind-protect
+         ;; REQUIRE takes the lock for loop.lisp, which isn't held.
+         (list (eq lock (sys::%autoload-lock "autoload-lock-test"))
+               (eq lock (sys::%autoload-lock "loop"))
+               (require "LOOP"))
+      (setf release t)
+      (loop while (threads:thread-alive-p thread)
+            do (sleep 0.01))))
+  (t nil nil))